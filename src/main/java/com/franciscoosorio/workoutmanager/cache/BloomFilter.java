@@ -0,0 +1,98 @@
+package com.franciscoosorio.workoutmanager.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+
+    private final long numBits;
+
+    private final int numHashFunctions;
+
+    public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+
+        if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("Invalid bloom filter sizing");
+        }
+
+        var bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        var wordCount = (int) Math.max(1, (bits + 63) / 64);
+
+        this.words = new AtomicLongArray(wordCount);
+        this.numBits = wordCount * 64L;
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(String value) {
+
+        if (value == null) {
+            return;
+        }
+
+        var hash = hash64(value);
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= numHashFunctions; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String value) {
+
+        if (value == null) {
+            return false;
+        }
+
+        var hash = hash64(value);
+        var h1 = (int) hash;
+        var h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= numHashFunctions; i++) {
+            if (!isBitSet(index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % numBits;
+    }
+
+    private void setBit(long bitIndex) {
+
+        var wordIndex = (int) (bitIndex >>> 6);
+        var mask = 1L << bitIndex;
+
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+    }
+
+    private boolean isBitSet(long bitIndex) {
+        return (words.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+    }
+
+    private static long hash64(String value) {
+
+        var hash = 0xcbf29ce484222325L;
+
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
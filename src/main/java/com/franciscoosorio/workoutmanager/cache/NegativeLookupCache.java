@@ -0,0 +1,81 @@
+package com.franciscoosorio.workoutmanager.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NegativeLookupCache {
+
+    private final ConcurrentHashMap<Key, Long> missingUntil = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+
+    private final long ttlMillis;
+
+    private final int maxEntries;
+
+    @Autowired
+    public NegativeLookupCache(@Value("${workoutmanager.negative-cache.ttl:30s}") Duration ttl,
+                               @Value("${workoutmanager.negative-cache.max-entries:100000}") int maxEntries) {
+        this(Clock.systemUTC(), ttl, maxEntries);
+    }
+
+    NegativeLookupCache(Clock clock, Duration ttl, int maxEntries) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isKnownMissing(Class<?> type, UUID id) {
+
+        var key = new Key(type, id);
+        var expiresAt = missingUntil.get(key);
+
+        if (expiresAt == null) {
+            return false;
+        }
+
+        if (expiresAt <= clock.millis()) {
+            missingUntil.remove(key, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public void recordMissing(Class<?> type, UUID id) {
+
+        if (ttlMillis <= 0) {
+            return;
+        }
+
+        if (missingUntil.size() >= maxEntries) {
+            evictExpired();
+        }
+
+        if (missingUntil.size() < maxEntries) {
+            missingUntil.put(new Key(type, id), clock.millis() + ttlMillis);
+        }
+    }
+
+    public void invalidate(Class<?> type, UUID id) {
+        missingUntil.remove(new Key(type, id));
+    }
+
+    public int size() {
+        return missingUntil.size();
+    }
+
+    private void evictExpired() {
+        var now = clock.millis();
+        missingUntil.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+
+    private record Key(Class<?> type, UUID id) {
+    }
+}
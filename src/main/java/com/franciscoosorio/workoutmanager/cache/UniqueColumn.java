@@ -0,0 +1,9 @@
+package com.franciscoosorio.workoutmanager.cache;
+
+public enum UniqueColumn {
+    USERNAME,
+    EMAIL,
+    WORKOUT_NAME,
+    EXERCISE_NAME,
+    WORKOUT_TYPE_NAME
+}
@@ -0,0 +1,61 @@
+package com.franciscoosorio.workoutmanager.cache;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.franciscoosorio.workoutmanager.repository.ExerciseRepository;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutTypeRepository;
+
+import jakarta.annotation.PostConstruct;
+
+@Component
+public class UniqueValueFilters {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutTypeRepository workoutTypeRepository;
+
+    @Value("${workoutmanager.unique-filter.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${workoutmanager.unique-filter.false-positive-probability:0.01}")
+    private double falsePositiveProbability;
+
+    private final Map<UniqueColumn, BloomFilter> filters = new EnumMap<>(UniqueColumn.class);
+
+    @PostConstruct
+    void load() {
+
+        for (var column : UniqueColumn.values()) {
+            filters.put(column, new BloomFilter(expectedInsertions, falsePositiveProbability));
+        }
+
+        userRepository.findAllUsernames().forEach(username -> add(UniqueColumn.USERNAME, username));
+        userRepository.findAllEmails().forEach(email -> add(UniqueColumn.EMAIL, email));
+        workoutRepository.findAllNames().forEach(name -> add(UniqueColumn.WORKOUT_NAME, name));
+        exerciseRepository.findAllNames().forEach(name -> add(UniqueColumn.EXERCISE_NAME, name));
+        workoutTypeRepository.findAllNames().forEach(name -> add(UniqueColumn.WORKOUT_TYPE_NAME, name));
+    }
+
+    public boolean mightExist(UniqueColumn column, String value) {
+        return filters.get(column).mightContain(value);
+    }
+
+    public void add(UniqueColumn column, String value) {
+        filters.get(column).put(value);
+    }
+}
@@ -0,0 +1,177 @@
+package com.franciscoosorio.workoutmanager.changelog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+public class ChangeLog implements Closeable {
+
+    static final int HEADER_SIZE = 16;
+
+    static final int END_OF_SEGMENT = -1;
+
+    static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final FileChannel lockChannel;
+
+    private final FileLock lock;
+
+    private MappedByteBuffer segment;
+
+    private long nextOffset;
+
+    private ChangeLog(Path directory, int segmentSize, FileChannel lockChannel, FileLock lock) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.lockChannel = lockChannel;
+        this.lock = lock;
+    }
+
+    public static ChangeLog open(Path directory, int segmentSize) throws IOException {
+
+        if (segmentSize < HEADER_SIZE + Integer.BYTES) {
+            throw new IllegalArgumentException("Segment size is too small");
+        }
+
+        Files.createDirectories(directory);
+
+        var lockChannel = FileChannel.open(directory.resolve(".lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException exception) {
+            lock = null;
+        }
+
+        if (lock == null) {
+            lockChannel.close();
+            throw new IllegalStateException("Change log " + directory + " is already open for writing");
+        }
+
+        var changeLog = new ChangeLog(directory, segmentSize, lockChannel, lock);
+        changeLog.recover();
+        return changeLog;
+    }
+
+    public synchronized long append(byte[] payload) throws IOException {
+
+        if (HEADER_SIZE + payload.length + Integer.BYTES > segmentSize) {
+            throw new IllegalArgumentException("Change record does not fit in a segment");
+        }
+
+        if (segment.remaining() < HEADER_SIZE + payload.length + Integer.BYTES) {
+            roll();
+        }
+
+        var position = segment.position();
+        segment.putInt(position + Integer.BYTES, checksum(payload));
+        segment.putLong(position + Integer.BYTES * 2, nextOffset);
+        segment.put(position + HEADER_SIZE, payload);
+        segment.putInt(position, payload.length);
+        segment.position(position + HEADER_SIZE + payload.length);
+
+        return nextOffset++;
+    }
+
+    public synchronized void force() {
+        segment.force();
+    }
+
+    public synchronized long nextOffset() {
+        return nextOffset;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+
+        segment.force();
+        lock.release();
+        lockChannel.close();
+    }
+
+    static List<Long> segmentBaseOffsets(Path directory) throws IOException {
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString())
+                .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                .sorted()
+                .toList();
+        }
+    }
+
+    static Path segmentPath(Path directory, long baseOffset) {
+        return directory.resolve("%020d%s".formatted(baseOffset, SEGMENT_SUFFIX));
+    }
+
+    static int checksum(byte[] payload) {
+
+        var crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private void recover() throws IOException {
+
+        var baseOffsets = segmentBaseOffsets(directory);
+        var baseOffset = baseOffsets.isEmpty() ? 0 : baseOffsets.get(baseOffsets.size() - 1);
+
+        segment = map(baseOffset);
+        nextOffset = baseOffset;
+
+        while (segment.remaining() >= Integer.BYTES) {
+
+            var position = segment.position();
+            var length = segment.getInt(position);
+
+            if (length == END_OF_SEGMENT) {
+                roll();
+                return;
+            }
+
+            if (length <= 0 || position + HEADER_SIZE + length > segment.limit() - Integer.BYTES) {
+                break;
+            }
+
+            var payload = new byte[length];
+            segment.get(position + HEADER_SIZE, payload);
+
+            if (segment.getInt(position + Integer.BYTES) != checksum(payload)) {
+                break;
+            }
+
+            nextOffset = segment.getLong(position + Integer.BYTES * 2) + 1;
+            segment.position(position + HEADER_SIZE + length);
+        }
+
+        segment.putInt(segment.position(), 0);
+    }
+
+    private void roll() throws IOException {
+
+        segment.putInt(segment.position(), END_OF_SEGMENT);
+        segment.force();
+        segment = map(nextOffset);
+    }
+
+    private MappedByteBuffer map(long baseOffset) throws IOException {
+
+        try (var channel = FileChannel.open(segmentPath(directory, baseOffset),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+}
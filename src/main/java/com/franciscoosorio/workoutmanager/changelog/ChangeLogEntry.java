@@ -0,0 +1,5 @@
+package com.franciscoosorio.workoutmanager.changelog;
+
+public record ChangeLogEntry(long offset, byte[] payload) {
+
+}
@@ -0,0 +1,127 @@
+package com.franciscoosorio.workoutmanager.changelog;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class ChangeLogReader {
+
+    private static final Pattern CONSUMER_NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final Path directory;
+
+    private MappedByteBuffer segment;
+
+    private int position;
+
+    private long positionOffset;
+
+    public ChangeLogReader(Path directory) {
+        this.directory = directory;
+    }
+
+    public synchronized List<ChangeLogEntry> read(long fromOffset, int maxEntries) throws IOException {
+
+        if (segment == null || fromOffset != positionOffset) {
+            seek(fromOffset);
+        }
+
+        var entries = new ArrayList<ChangeLogEntry>();
+
+        while (segment != null && entries.size() < maxEntries && position + Integer.BYTES <= segment.limit()) {
+
+            var length = segment.getInt(position);
+
+            if (length == ChangeLog.END_OF_SEGMENT) {
+                if (!Files.exists(ChangeLog.segmentPath(directory, positionOffset))) {
+                    break;
+                }
+                map(positionOffset);
+                continue;
+            }
+
+            if (length <= 0 || position + ChangeLog.HEADER_SIZE + length > segment.limit()) {
+                break;
+            }
+
+            var payload = new byte[length];
+            segment.get(position + ChangeLog.HEADER_SIZE, payload);
+
+            if (segment.getInt(position + Integer.BYTES) != ChangeLog.checksum(payload)
+                    || segment.getLong(position + Integer.BYTES * 2) != positionOffset) {
+                break;
+            }
+
+            if (positionOffset >= fromOffset) {
+                entries.add(new ChangeLogEntry(positionOffset, payload));
+            }
+
+            position += ChangeLog.HEADER_SIZE + length;
+            positionOffset++;
+        }
+        return entries;
+    }
+
+    public long checkpoint(String consumer) throws IOException {
+
+        var file = checkpointPath(consumer);
+        return Files.exists(file) ? Long.parseLong(Files.readString(file).trim()) : 0;
+    }
+
+    public void commit(String consumer, long nextOffset) throws IOException {
+
+        var file = checkpointPath(consumer);
+        var temporary = file.resolveSibling(file.getFileName() + ".tmp");
+
+        Files.createDirectories(file.getParent());
+        Files.writeString(temporary, Long.toString(nextOffset));
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void seek(long offset) throws IOException {
+
+        segment = null;
+
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        var baseOffsets = ChangeLog.segmentBaseOffsets(directory);
+
+        if (baseOffsets.isEmpty()) {
+            return;
+        }
+
+        var baseOffset = baseOffsets.get(0);
+        for (var candidate : baseOffsets) {
+            if (candidate <= offset) {
+                baseOffset = candidate;
+            }
+        }
+        map(baseOffset);
+    }
+
+    private void map(long baseOffset) throws IOException {
+
+        try (var channel = FileChannel.open(ChangeLog.segmentPath(directory, baseOffset), StandardOpenOption.READ)) {
+            segment = channel.size() < ChangeLog.HEADER_SIZE ? null : channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        position = 0;
+        positionOffset = baseOffset;
+    }
+
+    private Path checkpointPath(String consumer) {
+
+        if (consumer == null || !CONSUMER_NAME.matcher(consumer).matches()) {
+            throw new IllegalArgumentException("Invalid change log consumer name");
+        }
+        return directory.resolve("checkpoints").resolve(consumer + ".offset");
+    }
+}
@@ -0,0 +1,61 @@
+package com.franciscoosorio.workoutmanager.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.franciscoosorio.workoutmanager.observability.QueryTracker;
+
+@Configuration
+public class ExecutorConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor workoutLookupExecutor(@Value("${workoutmanager.lookup.pool-size:8}") int poolSize,
+                                                        @Value("${workoutmanager.lookup.queue-capacity:256}") int queueCapacity,
+                                                        QueryTracker queryTracker) {
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("workout-lookup-");
+        executor.setTaskDecorator(queryTracker);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor weeklyReportExecutor(@Value("${workoutmanager.reports.parallelism:4}") int parallelism,
+                                                       QueryTracker queryTracker) {
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("weekly-report-");
+        executor.setTaskDecorator(queryTracker);
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor userDeletionExecutor(@Value("${workoutmanager.users.deletion-parallelism:2}") int parallelism) {
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("user-deletion-");
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor workoutEventExecutor(@Value("${workoutmanager.events.dispatch-threads:2}") int dispatchThreads) {
+
+        var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dispatchThreads);
+        executor.setMaxPoolSize(dispatchThreads);
+        executor.setThreadNamePrefix("workout-event-");
+        return executor;
+    }
+}
@@ -0,0 +1,24 @@
+package com.franciscoosorio.workoutmanager.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.franciscoosorio.workoutmanager.observability.QueryTracker;
+import com.franciscoosorio.workoutmanager.observability.RepositoryTimingPostProcessor;
+import com.franciscoosorio.workoutmanager.observability.SlowQueryLog;
+import com.franciscoosorio.workoutmanager.observability.StatementTrackingPostProcessor;
+
+@Configuration
+public class QueryObservabilityConfig {
+
+    @Bean
+    public static StatementTrackingPostProcessor statementTrackingPostProcessor(ObjectProvider<QueryTracker> queryTracker) {
+        return new StatementTrackingPostProcessor(queryTracker);
+    }
+
+    @Bean
+    public static RepositoryTimingPostProcessor repositoryTimingPostProcessor(ObjectProvider<QueryTracker> queryTracker, ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new RepositoryTimingPostProcessor(queryTracker, slowQueryLog);
+    }
+}
@@ -12,11 +12,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.franciscoosorio.workoutmanager.domain.batch.BatchResultDto;
 import com.franciscoosorio.workoutmanager.domain.exercise.CreateExerciseDto;
 import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularityDto;
 import com.franciscoosorio.workoutmanager.domain.exercise.UpdateExerciseDto;
+import com.franciscoosorio.workoutmanager.service.ExercisePopularityService;
 import com.franciscoosorio.workoutmanager.service.ExerciseService;
 
 @RestController
@@ -26,6 +30,9 @@ public class ExerciseController {
     @Autowired
     private ExerciseService exerciseService;
 
+    @Autowired
+    private ExercisePopularityService exercisePopularityService;
+
     @PostMapping
     public ResponseEntity<Exercise> createExercise(@RequestBody CreateExerciseDto createExerciseDto){
 
@@ -38,6 +45,18 @@ public class ExerciseController {
         return ResponseEntity.ok(exerciseService.getExerciseById(id));
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResultDto<Exercise>> getExercisesByIds(@RequestParam("ids") List<String> ids){
+
+        return ResponseEntity.ok(exerciseService.getExercisesByIds(ids));
+    }
+
+    @GetMapping("/popular")
+    public ResponseEntity<List<ExercisePopularityDto>> getPopularExercises(@RequestParam(name = "limit", required = false) Integer limit){
+
+        return ResponseEntity.ok(exercisePopularityService.getPopular(limit));
+    }
+
     @GetMapping
     public ResponseEntity<List<Exercise>> listAllExercises(){
         
@@ -45,9 +64,10 @@ public class ExerciseController {
     }
 
     @DeleteMapping("/{exerciseId}")
-    public ResponseEntity<Exercise> deleteExerciseById(@PathVariable("exerciseId") String id){
+    public ResponseEntity<Exercise> deleteExerciseById(@PathVariable("exerciseId") String id,
+                                                       @RequestParam(name = "replaceWith", required = false) String replaceWith){
 
-        exerciseService.deleteExerciseById(id);
+        exerciseService.deleteExerciseById(id, replaceWith);
 
         return ResponseEntity.noContent().build();
     }
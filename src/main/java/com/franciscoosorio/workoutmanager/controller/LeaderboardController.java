@@ -0,0 +1,47 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.franciscoosorio.workoutmanager.domain.leaderboard.LeaderboardDto;
+import com.franciscoosorio.workoutmanager.domain.leaderboard.LeaderboardEntryDto;
+import com.franciscoosorio.workoutmanager.domain.leaderboard.LeaderboardMetric;
+import com.franciscoosorio.workoutmanager.service.LeaderboardService;
+
+@RestController
+@RequestMapping("/leaderboards")
+public class LeaderboardController {
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @GetMapping("/sessions")
+    public ResponseEntity<LeaderboardDto> getSessionsLeaderboard(@RequestParam(name = "limit", required = false) Integer limit){
+
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(LeaderboardMetric.SESSIONS, null, limit));
+    }
+
+    @GetMapping("/sessions/users/{userId}")
+    public ResponseEntity<LeaderboardEntryDto> getSessionsStanding(@PathVariable("userId") String userId){
+
+        return ResponseEntity.ok(leaderboardService.getStanding(LeaderboardMetric.SESSIONS, null, userId));
+    }
+
+    @GetMapping("/volume/{workoutTypeId}")
+    public ResponseEntity<LeaderboardDto> getVolumeLeaderboard(@PathVariable("workoutTypeId") String workoutTypeId,
+                                                               @RequestParam(name = "limit", required = false) Integer limit){
+
+        return ResponseEntity.ok(leaderboardService.getLeaderboard(LeaderboardMetric.VOLUME, workoutTypeId, limit));
+    }
+
+    @GetMapping("/volume/{workoutTypeId}/users/{userId}")
+    public ResponseEntity<LeaderboardEntryDto> getVolumeStanding(@PathVariable("workoutTypeId") String workoutTypeId, @PathVariable("userId") String userId){
+
+        return ResponseEntity.ok(leaderboardService.getStanding(LeaderboardMetric.VOLUME, workoutTypeId, userId));
+    }
+}
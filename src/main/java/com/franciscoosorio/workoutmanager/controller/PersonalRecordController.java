@@ -0,0 +1,48 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordDto;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordDto;
+import com.franciscoosorio.workoutmanager.service.PersonalRecordService;
+
+@RestController
+@RequestMapping("/users/{userId}/records")
+public class PersonalRecordController {
+
+    @Autowired
+    private PersonalRecordService personalRecordService;
+
+    @GetMapping
+    public ResponseEntity<List<PersonalRecordDto>> getRecords(@PathVariable("userId") String userId){
+
+        return ResponseEntity.ok(personalRecordService.getRecords(userId));
+    }
+
+    @GetMapping("/{exerciseId}")
+    public ResponseEntity<PersonalRecordDto> getRecord(@PathVariable("userId") String userId, @PathVariable("exerciseId") String exerciseId){
+
+        return ResponseEntity.ok(personalRecordService.getRecord(userId, exerciseId));
+    }
+
+    @GetMapping("/{exerciseId}/reps")
+    public ResponseEntity<List<RepRecordDto>> getRepRecords(@PathVariable("userId") String userId, @PathVariable("exerciseId") String exerciseId){
+
+        return ResponseEntity.ok(personalRecordService.getRepRecords(userId, exerciseId));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild(@PathVariable("userId") String userId){
+
+        personalRecordService.rebuild(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
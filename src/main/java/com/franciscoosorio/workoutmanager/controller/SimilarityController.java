@@ -0,0 +1,37 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.franciscoosorio.workoutmanager.domain.similarity.SimilarUserDto;
+import com.franciscoosorio.workoutmanager.domain.similarity.SimilarWorkoutDto;
+import com.franciscoosorio.workoutmanager.service.WorkoutSimilarityService;
+
+@RestController
+@RequestMapping("/users/{userId}")
+public class SimilarityController {
+
+    @Autowired
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @GetMapping("/workouts/{workoutId}/similar")
+    public ResponseEntity<List<SimilarWorkoutDto>> getSimilarWorkouts(@PathVariable("userId") String userId, @PathVariable("workoutId") String workoutId,
+                                                                      @RequestParam(name = "limit", required = false) Integer limit){
+
+        return ResponseEntity.ok(workoutSimilarityService.getSimilarWorkouts(userId, workoutId, limit));
+    }
+
+    @GetMapping("/similar")
+    public ResponseEntity<List<SimilarUserDto>> getSimilarUsers(@PathVariable("userId") String userId,
+                                                                @RequestParam(name = "limit", required = false) Integer limit){
+
+        return ResponseEntity.ok(workoutSimilarityService.getSimilarUsers(userId, limit));
+    }
+}
@@ -0,0 +1,28 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.franciscoosorio.workoutmanager.domain.sync.SyncPageDto;
+import com.franciscoosorio.workoutmanager.service.SyncService;
+
+@RestController
+@RequestMapping("/users/{userId}")
+public class SyncController {
+
+    @Autowired
+    private SyncService syncService;
+
+    @GetMapping("/sync")
+    public ResponseEntity<SyncPageDto> sync(@PathVariable("userId") String userId,
+                                            @RequestParam(name = "since", required = false) String since,
+                                            @RequestParam(name = "limit", required = false) Integer limit){
+
+        return ResponseEntity.ok(syncService.getChanges(userId, since, limit));
+    }
+}
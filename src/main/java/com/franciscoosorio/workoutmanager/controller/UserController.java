@@ -1,6 +1,7 @@
 package com.franciscoosorio.workoutmanager.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -12,11 +13,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.franciscoosorio.workoutmanager.domain.batch.BatchResultDto;
 import com.franciscoosorio.workoutmanager.domain.user.CreateUserDto;
 import com.franciscoosorio.workoutmanager.domain.user.UpdateUserDto;
 import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.user.UserAvailabilityDto;
+import com.franciscoosorio.workoutmanager.domain.user.UserDeletionDto;
+import com.franciscoosorio.workoutmanager.service.UserDeletionService;
 import com.franciscoosorio.workoutmanager.service.UserService;
 
 @RestController
@@ -26,6 +32,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserDeletionService userDeletionService;
+
     @PostMapping
     public ResponseEntity<User> createUser(@RequestBody CreateUserDto createUserDto){
 
@@ -40,12 +49,30 @@ public class UserController {
     
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResultDto<User>> getUsersByIds(@RequestParam("ids") List<String> ids){
+
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
     @GetMapping
     public ResponseEntity<List<User>> listUsers(){
 
         return ResponseEntity.ok(userService.listUsers());
     }
 
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> listUserFields(@RequestParam("fields") String fields){
+
+        return ResponseEntity.ok(userService.listUserFields(fields));
+    }
+
+    @GetMapping("/availability")
+    public ResponseEntity<UserAvailabilityDto> checkAvailability(@RequestParam(name = "username", required = false) String username, @RequestParam(name = "email", required = false) String email){
+
+        return ResponseEntity.ok(userService.checkAvailability(username, email));
+    }
+
     @PutMapping("/{userId}")
     public ResponseEntity<Void> updateUserById(@PathVariable("userId") String userId, @RequestBody UpdateUserDto updateUserDto){
 
@@ -55,9 +82,14 @@ public class UserController {
     }
 
     @DeleteMapping("/{userId}")
-    public ResponseEntity<Void> deleteById(@PathVariable("userId") String userId){
-        userService.deleteById(userId);
+    public ResponseEntity<UserDeletionDto> deleteById(@PathVariable("userId") String userId){
 
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().body(userDeletionService.deleteUser(userId));
+    }
+
+    @GetMapping("/{userId}/deletion")
+    public ResponseEntity<UserDeletionDto> getDeletion(@PathVariable("userId") String userId){
+
+        return ResponseEntity.ok(userDeletionService.getDeletion(userId));
     }
 }
@@ -0,0 +1,41 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.franciscoosorio.workoutmanager.domain.rollup.RollupGranularity;
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupDto;
+import com.franciscoosorio.workoutmanager.service.VolumeRollupService;
+
+@RestController
+@RequestMapping("/users/{userId}/volume")
+public class VolumeRollupController {
+
+    @Autowired
+    private VolumeRollupService volumeRollupService;
+
+    @GetMapping
+    public ResponseEntity<List<VolumeRollupDto>> getVolume(@PathVariable("userId") String userId,
+                                                           @RequestParam(name = "granularity", required = false) RollupGranularity granularity,
+                                                           @RequestParam(name = "from", required = false) LocalDate from,
+                                                           @RequestParam(name = "to", required = false) LocalDate to){
+
+        return ResponseEntity.ok(volumeRollupService.getVolume(userId, granularity, from, to));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild(@PathVariable("userId") String userId){
+
+        volumeRollupService.rebuild(userId);
+        return ResponseEntity.noContent().build();
+    }
+}
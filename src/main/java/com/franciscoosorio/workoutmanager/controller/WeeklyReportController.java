@@ -0,0 +1,44 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.franciscoosorio.workoutmanager.domain.report.WeeklyReportDto;
+import com.franciscoosorio.workoutmanager.domain.report.WeeklyReportRunDto;
+import com.franciscoosorio.workoutmanager.service.WeeklyReportService;
+
+@RestController
+@RequestMapping("/reports/weekly")
+public class WeeklyReportController {
+
+    @Autowired
+    private WeeklyReportService weeklyReportService;
+
+    @PostMapping
+    public ResponseEntity<WeeklyReportRunDto> startReport(@RequestParam(name = "week", required = false) LocalDate week,
+                                                          @RequestParam(name = "restart", defaultValue = "false") boolean restart){
+
+        weeklyReportService.start(week, restart);
+        return ResponseEntity.accepted().body(weeklyReportService.getRun(week));
+    }
+
+    @GetMapping("/{weekStart}")
+    public ResponseEntity<WeeklyReportRunDto> getRun(@PathVariable("weekStart") LocalDate weekStart){
+
+        return ResponseEntity.ok(weeklyReportService.getRun(weekStart));
+    }
+
+    @GetMapping("/{weekStart}/users/{userId}")
+    public ResponseEntity<WeeklyReportDto> getReport(@PathVariable("weekStart") LocalDate weekStart, @PathVariable("userId") String userId){
+
+        return ResponseEntity.ok(weeklyReportService.getReport(userId, weekStart));
+    }
+}
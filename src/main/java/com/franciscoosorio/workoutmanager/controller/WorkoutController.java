@@ -1,6 +1,7 @@
 package com.franciscoosorio.workoutmanager.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -12,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.franciscoosorio.workoutmanager.domain.workout.CreateWorkoutDto;
@@ -27,9 +29,10 @@ public class WorkoutController {
     private WorkoutService workoutService;
 
     @PostMapping
-    public ResponseEntity<Workout> createWorkout(@PathVariable String userId, @RequestBody CreateWorkoutDto createWorkoutDto){
+    public ResponseEntity<Workout> createWorkout(@PathVariable String userId, @RequestBody CreateWorkoutDto createWorkoutDto,
+                                                 @RequestParam(name = "allowDuplicate", defaultValue = "false") boolean allowDuplicate){
 
-        var workout = workoutService.createWorkout(userId, createWorkoutDto);
+        var workout = workoutService.createWorkout(userId, createWorkoutDto, allowDuplicate);
 
         return ResponseEntity.status(HttpStatus.CREATED).body(workout);
     }
@@ -46,6 +49,12 @@ public class WorkoutController {
         return ResponseEntity.ok(workoutService.getWorkoutsByUserId(userId));
     }
 
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> getAllWorkoutFields(@PathVariable("userId") String userId, @RequestParam("fields") String fields){
+
+        return ResponseEntity.ok(workoutService.getWorkoutFieldsByUserId(userId, fields));
+    }
+
     @PutMapping("/{workoutId}")
     public ResponseEntity<Void> updateWorkout(@PathVariable("userId") String userId, @PathVariable("workoutId") String workoutId, @RequestBody UpdateWorkoutDto updateWorkoutDto){
 
@@ -0,0 +1,25 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateCleanupDto;
+import com.franciscoosorio.workoutmanager.service.WorkoutDuplicateService;
+
+@RestController
+@RequestMapping("/workouts/duplicates")
+public class WorkoutDuplicateController {
+
+    @Autowired
+    private WorkoutDuplicateService workoutDuplicateService;
+
+    @PostMapping("/cleanup")
+    public ResponseEntity<DuplicateCleanupDto> cleanup(@RequestParam(name = "dryRun", defaultValue = "true") boolean dryRun){
+
+        return ResponseEntity.ok(workoutDuplicateService.cleanup(dryRun));
+    }
+}
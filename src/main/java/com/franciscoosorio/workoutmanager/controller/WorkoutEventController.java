@@ -0,0 +1,26 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.franciscoosorio.workoutmanager.service.WorkoutEventService;
+
+@RestController
+@RequestMapping("/users/{userId}/workouts")
+public class WorkoutEventController {
+
+    @Autowired
+    private WorkoutEventService workoutEventService;
+
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable("userId") String userId){
+
+        return ResponseEntity.ok(workoutEventService.subscribe(userId));
+    }
+}
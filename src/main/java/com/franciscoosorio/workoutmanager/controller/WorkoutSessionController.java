@@ -0,0 +1,74 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.franciscoosorio.workoutmanager.domain.session.CreateSetEntryDto;
+import com.franciscoosorio.workoutmanager.domain.session.CreateWorkoutSessionDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryPageDto;
+import com.franciscoosorio.workoutmanager.domain.session.WorkoutSessionDto;
+import com.franciscoosorio.workoutmanager.service.WorkoutSessionService;
+
+@RestController
+@RequestMapping("/users/{userId}")
+public class WorkoutSessionController {
+
+    @Autowired
+    private WorkoutSessionService workoutSessionService;
+
+    @PostMapping("/sessions")
+    public ResponseEntity<WorkoutSessionDto> startSession(@PathVariable("userId") String userId, @RequestBody CreateWorkoutSessionDto createWorkoutSessionDto){
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(workoutSessionService.startSession(userId, createWorkoutSessionDto));
+    }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<List<WorkoutSessionDto>> getSessions(@PathVariable("userId") String userId,
+                                                               @RequestParam(name = "from", required = false) Instant from,
+                                                               @RequestParam(name = "to", required = false) Instant to){
+
+        return ResponseEntity.ok(workoutSessionService.getSessions(userId, from, to));
+    }
+
+    @PostMapping("/sessions/{sessionId}/sets")
+    public ResponseEntity<List<SetEntryDto>> logSets(@PathVariable("userId") String userId, @PathVariable("sessionId") String sessionId, @RequestBody List<CreateSetEntryDto> sets){
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(workoutSessionService.logSets(userId, sessionId, sets));
+    }
+
+    @GetMapping("/sessions/{sessionId}/sets")
+    public ResponseEntity<List<SetEntryDto>> getSessionSets(@PathVariable("userId") String userId, @PathVariable("sessionId") String sessionId){
+
+        return ResponseEntity.ok(workoutSessionService.getSessionSets(userId, sessionId));
+    }
+
+    @GetMapping("/sets")
+    public ResponseEntity<SetEntryPageDto> getSets(@PathVariable("userId") String userId,
+                                                   @RequestParam(name = "from", required = false) Instant from,
+                                                   @RequestParam(name = "to", required = false) Instant to,
+                                                   @RequestParam(name = "cursor", required = false) String cursor,
+                                                   @RequestParam(name = "limit", required = false) Integer limit){
+
+        return ResponseEntity.ok(workoutSessionService.getSets(userId, from, to, cursor, limit));
+    }
+
+    @DeleteMapping("/sets/{setId}")
+    public ResponseEntity<Void> deleteSet(@PathVariable("userId") String userId, @PathVariable("setId") String setId){
+
+        workoutSessionService.deleteSet(userId, setId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.franciscoosorio.workoutmanager.domain.template.AssignTemplateDto;
+import com.franciscoosorio.workoutmanager.domain.template.CreateWorkoutTemplateDto;
+import com.franciscoosorio.workoutmanager.domain.template.TemplateAssignmentDto;
+import com.franciscoosorio.workoutmanager.domain.template.WorkoutTemplate;
+import com.franciscoosorio.workoutmanager.service.WorkoutTemplateService;
+
+@RestController
+@RequestMapping("/templates")
+public class WorkoutTemplateController {
+
+    @Autowired
+    private WorkoutTemplateService workoutTemplateService;
+
+    @PostMapping
+    public ResponseEntity<WorkoutTemplate> createTemplate(@RequestBody CreateWorkoutTemplateDto createWorkoutTemplateDto){
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(workoutTemplateService.createTemplate(createWorkoutTemplateDto));
+    }
+
+    @GetMapping("/{templateId}")
+    public ResponseEntity<WorkoutTemplate> getTemplateById(@PathVariable("templateId") String templateId){
+
+        return ResponseEntity.ok(workoutTemplateService.getTemplateById(templateId));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<WorkoutTemplate>> getAllTemplates(){
+
+        return ResponseEntity.ok(workoutTemplateService.getAllTemplates());
+    }
+
+    @DeleteMapping("/{templateId}")
+    public ResponseEntity<Void> deleteTemplateById(@PathVariable("templateId") String templateId){
+
+        workoutTemplateService.deleteTemplateById(templateId);
+
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{templateId}/assignments")
+    public ResponseEntity<TemplateAssignmentDto> assignTemplate(@PathVariable("templateId") String templateId, @RequestBody AssignTemplateDto assignTemplateDto){
+
+        return ResponseEntity.ok(workoutTemplateService.assignTemplate(templateId, assignTemplateDto));
+    }
+}
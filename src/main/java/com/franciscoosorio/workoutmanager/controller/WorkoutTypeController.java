@@ -12,8 +12,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.franciscoosorio.workoutmanager.domain.batch.BatchResultDto;
 import com.franciscoosorio.workoutmanager.domain.workouttype.CreateWorkoutTypeDto;
 import com.franciscoosorio.workoutmanager.domain.workouttype.UpdateWorkoutTypeDto;
 import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
@@ -38,6 +40,12 @@ public class WorkoutTypeController {
         return ResponseEntity.ok(workoutTypeService.getWorkoutTypeById(id));
     }
 
+    @GetMapping(params = "ids")
+    public ResponseEntity<BatchResultDto<WorkoutType>> getWorkoutTypesByIds(@RequestParam("ids") List<String> ids){
+
+        return ResponseEntity.ok(workoutTypeService.getWorkoutTypesByIds(ids));
+    }
+
     @GetMapping
     public ResponseEntity<List<WorkoutType>> getAllWorkoutsTypes(){
         
@@ -45,9 +53,10 @@ public class WorkoutTypeController {
     }
 
     @DeleteMapping("/{workoutTypeId}")
-    public ResponseEntity<WorkoutType> deleteWorkoutTypeById(@PathVariable("workoutTypeId") String id){
+    public ResponseEntity<WorkoutType> deleteWorkoutTypeById(@PathVariable("workoutTypeId") String id,
+                                                             @RequestParam(name = "replaceWith", required = false) String replaceWith){
         
-        workoutTypeService.deleteWorkoutTypeById(id);
+        workoutTypeService.deleteWorkoutTypeById(id, replaceWith);
 
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.batch;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchResultDto<T>(List<T> items, List<UUID> missingIds) {
+    
+}
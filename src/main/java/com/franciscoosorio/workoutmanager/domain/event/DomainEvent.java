@@ -0,0 +1,5 @@
+package com.franciscoosorio.workoutmanager.domain.event;
+
+public interface DomainEvent {
+
+}
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.event;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+
+public record ExerciseCreated(Exercise exercise) implements DomainEvent {
+
+}
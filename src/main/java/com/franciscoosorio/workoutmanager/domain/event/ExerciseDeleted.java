@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.event;
+
+import java.util.UUID;
+
+public record ExerciseDeleted(UUID exerciseId, UUID replacementId) implements DomainEvent {
+
+}
@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.event;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TemplateAssigned(UUID templateId, List<UUID> userIds) implements DomainEvent {
+
+}
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.event;
+
+import java.util.UUID;
+
+public record UserCreated(UUID userId) implements DomainEvent {
+
+}
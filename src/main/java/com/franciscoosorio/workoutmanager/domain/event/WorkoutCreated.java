@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.event;
+
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+
+public record WorkoutCreated(Workout workout) implements DomainEvent {
+
+}
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.event;
+
+import java.util.UUID;
+
+public record WorkoutDeleted(UUID workoutId, UUID userId) implements DomainEvent {
+
+}
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.event;
+
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+
+public record WorkoutTypeCreated(WorkoutType workoutType) implements DomainEvent {
+
+}
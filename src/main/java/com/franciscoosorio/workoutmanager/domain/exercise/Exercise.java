@@ -3,17 +3,25 @@ package com.franciscoosorio.workoutmanager.domain.exercise;
 import java.util.Objects;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxListener;
+import com.franciscoosorio.workoutmanager.domain.sync.ChangeTracked;
+import com.franciscoosorio.workoutmanager.domain.sync.ChangeTrackingListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "exercises")
-public class Exercise {
+@EntityListeners({ChangeTrackingListener.class, OutboxListener.class})
+@Table(name = "exercises", indexes = @Index(name = "idx_exercises_change_seq", columnList = "change_seq"))
+public class Exercise implements ChangeTracked {
     
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -28,6 +36,10 @@ public class Exercise {
     @Column(nullable = false)
     private String description;
 
+    @Column(name = "change_seq")
+    @JsonIgnore
+    private Long changeSeq;
+
     public Exercise() {
     }
     
@@ -53,6 +65,10 @@ public class Exercise {
     public String getDescription() {
         return description;
     }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
     
     public void setName(String name) {
         this.name = name;
@@ -62,6 +78,10 @@ public class Exercise {
         this.description = description;
     }
 
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(id);
@@ -0,0 +1,44 @@
+package com.franciscoosorio.workoutmanager.domain.exercise;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "exercise_popularity")
+public class ExercisePopularity {
+
+    @Id
+    @Column(name = "exercise_id")
+    private UUID exerciseId;
+
+    @Column(name = "added_count", nullable = false)
+    private long addedCount;
+
+    @Column(name = "performed_count", nullable = false)
+    private long performedCount;
+
+    public ExercisePopularity() {
+    }
+
+    public ExercisePopularity(UUID exerciseId, long addedCount, long performedCount) {
+        this.exerciseId = exerciseId;
+        this.addedCount = addedCount;
+        this.performedCount = performedCount;
+    }
+
+    public UUID getExerciseId() {
+        return exerciseId;
+    }
+
+    public long getAddedCount() {
+        return addedCount;
+    }
+
+    public long getPerformedCount() {
+        return performedCount;
+    }
+}
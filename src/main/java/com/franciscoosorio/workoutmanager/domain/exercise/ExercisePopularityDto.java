@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.exercise;
+
+import java.util.UUID;
+
+public record ExercisePopularityDto(UUID exerciseId, long addedCount, long performedCount) {
+
+}
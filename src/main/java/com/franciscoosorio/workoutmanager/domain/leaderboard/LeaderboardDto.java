@@ -0,0 +1,9 @@
+package com.franciscoosorio.workoutmanager.domain.leaderboard;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+public record LeaderboardDto(LeaderboardMetric metric, UUID workoutTypeId, YearMonth month, int participants, List<LeaderboardEntryDto> entries) {
+
+}
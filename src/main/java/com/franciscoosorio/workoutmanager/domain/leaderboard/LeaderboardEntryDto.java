@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.leaderboard;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record LeaderboardEntryDto(int rank, UUID userId, BigDecimal score) {
+
+}
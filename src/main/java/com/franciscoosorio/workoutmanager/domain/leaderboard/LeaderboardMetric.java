@@ -0,0 +1,17 @@
+package com.franciscoosorio.workoutmanager.domain.leaderboard;
+
+public enum LeaderboardMetric {
+
+    SESSIONS(0),
+    VOLUME(2);
+
+    private final int scale;
+
+    LeaderboardMetric(int scale) {
+        this.scale = scale;
+    }
+
+    public int scale() {
+        return scale;
+    }
+}
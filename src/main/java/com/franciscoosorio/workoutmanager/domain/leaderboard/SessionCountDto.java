@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.leaderboard;
+
+import java.util.UUID;
+
+public record SessionCountDto(UUID userId, long sessions) {
+
+}
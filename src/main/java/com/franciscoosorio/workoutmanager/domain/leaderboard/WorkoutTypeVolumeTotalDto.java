@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.leaderboard;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record WorkoutTypeVolumeTotalDto(UUID userId, UUID workoutTypeId, BigDecimal volume) {
+
+}
@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.outbox;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ChangeRecordDto(long outboxId, OutboxEntityType entityType, UUID entityId, UUID userId, OutboxOperation operation, Instant occurredAt) {
+
+}
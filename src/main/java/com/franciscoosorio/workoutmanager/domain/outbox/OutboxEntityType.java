@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.outbox;
+
+public enum OutboxEntityType {
+    USER,
+    EXERCISE,
+    WORKOUT_TYPE,
+    WORKOUT
+}
@@ -0,0 +1,51 @@
+package com.franciscoosorio.workoutmanager.domain.outbox;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.repository.OutboxRepository;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+public class OutboxListener {
+
+    @Autowired
+    @Lazy
+    private OutboxRepository outboxRepository;
+
+    @PostPersist
+    void created(Object entity) {
+        append(entity, OutboxOperation.CREATED);
+    }
+
+    @PostUpdate
+    void updated(Object entity) {
+        append(entity, OutboxOperation.UPDATED);
+    }
+
+    @PostRemove
+    void deleted(Object entity) {
+        append(entity, OutboxOperation.DELETED);
+    }
+
+    private void append(Object entity, OutboxOperation operation) {
+
+        if (entity instanceof Workout workout) {
+            outboxRepository.append(OutboxEntityType.WORKOUT, workout.getId(), workout.getUser().getUserId(), operation);
+        } else if (entity instanceof Exercise exercise) {
+            outboxRepository.append(OutboxEntityType.EXERCISE, exercise.getId(), null, operation);
+        } else if (entity instanceof WorkoutType workoutType) {
+            outboxRepository.append(OutboxEntityType.WORKOUT_TYPE, workoutType.getId(), null, operation);
+        } else if (entity instanceof User user) {
+            outboxRepository.append(OutboxEntityType.USER, user.getUserId(), user.getUserId(), operation);
+        } else {
+            throw new IllegalArgumentException("Unsupported outbox entity " + entity.getClass().getSimpleName());
+        }
+    }
+}
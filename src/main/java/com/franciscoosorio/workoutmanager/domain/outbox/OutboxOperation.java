@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.outbox;
+
+public enum OutboxOperation {
+    CREATED,
+    UPDATED,
+    DELETED
+}
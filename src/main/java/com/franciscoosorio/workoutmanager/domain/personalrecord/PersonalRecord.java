@@ -0,0 +1,89 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "personal_records")
+public class PersonalRecord {
+
+    @EmbeddedId
+    private PersonalRecordId id;
+
+    @Column(name = "max_weight", nullable = false, precision = 7, scale = 2)
+    private BigDecimal maxWeight;
+
+    @Column(name = "max_weight_reps", nullable = false)
+    private int maxWeightReps;
+
+    @Column(name = "max_weight_set_id", nullable = false)
+    private UUID maxWeightSetId;
+
+    @Column(name = "max_weight_at", nullable = false)
+    private Instant maxWeightAt;
+
+    @Column(name = "one_rep_max", nullable = false, precision = 9, scale = 2)
+    private BigDecimal oneRepMax;
+
+    @Column(name = "one_rep_max_set_id", nullable = false)
+    private UUID oneRepMaxSetId;
+
+    @Column(name = "one_rep_max_at", nullable = false)
+    private Instant oneRepMaxAt;
+
+    public PersonalRecord() {
+    }
+
+    public PersonalRecord(PersonalRecordCandidate candidate) {
+        this.id = new PersonalRecordId(candidate.userId(), candidate.exerciseId());
+        this.maxWeight = candidate.maxWeight();
+        this.maxWeightReps = candidate.maxWeightReps();
+        this.maxWeightSetId = candidate.maxWeightSetId();
+        this.maxWeightAt = candidate.maxWeightAt();
+        this.oneRepMax = candidate.oneRepMax();
+        this.oneRepMaxSetId = candidate.oneRepMaxSetId();
+        this.oneRepMaxAt = candidate.oneRepMaxAt();
+    }
+
+    public PersonalRecordId getId() {
+        return id;
+    }
+
+    public BigDecimal getMaxWeight() {
+        return maxWeight;
+    }
+
+    public int getMaxWeightReps() {
+        return maxWeightReps;
+    }
+
+    public UUID getMaxWeightSetId() {
+        return maxWeightSetId;
+    }
+
+    public Instant getMaxWeightAt() {
+        return maxWeightAt;
+    }
+
+    public BigDecimal getOneRepMax() {
+        return oneRepMax;
+    }
+
+    public UUID getOneRepMaxSetId() {
+        return oneRepMaxSetId;
+    }
+
+    public Instant getOneRepMaxAt() {
+        return oneRepMaxAt;
+    }
+
+    public boolean isHeldBy(UUID setId) {
+        return maxWeightSetId.equals(setId) || oneRepMaxSetId.equals(setId);
+    }
+}
@@ -0,0 +1,51 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+
+public record PersonalRecordCandidate(UUID userId, UUID exerciseId,
+                                      BigDecimal maxWeight, int maxWeightReps, UUID maxWeightSetId, Instant maxWeightAt,
+                                      BigDecimal oneRepMax, UUID oneRepMaxSetId, Instant oneRepMaxAt) {
+
+    private static final BigDecimal EPLEY_DIVISOR = BigDecimal.valueOf(30);
+
+    public static List<PersonalRecordCandidate> best(UUID userId, Iterable<SetEntryDto> sets) {
+
+        var candidates = new LinkedHashMap<UUID, PersonalRecordCandidate>();
+
+        for (var set : sets) {
+            var candidate = new PersonalRecordCandidate(userId, set.exerciseId(),
+                set.weight(), set.reps(), set.id(), set.performedAt(),
+                oneRepMax(set.reps(), set.weight()), set.id(), set.performedAt());
+
+            candidates.merge(set.exerciseId(), candidate, PersonalRecordCandidate::max);
+        }
+        return new ArrayList<>(candidates.values());
+    }
+
+    public static BigDecimal oneRepMax(int reps, BigDecimal weight) {
+
+        if (reps == 1) {
+            return weight.setScale(2, RoundingMode.HALF_UP);
+        }
+        return weight.multiply(EPLEY_DIVISOR.add(BigDecimal.valueOf(reps))).divide(EPLEY_DIVISOR, 2, RoundingMode.HALF_UP);
+    }
+
+    PersonalRecordCandidate max(PersonalRecordCandidate other) {
+
+        var weightComparison = other.maxWeight.compareTo(maxWeight);
+        var heaviest = weightComparison > 0 || (weightComparison == 0 && other.maxWeightReps > maxWeightReps) ? other : this;
+        var strongest = other.oneRepMax.compareTo(oneRepMax) > 0 ? other : this;
+
+        return new PersonalRecordCandidate(userId, exerciseId,
+            heaviest.maxWeight, heaviest.maxWeightReps, heaviest.maxWeightSetId, heaviest.maxWeightAt,
+            strongest.oneRepMax, strongest.oneRepMaxSetId, strongest.oneRepMaxAt);
+    }
+}
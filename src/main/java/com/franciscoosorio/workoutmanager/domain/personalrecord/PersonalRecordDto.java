@@ -0,0 +1,9 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record PersonalRecordDto(UUID exerciseId, BigDecimal maxWeight, int maxWeightReps, Instant maxWeightAt, BigDecimal estimatedOneRepMax, Instant estimatedOneRepMaxAt) {
+
+}
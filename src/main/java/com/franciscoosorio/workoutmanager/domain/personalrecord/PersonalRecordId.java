@@ -0,0 +1,47 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class PersonalRecordId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "exercise_id", nullable = false)
+    private UUID exerciseId;
+
+    public PersonalRecordId() {
+    }
+
+    public PersonalRecordId(UUID userId, UUID exerciseId) {
+        this.userId = userId;
+        this.exerciseId = exerciseId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getExerciseId() {
+        return exerciseId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, exerciseId);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        PersonalRecordId other = (PersonalRecordId) obj;
+        return Objects.equals(userId, other.userId) && Objects.equals(exerciseId, other.exerciseId);
+    }
+}
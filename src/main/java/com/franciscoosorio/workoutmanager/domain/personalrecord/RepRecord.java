@@ -0,0 +1,56 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "rep_records")
+public class RepRecord {
+
+    @EmbeddedId
+    private RepRecordId id;
+
+    @Column(name = "reps", nullable = false)
+    private int reps;
+
+    @Column(name = "set_id", nullable = false)
+    private UUID setId;
+
+    @Column(name = "performed_at", nullable = false)
+    private Instant performedAt;
+
+    public RepRecord() {
+    }
+
+    public RepRecord(RepRecordCandidate candidate) {
+        this.id = new RepRecordId(candidate.userId(), candidate.exerciseId(), candidate.weight());
+        this.reps = candidate.reps();
+        this.setId = candidate.setId();
+        this.performedAt = candidate.performedAt();
+    }
+
+    public RepRecordId getId() {
+        return id;
+    }
+
+    public int getReps() {
+        return reps;
+    }
+
+    public UUID getSetId() {
+        return setId;
+    }
+
+    public Instant getPerformedAt() {
+        return performedAt;
+    }
+
+    public boolean isHeldBy(UUID setId) {
+        return this.setId.equals(setId);
+    }
+}
@@ -0,0 +1,34 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+
+public record RepRecordCandidate(UUID userId, UUID exerciseId, BigDecimal weight, int reps, UUID setId, Instant performedAt) {
+
+    private record Key(UUID exerciseId, BigDecimal weight) {
+    }
+
+    public static List<RepRecordCandidate> best(UUID userId, Iterable<SetEntryDto> sets) {
+
+        var candidates = new LinkedHashMap<Key, RepRecordCandidate>();
+
+        for (var set : sets) {
+            var weight = set.weight().setScale(2, RoundingMode.HALF_UP);
+            var candidate = new RepRecordCandidate(userId, set.exerciseId(), weight, set.reps(), set.id(), set.performedAt());
+
+            candidates.merge(new Key(set.exerciseId(), weight), candidate, RepRecordCandidate::max);
+        }
+        return new ArrayList<>(candidates.values());
+    }
+
+    RepRecordCandidate max(RepRecordCandidate other) {
+        return other.reps > reps ? other : this;
+    }
+}
@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record RepRecordDto(BigDecimal weight, int reps, Instant performedAt) {
+
+}
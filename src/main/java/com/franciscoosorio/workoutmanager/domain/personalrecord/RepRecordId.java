@@ -0,0 +1,56 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class RepRecordId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "exercise_id", nullable = false)
+    private UUID exerciseId;
+
+    @Column(name = "weight", nullable = false, precision = 7, scale = 2)
+    private BigDecimal weight;
+
+    public RepRecordId() {
+    }
+
+    public RepRecordId(UUID userId, UUID exerciseId, BigDecimal weight) {
+        this.userId = userId;
+        this.exerciseId = exerciseId;
+        this.weight = weight;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public UUID getExerciseId() {
+        return exerciseId;
+    }
+
+    public BigDecimal getWeight() {
+        return weight;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, exerciseId, weight);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        RepRecordId other = (RepRecordId) obj;
+        return Objects.equals(userId, other.userId) && Objects.equals(exerciseId, other.exerciseId) && Objects.equals(weight, other.weight);
+    }
+}
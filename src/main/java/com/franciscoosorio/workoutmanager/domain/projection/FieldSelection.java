@@ -0,0 +1,76 @@
+package com.franciscoosorio.workoutmanager.domain.projection;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class FieldSelection {
+
+    private final Set<String> fields;
+
+    private final Map<String, Set<String>> associations;
+
+    private FieldSelection(Set<String> fields, Map<String, Set<String>> associations) {
+        this.fields = Collections.unmodifiableSet(fields);
+        this.associations = Collections.unmodifiableMap(associations);
+    }
+
+    public static FieldSelection parse(String expression, String idField, Set<String> allowedFields, Map<String, List<String>> allowedAssociations) {
+
+        var fields = new LinkedHashSet<String>();
+        var associations = new LinkedHashMap<String, Set<String>>();
+
+        fields.add(idField);
+
+        for (var token : expression.split(",")) {
+
+            var field = token.trim();
+
+            if (field.isEmpty()) {
+                continue;
+            }
+
+            var separator = field.indexOf('.');
+
+            if (separator < 0) {
+
+                if (allowedFields.contains(field)) {
+                    fields.add(field);
+                } else if (allowedAssociations.containsKey(field)) {
+                    associations.computeIfAbsent(field, key -> new LinkedHashSet<>(Set.of(idField))).addAll(allowedAssociations.get(field));
+                } else {
+                    throw new IllegalArgumentException("Unknown field: " + field);
+                }
+                continue;
+            }
+
+            var association = field.substring(0, separator);
+            var nestedField = field.substring(separator + 1);
+
+            if (!allowedAssociations.containsKey(association) || !allowedAssociations.get(association).contains(nestedField)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+
+            var nestedFields = associations.computeIfAbsent(association, key -> new LinkedHashSet<>());
+            nestedFields.add(idField);
+            nestedFields.add(nestedField);
+        }
+
+        return new FieldSelection(fields, associations);
+    }
+
+    public Set<String> fields() {
+        return fields;
+    }
+
+    public boolean includes(String association) {
+        return associations.containsKey(association);
+    }
+
+    public Set<String> fieldsOf(String association) {
+        return associations.getOrDefault(association, Set.of());
+    }
+}
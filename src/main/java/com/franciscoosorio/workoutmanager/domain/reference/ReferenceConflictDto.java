@@ -0,0 +1,5 @@
+package com.franciscoosorio.workoutmanager.domain.reference;
+
+public record ReferenceConflictDto(String message, ReferenceCountDto references) {
+
+}
@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.reference;
+
+public record ReferenceCountDto(long workouts, long templates, long sessions, long sets) {
+
+    public long total() {
+        return workouts + templates + sessions + sets;
+    }
+}
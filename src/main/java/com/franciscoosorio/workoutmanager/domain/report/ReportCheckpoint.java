@@ -0,0 +1,68 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "report_checkpoints")
+public class ReportCheckpoint {
+
+    @EmbeddedId
+    private ReportCheckpointId id;
+
+    @Column(name = "partition_count", nullable = false)
+    private int partitionCount;
+
+    @Column(name = "last_user_id")
+    private UUID lastUserId;
+
+    @Column(nullable = false)
+    private long users;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public ReportCheckpoint() {
+    }
+
+    public ReportCheckpoint(ReportCheckpointId id, int partitionCount, UUID lastUserId, long users, boolean completed) {
+        this.id = id;
+        this.partitionCount = partitionCount;
+        this.lastUserId = lastUserId;
+        this.users = users;
+        this.completed = completed;
+        this.updatedAt = Instant.now();
+    }
+
+    public ReportCheckpointId getId() {
+        return id;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    public UUID getLastUserId() {
+        return lastUserId;
+    }
+
+    public long getUsers() {
+        return users;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
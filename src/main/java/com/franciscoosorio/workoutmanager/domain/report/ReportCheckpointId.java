@@ -0,0 +1,47 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class ReportCheckpointId implements Serializable {
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "partition_index", nullable = false)
+    private int partitionIndex;
+
+    public ReportCheckpointId() {
+    }
+
+    public ReportCheckpointId(LocalDate weekStart, int partitionIndex) {
+        this.weekStart = weekStart;
+        this.partitionIndex = partitionIndex;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public int getPartitionIndex() {
+        return partitionIndex;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(weekStart, partitionIndex);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        ReportCheckpointId other = (ReportCheckpointId) obj;
+        return Objects.equals(weekStart, other.weekStart) && partitionIndex == other.partitionIndex;
+    }
+}
@@ -0,0 +1,28 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public record UserIdRange(UUID from, UUID to) {
+
+    private static final BigInteger ID_SPACE = BigInteger.ONE.shiftLeft(64);
+
+    public static List<UserIdRange> split(int partitions) {
+
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be positive");
+        }
+
+        var ranges = new ArrayList<UserIdRange>(partitions);
+        var from = new UUID(0, 0);
+
+        for (int i = 1; i <= partitions; i++) {
+            var to = i == partitions ? null : new UUID(ID_SPACE.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(partitions)).longValue(), 0);
+            ranges.add(new UserIdRange(from, to));
+            from = to;
+        }
+        return ranges;
+    }
+}
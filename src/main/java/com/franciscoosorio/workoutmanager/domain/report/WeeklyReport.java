@@ -0,0 +1,59 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "weekly_reports")
+public class WeeklyReport {
+
+    @EmbeddedId
+    private WeeklyReportId id;
+
+    @Column(nullable = false)
+    private int sessions;
+
+    @Column(name = "set_count", nullable = false)
+    private long sets;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal volume;
+
+    @Column(name = "new_records", nullable = false)
+    private int newRecords;
+
+    @Column(name = "generated_at", nullable = false)
+    private Instant generatedAt;
+
+    public WeeklyReport() {
+    }
+
+    public WeeklyReportId getId() {
+        return id;
+    }
+
+    public int getSessions() {
+        return sessions;
+    }
+
+    public long getSets() {
+        return sets;
+    }
+
+    public BigDecimal getVolume() {
+        return volume;
+    }
+
+    public int getNewRecords() {
+        return newRecords;
+    }
+
+    public Instant getGeneratedAt() {
+        return generatedAt;
+    }
+}
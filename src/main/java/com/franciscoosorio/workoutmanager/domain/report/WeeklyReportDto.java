@@ -0,0 +1,10 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+public record WeeklyReportDto(LocalDate weekStart, int sessions, long sets, BigDecimal volume, int newRecords, List<WorkoutTypeVolumeDto> volumeByWorkoutType, Instant generatedAt) {
+
+}
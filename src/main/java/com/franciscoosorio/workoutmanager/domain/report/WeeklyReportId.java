@@ -0,0 +1,48 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class WeeklyReportId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    public WeeklyReportId() {
+    }
+
+    public WeeklyReportId(UUID userId, LocalDate weekStart) {
+        this.userId = userId;
+        this.weekStart = weekStart;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, weekStart);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        WeeklyReportId other = (WeeklyReportId) obj;
+        return Objects.equals(userId, other.userId) && Objects.equals(weekStart, other.weekStart);
+    }
+}
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.time.LocalDate;
+
+public record WeeklyReportRunDto(LocalDate weekStart, int partitions, int completedPartitions, long users, boolean running) {
+
+}
@@ -0,0 +1,37 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "weekly_report_volumes")
+public class WeeklyReportVolume {
+
+    @EmbeddedId
+    private WeeklyReportVolumeId id;
+
+    @Column(name = "set_count", nullable = false)
+    private long sets;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal volume;
+
+    public WeeklyReportVolume() {
+    }
+
+    public WeeklyReportVolumeId getId() {
+        return id;
+    }
+
+    public long getSets() {
+        return sets;
+    }
+
+    public BigDecimal getVolume() {
+        return volume;
+    }
+}
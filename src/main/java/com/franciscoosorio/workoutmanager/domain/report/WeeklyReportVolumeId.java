@@ -0,0 +1,56 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class WeeklyReportVolumeId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @Column(name = "workout_type_id", nullable = false)
+    private UUID workoutTypeId;
+
+    public WeeklyReportVolumeId() {
+    }
+
+    public WeeklyReportVolumeId(UUID userId, LocalDate weekStart, UUID workoutTypeId) {
+        this.userId = userId;
+        this.weekStart = weekStart;
+        this.workoutTypeId = workoutTypeId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public UUID getWorkoutTypeId() {
+        return workoutTypeId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, weekStart, workoutTypeId);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        WeeklyReportVolumeId other = (WeeklyReportVolumeId) obj;
+        return Objects.equals(userId, other.userId) && Objects.equals(weekStart, other.weekStart) && Objects.equals(workoutTypeId, other.workoutTypeId);
+    }
+}
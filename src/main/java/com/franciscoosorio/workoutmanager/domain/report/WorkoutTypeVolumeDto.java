@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record WorkoutTypeVolumeDto(UUID workoutTypeId, long sets, BigDecimal volume) {
+
+}
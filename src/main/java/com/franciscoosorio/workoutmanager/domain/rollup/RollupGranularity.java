@@ -0,0 +1,36 @@
+package com.franciscoosorio.workoutmanager.domain.rollup;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+public enum RollupGranularity {
+
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDate bucketStart(Instant instant) {
+        return bucketStart(LocalDate.ofInstant(instant, ZoneOffset.UTC));
+    }
+
+    public LocalDate bucketStart(LocalDate date) {
+        return this == WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date;
+    }
+
+    public LocalDate nextBucketStart(LocalDate bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    public long bucketsBetween(LocalDate from, LocalDate to) {
+        return unit.between(bucketStart(from), bucketStart(to)) + 1;
+    }
+}
@@ -0,0 +1,45 @@
+package com.franciscoosorio.workoutmanager.domain.rollup;
+
+import java.math.BigDecimal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "volume_rollups", indexes = @Index(name = "idx_volume_rollups_user_bucket", columnList = "user_id, granularity, bucket_start"))
+public class VolumeRollup {
+
+    @EmbeddedId
+    private VolumeRollupId id;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal volume;
+
+    @Column(name = "set_count", nullable = false)
+    private long sets;
+
+    @Column(name = "max_weight", nullable = false, precision = 7, scale = 2)
+    private BigDecimal maxWeight;
+
+    public VolumeRollup() {
+    }
+
+    public VolumeRollupId getId() {
+        return id;
+    }
+
+    public BigDecimal getVolume() {
+        return volume;
+    }
+
+    public long getSets() {
+        return sets;
+    }
+
+    public BigDecimal getMaxWeight() {
+        return maxWeight;
+    }
+}
@@ -0,0 +1,33 @@
+package com.franciscoosorio.workoutmanager.domain.rollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+
+public record VolumeRollupDelta(UUID userId, UUID exerciseId, RollupGranularity granularity, LocalDate bucketStart, BigDecimal volume, long sets, BigDecimal maxWeight) {
+
+    public static List<VolumeRollupDelta> aggregate(UUID userId, Iterable<SetEntryDto> sets) {
+
+        var buckets = new LinkedHashMap<VolumeRollupId, VolumeRollupDelta>();
+
+        for (var set : sets) {
+            for (var granularity : RollupGranularity.values()) {
+                var key = new VolumeRollupId(userId, granularity, granularity.bucketStart(set.performedAt()), set.exerciseId());
+                var delta = new VolumeRollupDelta(userId, set.exerciseId(), granularity, key.getBucketStart(),
+                    set.weight().multiply(BigDecimal.valueOf(set.reps())), 1, set.weight());
+
+                buckets.merge(key, delta, VolumeRollupDelta::plus);
+            }
+        }
+        return new ArrayList<>(buckets.values());
+    }
+
+    VolumeRollupDelta plus(VolumeRollupDelta other) {
+        return new VolumeRollupDelta(userId, exerciseId, granularity, bucketStart, volume.add(other.volume), sets + other.sets, maxWeight.max(other.maxWeight));
+    }
+}
@@ -0,0 +1,9 @@
+package com.franciscoosorio.workoutmanager.domain.rollup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record VolumeRollupDto(UUID exerciseId, RollupGranularity granularity, LocalDate bucketStart, BigDecimal volume, long sets, BigDecimal maxWeight) {
+
+}
@@ -0,0 +1,68 @@
+package com.franciscoosorio.workoutmanager.domain.rollup;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+
+@Embeddable
+public class VolumeRollupId implements Serializable {
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(name = "exercise_id", nullable = false)
+    private UUID exerciseId;
+
+    public VolumeRollupId() {
+    }
+
+    public VolumeRollupId(UUID userId, RollupGranularity granularity, LocalDate bucketStart, UUID exerciseId) {
+        this.userId = userId;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.exerciseId = exerciseId;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public UUID getExerciseId() {
+        return exerciseId;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, granularity, bucketStart, exerciseId);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        VolumeRollupId other = (VolumeRollupId) obj;
+        return Objects.equals(userId, other.userId) && granularity == other.granularity
+            && Objects.equals(bucketStart, other.bucketStart) && Objects.equals(exerciseId, other.exerciseId);
+    }
+}
@@ -0,0 +1,9 @@
+package com.franciscoosorio.workoutmanager.domain.session;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record CreateSetEntryDto(UUID exerciseId, Integer reps, BigDecimal weight, Instant performedAt) {
+
+}
@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.session;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record CreateWorkoutSessionDto(UUID workoutId, Instant startedAt) {
+
+}
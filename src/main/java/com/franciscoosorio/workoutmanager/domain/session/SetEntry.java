@@ -0,0 +1,110 @@
+package com.franciscoosorio.workoutmanager.domain.session;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+@Entity
+@Table(name = "set_entries", indexes = {
+    @Index(name = "idx_set_entries_user_performed", columnList = "user_id, performed_at, id"),
+    @Index(name = "idx_set_entries_session", columnList = "session_id, id"),
+    @Index(name = "idx_set_entries_user_exercise", columnList = "user_id, exercise_id, weight"),
+    @Index(name = "idx_set_entries_exercise", columnList = "exercise_id")
+})
+public class SetEntry {
+
+    @Id
+    private UUID id;
+
+    @Version
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "session_id", nullable = false)
+    private WorkoutSession session;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "exercise_id", nullable = false)
+    private Exercise exercise;
+
+    @Column(nullable = false)
+    private int reps;
+
+    @Column(nullable = false, precision = 7, scale = 2)
+    private BigDecimal weight;
+
+    @Column(name = "performed_at", nullable = false)
+    private Instant performedAt;
+
+    public SetEntry() {
+    }
+
+    public SetEntry(WorkoutSession session, User user, Exercise exercise, int reps, BigDecimal weight, Instant performedAt) {
+        this.id = TimeOrderedUuid.next();
+        this.session = session;
+        this.user = user;
+        this.exercise = exercise;
+        this.reps = reps;
+        this.weight = weight;
+        this.performedAt = performedAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public WorkoutSession getSession() {
+        return session;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public Exercise getExercise() {
+        return exercise;
+    }
+
+    public int getReps() {
+        return reps;
+    }
+
+    public BigDecimal getWeight() {
+        return weight;
+    }
+
+    public Instant getPerformedAt() {
+        return performedAt;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        SetEntry setEntry = (SetEntry) obj;
+        return Objects.equals(id, setEntry.id);
+    }
+}
@@ -0,0 +1,9 @@
+package com.franciscoosorio.workoutmanager.domain.session;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record SetEntryDto(UUID id, UUID sessionId, UUID exerciseId, int reps, BigDecimal weight, Instant performedAt) {
+
+}
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.session;
+
+import java.util.List;
+
+public record SetEntryPageDto(List<SetEntryDto> items, String nextCursor) {
+
+}
@@ -0,0 +1,24 @@
+package com.franciscoosorio.workoutmanager.domain.session;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TimeOrderedUuid {
+
+    private static final AtomicLong lastTimestamp = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+
+        var now = System.currentTimeMillis() << 12;
+        var timestamp = lastTimestamp.updateAndGet(previous -> Math.max(previous + 1, now));
+
+        var mostSignificantBits = ((timestamp >>> 12) << 16) | 0x7000L | (timestamp & 0xFFFL);
+        var leastSignificantBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
@@ -0,0 +1,79 @@
+package com.franciscoosorio.workoutmanager.domain.session;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+@Entity
+@Table(name = "workout_sessions", indexes = @Index(name = "idx_workout_sessions_user_started", columnList = "user_id, started_at"))
+public class WorkoutSession {
+
+    @Id
+    private UUID id;
+
+    @Version
+    private Long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "workout_id", nullable = false)
+    private Workout workout;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    public WorkoutSession() {
+    }
+
+    public WorkoutSession(User user, Workout workout, Instant startedAt) {
+        this.id = TimeOrderedUuid.next();
+        this.user = user;
+        this.workout = workout;
+        this.startedAt = startedAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public Workout getWorkout() {
+        return workout;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        WorkoutSession session = (WorkoutSession) obj;
+        return Objects.equals(id, session.id);
+    }
+}
@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.session;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record WorkoutSessionDto(UUID id, UUID workoutId, Instant startedAt) {
+
+}
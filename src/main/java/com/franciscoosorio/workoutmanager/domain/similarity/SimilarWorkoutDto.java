@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.similarity;
+
+import java.util.UUID;
+
+public record SimilarWorkoutDto(UUID workoutId, double similarity) {
+
+}
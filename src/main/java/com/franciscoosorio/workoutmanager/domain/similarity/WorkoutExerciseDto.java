@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.similarity;
+
+import java.util.UUID;
+
+public record WorkoutExerciseDto(UUID workoutId, UUID userId, UUID exerciseId) {
+
+}
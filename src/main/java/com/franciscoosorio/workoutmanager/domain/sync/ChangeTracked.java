@@ -0,0 +1,10 @@
+package com.franciscoosorio.workoutmanager.domain.sync;
+
+import java.util.UUID;
+
+public interface ChangeTracked {
+
+    UUID getId();
+
+    void setChangeSeq(Long changeSeq);
+}
@@ -0,0 +1,38 @@
+package com.franciscoosorio.workoutmanager.domain.sync;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.repository.SyncTombstoneRepository;
+import com.franciscoosorio.workoutmanager.sync.ChangeSequence;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+
+public class ChangeTrackingListener {
+
+    @Autowired
+    @Lazy
+    private ChangeSequence changeSequence;
+
+    @Autowired
+    @Lazy
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @PrePersist
+    @PreUpdate
+    void stamp(Object entity) {
+        ((ChangeTracked) entity).setChangeSeq(changeSequence.next());
+    }
+
+    @PreRemove
+    void tombstone(Object entity) {
+
+        var tracked = (ChangeTracked) entity;
+        var userId = entity instanceof Workout workout ? workout.getUser().getUserId() : null;
+
+        syncTombstoneRepository.insertTombstone(tracked.getId(), SyncEntityType.of(tracked), userId, changeSequence.next());
+    }
+}
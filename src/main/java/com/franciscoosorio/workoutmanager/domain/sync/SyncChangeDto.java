@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.sync;
+
+import java.util.UUID;
+
+public record SyncChangeDto(SyncEntityType type, UUID id, long changeSeq, boolean deleted) {
+
+}
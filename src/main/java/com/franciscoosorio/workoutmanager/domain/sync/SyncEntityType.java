@@ -0,0 +1,25 @@
+package com.franciscoosorio.workoutmanager.domain.sync;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+
+public enum SyncEntityType {
+    WORKOUT,
+    EXERCISE,
+    WORKOUT_TYPE;
+
+    public static SyncEntityType of(ChangeTracked entity) {
+
+        if (entity instanceof Workout) {
+            return WORKOUT;
+        }
+        if (entity instanceof Exercise) {
+            return EXERCISE;
+        }
+        if (entity instanceof WorkoutType) {
+            return WORKOUT_TYPE;
+        }
+        throw new IllegalArgumentException("Unsupported change tracked entity " + entity.getClass().getSimpleName());
+    }
+}
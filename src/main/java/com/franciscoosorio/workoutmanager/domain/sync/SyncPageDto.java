@@ -0,0 +1,12 @@
+package com.franciscoosorio.workoutmanager.domain.sync;
+
+import java.util.List;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+
+public record SyncPageDto(List<Workout> workouts, List<Exercise> exercises, List<WorkoutType> workoutTypes,
+                          List<SyncDeletionDto> deleted, String nextToken, boolean hasMore) {
+
+}
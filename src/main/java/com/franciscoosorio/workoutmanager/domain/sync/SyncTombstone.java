@@ -0,0 +1,59 @@
+package com.franciscoosorio.workoutmanager.domain.sync;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "sync_tombstones", indexes = {
+    @Index(name = "idx_sync_tombstones_change_seq", columnList = "change_seq"),
+    @Index(name = "idx_sync_tombstones_user_change_seq", columnList = "user_id, change_seq")
+})
+public class SyncTombstone {
+
+    @Id
+    @Column(name = "entity_id")
+    private UUID entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private SyncEntityType entityType;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    public SyncTombstone() {
+    }
+
+    public SyncTombstone(UUID entityId, SyncEntityType entityType, UUID userId, long changeSeq) {
+        this.entityId = entityId;
+        this.entityType = entityType;
+        this.userId = userId;
+        this.changeSeq = changeSeq;
+    }
+
+    public UUID getEntityId() {
+        return entityId;
+    }
+
+    public SyncEntityType getEntityType() {
+        return entityType;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public long getChangeSeq() {
+        return changeSeq;
+    }
+}
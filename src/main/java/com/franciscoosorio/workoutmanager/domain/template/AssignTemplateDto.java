@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.template;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AssignTemplateDto(List<UUID> userIds) {
+
+}
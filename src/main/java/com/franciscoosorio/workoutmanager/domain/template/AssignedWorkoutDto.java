@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.template;
+
+import java.util.UUID;
+
+public record AssignedWorkoutDto(UUID userId, UUID workoutId, String name) {
+
+}
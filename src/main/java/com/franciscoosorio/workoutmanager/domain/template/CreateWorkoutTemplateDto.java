@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.template;
+
+import java.util.Set;
+import java.util.UUID;
+
+public record CreateWorkoutTemplateDto(String name, String description, UUID workoutTypeId, Set<UUID> exerciseIds) {
+
+}
@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.template;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TemplateAssignmentDto(UUID templateId, List<AssignedWorkoutDto> assigned, List<UUID> skippedUserIds) {
+
+}
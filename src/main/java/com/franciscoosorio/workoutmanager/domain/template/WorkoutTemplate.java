@@ -0,0 +1,90 @@
+package com.franciscoosorio.workoutmanager.domain.template;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "workout_templates")
+public class WorkoutTemplate {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+
+    @Column(nullable = false)
+    private String description;
+
+    @ManyToOne
+    @JoinColumn(name = "workout_type_id", nullable = false)
+    private WorkoutType workoutType;
+
+    @ManyToMany
+    @JoinTable(name = "workout_templates_exercises", joinColumns = @JoinColumn(name = "template_id", nullable = false), inverseJoinColumns = @JoinColumn(name = "exercise_id", nullable = false))
+    private Set<Exercise> exercises = new HashSet<>();
+
+    public WorkoutTemplate() {
+    }
+
+    public WorkoutTemplate(String name, String description, WorkoutType workoutType, Set<Exercise> exercises) {
+        this.name = name;
+        this.description = description;
+        this.workoutType = workoutType;
+        this.exercises = exercises;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public WorkoutType getWorkoutType() {
+        return workoutType;
+    }
+
+    public Set<Exercise> getExercises() {
+        return exercises;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        WorkoutTemplate template = (WorkoutTemplate) obj;
+        return Objects.equals(id, template.id);
+    }
+}
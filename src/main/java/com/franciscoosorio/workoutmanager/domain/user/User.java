@@ -9,10 +9,12 @@ import java.util.UUID;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxListener;
 import com.franciscoosorio.workoutmanager.domain.workout.Workout;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -21,6 +23,7 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
 @Entity
+@EntityListeners(OutboxListener.class)
 @Table(name = "users")
 public class User {
 
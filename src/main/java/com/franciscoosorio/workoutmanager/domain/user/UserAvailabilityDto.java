@@ -0,0 +1,5 @@
+package com.franciscoosorio.workoutmanager.domain.user;
+
+public record UserAvailabilityDto(Boolean usernameAvailable, Boolean emailAvailable) {
+    
+}
@@ -0,0 +1,24 @@
+package com.franciscoosorio.workoutmanager.domain.user;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record UserDeletionDto(UUID userId, UserDeletionStatus status, long setsDeleted, long sessionsDeleted, long workoutsDeleted,
+                              Instant startedAt, Instant finishedAt) {
+
+    public static UserDeletionDto started(UUID userId) {
+        return new UserDeletionDto(userId, UserDeletionStatus.RUNNING, 0, 0, 0, Instant.now(), null);
+    }
+
+    public UserDeletionDto withProgress(long sets, long sessions, long workouts) {
+        return new UserDeletionDto(userId, status, setsDeleted + sets, sessionsDeleted + sessions, workoutsDeleted + workouts, startedAt, finishedAt);
+    }
+
+    public UserDeletionDto finished(UserDeletionStatus finalStatus) {
+        return new UserDeletionDto(userId, finalStatus, setsDeleted, sessionsDeleted, workoutsDeleted, startedAt, Instant.now());
+    }
+
+    public boolean running() {
+        return status == UserDeletionStatus.RUNNING;
+    }
+}
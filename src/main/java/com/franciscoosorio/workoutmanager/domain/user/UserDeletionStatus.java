@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.user;
+
+public enum UserDeletionStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
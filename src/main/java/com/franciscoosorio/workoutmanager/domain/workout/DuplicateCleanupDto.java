@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.workout;
+
+import java.util.List;
+
+public record DuplicateCleanupDto(boolean dryRun, int fingerprinted, int removedWorkouts, List<DuplicateWorkoutGroupDto> groups) {
+
+}
@@ -0,0 +1,6 @@
+package com.franciscoosorio.workoutmanager.domain.workout;
+
+public enum DuplicateSurvivorRule {
+    MOST_SESSIONS,
+    EARLIEST_CHANGE
+}
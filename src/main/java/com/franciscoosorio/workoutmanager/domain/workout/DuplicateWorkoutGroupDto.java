@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.domain.workout;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DuplicateWorkoutGroupDto(UUID userId, UUID keptWorkoutId, DuplicateSurvivorRule keptBy, List<UUID> duplicateWorkoutIds) {
+
+}
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.workout;
+
+import java.util.UUID;
+
+public record DuplicateWorkoutRowDto(UUID userId, String fingerprint, UUID workoutId, long sessions) {
+
+}
@@ -7,14 +7,19 @@ import java.util.UUID;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxListener;
+import com.franciscoosorio.workoutmanager.domain.sync.ChangeTracked;
+import com.franciscoosorio.workoutmanager.domain.sync.ChangeTrackingListener;
 import com.franciscoosorio.workoutmanager.domain.user.User;
 import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -23,8 +28,13 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 
 @Entity
-@Table(name = "workouts")
-public class Workout {
+@EntityListeners({ChangeTrackingListener.class, OutboxListener.class})
+@Table(name = "workouts", indexes = {
+    @Index(name = "idx_workouts_user_fingerprint", columnList = "user_id, fingerprint"),
+    @Index(name = "idx_workouts_workout_type", columnList = "workoutType_id"),
+    @Index(name = "idx_workouts_user_change_seq", columnList = "user_id, change_seq")
+})
+public class Workout implements ChangeTracked {
     
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
@@ -44,7 +54,8 @@ public class Workout {
     private WorkoutType workoutType;
 
     @ManyToMany
-    @JoinTable(name = "workouts_exercises", joinColumns = @JoinColumn(name = "workout_id",nullable = false), inverseJoinColumns = @JoinColumn(name = "exercise_id",nullable = false))
+    @JoinTable(name = "workouts_exercises", joinColumns = @JoinColumn(name = "workout_id",nullable = false), inverseJoinColumns = @JoinColumn(name = "exercise_id",nullable = false),
+        indexes = @Index(name = "idx_workouts_exercises_exercise", columnList = "exercise_id"))
     private Set<Exercise> exercises = new HashSet<>();
 
     @ManyToOne
@@ -52,6 +63,18 @@ public class Workout {
     @JsonIgnore 
     private User user;
 
+    @Column(length = 64)
+    @JsonIgnore
+    private String fingerprint;
+
+    @Column(name = "template_id")
+    @JsonIgnore
+    private UUID templateId;
+
+    @Column(name = "change_seq")
+    @JsonIgnore
+    private Long changeSeq;
+
     public Workout(UUID id, String name, String description, WorkoutType workoutType, Set<Exercise> exercises, User user) {
         this.id = id;
         this.name = name;
@@ -96,6 +119,18 @@ public class Workout {
         return user;
     }
 
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public UUID getTemplateId() {
+        return templateId;
+    }
+
+    public Long getChangeSeq() {
+        return changeSeq;
+    }
+
     public void setName(String name) {
         this.name = name;
     }
@@ -116,6 +151,14 @@ public class Workout {
         this.user = user;
     }
 
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public void setChangeSeq(Long changeSeq) {
+        this.changeSeq = changeSeq;
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.workout;
+
+import java.util.UUID;
+
+public record WorkoutEventDto(WorkoutEventType type, UUID workoutId, Workout workout) {
+
+}
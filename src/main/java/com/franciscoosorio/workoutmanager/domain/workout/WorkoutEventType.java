@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.workout;
+
+public enum WorkoutEventType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
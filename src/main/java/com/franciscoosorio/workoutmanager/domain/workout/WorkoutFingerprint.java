@@ -0,0 +1,31 @@
+package com.franciscoosorio.workoutmanager.domain.workout;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.UUID;
+
+public final class WorkoutFingerprint {
+
+    private WorkoutFingerprint() {
+    }
+
+    public static String of(UUID workoutTypeId, Collection<UUID> exerciseIds) {
+
+        var sorted = exerciseIds.stream().distinct().sorted().toList();
+        var buffer = ByteBuffer.allocate(16 * (sorted.size() + 1));
+
+        buffer.putLong(workoutTypeId.getMostSignificantBits()).putLong(workoutTypeId.getLeastSignificantBits());
+        for (var exerciseId : sorted) {
+            buffer.putLong(exerciseId.getMostSignificantBits()).putLong(exerciseId.getLeastSignificantBits());
+        }
+
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(buffer.array()));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
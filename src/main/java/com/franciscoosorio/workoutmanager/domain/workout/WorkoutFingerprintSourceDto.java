@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.domain.workout;
+
+import java.util.UUID;
+
+public record WorkoutFingerprintSourceDto(UUID workoutId, UUID workoutTypeId, UUID exerciseId) {
+
+}
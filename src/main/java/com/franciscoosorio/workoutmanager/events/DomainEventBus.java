@@ -0,0 +1,150 @@
+package com.franciscoosorio.workoutmanager.events;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.franciscoosorio.workoutmanager.domain.event.DomainEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class DomainEventBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventBus.class);
+
+    private static final long MIN_IDLE_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    @Autowired
+    private List<DomainEventConsumer> consumers;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${workoutmanager.domain-events.ring-size:8192}")
+    private int ringSize = 8192;
+
+    @Value("${workoutmanager.domain-events.batch-size:256}")
+    private int batchSize = 256;
+
+    @Value("${workoutmanager.domain-events.max-idle-wait:PT0.01S}")
+    private Duration maxIdleWait = Duration.ofMillis(10);
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final List<Thread> dispatchers = new ArrayList<>();
+
+    private volatile boolean running;
+
+    private RingBuffer<DomainEvent> ringBuffer;
+
+    private Counter droppedEvents;
+
+    @PostConstruct
+    void start() {
+
+        ringBuffer = new RingBuffer<>(ringSize, consumers.size());
+        droppedEvents = Counter.builder("workoutmanager.domain.events.dropped")
+            .description("Domain events dropped because the slowest consumer left no free slot")
+            .register(meterRegistry);
+
+        running = true;
+
+        for (int i = 0; i < consumers.size(); i++) {
+            var index = i;
+            var consumer = consumers.get(i);
+
+            Gauge.builder("workoutmanager.domain.events.lag", ringBuffer, ring -> ring.lag(index))
+                .description("Published domain events the consumer has not processed yet")
+                .tag("consumer", consumer.name())
+                .register(meterRegistry);
+
+            var batchSizes = DistributionSummary.builder("workoutmanager.domain.events.batch.size")
+                .description("Domain events handed to the consumer in one call")
+                .tag("consumer", consumer.name())
+                .register(meterRegistry);
+
+            var dispatcher = new Thread(() -> dispatch(index, consumer, batchSizes), "domain-events-" + consumer.name());
+            dispatcher.setDaemon(true);
+            dispatcher.start();
+            dispatchers.add(dispatcher);
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+
+        running = false;
+
+        for (var dispatcher : dispatchers) {
+            LockSupport.unpark(dispatcher);
+            dispatcher.join(maxIdleWait.toMillis() + 1000);
+        }
+    }
+
+    public void publish(DomainEvent event) {
+        TransactionHooks.afterCommit(() -> {
+            if (!ringBuffer.tryPublish(event)) {
+                dropped.incrementAndGet();
+                droppedEvents.increment();
+            }
+        });
+    }
+
+    private void dispatch(int index, DomainEventConsumer consumer, DistributionSummary batchSizes) {
+
+        var batch = new ArrayList<DomainEvent>(Math.min(batchSize, ringBuffer.capacity()));
+        var events = Collections.unmodifiableList(batch);
+        var seenDropped = 0L;
+        var idleWait = MIN_IDLE_WAIT_NANOS;
+
+        while (running) {
+
+            var currentDropped = dropped.get();
+            if (currentDropped != seenDropped) {
+                seenDropped = currentDropped;
+                deliver(consumer, consumer::onGap);
+            }
+
+            var count = ringBuffer.read(index, batch, batchSize);
+
+            if (count == 0) {
+                LockSupport.parkNanos(idleWait);
+                idleWait = Math.min(idleWait * 2, maxIdleWait.toNanos());
+                continue;
+            }
+
+            idleWait = MIN_IDLE_WAIT_NANOS;
+            batchSizes.record(count);
+
+            deliver(consumer, () -> consumer.onEvents(events));
+
+            batch.clear();
+            ringBuffer.release(index, count);
+        }
+    }
+
+    private static void deliver(DomainEventConsumer consumer, Runnable callback) {
+
+        try {
+            callback.run();
+        } catch (RuntimeException exception) {
+            logger.warn("Domain event consumer {} failed, continuing with the next batch", consumer.name(), exception);
+        }
+    }
+}
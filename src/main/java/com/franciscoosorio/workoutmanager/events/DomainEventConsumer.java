@@ -0,0 +1,15 @@
+package com.franciscoosorio.workoutmanager.events;
+
+import java.util.List;
+
+import com.franciscoosorio.workoutmanager.domain.event.DomainEvent;
+
+public interface DomainEventConsumer {
+
+    String name();
+
+    void onEvents(List<DomainEvent> events);
+
+    default void onGap() {
+    }
+}
@@ -0,0 +1,53 @@
+package com.franciscoosorio.workoutmanager.events;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class EventBuffer<T> {
+
+    private final ArrayBlockingQueue<T> events;
+
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public EventBuffer(int capacity) {
+        this.events = new ArrayBlockingQueue<>(capacity);
+    }
+
+    public boolean offer(T event) {
+
+        if (!events.offer(event)) {
+            return overflow();
+        }
+        return draining.compareAndSet(false, true);
+    }
+
+    public boolean overflow() {
+
+        events.clear();
+        overflowed.set(true);
+        return draining.compareAndSet(false, true);
+    }
+
+    public boolean isIdle() {
+        return !draining.get() && events.isEmpty();
+    }
+
+    public void drainTo(EventSink<T> sink) throws IOException {
+
+        do {
+            if (overflowed.getAndSet(false)) {
+                sink.resync();
+            }
+
+            T event;
+            while ((event = events.poll()) != null) {
+                sink.send(event);
+            }
+
+            draining.set(false);
+        } while ((overflowed.get() || !events.isEmpty()) && draining.compareAndSet(false, true));
+    }
+}
@@ -0,0 +1,10 @@
+package com.franciscoosorio.workoutmanager.events;
+
+import java.io.IOException;
+
+public interface EventSink<T> {
+
+    void send(T event) throws IOException;
+
+    void resync() throws IOException;
+}
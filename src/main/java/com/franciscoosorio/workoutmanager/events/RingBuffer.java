@@ -0,0 +1,99 @@
+package com.franciscoosorio.workoutmanager.events;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class RingBuffer<E> {
+
+    private final AtomicReferenceArray<E> entries;
+
+    private final AtomicLongArray published;
+
+    private final AtomicLong[] consumed;
+
+    private final AtomicLong claimed = new AtomicLong(-1);
+
+    private final int mask;
+
+    private volatile long slowestConsumed = -1;
+
+    public RingBuffer(int capacity, int consumers) {
+
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring buffer capacity must be a power of two");
+        }
+
+        this.entries = new AtomicReferenceArray<>(capacity);
+        this.published = new AtomicLongArray(capacity);
+        this.consumed = new AtomicLong[consumers];
+        this.mask = capacity - 1;
+
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        for (int i = 0; i < consumers; i++) {
+            consumed[i] = new AtomicLong(-1);
+        }
+    }
+
+    public boolean tryPublish(E event) {
+
+        long current;
+        long next;
+        do {
+            current = claimed.get();
+            next = current + 1;
+
+            var wrapPoint = next - entries.length();
+            if (wrapPoint > slowestConsumed) {
+                var slowest = slowestConsumed();
+                slowestConsumed = slowest;
+
+                if (wrapPoint > slowest) {
+                    return false;
+                }
+            }
+        } while (!claimed.compareAndSet(current, next));
+
+        var index = (int) next & mask;
+        entries.lazySet(index, event);
+        published.lazySet(index, next);
+        return true;
+    }
+
+    public int read(int consumer, List<E> batch, int maxBatch) {
+
+        var from = consumed[consumer].get() + 1;
+        var limit = Math.min(claimed.get(), from + maxBatch - 1);
+
+        var sequence = from;
+        while (sequence <= limit && published.get((int) sequence & mask) == sequence) {
+            batch.add(entries.get((int) sequence & mask));
+            sequence++;
+        }
+        return (int) (sequence - from);
+    }
+
+    public void release(int consumer, int count) {
+        consumed[consumer].lazySet(consumed[consumer].get() + count);
+    }
+
+    public long lag(int consumer) {
+        return claimed.get() - consumed[consumer].get();
+    }
+
+    public int capacity() {
+        return entries.length();
+    }
+
+    private long slowestConsumed() {
+
+        var slowest = Long.MAX_VALUE;
+        for (var sequence : consumed) {
+            slowest = Math.min(slowest, sequence.get());
+        }
+        return consumed.length == 0 ? claimed.get() : slowest;
+    }
+}
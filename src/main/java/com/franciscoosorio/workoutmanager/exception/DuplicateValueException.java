@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public class DuplicateValueException extends RuntimeException {
+
+    public DuplicateValueException(String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,17 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+import java.util.UUID;
+
+public class DuplicateWorkoutException extends RuntimeException {
+
+    private final UUID existingWorkoutId;
+
+    public DuplicateWorkoutException(String message, UUID existingWorkoutId) {
+        super(message, null, false, false);
+        this.existingWorkoutId = existingWorkoutId;
+    }
+
+    public UUID getExistingWorkoutId() {
+        return existingWorkoutId;
+    }
+}
@@ -1,6 +1,6 @@
 package com.franciscoosorio.workoutmanager.exception;
 
-public class ExerciseNotFoundException extends RuntimeException {
+public class ExerciseNotFoundException extends NotFoundException {
     
     public ExerciseNotFoundException(String message){
         super(message);
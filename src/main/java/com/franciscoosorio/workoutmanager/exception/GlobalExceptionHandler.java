@@ -1,37 +1,48 @@
 package com.franciscoosorio.workoutmanager.exception;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceConflictDto;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateWorkoutDto;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
-    @ExceptionHandler(WorkoutTypeNotFoundException.class)
-    public ResponseEntity<String> handleWorkoutTypeNotFound(WorkoutTypeNotFoundException exception){
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
-    }
+    private final Map<String, ResponseEntity<String>> notFoundResponses = new ConcurrentHashMap<>();
 
-    @ExceptionHandler(ExerciseNotFoundException.class)
-    public ResponseEntity<String> handleExerciseNotFound(ExerciseNotFoundException exception){
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<String> handleNotFound(NotFoundException exception){
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+        return notFoundResponses.computeIfAbsent(exception.getMessage(), message -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(message));
     }
 
-    @ExceptionHandler(WorkoutNotFoundException.class)
-    public ResponseEntity<String> handleWorkoutNotFound(WorkoutNotFoundException exception){
+    @ExceptionHandler(DuplicateValueException.class)
+    public ResponseEntity<String> handleDuplicateValue(DuplicateValueException exception){
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getMessage());
+    }
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+    @ExceptionHandler(DuplicateWorkoutException.class)
+    public ResponseEntity<DuplicateWorkoutDto> handleDuplicateWorkout(DuplicateWorkoutException exception){
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new DuplicateWorkoutDto(exception.getMessage(), exception.getExistingWorkoutId()));
     }
 
-    @ExceptionHandler(UserNotFoundException.class)
-    public ResponseEntity<String> handleUserNotFound(UserNotFoundException exception){
+    @ExceptionHandler(ReferencedEntityException.class)
+    public ResponseEntity<ReferenceConflictDto> handleReferencedEntity(ReferencedEntityException exception){
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new ReferenceConflictDto(exception.getMessage(), exception.getReferences()));
+    }
 
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+    @ExceptionHandler(ReportInProgressException.class)
+    public ResponseEntity<String> handleReportInProgress(ReportInProgressException exception){
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(exception.getMessage());
     }
-    
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException exception) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid input!");
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public class LeaderboardEntryNotFoundException extends NotFoundException {
+    public LeaderboardEntryNotFoundException(String message) {
+        super(message);
+    }
+}
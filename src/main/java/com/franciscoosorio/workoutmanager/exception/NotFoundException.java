@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public abstract class NotFoundException extends RuntimeException {
+
+    protected NotFoundException(String message) {
+        super(message, null, false, false);
+    }
+}
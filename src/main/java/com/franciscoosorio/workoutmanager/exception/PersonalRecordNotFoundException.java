@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public class PersonalRecordNotFoundException extends NotFoundException {
+    public PersonalRecordNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
+
+public class ReferencedEntityException extends RuntimeException {
+
+    private final ReferenceCountDto references;
+
+    public ReferencedEntityException(String message, ReferenceCountDto references) {
+        super(message, null, false, false);
+        this.references = references;
+    }
+
+    public ReferenceCountDto getReferences() {
+        return references;
+    }
+}
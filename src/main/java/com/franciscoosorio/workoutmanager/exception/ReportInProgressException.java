@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public class ReportInProgressException extends RuntimeException {
+
+    public ReportInProgressException(String message) {
+        super(message, null, false, false);
+    }
+}
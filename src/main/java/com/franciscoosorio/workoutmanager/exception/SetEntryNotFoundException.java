@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public class SetEntryNotFoundException extends NotFoundException {
+    public SetEntryNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public class UserDeletionNotFoundException extends NotFoundException {
+    public UserDeletionNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.franciscoosorio.workoutmanager.exception;
 
-public class UserNotFoundException extends RuntimeException{
+public class UserNotFoundException extends NotFoundException {
 
     public UserNotFoundException(String message) {
         super(message);
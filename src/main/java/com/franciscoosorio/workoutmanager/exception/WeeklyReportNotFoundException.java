@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public class WeeklyReportNotFoundException extends NotFoundException {
+    public WeeklyReportNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.franciscoosorio.workoutmanager.exception;
 
-public class WorkoutNotFoundException extends RuntimeException {
+public class WorkoutNotFoundException extends NotFoundException {
     public WorkoutNotFoundException(String message) {
         super(message);
     }
@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public class WorkoutSessionNotFoundException extends NotFoundException {
+    public WorkoutSessionNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+public class WorkoutTemplateNotFoundException extends NotFoundException {
+
+    public WorkoutTemplateNotFoundException(String message){
+        super(message);
+    }
+}
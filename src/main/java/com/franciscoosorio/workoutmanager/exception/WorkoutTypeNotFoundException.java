@@ -1,6 +1,6 @@
 package com.franciscoosorio.workoutmanager.exception;
 
-public class WorkoutTypeNotFoundException extends RuntimeException {
+public class WorkoutTypeNotFoundException extends NotFoundException {
     
     public WorkoutTypeNotFoundException(String message){
         super(message);
@@ -0,0 +1,100 @@
+package com.franciscoosorio.workoutmanager.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class Leaderboard {
+
+    public record Standing(int rank, UUID userId, long score) {
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<UUID, Long> scores = new HashMap<>();
+
+    private final OrderStatisticTree tree = new OrderStatisticTree();
+
+    public void add(UUID userId, long delta) {
+
+        if (delta == 0) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            var previous = scores.get(userId);
+            var score = (previous != null ? previous : 0) + delta;
+
+            if (previous != null) {
+                tree.remove(userId, previous);
+            }
+
+            if (score > 0) {
+                scores.put(userId, score);
+                tree.insert(userId, score);
+            } else {
+                scores.remove(userId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID userId) {
+
+        lock.writeLock().lock();
+        try {
+            var previous = scores.remove(userId);
+
+            if (previous != null) {
+                tree.remove(userId, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Standing> top(int limit) {
+
+        lock.readLock().lock();
+        try {
+            var entries = tree.first(limit);
+            var standings = new ArrayList<Standing>(entries.size());
+
+            for (int i = 0; i < entries.size(); i++) {
+                var entry = entries.get(i);
+                var rank = i > 0 && standings.get(i - 1).score() == entry.score() ? standings.get(i - 1).rank() : i + 1;
+                standings.add(new Standing(rank, entry.userId(), entry.score()));
+            }
+            return standings;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<Standing> standing(UUID userId) {
+
+        lock.readLock().lock();
+        try {
+            var score = scores.get(userId);
+            return score == null ? Optional.empty() : Optional.of(new Standing(tree.countHigher(score) + 1, userId, score));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return scores.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.franciscoosorio.workoutmanager.leaderboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+class OrderStatisticTree {
+
+    record Entry(UUID userId, long score) {
+    }
+
+    private static final class Node {
+
+        private final Entry entry;
+
+        private final int priority = ThreadLocalRandom.current().nextInt();
+
+        private Node left;
+
+        private Node right;
+
+        private int size = 1;
+
+        private Node(Entry entry) {
+            this.entry = entry;
+        }
+    }
+
+    private Node root;
+
+    int size() {
+        return size(root);
+    }
+
+    void insert(UUID userId, long score) {
+
+        var entry = new Entry(userId, score);
+        var parts = split(root, entry);
+        root = merge(merge(parts[0], new Node(entry)), parts[1]);
+    }
+
+    void remove(UUID userId, long score) {
+        root = remove(root, new Entry(userId, score));
+    }
+
+    int countHigher(long score) {
+
+        var count = 0;
+        var node = root;
+
+        while (node != null) {
+            if (node.entry.score() > score) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    List<Entry> first(int limit) {
+
+        var entries = new ArrayList<Entry>(Math.min(limit, size()));
+        collect(root, entries, limit);
+        return entries;
+    }
+
+    private static void collect(Node node, List<Entry> entries, int limit) {
+
+        if (node == null || entries.size() >= limit) {
+            return;
+        }
+        collect(node.left, entries, limit);
+        if (entries.size() < limit) {
+            entries.add(node.entry);
+            collect(node.right, entries, limit);
+        }
+    }
+
+    private static Node remove(Node node, Entry entry) {
+
+        if (node == null) {
+            return null;
+        }
+
+        var comparison = compare(entry, node.entry);
+
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = remove(node.left, entry);
+        } else {
+            node.right = remove(node.right, entry);
+        }
+        update(node);
+        return node;
+    }
+
+    private static Node[] split(Node node, Entry entry) {
+
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+
+        if (compare(node.entry, entry) < 0) {
+            var parts = split(node.right, entry);
+            node.right = parts[0];
+            update(node);
+            return new Node[] {node, parts[1]};
+        }
+
+        var parts = split(node.left, entry);
+        node.left = parts[1];
+        update(node);
+        return new Node[] {parts[0], node};
+    }
+
+    private static Node merge(Node left, Node right) {
+
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static int compare(Entry first, Entry second) {
+
+        var byScore = Long.compare(second.score(), first.score());
+        return byScore != 0 ? byScore : first.userId().compareTo(second.userId());
+    }
+
+    private static void update(Node node) {
+        node.size = size(node.left) + size(node.right) + 1;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,40 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.franciscoosorio.workoutmanager.domain.event.DomainEvent;
+import com.franciscoosorio.workoutmanager.events.DomainEventConsumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class DomainEventCounter implements DomainEventConsumer {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, Counter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "event-counter";
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        events.forEach(event -> counter(event.getClass()).increment());
+    }
+
+    private Counter counter(Class<?> eventType) {
+        return counters.computeIfAbsent(eventType, type -> Counter.builder("workoutmanager.domain.events")
+            .description("Committed domain events by type")
+            .tag("type", type.getSimpleName())
+            .register(meterRegistry));
+    }
+}
@@ -0,0 +1,45 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private QueryTracker queryTracker;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private DistributionSummary statementsPerRequest;
+
+    @PostConstruct
+    void registerMeter() {
+        statementsPerRequest = DistributionSummary.builder("workoutmanager.jpa.statements.per.request")
+            .description("SQL statements issued while handling one HTTP request")
+            .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        queryTracker.resetStatementCount();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statementsPerRequest.record(queryTracker.statementCount());
+        }
+    }
+}
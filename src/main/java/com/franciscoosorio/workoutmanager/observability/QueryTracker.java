@@ -0,0 +1,70 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class QueryTracker implements TaskDecorator {
+
+    private final ThreadLocal<AtomicInteger> statementCount = ThreadLocal.withInitial(AtomicInteger::new);
+
+    private final ThreadLocal<List<String>> invocationStatements = new ThreadLocal<>();
+
+    public void track(String sql) {
+
+        statementCount.get().incrementAndGet();
+
+        var statements = invocationStatements.get();
+        if (statements != null) {
+            statements.add(sql);
+        }
+    }
+
+    public void resetStatementCount() {
+        statementCount.get().set(0);
+    }
+
+    public int statementCount() {
+        return statementCount.get().get();
+    }
+
+    @Override
+    public Runnable decorate(Runnable task) {
+
+        var requestCount = statementCount.get();
+
+        return () -> {
+            var workerCount = statementCount.get();
+            statementCount.set(requestCount);
+            try {
+                task.run();
+            } finally {
+                statementCount.set(workerCount);
+            }
+        };
+    }
+
+    List<String> beginInvocation() {
+
+        var enclosing = invocationStatements.get();
+        invocationStatements.set(new ArrayList<>());
+        return enclosing;
+    }
+
+    List<String> endInvocation(List<String> enclosing) {
+
+        var statements = invocationStatements.get();
+
+        if (enclosing == null) {
+            invocationStatements.remove();
+        } else {
+            enclosing.addAll(statements);
+            invocationStatements.set(enclosing);
+        }
+        return statements;
+    }
+}
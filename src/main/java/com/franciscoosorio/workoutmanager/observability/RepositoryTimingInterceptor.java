@@ -0,0 +1,34 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+class RepositoryTimingInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+
+    private final QueryTracker queryTracker;
+
+    private final SlowQueryLog slowQueryLog;
+
+    RepositoryTimingInterceptor(Class<?> repositoryInterface, QueryTracker queryTracker, SlowQueryLog slowQueryLog) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+        this.queryTracker = queryTracker;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+
+        var enclosing = queryTracker.beginInvocation();
+        var start = System.nanoTime();
+
+        try {
+            return invocation.proceed();
+        } finally {
+            var elapsed = System.nanoTime() - start;
+            var statements = queryTracker.endInvocation(enclosing);
+            slowQueryLog.record(repositoryName + "." + invocation.getMethod().getName(), elapsed, statements);
+        }
+    }
+}
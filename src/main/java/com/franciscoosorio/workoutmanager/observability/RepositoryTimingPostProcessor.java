@@ -0,0 +1,27 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+public class RepositoryTimingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryTracker> queryTracker;
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public RepositoryTimingPostProcessor(ObjectProvider<QueryTracker> queryTracker, ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.queryTracker = queryTracker;
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor((proxyFactory, information) ->
+                proxyFactory.addAdvice(0, new RepositoryTimingInterceptor(information.getRepositoryInterface(), queryTracker.getObject(), slowQueryLog.getObject()))));
+        }
+        return bean;
+    }
+}
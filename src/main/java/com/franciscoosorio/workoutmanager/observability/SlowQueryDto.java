@@ -0,0 +1,7 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SlowQueryDto(String origin, double durationMillis, List<String> statements, Instant executedAt) {
+}
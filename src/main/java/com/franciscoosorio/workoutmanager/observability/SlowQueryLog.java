@@ -0,0 +1,77 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SlowQueryLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final Comparator<SlowQueryDto> BY_DURATION = Comparator.comparingDouble(SlowQueryDto::durationMillis);
+
+    private final long thresholdNanos;
+
+    private final double sampleRate;
+
+    private final int topSize;
+
+    private final PriorityQueue<SlowQueryDto> slowest;
+
+    private volatile long fastestTrackedNanos;
+
+    public SlowQueryLog(@Value("${workoutmanager.slow-query.threshold:100ms}") Duration threshold,
+                        @Value("${workoutmanager.slow-query.sample-rate:1.0}") double sampleRate,
+                        @Value("${workoutmanager.slow-query.top-size:20}") int topSize) {
+        this.thresholdNanos = threshold.toNanos();
+        this.sampleRate = sampleRate;
+        this.topSize = topSize;
+        this.slowest = new PriorityQueue<>(topSize + 1, BY_DURATION);
+    }
+
+    public void record(String origin, long durationNanos, List<String> statements) {
+
+        if (durationNanos >= thresholdNanos && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            logger.warn("Slow repository call {} took {} ms: {}", origin, durationNanos / 1_000_000, statements);
+        }
+
+        if (statements.isEmpty() || durationNanos <= fastestTrackedNanos) {
+            return;
+        }
+
+        synchronized (slowest) {
+            slowest.add(new SlowQueryDto(origin, durationNanos / 1_000_000.0, List.copyOf(statements), Instant.now()));
+            if (slowest.size() > topSize) {
+                slowest.poll();
+                fastestTrackedNanos = (long) (slowest.peek().durationMillis() * 1_000_000);
+            }
+        }
+    }
+
+    public List<SlowQueryDto> slowest() {
+
+        List<SlowQueryDto> snapshot;
+        synchronized (slowest) {
+            snapshot = new ArrayList<>(slowest);
+        }
+        snapshot.sort(BY_DURATION.reversed());
+        return snapshot;
+    }
+
+    public void clear() {
+        synchronized (slowest) {
+            slowest.clear();
+            fastestTrackedNanos = 0;
+        }
+    }
+}
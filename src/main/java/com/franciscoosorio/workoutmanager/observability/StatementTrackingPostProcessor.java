@@ -0,0 +1,81 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class StatementTrackingPostProcessor implements BeanPostProcessor {
+
+    private static final Set<String> PREPARED = Set.of("prepareStatement", "prepareCall");
+
+    private static final Set<String> EXECUTIONS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "addBatch");
+
+    private final ObjectProvider<QueryTracker> queryTracker;
+
+    public StatementTrackingPostProcessor(ObjectProvider<QueryTracker> queryTracker) {
+        this.queryTracker = queryTracker;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+    }
+
+    private DataSource wrap(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return trackingConnection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return trackingConnection(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private Connection trackingConnection(Connection connection) {
+
+        var tracker = queryTracker.getObject();
+
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+
+            if (PREPARED.contains(method.getName()) && args[0] instanceof String sql) {
+                tracker.track(sql);
+            }
+
+            var result = invoke(connection, method, args);
+            return "createStatement".equals(method.getName()) ? trackingStatement((Statement) result, tracker) : result;
+        });
+    }
+
+    private Statement trackingStatement(Statement statement, QueryTracker tracker) {
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Statement.class}, (proxy, method, args) -> {
+
+            if (EXECUTIONS.contains(method.getName()) && args != null && args.length > 0 && args[0] instanceof String sql) {
+                tracker.track(sql);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.franciscoosorio.workoutmanager.popularity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularityDto;
+
+public class PopularityCounters {
+
+    private static final Comparator<ExercisePopularityDto> BY_POPULARITY = Comparator
+        .comparingLong((ExercisePopularityDto counts) -> counts.addedCount() + counts.performedCount())
+        .thenComparing(ExercisePopularityDto::exerciseId, Comparator.reverseOrder());
+
+    private static final class Counter {
+
+        private final LongAdder added = new LongAdder();
+
+        private final LongAdder performed = new LongAdder();
+
+        private final LongAdder pendingAdded = new LongAdder();
+
+        private final LongAdder pendingPerformed = new LongAdder();
+    }
+
+    private final Map<UUID, Counter> counters = new ConcurrentHashMap<>();
+
+    public void added(UUID exerciseId, long count) {
+
+        if (count == 0) {
+            return;
+        }
+
+        var counter = counter(exerciseId);
+        counter.added.add(count);
+        counter.pendingAdded.add(count);
+    }
+
+    public void performed(UUID exerciseId, long count) {
+
+        if (count == 0) {
+            return;
+        }
+
+        var counter = counter(exerciseId);
+        counter.performed.add(count);
+        counter.pendingPerformed.add(count);
+    }
+
+    public void load(UUID exerciseId, long added, long performed) {
+
+        var counter = counter(exerciseId);
+        counter.added.add(added);
+        counter.performed.add(performed);
+    }
+
+    public void remove(UUID exerciseId) {
+        counters.remove(exerciseId);
+    }
+
+    public List<ExercisePopularityDto> drain() {
+
+        var deltas = new ArrayList<ExercisePopularityDto>();
+
+        counters.forEach((exerciseId, counter) -> {
+            var added = counter.pendingAdded.sum();
+            var performed = counter.pendingPerformed.sum();
+
+            if (added != 0 || performed != 0) {
+                counter.pendingAdded.add(-added);
+                counter.pendingPerformed.add(-performed);
+                deltas.add(new ExercisePopularityDto(exerciseId, added, performed));
+            }
+        });
+        return deltas;
+    }
+
+    public void restore(List<ExercisePopularityDto> deltas) {
+
+        for (var delta : deltas) {
+            var counter = counters.get(delta.exerciseId());
+
+            if (counter != null) {
+                counter.pendingAdded.add(delta.addedCount());
+                counter.pendingPerformed.add(delta.performedCount());
+            }
+        }
+    }
+
+    public List<ExercisePopularityDto> top(int limit) {
+
+        var heap = new PriorityQueue<ExercisePopularityDto>(limit + 1, BY_POPULARITY);
+
+        counters.forEach((exerciseId, counter) -> {
+            var counts = new ExercisePopularityDto(exerciseId, counter.added.sum(), counter.performed.sum());
+
+            if (counts.addedCount() + counts.performedCount() <= 0) {
+                return;
+            }
+
+            heap.offer(counts);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        var top = new ArrayList<ExercisePopularityDto>(heap);
+        top.sort(BY_POPULARITY.reversed());
+        return top;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    private Counter counter(UUID exerciseId) {
+        return counters.computeIfAbsent(exerciseId, id -> new Counter());
+    }
+}
@@ -0,0 +1,20 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularity;
+import com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularityDto;
+
+public interface ExercisePopularityRepository extends JpaRepository<ExercisePopularity, UUID>, ExercisePopularityRepositoryCustom {
+
+    @Query("""
+        select new com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularityDto(p.exerciseId, p.addedCount, p.performedCount)
+        from ExercisePopularity p
+        where exists (select 1 from Exercise e where e.id = p.exerciseId)
+        """)
+    List<ExercisePopularityDto> findAllCounts();
+}
@@ -0,0 +1,13 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularityDto;
+
+public interface ExercisePopularityRepositoryCustom {
+
+    @Transactional
+    void applyDeltas(List<ExercisePopularityDto> deltas);
+}
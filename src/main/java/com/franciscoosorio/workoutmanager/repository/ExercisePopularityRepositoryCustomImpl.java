@@ -0,0 +1,41 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularityDto;
+
+public class ExercisePopularityRepositoryCustomImpl implements ExercisePopularityRepositoryCustom {
+
+    private static final String MERGE_DELTA = """
+        merge into exercise_popularity p
+        using (values (cast(? as uuid), cast(? as bigint), cast(? as bigint))) as d (exercise_id, added_count, performed_count)
+        on p.exercise_id = d.exercise_id
+        when matched then update set
+            added_count = p.added_count + d.added_count,
+            performed_count = p.performed_count + d.performed_count
+        when not matched then insert (exercise_id, added_count, performed_count)
+            values (d.exercise_id, d.added_count, d.performed_count)
+        """;
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyDeltas(List<ExercisePopularityDto> deltas) {
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(MERGE_DELTA, deltas, BATCH_SIZE, (statement, delta) -> {
+            statement.setObject(1, delta.exerciseId());
+            statement.setLong(2, delta.addedCount());
+            statement.setLong(3, delta.performedCount());
+        });
+    }
+}
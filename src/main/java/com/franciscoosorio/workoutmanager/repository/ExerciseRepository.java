@@ -1,10 +1,16 @@
 package com.franciscoosorio.workoutmanager.repository;
 
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
 
-public interface ExerciseRepository extends JpaRepository<Exercise,UUID>{
-    
+public interface ExerciseRepository extends JpaRepository<Exercise,UUID>, ExerciseRepositoryCustom{
+
+    boolean existsByName(String name);
+
+    @Query("select e.name from Exercise e")
+    List<String> findAllNames();
 }
@@ -0,0 +1,17 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
+
+public interface ExerciseRepositoryCustom {
+
+    Optional<ReferenceCountDto> findReferenceCounts(UUID exerciseId);
+
+    @Transactional
+    List<UUID> deleteReassigning(UUID exerciseId, UUID replacementId);
+}
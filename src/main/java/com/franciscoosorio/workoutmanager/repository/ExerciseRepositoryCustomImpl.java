@@ -0,0 +1,101 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
+import com.franciscoosorio.workoutmanager.sync.ChangeSequence;
+
+public class ExerciseRepositoryCustomImpl implements ExerciseRepositoryCustom {
+
+    private static final String SELECT_REFERENCE_COUNTS = """
+        select (select count(*) from exercises where id = ?),
+            (select count(*) from workouts_exercises where exercise_id = ?),
+            (select count(*) from workout_templates_exercises where exercise_id = ?),
+            (select count(*) from set_entries where exercise_id = ?)
+        """;
+
+    private static final String SELECT_REFERENCING_WORKOUTS = "select workout_id from workouts_exercises where exercise_id = ?";
+
+    private static final String CLEAR_WORKOUT_FINGERPRINTS = """
+        update workouts set fingerprint = null, version = version + 1, change_seq = ?
+        where id in (select workout_id from workouts_exercises where exercise_id = ?)
+        """;
+
+    private static final String DELETE_OVERLAPPING_WORKOUT_EXERCISES = """
+        delete from workouts_exercises
+        where exercise_id = ? and workout_id in (select workout_id from workouts_exercises where exercise_id = ?)
+        """;
+
+    private static final String REASSIGN_WORKOUT_EXERCISES = "update workouts_exercises set exercise_id = ? where exercise_id = ?";
+
+    private static final String DELETE_OVERLAPPING_TEMPLATE_EXERCISES = """
+        delete from workout_templates_exercises
+        where exercise_id = ? and template_id in (select template_id from workout_templates_exercises where exercise_id = ?)
+        """;
+
+    private static final String REASSIGN_TEMPLATE_EXERCISES = "update workout_templates_exercises set exercise_id = ? where exercise_id = ?";
+
+    private static final String DELETE_EXERCISE = "delete from exercises where id = ?";
+
+    private static final String INSERT_TOMBSTONE = """
+        insert into sync_tombstones (entity_id, entity_type, user_id, change_seq) values (?, 'EXERCISE', null, ?)
+        """;
+
+    private static final String INSERT_WORKOUTS_OUTBOX = """
+        insert into outbox_records (entity_type, entity_id, user_id, operation, created_at)
+        select 'WORKOUT', id, user_id, 'UPDATED', current_timestamp
+        from workouts where id in (select workout_id from workouts_exercises where exercise_id = ?)
+        """;
+
+    private static final String INSERT_EXERCISE_OUTBOX = """
+        insert into outbox_records (entity_type, entity_id, user_id, operation, created_at) values ('EXERCISE', ?, null, 'DELETED', current_timestamp)
+        """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    @Override
+    public Optional<ReferenceCountDto> findReferenceCounts(UUID exerciseId) {
+
+        return jdbcTemplate.queryForObject(SELECT_REFERENCE_COUNTS, (row, rowNum) -> row.getLong(1) == 0
+            ? Optional.empty()
+            : Optional.of(new ReferenceCountDto(row.getLong(2), row.getLong(3), 0, row.getLong(4))),
+            exerciseId, exerciseId, exerciseId, exerciseId);
+    }
+
+    @Override
+    public List<UUID> deleteReassigning(UUID exerciseId, UUID replacementId) {
+
+        var workoutIds = List.<UUID>of();
+        var changeSeq = changeSequence.next();
+
+        if (replacementId != null) {
+            workoutIds = jdbcTemplate.queryForList(SELECT_REFERENCING_WORKOUTS, UUID.class, exerciseId);
+
+            if (!workoutIds.isEmpty()) {
+                jdbcTemplate.update(INSERT_WORKOUTS_OUTBOX, exerciseId);
+                jdbcTemplate.update(CLEAR_WORKOUT_FINGERPRINTS, changeSeq, exerciseId);
+                jdbcTemplate.update(DELETE_OVERLAPPING_WORKOUT_EXERCISES, exerciseId, replacementId);
+                jdbcTemplate.update(REASSIGN_WORKOUT_EXERCISES, replacementId, exerciseId);
+            }
+
+            jdbcTemplate.update(DELETE_OVERLAPPING_TEMPLATE_EXERCISES, exerciseId, replacementId);
+            jdbcTemplate.update(REASSIGN_TEMPLATE_EXERCISES, replacementId, exerciseId);
+        }
+
+        if (jdbcTemplate.update(DELETE_EXERCISE, exerciseId) > 0) {
+            jdbcTemplate.update(INSERT_TOMBSTONE, exerciseId, changeSeq);
+            jdbcTemplate.update(INSERT_EXERCISE_OUTBOX, exerciseId);
+        }
+
+        return workoutIds;
+    }
+}
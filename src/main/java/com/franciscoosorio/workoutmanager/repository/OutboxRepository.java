@@ -0,0 +1,9 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxRecord;
+
+public interface OutboxRepository extends JpaRepository<OutboxRecord, Long>, OutboxRepositoryCustom {
+
+}
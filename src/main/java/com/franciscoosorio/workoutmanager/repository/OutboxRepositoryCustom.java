@@ -0,0 +1,20 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.outbox.ChangeRecordDto;
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxEntityType;
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxOperation;
+
+public interface OutboxRepositoryCustom {
+
+    void append(OutboxEntityType entityType, UUID entityId, UUID userId, OutboxOperation operation);
+
+    List<ChangeRecordDto> findBatch(int limit);
+
+    @Transactional
+    int deleteByIds(List<Long> ids);
+}
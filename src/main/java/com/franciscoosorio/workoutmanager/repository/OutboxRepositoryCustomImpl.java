@@ -0,0 +1,54 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.outbox.ChangeRecordDto;
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxEntityType;
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxOperation;
+
+public class OutboxRepositoryCustomImpl implements OutboxRepositoryCustom {
+
+    private static final String INSERT_RECORD = """
+        insert into outbox_records (entity_type, entity_id, user_id, operation, created_at) values (?, ?, ?, ?, current_timestamp)
+        """;
+
+    private static final String SELECT_BATCH = """
+        select id, entity_type, entity_id, user_id, operation, created_at from outbox_records order by id fetch first ? rows only
+        """;
+
+    private static final String DELETE_RECORDS = "delete from outbox_records where id in (%s)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void append(OutboxEntityType entityType, UUID entityId, UUID userId, OutboxOperation operation) {
+        jdbcTemplate.update(INSERT_RECORD, entityType.name(), entityId, userId, operation.name());
+    }
+
+    @Override
+    public List<ChangeRecordDto> findBatch(int limit) {
+
+        return jdbcTemplate.query(SELECT_BATCH, (row, rowNum) -> new ChangeRecordDto(
+            row.getLong(1),
+            OutboxEntityType.valueOf(row.getString(2)),
+            row.getObject(3, UUID.class),
+            row.getObject(4, UUID.class),
+            OutboxOperation.valueOf(row.getString(5)),
+            row.getTimestamp(6).toInstant()), limit);
+    }
+
+    @Override
+    public int deleteByIds(List<Long> ids) {
+
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(DELETE_RECORDS.formatted(String.join(", ", Collections.nCopies(ids.size(), "?"))), ids.toArray());
+    }
+}
@@ -0,0 +1,32 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecord;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordDto;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordId;
+
+public interface PersonalRecordRepository extends JpaRepository<PersonalRecord, PersonalRecordId>, PersonalRecordRepositoryCustom {
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordDto(r.id.exerciseId, r.maxWeight, r.maxWeightReps, r.maxWeightAt, r.oneRepMax, r.oneRepMaxAt) "
+        + "from PersonalRecord r where r.id.userId = :userId order by r.id.exerciseId")
+    List<PersonalRecordDto> findByUserId(UUID userId);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordDto(r.id.exerciseId, r.maxWeight, r.maxWeightReps, r.maxWeightAt, r.oneRepMax, r.oneRepMaxAt) "
+        + "from PersonalRecord r where r.id.userId = :userId and r.id.exerciseId = :exerciseId")
+    Optional<PersonalRecordDto> findRecord(UUID userId, UUID exerciseId);
+
+    @Modifying
+    @Query("delete from PersonalRecord r where r.id.userId = :userId")
+    int deleteByUserId(UUID userId);
+
+    @Modifying
+    @Query("delete from PersonalRecord r where r.id.userId = :userId and r.id.exerciseId = :exerciseId")
+    int deleteRecord(UUID userId, UUID exerciseId);
+}
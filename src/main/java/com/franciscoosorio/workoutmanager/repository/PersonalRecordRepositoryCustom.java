@@ -0,0 +1,10 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordCandidate;
+
+public interface PersonalRecordRepositoryCustom {
+
+    void applyCandidates(List<PersonalRecordCandidate> candidates);
+}
@@ -0,0 +1,59 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordCandidate;
+
+public class PersonalRecordRepositoryCustomImpl implements PersonalRecordRepositoryCustom {
+
+    private static final String HEAVIER = "(d.max_weight > r.max_weight or (d.max_weight = r.max_weight and d.max_weight_reps > r.max_weight_reps))";
+
+    private static final String STRONGER = "d.one_rep_max > r.one_rep_max";
+
+    private static final String MERGE_CANDIDATE = """
+        merge into personal_records r
+        using (values (cast(? as uuid), cast(? as uuid),
+                cast(? as numeric(7, 2)), cast(? as integer), cast(? as uuid), cast(? as timestamp(6) with time zone),
+                cast(? as numeric(9, 2)), cast(? as uuid), cast(? as timestamp(6) with time zone)))
+            as d (user_id, exercise_id, max_weight, max_weight_reps, max_weight_set_id, max_weight_at, one_rep_max, one_rep_max_set_id, one_rep_max_at)
+        on r.user_id = d.user_id and r.exercise_id = d.exercise_id
+        when matched and (%1$s or %2$s) then update set
+            max_weight = case when %1$s then d.max_weight else r.max_weight end,
+            max_weight_reps = case when %1$s then d.max_weight_reps else r.max_weight_reps end,
+            max_weight_set_id = case when %1$s then d.max_weight_set_id else r.max_weight_set_id end,
+            max_weight_at = case when %1$s then d.max_weight_at else r.max_weight_at end,
+            one_rep_max = case when %2$s then d.one_rep_max else r.one_rep_max end,
+            one_rep_max_set_id = case when %2$s then d.one_rep_max_set_id else r.one_rep_max_set_id end,
+            one_rep_max_at = case when %2$s then d.one_rep_max_at else r.one_rep_max_at end
+        when not matched then insert (user_id, exercise_id, max_weight, max_weight_reps, max_weight_set_id, max_weight_at, one_rep_max, one_rep_max_set_id, one_rep_max_at)
+            values (d.user_id, d.exercise_id, d.max_weight, d.max_weight_reps, d.max_weight_set_id, d.max_weight_at, d.one_rep_max, d.one_rep_max_set_id, d.one_rep_max_at)
+        """.formatted(HEAVIER, STRONGER);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyCandidates(List<PersonalRecordCandidate> candidates) {
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(MERGE_CANDIDATE, candidates, BATCH_SIZE, (statement, candidate) -> {
+            statement.setObject(1, candidate.userId());
+            statement.setObject(2, candidate.exerciseId());
+            statement.setBigDecimal(3, candidate.maxWeight());
+            statement.setInt(4, candidate.maxWeightReps());
+            statement.setObject(5, candidate.maxWeightSetId());
+            statement.setObject(6, candidate.maxWeightAt());
+            statement.setBigDecimal(7, candidate.oneRepMax());
+            statement.setObject(8, candidate.oneRepMaxSetId());
+            statement.setObject(9, candidate.oneRepMaxAt());
+        });
+    }
+}
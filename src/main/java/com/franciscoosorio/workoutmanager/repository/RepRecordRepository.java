@@ -0,0 +1,28 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecord;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordDto;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordId;
+
+public interface RepRecordRepository extends JpaRepository<RepRecord, RepRecordId>, RepRecordRepositoryCustom {
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordDto(r.id.weight, r.reps, r.performedAt) "
+        + "from RepRecord r where r.id.userId = :userId and r.id.exerciseId = :exerciseId order by r.id.weight")
+    List<RepRecordDto> findRecords(UUID userId, UUID exerciseId);
+
+    @Modifying
+    @Query("delete from RepRecord r where r.id.userId = :userId")
+    int deleteByUserId(UUID userId);
+
+    @Modifying
+    @Query("delete from RepRecord r where r.id.userId = :userId and r.id.exerciseId = :exerciseId and r.id.weight = :weight")
+    int deleteRecord(UUID userId, UUID exerciseId, BigDecimal weight);
+}
@@ -0,0 +1,10 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordCandidate;
+
+public interface RepRecordRepositoryCustom {
+
+    void applyCandidates(List<RepRecordCandidate> candidates);
+}
@@ -0,0 +1,47 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordCandidate;
+
+public class RepRecordRepositoryCustomImpl implements RepRecordRepositoryCustom {
+
+    private static final String MERGE_CANDIDATE = """
+        merge into rep_records r
+        using (values (cast(? as uuid), cast(? as uuid), cast(? as numeric(7, 2)),
+                cast(? as integer), cast(? as uuid), cast(? as timestamp(6) with time zone)))
+            as d (user_id, exercise_id, weight, reps, set_id, performed_at)
+        on r.user_id = d.user_id and r.exercise_id = d.exercise_id and r.weight = d.weight
+        when matched and d.reps > r.reps then update set
+            reps = d.reps,
+            set_id = d.set_id,
+            performed_at = d.performed_at
+        when not matched then insert (user_id, exercise_id, weight, reps, set_id, performed_at)
+            values (d.user_id, d.exercise_id, d.weight, d.reps, d.set_id, d.performed_at)
+        """;
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyCandidates(List<RepRecordCandidate> candidates) {
+
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(MERGE_CANDIDATE, candidates, BATCH_SIZE, (statement, candidate) -> {
+            statement.setObject(1, candidate.userId());
+            statement.setObject(2, candidate.exerciseId());
+            statement.setBigDecimal(3, candidate.weight());
+            statement.setInt(4, candidate.reps());
+            statement.setObject(5, candidate.setId());
+            statement.setObject(6, candidate.performedAt());
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.report.ReportCheckpoint;
+import com.franciscoosorio.workoutmanager.domain.report.ReportCheckpointId;
+
+public interface ReportCheckpointRepository extends JpaRepository<ReportCheckpoint, ReportCheckpointId> {
+
+    @Query("select c from ReportCheckpoint c where c.id.weekStart = :weekStart order by c.id.partitionIndex")
+    List<ReportCheckpoint> findByWeekStart(LocalDate weekStart);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ReportCheckpoint c where c.id.weekStart = :weekStart")
+    int deleteByWeekStart(LocalDate weekStart);
+}
@@ -0,0 +1,63 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import com.franciscoosorio.workoutmanager.domain.leaderboard.WorkoutTypeVolumeTotalDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntry;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+
+import jakarta.persistence.QueryHint;
+
+public interface SetEntryRepository extends JpaRepository<SetEntry, UUID> {
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.session.SetEntryDto(s.id, s.session.id, s.exercise.id, s.reps, s.weight, s.performedAt) from SetEntry s "
+        + "where s.session.id = :sessionId order by s.id")
+    List<SetEntryDto> findBySessionId(UUID sessionId);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.session.SetEntryDto(s.id, s.session.id, s.exercise.id, s.reps, s.weight, s.performedAt) from SetEntry s "
+        + "where s.user.userId = :userId and s.performedAt < :to "
+        + "and (s.performedAt > :afterTime or (s.performedAt = :afterTime and s.id > :afterId)) "
+        + "order by s.performedAt, s.id")
+    List<SetEntryDto> findRangeAfter(UUID userId, Instant to, Instant afterTime, UUID afterId, Limit limit);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select new com.franciscoosorio.workoutmanager.domain.session.SetEntryDto(s.id, s.session.id, s.exercise.id, s.reps, s.weight, s.performedAt) from SetEntry s "
+        + "where s.user.userId = :userId")
+    Stream<SetEntryDto> streamByUserId(UUID userId);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.session.SetEntryDto(s.id, s.session.id, s.exercise.id, s.reps, s.weight, s.performedAt) from SetEntry s "
+        + "where s.id = :id and s.user.userId = :userId")
+    Optional<SetEntryDto> findEntry(UUID id, UUID userId);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.session.SetEntryDto(s.id, s.session.id, s.exercise.id, s.reps, s.weight, s.performedAt) from SetEntry s "
+        + "where s.user.userId = :userId and s.exercise.id = :exerciseId order by s.weight desc, s.reps desc, s.performedAt, s.id")
+    List<SetEntryDto> findHeaviest(UUID userId, UUID exerciseId, Limit limit);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.session.SetEntryDto(s.id, s.session.id, s.exercise.id, s.reps, s.weight, s.performedAt) from SetEntry s "
+        + "where s.user.userId = :userId and s.exercise.id = :exerciseId "
+        + "order by case when s.reps = 1 then s.weight else s.weight * (30 + s.reps) / 30.0 end desc, s.performedAt, s.id")
+    List<SetEntryDto> findStrongest(UUID userId, UUID exerciseId, Limit limit);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.session.SetEntryDto(s.id, s.session.id, s.exercise.id, s.reps, s.weight, s.performedAt) from SetEntry s "
+        + "where s.user.userId = :userId and s.exercise.id = :exerciseId and s.weight = :weight order by s.reps desc, s.performedAt, s.id")
+    List<SetEntryDto> findMostReps(UUID userId, UUID exerciseId, BigDecimal weight, Limit limit);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.leaderboard.WorkoutTypeVolumeTotalDto(s.user.userId, s.session.workout.workoutType.id, sum(s.reps * s.weight)) "
+        + "from SetEntry s where s.performedAt >= :from and s.performedAt < :to group by s.user.userId, s.session.workout.workoutType.id")
+    List<WorkoutTypeVolumeTotalDto> sumVolumePerUserAndWorkoutType(Instant from, Instant to);
+
+    @Modifying
+    @Query("delete from SetEntry s where s.id = :id")
+    int deleteEntry(UUID id);
+}
@@ -0,0 +1,11 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.franciscoosorio.workoutmanager.domain.sync.SyncTombstone;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID>, SyncTombstoneRepositoryCustom {
+
+}
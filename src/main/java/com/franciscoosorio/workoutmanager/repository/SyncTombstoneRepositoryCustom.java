@@ -0,0 +1,21 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.sync.SyncChangeDto;
+import com.franciscoosorio.workoutmanager.domain.sync.SyncEntityType;
+
+public interface SyncTombstoneRepositoryCustom {
+
+    long findMaxChangeSeq();
+
+    @Transactional
+    int backfillChangeSeq(long changeSeq);
+
+    void insertTombstone(UUID entityId, SyncEntityType entityType, UUID userId, long changeSeq);
+
+    List<SyncChangeDto> findChanges(UUID userId, long afterSeq, UUID afterId, long upToSeq, int limit);
+}
@@ -0,0 +1,101 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.sync.SyncChangeDto;
+import com.franciscoosorio.workoutmanager.domain.sync.SyncEntityType;
+
+public class SyncTombstoneRepositoryCustomImpl implements SyncTombstoneRepositoryCustom {
+
+    private static final String SELECT_MAX_CHANGE_SEQ = """
+        select greatest(
+            coalesce((select max(change_seq) from workouts), 0),
+            coalesce((select max(change_seq) from exercises), 0),
+            coalesce((select max(change_seq) from workout_types), 0),
+            coalesce((select max(change_seq) from sync_tombstones), 0))
+        """;
+
+    private static final List<String> BACKFILL_CHANGE_SEQ = List.of(
+        "update workouts set change_seq = ? where change_seq is null",
+        "update exercises set change_seq = ? where change_seq is null",
+        "update workout_types set change_seq = ? where change_seq is null");
+
+    private static final String INSERT_TOMBSTONE = """
+        insert into sync_tombstones (entity_id, entity_type, user_id, change_seq) values (?, ?, ?, ?)
+        """;
+
+    private static final String SELECT_CHANGES = """
+        select type, id, change_seq, deleted from (
+            (select 'WORKOUT' as type, id, change_seq, false as deleted from workouts
+                where user_id = ? and %1$s order by change_seq, id fetch first ? rows only)
+            union all
+            (select 'EXERCISE', id, change_seq, false from exercises
+                where %1$s order by change_seq, id fetch first ? rows only)
+            union all
+            (select 'WORKOUT_TYPE', id, change_seq, false from workout_types
+                where %1$s order by change_seq, id fetch first ? rows only)
+            union all
+            (select cast(entity_type as varchar), entity_id, change_seq, true from sync_tombstones
+                where (user_id is null or user_id = ?) and %2$s order by change_seq, entity_id fetch first ? rows only)
+        ) changes
+        order by change_seq, id
+        fetch first ? rows only
+        """;
+
+    private static final String AFTER_SEQ = "change_seq > ? and change_seq <= ?";
+
+    private static final String AFTER_SEQ_AND_ID = "change_seq >= ? and change_seq <= ? and (change_seq > ? or %s > ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long findMaxChangeSeq() {
+        return jdbcTemplate.queryForObject(SELECT_MAX_CHANGE_SEQ, Long.class);
+    }
+
+    @Override
+    public int backfillChangeSeq(long changeSeq) {
+        return BACKFILL_CHANGE_SEQ.stream().mapToInt(sql -> jdbcTemplate.update(sql, changeSeq)).sum();
+    }
+
+    @Override
+    public void insertTombstone(UUID entityId, SyncEntityType entityType, UUID userId, long changeSeq) {
+        jdbcTemplate.update(INSERT_TOMBSTONE, entityId, entityType.name(), userId, changeSeq);
+    }
+
+    @Override
+    public List<SyncChangeDto> findChanges(UUID userId, long afterSeq, UUID afterId, long upToSeq, int limit) {
+
+        var sql = afterId == null
+            ? SELECT_CHANGES.formatted(AFTER_SEQ, AFTER_SEQ)
+            : SELECT_CHANGES.formatted(AFTER_SEQ_AND_ID.formatted("id"), AFTER_SEQ_AND_ID.formatted("entity_id"));
+
+        Object[] range = afterId == null
+            ? new Object[] {afterSeq, upToSeq}
+            : new Object[] {afterSeq, upToSeq, afterSeq, afterId};
+
+        var args = new ArrayList<Object>();
+        args.add(userId);
+        addBranch(args, range, limit);
+        addBranch(args, range, limit);
+        addBranch(args, range, limit);
+        args.add(userId);
+        addBranch(args, range, limit);
+        args.add(limit);
+
+        return jdbcTemplate.query(sql, (row, rowNum) -> new SyncChangeDto(
+            SyncEntityType.valueOf(row.getString(1)), row.getObject(2, UUID.class), row.getLong(3), row.getBoolean(4)),
+            args.toArray());
+    }
+
+    private static void addBranch(List<Object> args, Object[] range, int limit) {
+        args.addAll(List.of(range));
+        args.add(limit);
+    }
+}
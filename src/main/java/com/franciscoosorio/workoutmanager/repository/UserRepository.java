@@ -1,11 +1,22 @@
 package com.franciscoosorio.workoutmanager.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.franciscoosorio.workoutmanager.domain.user.User;
 
-public interface UserRepository extends JpaRepository<User,UUID>{
-    
+public interface UserRepository extends JpaRepository<User,UUID>, UserRepositoryCustom{
+
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    @Query("select u.username from User u")
+    List<String> findAllUsernames();
+
+    @Query("select u.email from User u")
+    List<String> findAllEmails();
 }
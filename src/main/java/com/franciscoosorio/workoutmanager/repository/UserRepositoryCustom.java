@@ -0,0 +1,28 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.projection.FieldSelection;
+
+public interface UserRepositoryCustom {
+
+    List<Map<String, Object>> findAllFields(FieldSelection selection);
+
+    boolean existsWithoutSession(UUID userId);
+
+    @Transactional
+    int deleteSetEntriesChunk(UUID userId, int chunkSize);
+
+    @Transactional
+    int deleteSessionsChunk(UUID userId, int chunkSize);
+
+    @Transactional
+    List<UUID> deleteWorkoutsChunk(UUID userId, int chunkSize);
+
+    @Transactional
+    boolean deleteAccount(UUID userId);
+}
@@ -0,0 +1,117 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.projection.FieldSelection;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private static final String DELETE_SET_ENTRIES_CHUNK =
+        "delete from set_entries where id in (select id from set_entries where user_id = ? fetch first ? rows only)";
+
+    private static final String DELETE_SESSIONS_CHUNK =
+        "delete from workout_sessions where id in (select id from workout_sessions where user_id = ? fetch first ? rows only)";
+
+    private static final String EXISTS_USER = "select count(*) from users where user_id = ?";
+
+    private static final String SELECT_WORKOUTS_CHUNK = "select id from workouts where user_id = ? fetch first ? rows only";
+
+    private static final String INSERT_WORKOUTS_OUTBOX = """
+        insert into outbox_records (entity_type, entity_id, user_id, operation, created_at)
+        select 'WORKOUT', id, user_id, 'DELETED', current_timestamp from workouts where id in (%s)
+        """;
+
+    private static final String DELETE_WORKOUT_EXERCISES = "delete from workouts_exercises where workout_id in (%s)";
+
+    private static final String DELETE_WORKOUTS = "delete from workouts where id in (%s)";
+
+    private static final List<String> DELETE_USER_ROWS = List.of(
+        "delete from volume_rollups where user_id = ?",
+        "delete from personal_records where user_id = ?",
+        "delete from rep_records where user_id = ?",
+        "delete from weekly_report_volumes where user_id = ?",
+        "delete from weekly_reports where user_id = ?");
+
+    private static final String DELETE_USER = "delete from users where user_id = ?";
+
+    private static final String INSERT_USER_OUTBOX = """
+        insert into outbox_records (entity_type, entity_id, user_id, operation, created_at) values ('USER', ?, ?, 'DELETED', current_timestamp)
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Map<String, Object>> findAllFields(FieldSelection selection) {
+
+        var select = new StringJoiner(", ", "select ", "");
+        selection.fields().forEach(field -> select.add("u." + field + " as u_" + field));
+
+        return entityManager.createQuery(select + " from User u", Tuple.class)
+            .getResultList()
+            .stream()
+            .map(tuple -> {
+                Map<String, Object> user = new LinkedHashMap<>();
+                selection.fields().forEach(field -> user.put(field, tuple.get("u_" + field)));
+                return user;
+            })
+            .toList();
+    }
+
+    @Override
+    public boolean existsWithoutSession(UUID userId) {
+        return jdbcTemplate.queryForObject(EXISTS_USER, Long.class, userId) > 0;
+    }
+
+    @Override
+    public int deleteSetEntriesChunk(UUID userId, int chunkSize) {
+        return jdbcTemplate.update(DELETE_SET_ENTRIES_CHUNK, userId, chunkSize);
+    }
+
+    @Override
+    public int deleteSessionsChunk(UUID userId, int chunkSize) {
+        return jdbcTemplate.update(DELETE_SESSIONS_CHUNK, userId, chunkSize);
+    }
+
+    @Override
+    public List<UUID> deleteWorkoutsChunk(UUID userId, int chunkSize) {
+
+        var workoutIds = jdbcTemplate.queryForList(SELECT_WORKOUTS_CHUNK, UUID.class, userId, chunkSize);
+
+        if (!workoutIds.isEmpty()) {
+            var placeholders = String.join(", ", Collections.nCopies(workoutIds.size(), "?"));
+            jdbcTemplate.update(INSERT_WORKOUTS_OUTBOX.formatted(placeholders), workoutIds.toArray());
+            jdbcTemplate.update(DELETE_WORKOUT_EXERCISES.formatted(placeholders), workoutIds.toArray());
+            jdbcTemplate.update(DELETE_WORKOUTS.formatted(placeholders), workoutIds.toArray());
+        }
+        return workoutIds;
+    }
+
+    @Override
+    public boolean deleteAccount(UUID userId) {
+
+        DELETE_USER_ROWS.forEach(sql -> jdbcTemplate.update(sql, userId));
+
+        if (jdbcTemplate.update(DELETE_USER, userId) == 0) {
+            return false;
+        }
+
+        jdbcTemplate.update(INSERT_USER_OUTBOX, userId, userId);
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.franciscoosorio.workoutmanager.domain.rollup.RollupGranularity;
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollup;
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupDto;
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupId;
+
+public interface VolumeRollupRepository extends JpaRepository<VolumeRollup, VolumeRollupId>, VolumeRollupRepositoryCustom {
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupDto(r.id.exerciseId, r.id.granularity, r.id.bucketStart, r.volume, r.sets, r.maxWeight) "
+        + "from VolumeRollup r where r.id.userId = :userId and r.id.granularity = :granularity and r.id.bucketStart between :from and :to "
+        + "order by r.id.bucketStart, r.id.exerciseId")
+    List<VolumeRollupDto> findBuckets(UUID userId, RollupGranularity granularity, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("delete from VolumeRollup r where r.id.userId = :userId")
+    int deleteByUserId(UUID userId);
+}
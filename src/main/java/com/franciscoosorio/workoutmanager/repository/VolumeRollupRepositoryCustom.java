@@ -0,0 +1,14 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupDelta;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+
+public interface VolumeRollupRepositoryCustom {
+
+    void applyDeltas(List<VolumeRollupDelta> deltas);
+
+    void removeSet(UUID userId, SetEntryDto set);
+}
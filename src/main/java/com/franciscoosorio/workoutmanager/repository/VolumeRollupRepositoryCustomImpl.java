@@ -0,0 +1,85 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.rollup.RollupGranularity;
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupDelta;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+
+public class VolumeRollupRepositoryCustomImpl implements VolumeRollupRepositoryCustom {
+
+    private static final String MERGE_DELTA = """
+        merge into volume_rollups r
+        using (values (cast(? as uuid), cast(? as varchar(8)), cast(? as date), cast(? as uuid), cast(? as numeric(19, 2)), cast(? as bigint), cast(? as numeric(7, 2))))
+            as d (user_id, granularity, bucket_start, exercise_id, volume, set_count, max_weight)
+        on r.user_id = d.user_id and r.granularity = d.granularity and r.bucket_start = d.bucket_start and r.exercise_id = d.exercise_id
+        when matched then update set
+            volume = r.volume + d.volume,
+            set_count = r.set_count + d.set_count,
+            max_weight = greatest(r.max_weight, d.max_weight)
+        when not matched then insert (user_id, granularity, bucket_start, exercise_id, volume, set_count, max_weight)
+            values (d.user_id, d.granularity, d.bucket_start, d.exercise_id, d.volume, d.set_count, d.max_weight)
+        """;
+
+    private static final String REMOVE_SET = """
+        update volume_rollups set
+            volume = volume - ?,
+            set_count = set_count - 1,
+            max_weight = coalesce((select max(s.weight) from set_entries s
+                where s.user_id = ? and s.exercise_id = ? and s.performed_at >= ? and s.performed_at < ?), 0)
+        where user_id = ? and granularity = ? and bucket_start = ? and exercise_id = ?
+        """;
+
+    private static final String DELETE_EMPTY = "delete from volume_rollups where user_id = ? and exercise_id = ? and set_count <= 0";
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyDeltas(List<VolumeRollupDelta> deltas) {
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(MERGE_DELTA, deltas, BATCH_SIZE, (statement, delta) -> {
+            statement.setObject(1, delta.userId());
+            statement.setString(2, delta.granularity().name());
+            statement.setDate(3, Date.valueOf(delta.bucketStart()));
+            statement.setObject(4, delta.exerciseId());
+            statement.setBigDecimal(5, delta.volume());
+            statement.setLong(6, delta.sets());
+            statement.setBigDecimal(7, delta.maxWeight());
+        });
+    }
+
+    @Override
+    public void removeSet(UUID userId, SetEntryDto set) {
+
+        var volume = set.weight().multiply(BigDecimal.valueOf(set.reps()));
+
+        jdbcTemplate.batchUpdate(REMOVE_SET, List.of(RollupGranularity.values()), RollupGranularity.values().length, (statement, granularity) -> {
+            var bucketStart = granularity.bucketStart(set.performedAt());
+            statement.setBigDecimal(1, volume);
+            statement.setObject(2, userId);
+            statement.setObject(3, set.exerciseId());
+            statement.setObject(4, bucketStart.atStartOfDay(ZoneOffset.UTC).toInstant());
+            statement.setObject(5, granularity.nextBucketStart(bucketStart).atStartOfDay(ZoneOffset.UTC).toInstant());
+            statement.setObject(6, userId);
+            statement.setString(7, granularity.name());
+            statement.setDate(8, Date.valueOf(bucketStart));
+            statement.setObject(9, set.exerciseId());
+        });
+
+        jdbcTemplate.update(DELETE_EMPTY, userId, set.exerciseId());
+    }
+}
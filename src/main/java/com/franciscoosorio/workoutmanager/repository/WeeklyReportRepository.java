@@ -0,0 +1,19 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.franciscoosorio.workoutmanager.domain.report.WeeklyReport;
+import com.franciscoosorio.workoutmanager.domain.report.WeeklyReportId;
+import com.franciscoosorio.workoutmanager.domain.report.WorkoutTypeVolumeDto;
+
+public interface WeeklyReportRepository extends JpaRepository<WeeklyReport, WeeklyReportId>, WeeklyReportRepositoryCustom {
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.report.WorkoutTypeVolumeDto(v.id.workoutTypeId, v.sets, v.volume) "
+        + "from WeeklyReportVolume v where v.id.userId = :userId and v.id.weekStart = :weekStart order by v.volume desc")
+    List<WorkoutTypeVolumeDto> findVolumes(UUID userId, LocalDate weekStart);
+}
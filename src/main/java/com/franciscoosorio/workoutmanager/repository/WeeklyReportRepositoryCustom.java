@@ -0,0 +1,18 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.report.ReportCheckpoint;
+import com.franciscoosorio.workoutmanager.domain.report.UserIdRange;
+
+public interface WeeklyReportRepositoryCustom {
+
+    List<UUID> findUserIds(UserIdRange range, UUID after, int limit);
+
+    @Transactional
+    void writeChunk(LocalDate weekStart, List<UUID> userIds, ReportCheckpoint checkpoint);
+}
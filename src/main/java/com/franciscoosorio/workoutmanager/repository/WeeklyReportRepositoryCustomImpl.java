@@ -0,0 +1,157 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.report.ReportCheckpoint;
+import com.franciscoosorio.workoutmanager.domain.report.UserIdRange;
+import com.franciscoosorio.workoutmanager.domain.report.WorkoutTypeVolumeDto;
+
+public class WeeklyReportRepositoryCustomImpl implements WeeklyReportRepositoryCustom {
+
+    private static final String SESSIONS = """
+        select user_id, count(*) from workout_sessions
+        where user_id between ? and ? and started_at >= ? and started_at < ?
+        group by user_id
+        """;
+
+    private static final String VOLUMES = """
+        select s.user_id, w.workout_type_id, count(*), sum(s.reps * s.weight) from set_entries s
+        join workout_sessions ws on ws.id = s.session_id
+        join workouts w on w.id = ws.workout_id
+        where s.user_id between ? and ? and s.performed_at >= ? and s.performed_at < ?
+        group by s.user_id, w.workout_type_id
+        """;
+
+    private static final String NEW_RECORDS = """
+        select user_id, count(*) from personal_records
+        where user_id between ? and ?
+        and ((max_weight_at >= ? and max_weight_at < ?) or (one_rep_max_at >= ? and one_rep_max_at < ?))
+        group by user_id
+        """;
+
+    private static final String MERGE_REPORT = """
+        merge into weekly_reports r
+        using (values (cast(? as uuid), cast(? as date), cast(? as integer), cast(? as bigint), cast(? as numeric(19, 2)), cast(? as integer), cast(? as timestamp(6) with time zone)))
+            as d (user_id, week_start, sessions, set_count, volume, new_records, generated_at)
+        on r.user_id = d.user_id and r.week_start = d.week_start
+        when matched then update set
+            sessions = d.sessions, set_count = d.set_count, volume = d.volume, new_records = d.new_records, generated_at = d.generated_at
+        when not matched then insert (user_id, week_start, sessions, set_count, volume, new_records, generated_at)
+            values (d.user_id, d.week_start, d.sessions, d.set_count, d.volume, d.new_records, d.generated_at)
+        """;
+
+    private static final String DELETE_VOLUMES = "delete from weekly_report_volumes where user_id between ? and ? and week_start = ?";
+
+    private static final String INSERT_VOLUME = "insert into weekly_report_volumes (user_id, week_start, workout_type_id, set_count, volume) values (?, ?, ?, ?, ?)";
+
+    private static final String MERGE_CHECKPOINT = """
+        merge into report_checkpoints c
+        using (values (cast(? as date), cast(? as integer), cast(? as integer), cast(? as uuid), cast(? as bigint), cast(? as boolean), cast(? as timestamp(6) with time zone)))
+            as d (week_start, partition_index, partition_count, last_user_id, users, completed, updated_at)
+        on c.week_start = d.week_start and c.partition_index = d.partition_index
+        when matched then update set
+            partition_count = d.partition_count, last_user_id = d.last_user_id, users = d.users, completed = d.completed, updated_at = d.updated_at
+        when not matched then insert (week_start, partition_index, partition_count, last_user_id, users, completed, updated_at)
+            values (d.week_start, d.partition_index, d.partition_count, d.last_user_id, d.users, d.completed, d.updated_at)
+        """;
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<UUID> findUserIds(UserIdRange range, UUID after, int limit) {
+
+        var sql = new StringBuilder("select user_id from users where user_id >= ?");
+        var args = new ArrayList<Object>(List.of(range.from()));
+
+        if (after != null) {
+            sql.append(" and user_id > ?");
+            args.add(after);
+        }
+        if (range.to() != null) {
+            sql.append(" and user_id < ?");
+            args.add(range.to());
+        }
+        sql.append(" order by user_id fetch first ? rows only");
+        args.add(limit);
+
+        return jdbcTemplate.queryForList(sql.toString(), UUID.class, args.toArray());
+    }
+
+    @Override
+    public void writeChunk(LocalDate weekStart, List<UUID> userIds, ReportCheckpoint checkpoint) {
+
+        if (!userIds.isEmpty()) {
+            writeReports(weekStart, userIds);
+        }
+
+        var id = checkpoint.getId();
+
+        jdbcTemplate.update(MERGE_CHECKPOINT, Date.valueOf(id.getWeekStart()), id.getPartitionIndex(), checkpoint.getPartitionCount(),
+            checkpoint.getLastUserId(), checkpoint.getUsers(), checkpoint.isCompleted(), checkpoint.getUpdatedAt());
+    }
+
+    private void writeReports(LocalDate weekStart, List<UUID> userIds) {
+
+        var first = userIds.get(0);
+        var last = userIds.get(userIds.size() - 1);
+        var from = weekStart.atStartOfDay(ZoneOffset.UTC).toInstant();
+        var to = weekStart.plusWeeks(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+
+        var sessions = new HashMap<UUID, Integer>();
+        jdbcTemplate.query(SESSIONS, row -> {
+            sessions.put(row.getObject(1, UUID.class), row.getInt(2));
+        }, first, last, from, to);
+
+        var volumes = new HashMap<UUID, List<WorkoutTypeVolumeDto>>();
+        jdbcTemplate.query(VOLUMES, row -> {
+            volumes.computeIfAbsent(row.getObject(1, UUID.class), user -> new ArrayList<>())
+                .add(new WorkoutTypeVolumeDto(row.getObject(2, UUID.class), row.getLong(3), row.getBigDecimal(4)));
+        }, first, last, from, to);
+
+        var newRecords = new HashMap<UUID, Integer>();
+        jdbcTemplate.query(NEW_RECORDS, row -> {
+            newRecords.put(row.getObject(1, UUID.class), row.getInt(2));
+        }, first, last, from, to, from, to);
+
+        var week = Date.valueOf(weekStart);
+        var generatedAt = Instant.now();
+
+        jdbcTemplate.batchUpdate(MERGE_REPORT, userIds, BATCH_SIZE, (statement, userId) -> {
+            var userVolumes = volumes.getOrDefault(userId, List.of());
+            statement.setObject(1, userId);
+            statement.setDate(2, week);
+            statement.setInt(3, sessions.getOrDefault(userId, 0));
+            statement.setLong(4, userVolumes.stream().mapToLong(WorkoutTypeVolumeDto::sets).sum());
+            statement.setBigDecimal(5, userVolumes.stream().map(WorkoutTypeVolumeDto::volume).reduce(BigDecimal.ZERO, BigDecimal::add));
+            statement.setInt(6, newRecords.getOrDefault(userId, 0));
+            statement.setObject(7, generatedAt);
+        });
+
+        jdbcTemplate.update(DELETE_VOLUMES, first, last, week);
+
+        var rows = new ArrayList<Object[]>();
+        for (var userId : userIds) {
+            for (var volume : volumes.getOrDefault(userId, List.of())) {
+                rows.add(new Object[] {userId, week, volume.workoutTypeId(), volume.sets(), volume.volume()});
+            }
+        }
+
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_VOLUME, rows);
+        }
+    }
+}
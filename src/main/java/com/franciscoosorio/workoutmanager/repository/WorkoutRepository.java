@@ -1,17 +1,45 @@
 package com.franciscoosorio.workoutmanager.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import com.franciscoosorio.workoutmanager.domain.similarity.WorkoutExerciseDto;
 import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutFingerprintSourceDto;
 
-public interface WorkoutRepository extends JpaRepository<Workout,UUID>{
+public interface WorkoutRepository extends JpaRepository<Workout,UUID>, WorkoutRepositoryCustom{
 
+    @EntityGraph(attributePaths = {"workoutType", "exercises"})
     Optional<Workout> findByIdAndUser_UserId(UUID workoutId, UUID userId);
 
+    @EntityGraph(attributePaths = {"workoutType", "exercises"})
     List<Workout> findByUser_UserId(UUID userId);
+
+    @EntityGraph(attributePaths = {"workoutType", "exercises"})
+    List<Workout> findByIdIn(Collection<UUID> workoutIds);
     
     Boolean existsByIdAndUser_UserId(UUID workoutId, UUID userId);
+
+    boolean existsByName(String name);
+
+    @Query("select w.name from Workout w")
+    List<String> findAllNames();
+
+    @Query("select w.id from Workout w where w.user.userId = :userId and w.fingerprint = :fingerprint")
+    List<UUID> findIdsByFingerprint(UUID userId, String fingerprint, Limit limit);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.workout.WorkoutFingerprintSourceDto(w.id, w.workoutType.id, e.id) from Workout w left join w.exercises e where w.fingerprint is null")
+    List<WorkoutFingerprintSourceDto> findFingerprintSources();
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.similarity.WorkoutExerciseDto(w.id, w.user.userId, e.id) from Workout w left join w.exercises e")
+    List<WorkoutExerciseDto> findAllWorkoutExercises();
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.similarity.WorkoutExerciseDto(w.id, w.user.userId, e.id) from Workout w left join w.exercises e where w.id in :workoutIds")
+    List<WorkoutExerciseDto> findWorkoutExercises(Collection<UUID> workoutIds);
 }
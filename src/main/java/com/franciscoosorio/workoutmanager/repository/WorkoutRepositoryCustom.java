@@ -0,0 +1,27 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.projection.FieldSelection;
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateWorkoutRowDto;
+
+public interface WorkoutRepositoryCustom {
+
+    List<Map<String, Object>> findFieldsByUserId(UUID userId, FieldSelection selection);
+
+    @Transactional
+    void updateFingerprints(Map<UUID, String> fingerprints);
+
+    Optional<ReferenceCountDto> findReferenceCounts(UUID workoutId, UUID userId);
+
+    List<DuplicateWorkoutRowDto> findDuplicates();
+
+    @Transactional
+    void mergeDuplicates(Map<UUID, UUID> keptByDuplicate);
+}
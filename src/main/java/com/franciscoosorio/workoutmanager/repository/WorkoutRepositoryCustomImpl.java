@@ -0,0 +1,182 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.projection.FieldSelection;
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateWorkoutRowDto;
+import com.franciscoosorio.workoutmanager.sync.ChangeSequence;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+
+public class WorkoutRepositoryCustomImpl implements WorkoutRepositoryCustom {
+
+    private static final String UPDATE_FINGERPRINT = "update workouts set fingerprint = ? where id = ?";
+
+    private static final String SELECT_REFERENCE_COUNTS = """
+        select (select count(*) from workouts where id = ? and user_id = ?),
+            (select count(*) from workout_sessions where workout_id = ?),
+            (select count(*) from set_entries where session_id in (select id from workout_sessions where workout_id = ?))
+        """;
+
+    private static final String FIND_DUPLICATES = """
+        select w.user_id, w.fingerprint, w.id, (select count(*) from workout_sessions s where s.workout_id = w.id) as sessions
+        from workouts w
+        join (select user_id, fingerprint from workouts where fingerprint is not null group by user_id, fingerprint having count(*) > 1) d
+            on d.user_id = w.user_id and d.fingerprint = w.fingerprint
+        order by w.user_id, w.fingerprint, sessions desc, w.change_seq nulls first, w.id
+        """;
+
+    private static final String REASSIGN_SESSIONS = "update workout_sessions set workout_id = ? where workout_id = ?";
+
+    private static final String DELETE_WORKOUT_EXERCISES = "delete from workouts_exercises where workout_id = ?";
+
+    private static final String DELETE_WORKOUT = "delete from workouts where id = ?";
+
+    private static final String INSERT_TOMBSTONE = """
+        insert into sync_tombstones (entity_id, entity_type, user_id, change_seq)
+        select id, 'WORKOUT', user_id, ? from workouts where id = ?
+        """;
+
+    private static final String INSERT_OUTBOX = """
+        insert into outbox_records (entity_type, entity_id, user_id, operation, created_at)
+        select 'WORKOUT', id, user_id, 'DELETED', current_timestamp from workouts where id = ?
+        """;
+
+    private static final int BATCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByUserId(UUID userId, FieldSelection selection) {
+
+        var select = new StringJoiner(", ", "select ", "");
+        selection.fields().forEach(field -> select.add("w." + field + " as w_" + field));
+        selection.fieldsOf("workoutType").forEach(field -> select.add("t." + field + " as t_" + field));
+
+        var jpql = select + " from Workout w"
+            + (selection.includes("workoutType") ? " join w.workoutType t" : "")
+            + " where w.user.userId = :userId";
+
+        var tuples = entityManager.createQuery(jpql, Tuple.class)
+            .setParameter("userId", userId)
+            .getResultList();
+
+        var workouts = new ArrayList<Map<String, Object>>(tuples.size());
+        var exercisesByWorkout = new HashMap<Object, List<Map<String, Object>>>();
+
+        for (var tuple : tuples) {
+
+            var workout = new LinkedHashMap<String, Object>();
+            selection.fields().forEach(field -> workout.put(field, tuple.get("w_" + field)));
+
+            if (selection.includes("workoutType")) {
+                var workoutType = new LinkedHashMap<String, Object>();
+                selection.fieldsOf("workoutType").forEach(field -> workoutType.put(field, tuple.get("t_" + field)));
+                workout.put("workoutType", workoutType);
+            }
+
+            if (selection.includes("exercises")) {
+                var exercises = new ArrayList<Map<String, Object>>();
+                exercisesByWorkout.put(workout.get("id"), exercises);
+                workout.put("exercises", exercises);
+            }
+
+            workouts.add(workout);
+        }
+
+        if (!exercisesByWorkout.isEmpty()) {
+
+            var exerciseSelect = new StringJoiner(", ", "select w.id as w_id, ", "");
+            selection.fieldsOf("exercises").forEach(field -> exerciseSelect.add("e." + field + " as e_" + field));
+
+            var exerciseTuples = entityManager.createQuery(exerciseSelect + " from Workout w join w.exercises e where w.user.userId = :userId", Tuple.class)
+                .setParameter("userId", userId)
+                .getResultList();
+
+            for (var tuple : exerciseTuples) {
+
+                var exercise = new LinkedHashMap<String, Object>();
+                selection.fieldsOf("exercises").forEach(field -> exercise.put(field, tuple.get("e_" + field)));
+
+                var exercises = exercisesByWorkout.get(tuple.get("w_id"));
+                if (exercises != null) {
+                    exercises.add(exercise);
+                }
+            }
+        }
+
+        return workouts;
+    }
+
+    @Override
+    public void updateFingerprints(Map<UUID, String> fingerprints) {
+
+        if (fingerprints.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_FINGERPRINT, fingerprints.entrySet(), BATCH_SIZE, (statement, fingerprint) -> {
+            statement.setString(1, fingerprint.getValue());
+            statement.setObject(2, fingerprint.getKey());
+        });
+    }
+
+    @Override
+    public Optional<ReferenceCountDto> findReferenceCounts(UUID workoutId, UUID userId) {
+
+        return jdbcTemplate.queryForObject(SELECT_REFERENCE_COUNTS, (row, rowNum) -> row.getLong(1) == 0
+            ? Optional.empty()
+            : Optional.of(new ReferenceCountDto(0, 0, row.getLong(2), row.getLong(3))),
+            workoutId, userId, workoutId, workoutId);
+    }
+
+    @Override
+    public List<DuplicateWorkoutRowDto> findDuplicates() {
+
+        return jdbcTemplate.query(FIND_DUPLICATES, (row, rowNum) -> new DuplicateWorkoutRowDto(
+            row.getObject(1, UUID.class), row.getString(2), row.getObject(3, UUID.class), row.getLong(4)));
+    }
+
+    @Override
+    public void mergeDuplicates(Map<UUID, UUID> keptByDuplicate) {
+
+        if (keptByDuplicate.isEmpty()) {
+            return;
+        }
+
+        var duplicates = keptByDuplicate.entrySet();
+        var changeSeq = changeSequence.next();
+
+        jdbcTemplate.batchUpdate(REASSIGN_SESSIONS, duplicates, BATCH_SIZE, (statement, duplicate) -> {
+            statement.setObject(1, duplicate.getValue());
+            statement.setObject(2, duplicate.getKey());
+        });
+        jdbcTemplate.batchUpdate(INSERT_TOMBSTONE, duplicates, BATCH_SIZE, (statement, duplicate) -> {
+            statement.setLong(1, changeSeq);
+            statement.setObject(2, duplicate.getKey());
+        });
+        jdbcTemplate.batchUpdate(INSERT_OUTBOX, duplicates, BATCH_SIZE, (statement, duplicate) -> statement.setObject(1, duplicate.getKey()));
+        jdbcTemplate.batchUpdate(DELETE_WORKOUT_EXERCISES, duplicates, BATCH_SIZE, (statement, duplicate) -> statement.setObject(1, duplicate.getKey()));
+        jdbcTemplate.batchUpdate(DELETE_WORKOUT, duplicates, BATCH_SIZE, (statement, duplicate) -> statement.setObject(1, duplicate.getKey()));
+    }
+}
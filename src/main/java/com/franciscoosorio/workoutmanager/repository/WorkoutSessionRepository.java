@@ -0,0 +1,29 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.franciscoosorio.workoutmanager.domain.leaderboard.SessionCountDto;
+import com.franciscoosorio.workoutmanager.domain.session.WorkoutSession;
+import com.franciscoosorio.workoutmanager.domain.session.WorkoutSessionDto;
+
+public interface WorkoutSessionRepository extends JpaRepository<WorkoutSession, UUID> {
+
+    boolean existsByIdAndUser_UserId(UUID sessionId, UUID userId);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.session.WorkoutSessionDto(s.id, s.workout.id, s.startedAt) from WorkoutSession s "
+        + "where s.user.userId = :userId and s.startedAt >= :from and s.startedAt < :to order by s.startedAt, s.id")
+    List<WorkoutSessionDto> findRange(UUID userId, Instant from, Instant to);
+
+    @Query("select s.workout.workoutType.id from WorkoutSession s where s.id = :sessionId and s.user.userId = :userId")
+    Optional<UUID> findWorkoutTypeId(UUID sessionId, UUID userId);
+
+    @Query("select new com.franciscoosorio.workoutmanager.domain.leaderboard.SessionCountDto(s.user.userId, count(s)) from WorkoutSession s "
+        + "where s.startedAt >= :from and s.startedAt < :to group by s.user.userId")
+    List<SessionCountDto> countPerUser(Instant from, Instant to);
+}
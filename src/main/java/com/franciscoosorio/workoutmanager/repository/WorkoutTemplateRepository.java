@@ -0,0 +1,21 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.franciscoosorio.workoutmanager.domain.template.WorkoutTemplate;
+
+public interface WorkoutTemplateRepository extends JpaRepository<WorkoutTemplate, UUID>, WorkoutTemplateRepositoryCustom {
+
+    @EntityGraph(attributePaths = {"workoutType", "exercises"})
+    Optional<WorkoutTemplate> findWithExercisesById(UUID id);
+
+    @EntityGraph(attributePaths = {"workoutType", "exercises"})
+    List<WorkoutTemplate> findAllByOrderByName();
+
+    boolean existsByName(String name);
+}
@@ -0,0 +1,15 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.template.AssignedWorkoutDto;
+
+public interface WorkoutTemplateRepositoryCustom {
+
+    @Transactional
+    List<AssignedWorkoutDto> assign(UUID templateId, String fingerprint, Map<UUID, UUID> workoutIdByUser);
+}
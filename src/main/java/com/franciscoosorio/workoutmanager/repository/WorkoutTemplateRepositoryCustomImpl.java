@@ -0,0 +1,89 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.template.AssignedWorkoutDto;
+import com.franciscoosorio.workoutmanager.sync.ChangeSequence;
+
+public class WorkoutTemplateRepositoryCustomImpl implements WorkoutTemplateRepositoryCustom {
+
+    private static final String INSERT_WORKOUTS = """
+        insert into workouts (id, version, name, description, workout_type_id, user_id, fingerprint, template_id, change_seq)
+        select v.workout_id, 0, concat(t.name, ' - ', u.username), t.description, t.workout_type_id, u.user_id, ?, t.id, ?
+        from (values %s) as v (workout_id, user_id)
+        join users u on u.user_id = v.user_id
+        join workout_templates t on t.id = ?
+        where not exists (select 1 from workouts w where w.template_id = t.id and w.user_id = u.user_id)
+            and not exists (select 1 from workouts w where w.name = concat(t.name, ' - ', u.username))
+            and not exists (select 1 from workouts w where w.user_id = u.user_id and w.fingerprint = ?)
+        """;
+
+    private static final String INSERT_WORKOUT_EXERCISES = """
+        insert into workouts_exercises (workout_id, exercise_id)
+        select w.id, te.exercise_id
+        from workouts w
+        join workout_templates_exercises te on te.template_id = w.template_id
+        where w.id in (%s)
+        """;
+
+    private static final String INSERT_WORKOUTS_OUTBOX = """
+        insert into outbox_records (entity_type, entity_id, user_id, operation, created_at)
+        select 'WORKOUT', id, user_id, 'CREATED', current_timestamp from workouts where id in (%s)
+        """;
+
+    private static final String SELECT_CREATED = "select user_id, id, name from workouts where id in (%s)";
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    @Override
+    public List<AssignedWorkoutDto> assign(UUID templateId, String fingerprint, Map<UUID, UUID> workoutIdByUser) {
+
+        var assignments = new ArrayList<>(workoutIdByUser.entrySet());
+        var assigned = new ArrayList<AssignedWorkoutDto>();
+        var changeSeq = changeSequence.next();
+
+        for (int from = 0; from < assignments.size(); from += CHUNK_SIZE) {
+
+            var chunk = assignments.subList(from, Math.min(from + CHUNK_SIZE, assignments.size()));
+            var workoutIds = chunk.stream().map(Map.Entry::getValue).toArray();
+            var placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+
+            var insertArgs = new ArrayList<Object>(chunk.size() * 2 + 4);
+            insertArgs.add(fingerprint);
+            insertArgs.add(changeSeq);
+            for (var assignment : chunk) {
+                insertArgs.add(assignment.getValue());
+                insertArgs.add(assignment.getKey());
+            }
+            insertArgs.add(templateId);
+            insertArgs.add(fingerprint);
+
+            var inserted = jdbcTemplate.update(INSERT_WORKOUTS.formatted(String.join(", ", Collections.nCopies(chunk.size(), "(cast(? as uuid), cast(? as uuid))"))),
+                insertArgs.toArray());
+
+            if (inserted == 0) {
+                continue;
+            }
+
+            jdbcTemplate.update(INSERT_WORKOUT_EXERCISES.formatted(placeholders), workoutIds);
+            jdbcTemplate.update(INSERT_WORKOUTS_OUTBOX.formatted(placeholders), workoutIds);
+
+            assigned.addAll(jdbcTemplate.query(SELECT_CREATED.formatted(placeholders), (row, rowNum) -> new AssignedWorkoutDto(
+                row.getObject(1, UUID.class), row.getObject(2, UUID.class), row.getString(3)), workoutIds));
+        }
+        return assigned;
+    }
+}
@@ -1,11 +1,17 @@
 package com.franciscoosorio.workoutmanager.repository;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
 
-public interface WorkoutTypeRepository extends JpaRepository<WorkoutType,UUID>{
-    
+public interface WorkoutTypeRepository extends JpaRepository<WorkoutType,UUID>, WorkoutTypeRepositoryCustom{
+
+    boolean existsByName(String name);
+
+    @Query("select t.name from WorkoutType t")
+    List<String> findAllNames();
 }
@@ -0,0 +1,16 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
+
+public interface WorkoutTypeRepositoryCustom {
+
+    Optional<ReferenceCountDto> findReferenceCounts(UUID workoutTypeId);
+
+    @Transactional
+    int deleteReassigning(UUID workoutTypeId, UUID replacementId);
+}
@@ -0,0 +1,79 @@
+package com.franciscoosorio.workoutmanager.repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
+import com.franciscoosorio.workoutmanager.sync.ChangeSequence;
+
+public class WorkoutTypeRepositoryCustomImpl implements WorkoutTypeRepositoryCustom {
+
+    private static final String SELECT_REFERENCE_COUNTS = """
+        select (select count(*) from workout_types where id = ?),
+            (select count(*) from workouts where workout_type_id = ?),
+            (select count(*) from workout_templates where workout_type_id = ?)
+        """;
+
+    private static final String REASSIGN_WORKOUTS = """
+        update workouts set workout_type_id = ?, fingerprint = null, version = version + 1, change_seq = ?
+        where workout_type_id = ?
+        """;
+
+    private static final String REASSIGN_TEMPLATES = "update workout_templates set workout_type_id = ? where workout_type_id = ?";
+
+    private static final String DELETE_WORKOUT_TYPE = "delete from workout_types where id = ?";
+
+    private static final String INSERT_TOMBSTONE = """
+        insert into sync_tombstones (entity_id, entity_type, user_id, change_seq) values (?, 'WORKOUT_TYPE', null, ?)
+        """;
+
+    private static final String INSERT_WORKOUTS_OUTBOX = """
+        insert into outbox_records (entity_type, entity_id, user_id, operation, created_at)
+        select 'WORKOUT', id, user_id, 'UPDATED', current_timestamp from workouts where workout_type_id = ? and change_seq = ?
+        """;
+
+    private static final String INSERT_WORKOUT_TYPE_OUTBOX = """
+        insert into outbox_records (entity_type, entity_id, user_id, operation, created_at) values ('WORKOUT_TYPE', ?, null, 'DELETED', current_timestamp)
+        """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    @Override
+    public Optional<ReferenceCountDto> findReferenceCounts(UUID workoutTypeId) {
+
+        return jdbcTemplate.queryForObject(SELECT_REFERENCE_COUNTS, (row, rowNum) -> row.getLong(1) == 0
+            ? Optional.empty()
+            : Optional.of(new ReferenceCountDto(row.getLong(2), row.getLong(3), 0, 0)),
+            workoutTypeId, workoutTypeId, workoutTypeId);
+    }
+
+    @Override
+    public int deleteReassigning(UUID workoutTypeId, UUID replacementId) {
+
+        var reassigned = 0;
+        var changeSeq = changeSequence.next();
+
+        if (replacementId != null) {
+            reassigned = jdbcTemplate.update(REASSIGN_WORKOUTS, replacementId, changeSeq, workoutTypeId);
+            jdbcTemplate.update(REASSIGN_TEMPLATES, replacementId, workoutTypeId);
+
+            if (reassigned > 0) {
+                jdbcTemplate.update(INSERT_WORKOUTS_OUTBOX, replacementId, changeSeq);
+            }
+        }
+
+        if (jdbcTemplate.update(DELETE_WORKOUT_TYPE, workoutTypeId) > 0) {
+            jdbcTemplate.update(INSERT_TOMBSTONE, workoutTypeId, changeSeq);
+            jdbcTemplate.update(INSERT_WORKOUT_TYPE_OUTBOX, workoutTypeId);
+        }
+
+        return reassigned;
+    }
+}
@@ -0,0 +1,59 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.franciscoosorio.workoutmanager.cache.NegativeLookupCache;
+import com.franciscoosorio.workoutmanager.domain.batch.BatchResultDto;
+
+final class BatchLookup {
+
+    private BatchLookup() {
+    }
+
+    static <T> BatchResultDto<T> findAllInOrder(List<String> ids, int maxIds, Class<T> type,
+                                                NegativeLookupCache negativeLookupCache,
+                                                Function<List<UUID>, List<T>> loader,
+                                                Function<T, UUID> idExtractor) {
+
+        if (ids.size() > maxIds) {
+            throw new IllegalArgumentException("No more than " + maxIds + " ids are allowed per request");
+        }
+
+        var requestedIds = new LinkedHashSet<UUID>();
+        ids.forEach(id -> requestedIds.add(UUID.fromString(id.trim())));
+
+        var idsToLoad = requestedIds.stream()
+            .filter(id -> !negativeLookupCache.isKnownMissing(type, id))
+            .toList();
+
+        Map<UUID, T> loaded = idsToLoad.isEmpty()
+            ? Map.of()
+            : loader.apply(idsToLoad).stream().collect(Collectors.toMap(idExtractor, Function.identity()));
+
+        var items = new ArrayList<T>(loaded.size());
+        var missingIds = new ArrayList<UUID>();
+
+        for (var id : requestedIds) {
+
+            var item = loaded.get(id);
+
+            if (item != null) {
+                items.add(item);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        idsToLoad.stream()
+            .filter(id -> !loaded.containsKey(id))
+            .forEach(id -> negativeLookupCache.recordMissing(type, id));
+
+        return new BatchResultDto<>(items, missingIds);
+    }
+}
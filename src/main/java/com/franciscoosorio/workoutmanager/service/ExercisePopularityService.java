@@ -0,0 +1,107 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularityDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.events.TransactionHooks;
+import com.franciscoosorio.workoutmanager.popularity.PopularityCounters;
+import com.franciscoosorio.workoutmanager.repository.ExercisePopularityRepository;
+
+@Service
+public class ExercisePopularityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExercisePopularityService.class);
+
+    @Autowired
+    private ExercisePopularityRepository exercisePopularityRepository;
+
+    @Value("${workoutmanager.popularity.max-limit:100}")
+    private int maxLimit = 100;
+
+    private final PopularityCounters counters = new PopularityCounters();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load(){
+
+        for (var counts : exercisePopularityRepository.findAllCounts()) {
+            counters.load(counts.exerciseId(), counts.addedCount(), counts.performedCount());
+        }
+    }
+
+    public void recordAdded(Collection<UUID> exerciseIds){
+        recordAdded(exerciseIds, 1);
+    }
+
+    public void recordAdded(Collection<UUID> exerciseIds, long times){
+
+        if (!exerciseIds.isEmpty() && times > 0) {
+            TransactionHooks.afterCommit(() -> exerciseIds.forEach(exerciseId -> counters.added(exerciseId, times)));
+        }
+    }
+
+    public void recordPerformed(List<SetEntryDto> sets){
+
+        var performed = new HashMap<UUID, Long>();
+
+        for (var set : sets) {
+            performed.merge(set.exerciseId(), 1L, Long::sum);
+        }
+
+        if (!performed.isEmpty()) {
+            TransactionHooks.afterCommit(() -> performed.forEach(counters::performed));
+        }
+    }
+
+    public synchronized void remove(UUID exerciseId){
+
+        counters.remove(exerciseId);
+        exercisePopularityRepository.deleteById(exerciseId);
+    }
+
+    @Scheduled(fixedDelayString = "${workoutmanager.popularity.flush-interval:PT10S}", initialDelayString = "${workoutmanager.popularity.flush-interval:PT10S}")
+    public synchronized void flush(){
+
+        var deltas = counters.drain();
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            exercisePopularityRepository.applyDeltas(deltas);
+        } catch (RuntimeException failure) {
+            counters.restore(deltas);
+            logger.warn("Flushing {} exercise popularity counters failed, they are retried on the next flush", deltas.size(), failure);
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown(){
+        flush();
+    }
+
+    public List<ExercisePopularityDto> getPopular(Integer limit){
+
+        var size = limit != null ? limit : 10;
+
+        if (size < 1 || size > maxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+        }
+
+        return counters.top(size);
+    }
+}
@@ -4,12 +4,23 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.franciscoosorio.workoutmanager.cache.NegativeLookupCache;
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
+import com.franciscoosorio.workoutmanager.domain.batch.BatchResultDto;
+import com.franciscoosorio.workoutmanager.domain.event.ExerciseCreated;
+import com.franciscoosorio.workoutmanager.domain.event.ExerciseDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.ExerciseUpdated;
 import com.franciscoosorio.workoutmanager.domain.exercise.CreateExerciseDto;
 import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
 import com.franciscoosorio.workoutmanager.domain.exercise.UpdateExerciseDto;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
 import com.franciscoosorio.workoutmanager.exception.ExerciseNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.ReferencedEntityException;
 import com.franciscoosorio.workoutmanager.repository.ExerciseRepository;
 
 @Service
@@ -18,37 +29,103 @@ public class ExerciseService {
     @Autowired
     private ExerciseRepository exerciseRepository;
 
+    @Autowired
+    private NegativeLookupCache negativeLookupCache;
+
+    @Autowired
+    private ExercisePopularityService exercisePopularityService;
+
+    @Value("${workoutmanager.batch.max-ids:100}")
+    private int maxBatchIds = 100;
+
+    @Autowired
+    private UniqueValueFilters uniqueValueFilters;
+
+    @Autowired
+    private WorkoutDuplicateService workoutDuplicateService;
+
+    @Autowired
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
     public Exercise createExercise(CreateExerciseDto createExerciseDto){
+        if (!isNameAvailable(createExerciseDto.name())) {
+            throw new DuplicateValueException("Exercise name already in use");
+        }
+
         var entity = new Exercise(createExerciseDto.name(),createExerciseDto.description());
 
-        return exerciseRepository.save(entity);
+        var exercise = exerciseRepository.save(entity);
+
+        negativeLookupCache.invalidate(Exercise.class, exercise.getId());
+        uniqueValueFilters.add(UniqueColumn.EXERCISE_NAME, createExerciseDto.name());
+        domainEventBus.publish(new ExerciseCreated(exercise));
+
+        return exercise;
     }
 
     public Exercise getExerciseById(String id){
 
-        var exercise = exerciseRepository.findById(UUID.fromString(id));
+        var exerciseId = UUID.fromString(id);
+
+        if (negativeLookupCache.isKnownMissing(Exercise.class, exerciseId)) {
+            throw new ExerciseNotFoundException("Exercise not found");
+        }
+
+        var exercise = exerciseRepository.findById(exerciseId);
 
         if (exercise.isEmpty()) {
+            negativeLookupCache.recordMissing(Exercise.class, exerciseId);
             throw new ExerciseNotFoundException("Exercise not found");
         }
         return exercise.get();
     }
 
+    public BatchResultDto<Exercise> getExercisesByIds(List<String> ids){
+
+        return BatchLookup.findAllInOrder(ids, maxBatchIds, Exercise.class, negativeLookupCache, exerciseRepository::findAllById, Exercise::getId);
+    }
+
     public List<Exercise> getAllExercises(){
         
         return exerciseRepository.findAll();
     }
 
-    public void deleteExerciseById(String id){
+    public void deleteExerciseById(String id, String replaceWith){
 
         var exerciseId = UUID.fromString(id);
+        var replacementId = replaceWith != null ? UUID.fromString(replaceWith) : null;
 
-        var existsEntity = exerciseRepository.existsById(exerciseId);
+        if (exerciseId.equals(replacementId)) {
+            throw new IllegalArgumentException("An exercise cannot replace itself");
+        }
 
-        if (existsEntity) {
-            exerciseRepository.deleteById(exerciseId);
-        }else{
-            throw new ExerciseNotFoundException("Exercise not found");
+        var references = exerciseRepository.findReferenceCounts(exerciseId)
+            .orElseThrow(() -> new ExerciseNotFoundException("Exercise not found"));
+
+        if (references.sets() > 0) {
+            throw new ReferencedEntityException("Exercise has logged sets", references);
+        }
+
+        if (replacementId == null && references.total() > 0) {
+            throw new ReferencedEntityException("Exercise is used by workouts or templates", references);
+        }
+
+        if (replacementId != null && !exerciseRepository.existsById(replacementId)) {
+            throw new ExerciseNotFoundException("Replacement exercise not found");
+        }
+
+        var reassignedWorkouts = exerciseRepository.deleteReassigning(exerciseId, replacementId);
+
+        exercisePopularityService.remove(exerciseId);
+        negativeLookupCache.recordMissing(Exercise.class, exerciseId);
+        domainEventBus.publish(new ExerciseDeleted(exerciseId, replacementId));
+
+        if (!reassignedWorkouts.isEmpty()) {
+            workoutDuplicateService.backfill();
+            workoutSimilarityService.reindex(reassignedWorkouts);
         }
     }
 
@@ -63,6 +140,10 @@ public class ExerciseService {
             var entity = exerciseEntity.get();
 
             if (updateExerciseDto.name() != null) {
+
+                if (!updateExerciseDto.name().equals(entity.getName()) && !isNameAvailable(updateExerciseDto.name())) {
+                    throw new DuplicateValueException("Exercise name already in use");
+                }
                 entity.setName(updateExerciseDto.name());
             }
 
@@ -70,8 +151,14 @@ public class ExerciseService {
                 entity.setDescription(updateExerciseDto.description());
             }
             exerciseRepository.save(entity);
+            uniqueValueFilters.add(UniqueColumn.EXERCISE_NAME, entity.getName());
+            domainEventBus.publish(new ExerciseUpdated(entity));
         }else{
             throw new ExerciseNotFoundException("Exercise not found");
         }
     }
+
+    private boolean isNameAvailable(String name){
+        return !uniqueValueFilters.mightExist(UniqueColumn.EXERCISE_NAME, name) || !exerciseRepository.existsByName(name);
+    }
 }
@@ -0,0 +1,169 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.franciscoosorio.workoutmanager.domain.leaderboard.LeaderboardDto;
+import com.franciscoosorio.workoutmanager.domain.leaderboard.LeaderboardEntryDto;
+import com.franciscoosorio.workoutmanager.domain.leaderboard.LeaderboardMetric;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.events.TransactionHooks;
+import com.franciscoosorio.workoutmanager.exception.LeaderboardEntryNotFoundException;
+import com.franciscoosorio.workoutmanager.leaderboard.Leaderboard;
+import com.franciscoosorio.workoutmanager.repository.SetEntryRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutSessionRepository;
+
+@Service
+public class LeaderboardService {
+
+    private record BoardKey(LeaderboardMetric metric, UUID workoutTypeId) {
+    }
+
+    @Autowired
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Autowired
+    private SetEntryRepository setEntryRepository;
+
+    @Value("${workoutmanager.leaderboards.max-limit:100}")
+    private int maxLimit = 100;
+
+    private final Map<BoardKey, Leaderboard> boards = new ConcurrentHashMap<>();
+
+    private volatile YearMonth month = YearMonth.now(ZoneOffset.UTC);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild(){
+
+        var current = YearMonth.now(ZoneOffset.UTC);
+        var from = current.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        var to = current.plusMonths(1).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        var rebuilt = new HashMap<BoardKey, Leaderboard>();
+
+        for (var count : workoutSessionRepository.countPerUser(from, to)) {
+            rebuilt.computeIfAbsent(new BoardKey(LeaderboardMetric.SESSIONS, null), key -> new Leaderboard()).add(count.userId(), count.sessions());
+        }
+
+        for (var total : setEntryRepository.sumVolumePerUserAndWorkoutType(from, to)) {
+            rebuilt.computeIfAbsent(new BoardKey(LeaderboardMetric.VOLUME, total.workoutTypeId()), key -> new Leaderboard())
+                .add(total.userId(), toScore(total.volume(), LeaderboardMetric.VOLUME));
+        }
+
+        boards.clear();
+        boards.putAll(rebuilt);
+        month = current;
+    }
+
+    public void recordSession(UUID userId, Instant startedAt){
+
+        if (inCurrentMonth(startedAt)) {
+            TransactionHooks.afterCommit(() -> board(LeaderboardMetric.SESSIONS, null).add(userId, 1));
+        }
+    }
+
+    public void recordSets(UUID userId, UUID workoutTypeId, List<SetEntryDto> sets){
+
+        var volume = monthVolume(sets);
+
+        if (volume != 0) {
+            TransactionHooks.afterCommit(() -> board(LeaderboardMetric.VOLUME, workoutTypeId).add(userId, volume));
+        }
+    }
+
+    public void removeSet(UUID userId, SetEntryDto set){
+
+        var volume = monthVolume(List.of(set));
+
+        if (volume != 0) {
+            workoutSessionRepository.findWorkoutTypeId(set.sessionId(), userId)
+                .ifPresent(workoutTypeId -> TransactionHooks.afterCommit(() -> board(LeaderboardMetric.VOLUME, workoutTypeId).add(userId, -volume)));
+        }
+    }
+
+    public void removeUser(UUID userId){
+        boards.values().forEach(board -> board.remove(userId));
+    }
+
+    public LeaderboardDto getLeaderboard(LeaderboardMetric metric, String workoutTypeId, Integer limit){
+
+        var size = limit != null ? limit : 10;
+
+        if (size < 1 || size > maxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+        }
+
+        var typeId = workoutTypeId != null ? UUID.fromString(workoutTypeId) : null;
+        var board = board(metric, typeId);
+        var entries = board.top(size).stream()
+            .map(standing -> new LeaderboardEntryDto(standing.rank(), standing.userId(), fromScore(standing.score(), metric)))
+            .toList();
+
+        return new LeaderboardDto(metric, typeId, month, board.size(), entries);
+    }
+
+    public LeaderboardEntryDto getStanding(LeaderboardMetric metric, String workoutTypeId, String userId){
+
+        return board(metric, workoutTypeId != null ? UUID.fromString(workoutTypeId) : null).standing(UUID.fromString(userId))
+            .map(standing -> new LeaderboardEntryDto(standing.rank(), standing.userId(), fromScore(standing.score(), metric)))
+            .orElseThrow(() -> new LeaderboardEntryNotFoundException("LeaderboardEntry not found"));
+    }
+
+    private Leaderboard board(LeaderboardMetric metric, UUID workoutTypeId){
+        rollOver();
+        return boards.computeIfAbsent(new BoardKey(metric, workoutTypeId), key -> new Leaderboard());
+    }
+
+    private long monthVolume(List<SetEntryDto> sets){
+
+        var volume = BigDecimal.ZERO;
+
+        for (var set : sets) {
+            if (inCurrentMonth(set.performedAt())) {
+                volume = volume.add(set.weight().multiply(BigDecimal.valueOf(set.reps())));
+            }
+        }
+        return toScore(volume, LeaderboardMetric.VOLUME);
+    }
+
+    private boolean inCurrentMonth(Instant instant){
+        rollOver();
+        return YearMonth.from(instant.atZone(ZoneOffset.UTC)).equals(month);
+    }
+
+    private void rollOver(){
+
+        var current = YearMonth.now(ZoneOffset.UTC);
+
+        if (!current.equals(month)) {
+            synchronized (this) {
+                if (!current.equals(month)) {
+                    boards.clear();
+                    month = current;
+                }
+            }
+        }
+    }
+
+
+    private static long toScore(BigDecimal value, LeaderboardMetric metric){
+        return value.setScale(metric.scale(), RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static BigDecimal fromScore(long score, LeaderboardMetric metric){
+        return BigDecimal.valueOf(score, metric.scale());
+    }
+}
@@ -0,0 +1,110 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franciscoosorio.workoutmanager.changelog.ChangeLog;
+import com.franciscoosorio.workoutmanager.domain.outbox.ChangeRecordDto;
+import com.franciscoosorio.workoutmanager.repository.OutboxRepository;
+
+import jakarta.annotation.PreDestroy;
+
+@Service
+public class OutboxRelayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelayService.class);
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${workoutmanager.outbox.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${workoutmanager.outbox.log-dir:data/changelog}")
+    private Path logDirectory = Path.of("data", "changelog");
+
+    @Value("${workoutmanager.outbox.segment-size:16MB}")
+    private DataSize segmentSize = DataSize.ofMegabytes(16);
+
+    private ChangeLog changeLog;
+
+    private boolean lockReported;
+
+    @Scheduled(fixedDelayString = "${workoutmanager.outbox.relay-interval:PT1S}")
+    public synchronized int relay() {
+
+        if (!openChangeLog()) {
+            return 0;
+        }
+
+        var relayed = 0;
+        try {
+            List<ChangeRecordDto> batch;
+            do {
+                batch = outboxRepository.findBatch(batchSize);
+
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                for (var record : batch) {
+                    changeLog.append(objectMapper.writeValueAsBytes(record));
+                }
+                changeLog.force();
+
+                outboxRepository.deleteByIds(batch.stream().map(ChangeRecordDto::outboxId).toList());
+                relayed += batch.size();
+            } while (batch.size() == batchSize);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return relayed;
+    }
+
+    public synchronized long nextOffset() {
+        return openChangeLog() ? changeLog.nextOffset() : 0;
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+
+        if (changeLog != null) {
+            changeLog.close();
+            changeLog = null;
+        }
+    }
+
+    private boolean openChangeLog() {
+
+        if (changeLog != null) {
+            return true;
+        }
+
+        try {
+            changeLog = ChangeLog.open(logDirectory, (int) segmentSize.toBytes());
+            return true;
+        } catch (IllegalStateException exception) {
+            if (!lockReported) {
+                logger.warn("{}, outbox records stay queued until it is released", exception.getMessage());
+                lockReported = true;
+            }
+            return false;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordCandidate;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordDto;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordId;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordCandidate;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordDto;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordId;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.exception.PersonalRecordNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.PersonalRecordRepository;
+import com.franciscoosorio.workoutmanager.repository.RepRecordRepository;
+import com.franciscoosorio.workoutmanager.repository.SetEntryRepository;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+
+@Service
+public class PersonalRecordService {
+
+    @Autowired
+    private PersonalRecordRepository personalRecordRepository;
+
+    @Autowired
+    private RepRecordRepository repRecordRepository;
+
+    @Autowired
+    private SetEntryRepository setEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    public void record(UUID userId, List<SetEntryDto> sets){
+        personalRecordRepository.applyCandidates(PersonalRecordCandidate.best(userId, sets));
+        repRecordRepository.applyCandidates(RepRecordCandidate.best(userId, sets));
+    }
+
+    public void remove(UUID userId, SetEntryDto set){
+        removeRecord(userId, set);
+        removeRepRecord(userId, set);
+    }
+
+    private void removeRecord(UUID userId, SetEntryDto set){
+
+        var record = personalRecordRepository.findById(new PersonalRecordId(userId, set.exerciseId()));
+
+        if (record.isEmpty() || !record.get().isHeldBy(set.id())) {
+            return;
+        }
+
+        personalRecordRepository.deleteRecord(userId, set.exerciseId());
+
+        var remaining = Stream.concat(
+                setEntryRepository.findHeaviest(userId, set.exerciseId(), Limit.of(1)).stream(),
+                setEntryRepository.findStrongest(userId, set.exerciseId(), Limit.of(1)).stream())
+            .toList();
+
+        personalRecordRepository.applyCandidates(PersonalRecordCandidate.best(userId, remaining));
+    }
+
+    private void removeRepRecord(UUID userId, SetEntryDto set){
+
+        var weight = set.weight().setScale(2, RoundingMode.HALF_UP);
+        var record = repRecordRepository.findById(new RepRecordId(userId, set.exerciseId(), weight));
+
+        if (record.isEmpty() || !record.get().isHeldBy(set.id())) {
+            return;
+        }
+
+        repRecordRepository.deleteRecord(userId, set.exerciseId(), weight);
+
+        var remaining = setEntryRepository.findMostReps(userId, set.exerciseId(), weight, Limit.of(1));
+
+        repRecordRepository.applyCandidates(RepRecordCandidate.best(userId, remaining));
+    }
+
+    public List<PersonalRecordDto> getRecords(String userId){
+
+        var id = UUID.fromString(userId);
+
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        return personalRecordRepository.findByUserId(id);
+    }
+
+    public PersonalRecordDto getRecord(String userId, String exerciseId){
+
+        return personalRecordRepository.findRecord(UUID.fromString(userId), UUID.fromString(exerciseId))
+            .orElseThrow(() -> new PersonalRecordNotFoundException("PersonalRecord not found"));
+    }
+
+    public List<RepRecordDto> getRepRecords(String userId, String exerciseId){
+
+        var records = repRecordRepository.findRecords(UUID.fromString(userId), UUID.fromString(exerciseId));
+
+        if (records.isEmpty()) {
+            throw new PersonalRecordNotFoundException("PersonalRecord not found");
+        }
+
+        return records;
+    }
+
+    @Transactional
+    public void rebuild(String userId){
+
+        var id = UUID.fromString(userId);
+
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        personalRecordRepository.deleteByUserId(id);
+        repRecordRepository.deleteByUserId(id);
+
+        try (var sets = setEntryRepository.streamByUserId(id)) {
+            personalRecordRepository.applyCandidates(PersonalRecordCandidate.best(id, sets::iterator));
+        }
+
+        try (var sets = setEntryRepository.streamByUserId(id)) {
+            repRecordRepository.applyCandidates(RepRecordCandidate.best(id, sets::iterator));
+        }
+    }
+}
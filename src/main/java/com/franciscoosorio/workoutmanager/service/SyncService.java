@@ -0,0 +1,120 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.sync.SyncDeletionDto;
+import com.franciscoosorio.workoutmanager.domain.sync.SyncEntityType;
+import com.franciscoosorio.workoutmanager.domain.sync.SyncPageDto;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.ExerciseRepository;
+import com.franciscoosorio.workoutmanager.repository.SyncTombstoneRepository;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutTypeRepository;
+import com.franciscoosorio.workoutmanager.sync.ChangeSequence;
+
+@Service
+public class SyncService {
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutTypeRepository workoutTypeRepository;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    @Value("${workoutmanager.sync.max-page-size:1000}")
+    private int maxPageSize = 1000;
+
+    public SyncPageDto getChanges(String userId, String since, Integer limit){
+
+        var pageSize = limit != null ? limit : 500;
+
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+        }
+
+        var afterSeq = 0L;
+        UUID afterId = null;
+
+        if (since != null) {
+            var separator = since.indexOf('_');
+            try {
+                afterSeq = Long.parseLong(separator < 0 ? since : since.substring(0, separator));
+            } catch (NumberFormatException exception) {
+                throw new IllegalArgumentException("Invalid sync token");
+            }
+            if (separator >= 0) {
+                afterId = UUID.fromString(since.substring(separator + 1));
+            }
+        }
+
+        var id = UUID.fromString(userId);
+
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        var upToSeq = changeSequence.watermark();
+        var changes = syncTombstoneRepository.findChanges(id, afterSeq, afterId, upToSeq, pageSize + 1);
+        var hasMore = changes.size() > pageSize;
+        var page = hasMore ? changes.subList(0, pageSize) : changes;
+
+        var changedIds = new HashMap<SyncEntityType, List<UUID>>();
+        var deleted = new ArrayList<SyncDeletionDto>();
+
+        for (var change : page) {
+            if (change.deleted()) {
+                deleted.add(new SyncDeletionDto(change.type(), change.id()));
+            } else {
+                changedIds.computeIfAbsent(change.type(), type -> new ArrayList<>()).add(change.id());
+            }
+        }
+
+        var workouts = load(changedIds.get(SyncEntityType.WORKOUT), workoutRepository::findByIdIn, Workout::getId);
+        var exercises = load(changedIds.get(SyncEntityType.EXERCISE), exerciseRepository::findAllById, Exercise::getId);
+        var workoutTypes = load(changedIds.get(SyncEntityType.WORKOUT_TYPE), workoutTypeRepository::findAllById, WorkoutType::getId);
+
+        if (hasMore) {
+            var last = page.get(pageSize - 1);
+            return new SyncPageDto(workouts, exercises, workoutTypes, deleted, last.changeSeq() + "_" + last.id(), true);
+        }
+
+        return new SyncPageDto(workouts, exercises, workoutTypes, deleted, afterSeq > upToSeq ? since : String.valueOf(upToSeq), false);
+    }
+
+    private static <T> List<T> load(List<UUID> ids, Function<List<UUID>, List<T>> finder, Function<T, UUID> idOf) {
+
+        if (ids == null) {
+            return List.of();
+        }
+
+        var byId = new HashMap<UUID, T>();
+        finder.apply(ids).forEach(entity -> byId.put(idOf.apply(entity), entity));
+
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+}
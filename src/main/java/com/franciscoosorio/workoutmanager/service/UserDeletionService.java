@@ -0,0 +1,140 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.franciscoosorio.workoutmanager.cache.NegativeLookupCache;
+import com.franciscoosorio.workoutmanager.domain.event.UserDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutDeleted;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.user.UserDeletionDto;
+import com.franciscoosorio.workoutmanager.domain.user.UserDeletionStatus;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.UserDeletionNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+
+@Service
+public class UserDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDeletionService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    @Qualifier("userDeletionExecutor")
+    private TaskExecutor userDeletionExecutor;
+
+    @Autowired
+    private NegativeLookupCache negativeLookupCache;
+
+    @Autowired
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
+    @Value("${workoutmanager.users.deletion-chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${workoutmanager.users.deletion-retention:PT1H}")
+    private Duration retention = Duration.ofHours(1);
+
+    private final Map<UUID, UserDeletionDto> deletions = new ConcurrentHashMap<>();
+
+    public UserDeletionDto deleteUser(String userId){
+
+        var id = UUID.fromString(userId);
+        var current = deletions.get(id);
+
+        if (current != null && current.running()) {
+            return current;
+        }
+
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        pruneFinished();
+
+        var started = UserDeletionDto.started(id);
+        var previous = deletions.compute(id, (key, existing) -> existing != null && existing.running() ? existing : started);
+
+        if (previous == started) {
+            userDeletionExecutor.execute(() -> delete(id));
+        }
+        return previous;
+    }
+
+    public UserDeletionDto getDeletion(String userId){
+
+        var deletion = deletions.get(UUID.fromString(userId));
+
+        if (deletion == null) {
+            throw new UserDeletionNotFoundException("User deletion not found");
+        }
+        return deletion;
+    }
+
+    private void delete(UUID userId){
+
+        try {
+            int deleted;
+            do {
+                deleted = userRepository.deleteSetEntriesChunk(userId, chunkSize);
+                progress(userId, deleted, 0, 0);
+            } while (deleted == chunkSize);
+
+            do {
+                deleted = userRepository.deleteSessionsChunk(userId, chunkSize);
+                progress(userId, 0, deleted, 0);
+            } while (deleted == chunkSize);
+
+            do {
+                var workoutIds = userRepository.deleteWorkoutsChunk(userId, chunkSize);
+                workoutIds.forEach(workoutSimilarityService::remove);
+                workoutIds.forEach(workoutId -> domainEventBus.publish(new WorkoutDeleted(workoutId, userId)));
+                deleted = workoutIds.size();
+                progress(userId, 0, 0, deleted);
+            } while (deleted == chunkSize);
+
+            userRepository.deleteAccount(userId);
+
+            leaderboardService.removeUser(userId);
+            negativeLookupCache.recordMissing(User.class, userId);
+            domainEventBus.publish(new UserDeleted(userId));
+            deletions.computeIfPresent(userId, (key, deletion) -> deletion.finished(UserDeletionStatus.COMPLETED));
+        } catch (RuntimeException exception) {
+            logger.warn("Deletion of user {} failed, it can be retried", userId, exception);
+            deletions.computeIfPresent(userId, (key, deletion) -> deletion.finished(UserDeletionStatus.FAILED));
+        }
+    }
+
+    private void progress(UUID userId, long sets, long sessions, long workouts){
+
+        if (sets + sessions + workouts > 0) {
+            deletions.computeIfPresent(userId, (key, deletion) -> deletion.withProgress(sets, sessions, workouts));
+        }
+    }
+
+    private void pruneFinished(){
+
+        var cutoff = Instant.now().minus(retention);
+        deletions.values().removeIf(deletion -> !deletion.running() && deletion.finishedAt().isBefore(cutoff));
+    }
+}
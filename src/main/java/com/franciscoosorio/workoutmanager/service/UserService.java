@@ -2,28 +2,63 @@ package com.franciscoosorio.workoutmanager.service;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.franciscoosorio.workoutmanager.cache.NegativeLookupCache;
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
+import com.franciscoosorio.workoutmanager.domain.batch.BatchResultDto;
+import com.franciscoosorio.workoutmanager.domain.event.UserCreated;
+import com.franciscoosorio.workoutmanager.domain.event.UserUpdated;
+import com.franciscoosorio.workoutmanager.domain.projection.FieldSelection;
 import com.franciscoosorio.workoutmanager.domain.user.CreateUserDto;
 import com.franciscoosorio.workoutmanager.domain.user.UpdateUserDto;
 import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.user.UserAvailabilityDto;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
 import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
 import com.franciscoosorio.workoutmanager.repository.UserRepository;
 
 @Service
 public class UserService {
+
+    private static final Set<String> USER_FIELDS = Set.of("userId", "username", "email", "createdAt", "updatedAt");
     
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private NegativeLookupCache negativeLookupCache;
+
+    @Value("${workoutmanager.batch.max-ids:100}")
+    private int maxBatchIds = 100;
+
+    @Autowired
+    private UniqueValueFilters uniqueValueFilters;
     
+    @Autowired
+    private DomainEventBus domainEventBus;
+
     public User createUser(CreateUserDto createUserDto){
+
+        if (!isUsernameAvailable(createUserDto.username())) {
+            throw new DuplicateValueException("Username already in use");
+        }
+
+        if (!isEmailAvailable(createUserDto.email())) {
+            throw new DuplicateValueException("Email already in use");
+        }
         
         String password = passwordEncoder.encode(createUserDto.password());
 
@@ -31,24 +66,50 @@ public class UserService {
                             createUserDto.email(),password,
                             Instant.now(),null);
 
-        return userRepository.save(user);
+        var savedUser = userRepository.save(user);
+
+        negativeLookupCache.invalidate(User.class, savedUser.getUserId());
+        uniqueValueFilters.add(UniqueColumn.USERNAME, createUserDto.username());
+        uniqueValueFilters.add(UniqueColumn.EMAIL, createUserDto.email());
+        domainEventBus.publish(new UserCreated(savedUser.getUserId()));
+
+        return savedUser;
     }
 
     public User getUserById(String userId){
 
-        var user = userRepository.findById(UUID.fromString(userId));
+        var id = UUID.fromString(userId);
+
+        if (negativeLookupCache.isKnownMissing(User.class, id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        var user = userRepository.findById(id);
 
         if (user.isEmpty()) {
+            negativeLookupCache.recordMissing(User.class, id);
             throw new UserNotFoundException("User not found");
         }
         return user.get();
     }
 
+    public BatchResultDto<User> getUsersByIds(List<String> ids){
+
+        return BatchLookup.findAllInOrder(ids, maxBatchIds, User.class, negativeLookupCache, userRepository::findAllById, User::getUserId);
+    }
+
     public List<User> listUsers(){
 
         return userRepository.findAll();
     }
 
+    public List<Map<String, Object>> listUserFields(String fields){
+
+        var selection = FieldSelection.parse(fields, "userId", USER_FIELDS, Map.of());
+
+        return userRepository.findAllFields(selection);
+    }
+
     public void updateUserById(String userId, UpdateUserDto updateUserDto){
         var id = UUID.fromString(userId);
         var userEntity = userRepository.findById(id);
@@ -57,10 +118,18 @@ public class UserService {
             var user = userEntity.get();
 
             if (updateUserDto.username() != null) {
+
+                if (!updateUserDto.username().equals(user.getUsername()) && !isUsernameAvailable(updateUserDto.username())) {
+                    throw new DuplicateValueException("Username already in use");
+                }
                 user.setUsername(updateUserDto.username());
             }
 
             if (updateUserDto.email() != null) {
+
+                if (!updateUserDto.email().equals(user.getEmail()) && !isEmailAvailable(updateUserDto.email())) {
+                    throw new DuplicateValueException("Email already in use");
+                }
                 user.setEmail(updateUserDto.email());
             }
 
@@ -71,20 +140,28 @@ public class UserService {
             }
 
             userRepository.save(user);
+
+            uniqueValueFilters.add(UniqueColumn.USERNAME, user.getUsername());
+            uniqueValueFilters.add(UniqueColumn.EMAIL, user.getEmail());
+            domainEventBus.publish(new UserUpdated(user.getUserId()));
         }else{
             throw new UserNotFoundException("User not found");
         }
     }
 
-    public void deleteById(String userId){  
+    public UserAvailabilityDto checkAvailability(String username, String email){
 
-        var id = UUID.fromString(userId);
-        var userExists = userRepository.existsById(id);
+        Boolean usernameAvailable = username == null ? null : isUsernameAvailable(username);
+        Boolean emailAvailable = email == null ? null : isEmailAvailable(email);
 
-        if (userExists) {
-            userRepository.deleteById(id);
-        }else{
-            throw new UserNotFoundException("User not found");
-        }
+        return new UserAvailabilityDto(usernameAvailable, emailAvailable);
+    }
+
+    private boolean isUsernameAvailable(String username){
+        return !uniqueValueFilters.mightExist(UniqueColumn.USERNAME, username) || !userRepository.existsByUsername(username);
+    }
+
+    private boolean isEmailAvailable(String email){
+        return !uniqueValueFilters.mightExist(UniqueColumn.EMAIL, email) || !userRepository.existsByEmail(email);
     }
 }
@@ -0,0 +1,79 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.rollup.RollupGranularity;
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupDelta;
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.SetEntryRepository;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.repository.VolumeRollupRepository;
+
+@Service
+public class VolumeRollupService {
+
+    @Autowired
+    private VolumeRollupRepository volumeRollupRepository;
+
+    @Autowired
+    private SetEntryRepository setEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${workoutmanager.rollups.max-buckets:366}")
+    private int maxBuckets = 366;
+
+    public void record(UUID userId, List<SetEntryDto> sets){
+        volumeRollupRepository.applyDeltas(VolumeRollupDelta.aggregate(userId, sets));
+    }
+
+    public void remove(UUID userId, SetEntryDto set){
+        volumeRollupRepository.removeSet(userId, set);
+    }
+
+    public List<VolumeRollupDto> getVolume(String userId, RollupGranularity granularity, LocalDate from, LocalDate to){
+
+        var bucket = granularity != null ? granularity : RollupGranularity.WEEK;
+        var end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        var start = from != null ? from : (bucket == RollupGranularity.WEEK ? end.minusWeeks(11) : end.minusDays(29));
+
+        if (start.isAfter(end) || bucket.bucketsBetween(start, end) > maxBuckets) {
+            throw new IllegalArgumentException("Range must cover between 1 and " + maxBuckets + " buckets");
+        }
+
+        var id = UUID.fromString(userId);
+
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        return volumeRollupRepository.findBuckets(id, bucket, bucket.bucketStart(start), end);
+    }
+
+    @Transactional
+    public void rebuild(String userId){
+
+        var id = UUID.fromString(userId);
+
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        volumeRollupRepository.deleteByUserId(id);
+
+        try (var sets = setEntryRepository.streamByUserId(id)) {
+            volumeRollupRepository.applyDeltas(VolumeRollupDelta.aggregate(id, sets::iterator));
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.franciscoosorio.workoutmanager.domain.report.ReportCheckpoint;
+import com.franciscoosorio.workoutmanager.domain.report.ReportCheckpointId;
+import com.franciscoosorio.workoutmanager.domain.report.UserIdRange;
+import com.franciscoosorio.workoutmanager.domain.report.WeeklyReportDto;
+import com.franciscoosorio.workoutmanager.domain.report.WeeklyReportId;
+import com.franciscoosorio.workoutmanager.domain.report.WeeklyReportRunDto;
+import com.franciscoosorio.workoutmanager.domain.rollup.RollupGranularity;
+import com.franciscoosorio.workoutmanager.exception.ReportInProgressException;
+import com.franciscoosorio.workoutmanager.exception.WeeklyReportNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.ReportCheckpointRepository;
+import com.franciscoosorio.workoutmanager.repository.WeeklyReportRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Service
+public class WeeklyReportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WeeklyReportService.class);
+
+    @Autowired
+    private WeeklyReportRepository weeklyReportRepository;
+
+    @Autowired
+    private ReportCheckpointRepository reportCheckpointRepository;
+
+    @Autowired
+    @Qualifier("weeklyReportExecutor")
+    private TaskExecutor weeklyReportExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${workoutmanager.reports.partitions:64}")
+    private int partitions = 64;
+
+    @Value("${workoutmanager.reports.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${workoutmanager.reports.cron:0 30 2 * * *}", zone = "UTC")
+    public void generateLastWeek(){
+        start(null, false).join();
+    }
+
+    public CompletableFuture<WeeklyReportRunDto> start(LocalDate week, boolean restart){
+
+        var weekStart = weekStart(week);
+
+        if (!running.compareAndSet(false, true)) {
+            throw new ReportInProgressException("Weekly report generation already running");
+        }
+
+        try {
+            if (restart) {
+                reportCheckpointRepository.deleteByWeekStart(weekStart);
+            }
+
+            var checkpoints = reportCheckpointRepository.findByWeekStart(weekStart).stream()
+                .collect(Collectors.toMap(checkpoint -> checkpoint.getId().getPartitionIndex(), Function.identity()));
+            var partitionCount = checkpoints.isEmpty() ? partitions : checkpoints.values().iterator().next().getPartitionCount();
+            var ranges = UserIdRange.split(partitionCount);
+            var started = System.nanoTime();
+
+            var tasks = IntStream.range(0, partitionCount)
+                .filter(index -> checkpoints.get(index) == null || !checkpoints.get(index).isCompleted())
+                .mapToObj(index -> CompletableFuture.supplyAsync(
+                    () -> generatePartition(weekStart, index, partitionCount, ranges.get(index), checkpoints.get(index)), weeklyReportExecutor))
+                .toArray(CompletableFuture[]::new);
+
+            return CompletableFuture.allOf(tasks)
+                .whenComplete((ignored, failure) -> finish(weekStart, started, tasks, failure))
+                .thenApply(ignored -> getRun(weekStart));
+        } catch (RuntimeException exception) {
+            running.set(false);
+            throw exception;
+        }
+    }
+
+    public WeeklyReportRunDto getRun(LocalDate week){
+
+        var weekStart = weekStart(week);
+        var checkpoints = reportCheckpointRepository.findByWeekStart(weekStart);
+
+        return new WeeklyReportRunDto(
+            weekStart,
+            checkpoints.isEmpty() ? partitions : checkpoints.get(0).getPartitionCount(),
+            (int) checkpoints.stream().filter(ReportCheckpoint::isCompleted).count(),
+            checkpoints.stream().mapToLong(ReportCheckpoint::getUsers).sum(),
+            running.get());
+    }
+
+    public WeeklyReportDto getReport(String userId, LocalDate week){
+
+        var weekStart = weekStart(week);
+        var id = UUID.fromString(userId);
+
+        var report = weeklyReportRepository.findById(new WeeklyReportId(id, weekStart))
+            .orElseThrow(() -> new WeeklyReportNotFoundException("WeeklyReport not found"));
+
+        return new WeeklyReportDto(weekStart, report.getSessions(), report.getSets(), report.getVolume(), report.getNewRecords(),
+            weeklyReportRepository.findVolumes(id, weekStart), report.getGeneratedAt());
+    }
+
+    private long generatePartition(LocalDate weekStart, int index, int partitionCount, UserIdRange range, ReportCheckpoint checkpoint){
+
+        var after = checkpoint != null ? checkpoint.getLastUserId() : null;
+        var users = checkpoint != null ? checkpoint.getUsers() : 0;
+        var usersProcessed = meterRegistry.counter("workoutmanager.reports.weekly.users");
+
+        while (true) {
+            List<UUID> userIds = weeklyReportRepository.findUserIds(range, after, chunkSize);
+            var completed = userIds.size() < chunkSize;
+
+            if (!userIds.isEmpty()) {
+                after = userIds.get(userIds.size() - 1);
+                users += userIds.size();
+            }
+
+            weeklyReportRepository.writeChunk(weekStart, userIds,
+                new ReportCheckpoint(new ReportCheckpointId(weekStart, index), partitionCount, after, users, completed));
+            usersProcessed.increment(userIds.size());
+
+            if (completed) {
+                return users;
+            }
+        }
+    }
+
+    private void finish(LocalDate weekStart, long started, CompletableFuture<?>[] tasks, Throwable failure){
+
+        running.set(false);
+
+        var elapsed = System.nanoTime() - started;
+        meterRegistry.timer("workoutmanager.reports.weekly.duration").record(elapsed, TimeUnit.NANOSECONDS);
+
+        if (failure != null) {
+            logger.error("Weekly report for {} failed, it resumes from the last checkpoint on the next run", weekStart, failure);
+            return;
+        }
+
+        var users = 0L;
+        for (var task : tasks) {
+            users += (Long) task.join();
+        }
+
+        var millis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        logger.info("Weekly report for {} finished: {} partitions, {} users in {} ms ({} users/s)",
+            weekStart, tasks.length, users, millis, millis > 0 ? users * 1000 / millis : users);
+    }
+
+    private static LocalDate weekStart(LocalDate week){
+        return RollupGranularity.WEEK.bucketStart(week != null ? week : LocalDate.now(ZoneOffset.UTC).minusWeeks(1));
+    }
+}
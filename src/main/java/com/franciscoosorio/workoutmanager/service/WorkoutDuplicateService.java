@@ -0,0 +1,91 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutDeleted;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateCleanupDto;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateSurvivorRule;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateWorkoutGroupDto;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateWorkoutRowDto;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutFingerprint;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.repository.WorkoutRepository;
+
+@Service
+public class WorkoutDuplicateService {
+
+    private record GroupKey(UUID userId, String fingerprint) {
+    }
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized int backfill(){
+
+        var workoutTypes = new HashMap<UUID, UUID>();
+        var exercises = new HashMap<UUID, List<UUID>>();
+
+        for (var row : workoutRepository.findFingerprintSources()) {
+            workoutTypes.put(row.workoutId(), row.workoutTypeId());
+            var workoutExercises = exercises.computeIfAbsent(row.workoutId(), workoutId -> new ArrayList<>());
+
+            if (row.exerciseId() != null) {
+                workoutExercises.add(row.exerciseId());
+            }
+        }
+
+        var fingerprints = new HashMap<UUID, String>();
+        exercises.forEach((workoutId, exerciseIds) -> fingerprints.put(workoutId, WorkoutFingerprint.of(workoutTypes.get(workoutId), exerciseIds)));
+
+        workoutRepository.updateFingerprints(fingerprints);
+
+        return fingerprints.size();
+    }
+
+    public synchronized DuplicateCleanupDto cleanup(boolean dryRun){
+
+        var fingerprinted = backfill();
+        var groups = new LinkedHashMap<GroupKey, List<DuplicateWorkoutRowDto>>();
+
+        for (var row : workoutRepository.findDuplicates()) {
+            groups.computeIfAbsent(new GroupKey(row.userId(), row.fingerprint()), key -> new ArrayList<>()).add(row);
+        }
+
+        var keptByDuplicate = new LinkedHashMap<UUID, UUID>();
+        var results = new ArrayList<DuplicateWorkoutGroupDto>(groups.size());
+
+        groups.forEach((key, rows) -> {
+            var kept = rows.get(0);
+            var keptBy = kept.sessions() > rows.get(1).sessions() ? DuplicateSurvivorRule.MOST_SESSIONS : DuplicateSurvivorRule.EARLIEST_CHANGE;
+            var duplicates = rows.subList(1, rows.size()).stream().map(DuplicateWorkoutRowDto::workoutId).toList();
+
+            duplicates.forEach(duplicate -> keptByDuplicate.put(duplicate, kept.workoutId()));
+            results.add(new DuplicateWorkoutGroupDto(key.userId(), kept.workoutId(), keptBy, duplicates));
+        });
+
+        if (!dryRun) {
+            workoutRepository.mergeDuplicates(keptByDuplicate);
+            keptByDuplicate.keySet().forEach(workoutSimilarityService::remove);
+            results.forEach(group -> group.duplicateWorkoutIds().forEach(duplicate -> domainEventBus.publish(new WorkoutDeleted(duplicate, group.userId()))));
+        }
+
+        return new DuplicateCleanupDto(dryRun, fingerprinted, dryRun ? 0 : keptByDuplicate.size(), results);
+    }
+}
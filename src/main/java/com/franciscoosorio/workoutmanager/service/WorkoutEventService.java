@@ -0,0 +1,219 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franciscoosorio.workoutmanager.domain.event.DomainEvent;
+import com.franciscoosorio.workoutmanager.domain.event.ExerciseDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.TemplateAssigned;
+import com.franciscoosorio.workoutmanager.domain.event.UserDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutCreated;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutTypeDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutUpdated;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutEventDto;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutEventType;
+import com.franciscoosorio.workoutmanager.events.DomainEventConsumer;
+import com.franciscoosorio.workoutmanager.events.EventBuffer;
+import com.franciscoosorio.workoutmanager.events.EventSink;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+
+@Service
+public class WorkoutEventService implements DomainEventConsumer {
+
+    private static final ServerEvent HEARTBEAT = new ServerEvent(null, null);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("workoutEventExecutor")
+    private TaskExecutor workoutEventExecutor;
+
+    @Value("${workoutmanager.events.buffer-size:64}")
+    private int bufferSize = 64;
+
+    @Value("${workoutmanager.events.timeout:PT30M}")
+    private Duration timeout = Duration.ofMinutes(30);
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(String userId){
+
+        var id = UUID.fromString(userId);
+
+        if (!userRepository.existsWithoutSession(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        var subscriber = new Subscriber(id, new SseEmitter(timeout.toMillis()), new EventBuffer<>(bufferSize));
+
+        subscribers.compute(id, (key, userSubscribers) -> {
+            var current = userSubscribers != null ? userSubscribers : ConcurrentHashMap.<Subscriber>newKeySet();
+            current.add(subscriber);
+            return current;
+        });
+        subscriber.emitter().onCompletion(() -> unsubscribe(subscriber));
+
+        return subscriber.emitter();
+    }
+
+    @Override
+    public String name(){
+        return "workout-stream";
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events){
+
+        for (var event : events) {
+            if (event instanceof WorkoutCreated created) {
+                publish(created.workout().getUser().getUserId(), new WorkoutEventDto(WorkoutEventType.CREATED, created.workout().getId(), created.workout()));
+            } else if (event instanceof WorkoutUpdated updated) {
+                publish(updated.workout().getUser().getUserId(), new WorkoutEventDto(WorkoutEventType.UPDATED, updated.workout().getId(), updated.workout()));
+            } else if (event instanceof WorkoutDeleted deleted) {
+                publish(deleted.userId(), new WorkoutEventDto(WorkoutEventType.DELETED, deleted.workoutId(), null));
+            } else if (event instanceof TemplateAssigned assigned) {
+                assigned.userIds().forEach(this::resync);
+            } else if (event instanceof ExerciseDeleted deleted && deleted.replacementId() != null) {
+                subscribers.keySet().forEach(this::resync);
+            } else if (event instanceof WorkoutTypeDeleted deleted && deleted.replacementId() != null) {
+                subscribers.keySet().forEach(this::resync);
+            } else if (event instanceof UserDeleted deleted) {
+                close(deleted.userId());
+            }
+        }
+    }
+
+    @Override
+    public void onGap(){
+        subscribers.keySet().forEach(this::resync);
+    }
+
+    public int subscriberCount(UUID userId){
+
+        var userSubscribers = subscribers.get(userId);
+        return userSubscribers != null ? userSubscribers.size() : 0;
+    }
+
+    @Scheduled(fixedDelayString = "${workoutmanager.events.heartbeat-interval:PT15S}")
+    public void heartbeat(){
+
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            if (subscriber.buffer().isIdle()) {
+                enqueue(subscriber, HEARTBEAT);
+            }
+        }));
+    }
+
+    private void publish(UUID userId, WorkoutEventDto event){
+
+        if (!subscribers.containsKey(userId)) {
+            return;
+        }
+
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        var serverEvent = new ServerEvent(event.type().name().toLowerCase(), data);
+        var userSubscribers = subscribers.get(userId);
+
+        if (userSubscribers != null) {
+            userSubscribers.forEach(subscriber -> enqueue(subscriber, serverEvent));
+        }
+    }
+
+    private void resync(UUID userId){
+
+        var userSubscribers = subscribers.get(userId);
+
+        if (userSubscribers != null) {
+            userSubscribers.forEach(subscriber -> {
+                if (subscriber.buffer().overflow()) {
+                    workoutEventExecutor.execute(() -> drain(subscriber));
+                }
+            });
+        }
+    }
+
+    private void close(UUID userId){
+
+        var userSubscribers = subscribers.remove(userId);
+
+        if (userSubscribers != null) {
+            userSubscribers.forEach(subscriber -> subscriber.emitter().complete());
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, ServerEvent event){
+
+        if (subscriber.buffer().offer(event)) {
+            workoutEventExecutor.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber){
+
+        try {
+            subscriber.buffer().drainTo(subscriber);
+        } catch (IOException | IllegalStateException exception) {
+            unsubscribe(subscriber);
+            subscriber.emitter().completeWithError(exception);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber){
+
+        subscribers.computeIfPresent(subscriber.userId(), (userId, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private record ServerEvent(String name, String data) {
+
+    }
+
+    private record Subscriber(UUID userId, SseEmitter emitter, EventBuffer<ServerEvent> buffer) implements EventSink<ServerEvent> {
+
+        @Override
+        public void send(ServerEvent event) throws IOException {
+
+            if (event.name() == null) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } else {
+                emitter.send(SseEmitter.event().name(event.name()).data(event.data(), MediaType.APPLICATION_JSON));
+            }
+        }
+
+        @Override
+        public void resync() throws IOException {
+            emitter.send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+        }
+    }
+}
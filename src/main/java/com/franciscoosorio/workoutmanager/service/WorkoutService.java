@@ -1,16 +1,35 @@
 package com.franciscoosorio.workoutmanager.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutCreated;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutUpdated;
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.projection.FieldSelection;
 import com.franciscoosorio.workoutmanager.domain.workout.CreateWorkoutDto;
 import com.franciscoosorio.workoutmanager.domain.workout.UpdateWorkoutDto;
 import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutFingerprint;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
+import com.franciscoosorio.workoutmanager.exception.DuplicateWorkoutException;
 import com.franciscoosorio.workoutmanager.exception.ExerciseNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.ReferencedEntityException;
 import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
 import com.franciscoosorio.workoutmanager.exception.WorkoutNotFoundException;
 import com.franciscoosorio.workoutmanager.exception.WorkoutTypeNotFoundException;
@@ -21,6 +40,12 @@ import com.franciscoosorio.workoutmanager.repository.WorkoutTypeRepository;
 
 @Service
 public class WorkoutService {
+
+    private static final Set<String> WORKOUT_FIELDS = Set.of("id", "name", "description");
+
+    private static final Map<String, List<String>> WORKOUT_ASSOCIATIONS = Map.of(
+        "workoutType", List.of("id", "name", "description"),
+        "exercises", List.of("id", "name", "description"));
     
     @Autowired
     private WorkoutRepository workoutRepository;
@@ -34,33 +59,86 @@ public class WorkoutService {
     @Autowired
     private ExerciseRepository exerciseRepository;
 
+    @Autowired
+    @Qualifier("workoutLookupExecutor")
+    private TaskExecutor workoutLookupExecutor;
+
+    @Autowired
+    private UniqueValueFilters uniqueValueFilters;
+
+    @Autowired
+    private ExercisePopularityService exercisePopularityService;
+
+    @Autowired
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
     public Workout createWorkout(String userId, CreateWorkoutDto createWorkoutDto) {
+        return createWorkout(userId, createWorkoutDto, false);
+    }
 
-        var workoutType = workoutTypeRepository.findById(createWorkoutDto.workoutTypeId())
-            .orElseThrow(() -> new WorkoutTypeNotFoundException("WorkoutType not found"));
+    public Workout createWorkout(String userId, CreateWorkoutDto createWorkoutDto, boolean allowDuplicate) {
 
         if (createWorkoutDto.exerciseIds() == null) {
             throw new IllegalArgumentException("Exercise set cannot be null");
         }
 
-        var exercises = exerciseRepository.findAllById(createWorkoutDto.exerciseIds()).stream().collect(Collectors.toSet());
+        if (createWorkoutDto.workoutTypeId() == null) {
+            throw new IllegalArgumentException("Workout type cannot be null");
+        }
+
+        var id = UUID.fromString(userId);
 
-        if (exercises.size() != createWorkoutDto.exerciseIds().size()) {
-            throw new ExerciseNotFoundException("One or more exercises were not found");
+        if (!isNameAvailable(createWorkoutDto.name())) {
+            throw new DuplicateValueException("Workout name already in use");
         }
 
-        var user = userRepository.findById(UUID.fromString(userId))
-            .orElseThrow(() -> new UserNotFoundException("User not found"));
+        var workoutTypeLookup = CompletableFuture.supplyAsync(() -> workoutTypeRepository.findById(createWorkoutDto.workoutTypeId())
+            .orElseThrow(() -> new WorkoutTypeNotFoundException("WorkoutType not found")), workoutLookupExecutor);
+
+        var exercisesLookup = CompletableFuture.supplyAsync(() -> {
+            var exercises = exerciseRepository.findAllById(createWorkoutDto.exerciseIds()).stream().collect(Collectors.toSet());
+
+            if (exercises.size() != createWorkoutDto.exerciseIds().size()) {
+                throw new ExerciseNotFoundException("One or more exercises were not found");
+            }
+            return exercises;
+        }, workoutLookupExecutor);
+
+        var userLookup = CompletableFuture.supplyAsync(() -> userRepository.findById(id)
+            .orElseThrow(() -> new UserNotFoundException("User not found")), workoutLookupExecutor);
+
+        var fingerprint = WorkoutFingerprint.of(createWorkoutDto.workoutTypeId(), createWorkoutDto.exerciseIds());
+
+        var duplicateLookup = allowDuplicate ? CompletableFuture.<Void>completedFuture(null) : CompletableFuture.runAsync(() -> {
+            var duplicates = workoutRepository.findIdsByFingerprint(id, fingerprint, Limit.of(1));
+
+            if (!duplicates.isEmpty()) {
+                throw new DuplicateWorkoutException("An equivalent workout already exists", duplicates.get(0));
+            }
+        }, workoutLookupExecutor);
+
+        awaitAll(workoutTypeLookup, exercisesLookup, userLookup, duplicateLookup);
 
         var workout = new Workout(
             createWorkoutDto.name(),
             createWorkoutDto.description(),
-            workoutType,
-            exercises,
-            user
+            workoutTypeLookup.join(),
+            exercisesLookup.join(),
+            userLookup.join()
         );
+        workout.setFingerprint(fingerprint);
+
+        var savedWorkout = workoutRepository.save(workout);
 
-        return workoutRepository.save(workout);
+        uniqueValueFilters.add(UniqueColumn.WORKOUT_NAME, createWorkoutDto.name());
+        exercisePopularityService.recordAdded(createWorkoutDto.exerciseIds());
+        workoutSimilarityService.index(savedWorkout.getId(), id, createWorkoutDto.exerciseIds());
+        domainEventBus.publish(new WorkoutCreated(savedWorkout));
+
+        return savedWorkout;
     }
 
     public Workout getWorkoutByIdAndUserId(String workoutId,String userId){
@@ -89,6 +167,20 @@ public class WorkoutService {
         return workoutRepository.findByUser_UserId(id);
     }
 
+    public List<Map<String, Object>> getWorkoutFieldsByUserId(String userId, String fields){
+
+        var selection = FieldSelection.parse(fields, "id", WORKOUT_FIELDS, WORKOUT_ASSOCIATIONS);
+
+        var id = UUID.fromString(userId);
+        var userExists = userRepository.existsById(id);
+
+        if (!userExists) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        return workoutRepository.findFieldsByUserId(id, selection);
+    }
+
     public void updateWorkout(String workoutId, String userId, UpdateWorkoutDto updateWorkout){
         
         var entity = workoutRepository.findByIdAndUser_UserId(UUID.fromString(workoutId),UUID.fromString(userId));
@@ -97,6 +189,10 @@ public class WorkoutService {
             var workout = entity.get();
 
             if (updateWorkout.name()!= null) {
+
+                if (!updateWorkout.name().equals(workout.getName()) && !isNameAvailable(updateWorkout.name())) {
+                    throw new DuplicateValueException("Workout name already in use");
+                }
                 workout.setName(updateWorkout.name());
             }
 
@@ -113,6 +209,8 @@ public class WorkoutService {
                 workout.setWorkoutType(workoutType.get());
             }
 
+            Set<UUID> addedExerciseIds = Set.of();
+
             if (updateWorkout.exerciseIds() != null) {
                 
                 var exercises = exerciseRepository.findAllById(updateWorkout.exerciseIds()).stream().collect(Collectors.toSet());
@@ -121,10 +219,25 @@ public class WorkoutService {
                     throw new ExerciseNotFoundException("One or more exercises were not found");
                 }
 
+                var previousIds = workout.getExercises().stream().map(Exercise::getId).collect(Collectors.toSet());
+                addedExerciseIds = updateWorkout.exerciseIds().stream().filter(exerciseId -> !previousIds.contains(exerciseId)).collect(Collectors.toSet());
+
                 workout.setExercises(exercises);
             }
 
+            if (updateWorkout.workoutTypeId() != null || updateWorkout.exerciseIds() != null) {
+                workout.setFingerprint(WorkoutFingerprint.of(workout.getWorkoutType().getId(),
+                    workout.getExercises().stream().map(Exercise::getId).toList()));
+            }
+
             workoutRepository.save(workout);
+            uniqueValueFilters.add(UniqueColumn.WORKOUT_NAME, workout.getName());
+            exercisePopularityService.recordAdded(addedExerciseIds);
+
+            if (updateWorkout.exerciseIds() != null) {
+                workoutSimilarityService.index(workout.getId(), workout.getUser().getUserId(), updateWorkout.exerciseIds());
+            }
+            domainEventBus.publish(new WorkoutUpdated(workout));
         }else{
             throw new WorkoutNotFoundException("Workout not found");
         }
@@ -132,12 +245,49 @@ public class WorkoutService {
 
     public void deleteWorkoutById(String workoutId, String userId){
         
-        var workoutExists = workoutRepository.existsByIdAndUser_UserId(UUID.fromString(workoutId), UUID.fromString(userId));
+        var references = workoutRepository.findReferenceCounts(UUID.fromString(workoutId), UUID.fromString(userId))
+            .orElseThrow(() -> new WorkoutNotFoundException("Workout not found"));
 
-        if (!workoutExists) {
-            throw new WorkoutNotFoundException("Workout not found");
+        if (references.sessions() > 0) {
+            throw new ReferencedEntityException("Workout has logged sessions", references);
         }
         workoutRepository.deleteById(UUID.fromString(workoutId));
+        workoutSimilarityService.remove(UUID.fromString(workoutId));
+        domainEventBus.publish(new WorkoutDeleted(UUID.fromString(workoutId), UUID.fromString(userId)));
     }
-}
 
+    private boolean isNameAvailable(String name){
+        return !uniqueValueFilters.mightExist(UniqueColumn.WORKOUT_NAME, name) || !workoutRepository.existsByName(name);
+    }
+
+    private static void awaitAll(CompletableFuture<?>... lookups) {
+
+        var firstFailure = new CompletableFuture<Void>();
+
+        for (var lookup : lookups) {
+            lookup.whenComplete((result, error) -> {
+                if (error != null) {
+                    firstFailure.completeExceptionally(error);
+                }
+            });
+        }
+
+        try {
+            CompletableFuture.anyOf(firstFailure, CompletableFuture.allOf(lookups)).join();
+        } catch (CompletionException exception) {
+
+            for (var lookup : lookups) {
+                lookup.cancel(false);
+            }
+
+            Throwable cause = exception;
+            while (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw exception;
+        }
+    }
+}
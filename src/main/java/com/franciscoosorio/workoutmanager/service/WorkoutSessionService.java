@@ -0,0 +1,217 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.franciscoosorio.workoutmanager.domain.session.CreateSetEntryDto;
+import com.franciscoosorio.workoutmanager.domain.session.CreateWorkoutSessionDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntry;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryPageDto;
+import com.franciscoosorio.workoutmanager.domain.session.WorkoutSession;
+import com.franciscoosorio.workoutmanager.domain.session.WorkoutSessionDto;
+import com.franciscoosorio.workoutmanager.exception.SetEntryNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.WorkoutNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.WorkoutSessionNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.ExerciseRepository;
+import com.franciscoosorio.workoutmanager.repository.SetEntryRepository;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutSessionRepository;
+
+@Service
+public class WorkoutSessionService {
+
+    private static final Instant RANGE_START = Instant.EPOCH;
+
+    private static final Instant RANGE_END = Instant.parse("9999-12-31T00:00:00Z");
+
+    private static final UUID FIRST_ID = new UUID(0, 0);
+
+    @Autowired
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Autowired
+    private SetEntryRepository setEntryRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private VolumeRollupService volumeRollupService;
+
+    @Autowired
+    private PersonalRecordService personalRecordService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private ExercisePopularityService exercisePopularityService;
+
+    @Value("${workoutmanager.sessions.max-sets-per-request:500}")
+    private int maxSetsPerRequest = 500;
+
+    @Value("${workoutmanager.sessions.max-page-size:1000}")
+    private int maxPageSize = 1000;
+
+    public WorkoutSessionDto startSession(String userId, CreateWorkoutSessionDto createWorkoutSessionDto){
+
+        if (createWorkoutSessionDto.workoutId() == null) {
+            throw new IllegalArgumentException("workoutId is required");
+        }
+
+        var id = UUID.fromString(userId);
+
+        if (!workoutRepository.existsByIdAndUser_UserId(createWorkoutSessionDto.workoutId(), id)) {
+            throw new WorkoutNotFoundException("Workout not found");
+        }
+
+        var startedAt = createWorkoutSessionDto.startedAt() != null ? createWorkoutSessionDto.startedAt() : Instant.now();
+
+        var session = workoutSessionRepository.save(new WorkoutSession(
+            userRepository.getReferenceById(id),
+            workoutRepository.getReferenceById(createWorkoutSessionDto.workoutId()),
+            startedAt));
+
+        leaderboardService.recordSession(id, session.getStartedAt());
+
+        return new WorkoutSessionDto(session.getId(), createWorkoutSessionDto.workoutId(), session.getStartedAt());
+    }
+
+    public List<WorkoutSessionDto> getSessions(String userId, Instant from, Instant to){
+
+        var id = UUID.fromString(userId);
+
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        return workoutSessionRepository.findRange(id, from != null ? from : RANGE_START, to != null ? to : RANGE_END);
+    }
+
+    @Transactional
+    public List<SetEntryDto> logSets(String userId, String sessionId, List<CreateSetEntryDto> sets){
+
+        if (sets == null || sets.isEmpty() || sets.size() > maxSetsPerRequest) {
+            throw new IllegalArgumentException("Between 1 and " + maxSetsPerRequest + " sets can be logged per request");
+        }
+
+        for (var set : sets) {
+            if (set.exerciseId() == null || set.reps() == null || set.reps() < 1 || set.weight() == null || set.weight().signum() < 0) {
+                throw new IllegalArgumentException("Invalid set");
+            }
+        }
+
+        var user = UUID.fromString(userId);
+        var session = UUID.fromString(sessionId);
+
+        var workoutTypeId = workoutSessionRepository.findWorkoutTypeId(session, user)
+            .orElseThrow(() -> new WorkoutSessionNotFoundException("WorkoutSession not found"));
+
+        var userReference = userRepository.getReferenceById(user);
+        var sessionReference = workoutSessionRepository.getReferenceById(session);
+        var now = Instant.now();
+
+        var entries = sets.stream()
+            .map(set -> new SetEntry(sessionReference, userReference, exerciseRepository.getReferenceById(set.exerciseId()),
+                set.reps(), set.weight(), set.performedAt() != null ? set.performedAt() : now))
+            .toList();
+
+        setEntryRepository.saveAll(entries);
+
+        var logged = entries.stream()
+            .map(entry -> new SetEntryDto(entry.getId(), session, entry.getExercise().getId(), entry.getReps(), entry.getWeight(), entry.getPerformedAt()))
+            .toList();
+
+        volumeRollupService.record(user, logged);
+        personalRecordService.record(user, logged);
+        leaderboardService.recordSets(user, workoutTypeId, logged);
+        exercisePopularityService.recordPerformed(logged);
+
+        return logged;
+    }
+
+    @Transactional
+    public void deleteSet(String userId, String setId){
+
+        var user = UUID.fromString(userId);
+
+        var set = setEntryRepository.findEntry(UUID.fromString(setId), user)
+            .orElseThrow(() -> new SetEntryNotFoundException("SetEntry not found"));
+
+        setEntryRepository.deleteEntry(set.id());
+
+        volumeRollupService.remove(user, set);
+        personalRecordService.remove(user, set);
+        leaderboardService.removeSet(user, set);
+    }
+
+    public List<SetEntryDto> getSessionSets(String userId, String sessionId){
+
+        var session = UUID.fromString(sessionId);
+
+        if (!workoutSessionRepository.existsByIdAndUser_UserId(session, UUID.fromString(userId))) {
+            throw new WorkoutSessionNotFoundException("WorkoutSession not found");
+        }
+
+        return setEntryRepository.findBySessionId(session);
+    }
+
+    public SetEntryPageDto getSets(String userId, Instant from, Instant to, String cursor, Integer limit){
+
+        var pageSize = limit != null ? limit : 100;
+
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+        }
+
+        var afterTime = from != null ? from : RANGE_START;
+        var afterId = FIRST_ID;
+
+        if (cursor != null) {
+            var separator = cursor.indexOf('_');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            try {
+                afterTime = Instant.parse(cursor.substring(0, separator));
+            } catch (DateTimeParseException exception) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            afterId = UUID.fromString(cursor.substring(separator + 1));
+        }
+
+        var id = UUID.fromString(userId);
+
+        if (!userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        var items = setEntryRepository.findRangeAfter(id, to != null ? to : RANGE_END, afterTime, afterId, Limit.of(pageSize + 1));
+
+        if (items.size() <= pageSize) {
+            return new SetEntryPageDto(items, null);
+        }
+
+        var page = items.subList(0, pageSize);
+        var last = page.get(pageSize - 1);
+
+        return new SetEntryPageDto(List.copyOf(page), last.performedAt() + "_" + last.id());
+    }
+}
@@ -0,0 +1,200 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.franciscoosorio.workoutmanager.domain.similarity.SimilarUserDto;
+import com.franciscoosorio.workoutmanager.domain.similarity.SimilarWorkoutDto;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.WorkoutNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutRepository;
+import com.franciscoosorio.workoutmanager.similarity.LshIndex;
+import com.franciscoosorio.workoutmanager.similarity.MinHash;
+
+import jakarta.annotation.PostConstruct;
+
+@Service
+public class WorkoutSimilarityService {
+
+    private static final long SEED = 0x5eed5eed5eedL;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${workoutmanager.similarity.bands:32}")
+    private int bands = 32;
+
+    @Value("${workoutmanager.similarity.rows:4}")
+    private int rows = 4;
+
+    @Value("${workoutmanager.similarity.max-limit:50}")
+    private int maxLimit = 50;
+
+    private MinHash minHash;
+
+    private LshIndex workoutIndex;
+
+    private LshIndex userIndex;
+
+    private final Map<UUID, UUID> owners = new ConcurrentHashMap<>();
+
+    private final Map<UUID, Set<UUID>> userWorkouts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        minHash = new MinHash(bands * rows, SEED);
+        workoutIndex = new LshIndex(bands, rows);
+        userIndex = new LshIndex(bands, rows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild(){
+
+        var exercises = new HashMap<UUID, Set<UUID>>();
+        var workoutOwners = new HashMap<UUID, UUID>();
+
+        for (var row : workoutRepository.findAllWorkoutExercises()) {
+            var workoutExercises = exercises.computeIfAbsent(row.workoutId(), workoutId -> new HashSet<>());
+
+            if (row.exerciseId() != null) {
+                workoutExercises.add(row.exerciseId());
+            }
+            workoutOwners.put(row.workoutId(), row.userId());
+        }
+
+        workoutIndex.clear();
+        userIndex.clear();
+        owners.clear();
+        userWorkouts.clear();
+
+        exercises.forEach((workoutId, exerciseIds) -> index(workoutId, workoutOwners.get(workoutId), exerciseIds, false));
+        userWorkouts.keySet().forEach(this::reindexUser);
+    }
+
+    public synchronized void index(UUID workoutId, UUID userId, Collection<UUID> exerciseIds){
+        index(workoutId, userId, exerciseIds, true);
+    }
+
+    public synchronized void reindex(Collection<UUID> workoutIds){
+
+        var exercises = new HashMap<UUID, Set<UUID>>();
+        var workoutOwners = new HashMap<UUID, UUID>();
+
+        for (var row : workoutRepository.findWorkoutExercises(workoutIds)) {
+            var workoutExercises = exercises.computeIfAbsent(row.workoutId(), workoutId -> new HashSet<>());
+
+            if (row.exerciseId() != null) {
+                workoutExercises.add(row.exerciseId());
+            }
+            workoutOwners.put(row.workoutId(), row.userId());
+        }
+
+        exercises.forEach((workoutId, exerciseIds) -> index(workoutId, workoutOwners.get(workoutId), exerciseIds, false));
+        new HashSet<>(workoutOwners.values()).forEach(this::reindexUser);
+    }
+
+    public synchronized void remove(UUID workoutId){
+
+        var userId = owners.remove(workoutId);
+        workoutIndex.remove(workoutId);
+
+        if (userId != null) {
+            var workouts = userWorkouts.get(userId);
+            workouts.remove(workoutId);
+
+            if (workouts.isEmpty()) {
+                userWorkouts.remove(userId);
+            }
+            reindexUser(userId);
+        }
+    }
+
+    public List<SimilarWorkoutDto> getSimilarWorkouts(String userId, String workoutId, Integer limit){
+
+        var size = checkLimit(limit);
+        var id = UUID.fromString(workoutId);
+
+        if (!UUID.fromString(userId).equals(owners.get(id))) {
+            throw new WorkoutNotFoundException("Workout not found");
+        }
+
+        return workoutIndex.similar(id, size).stream()
+            .map(match -> new SimilarWorkoutDto(match.key(), match.similarity()))
+            .toList();
+    }
+
+    public List<SimilarUserDto> getSimilarUsers(String userId, Integer limit){
+
+        var size = checkLimit(limit);
+        var id = UUID.fromString(userId);
+
+        if (!userWorkouts.containsKey(id) && !userRepository.existsById(id)) {
+            throw new UserNotFoundException("User not found");
+        }
+
+        return userIndex.similar(id, size).stream()
+            .map(match -> new SimilarUserDto(match.key(), match.similarity()))
+            .toList();
+    }
+
+    private void index(UUID workoutId, UUID userId, Collection<UUID> exerciseIds, boolean reindexUser){
+
+        owners.put(workoutId, userId);
+        userWorkouts.computeIfAbsent(userId, user -> new HashSet<>()).add(workoutId);
+
+        if (exerciseIds.isEmpty()) {
+            workoutIndex.remove(workoutId);
+        } else {
+            workoutIndex.put(workoutId, minHash.signature(exerciseIds));
+        }
+
+        if (reindexUser) {
+            reindexUser(userId);
+        }
+    }
+
+    private void reindexUser(UUID userId){
+
+        int[] routine = null;
+
+        for (var workoutId : userWorkouts.getOrDefault(userId, Set.of())) {
+            var signature = workoutIndex.signature(workoutId);
+
+            if (signature.isPresent()) {
+                routine = routine == null ? signature.get() : MinHash.union(routine, signature.get());
+            }
+        }
+
+        if (routine == null) {
+            userIndex.remove(userId);
+        } else {
+            userIndex.put(userId, routine);
+        }
+    }
+
+    private int checkLimit(Integer limit){
+
+        var size = limit != null ? limit : 10;
+
+        if (size < 1 || size > maxLimit) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxLimit);
+        }
+        return size;
+    }
+}
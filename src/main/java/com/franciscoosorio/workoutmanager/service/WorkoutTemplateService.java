@@ -0,0 +1,146 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
+import com.franciscoosorio.workoutmanager.domain.event.TemplateAssigned;
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.template.AssignTemplateDto;
+import com.franciscoosorio.workoutmanager.domain.template.AssignedWorkoutDto;
+import com.franciscoosorio.workoutmanager.domain.template.CreateWorkoutTemplateDto;
+import com.franciscoosorio.workoutmanager.domain.template.TemplateAssignmentDto;
+import com.franciscoosorio.workoutmanager.domain.template.WorkoutTemplate;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutFingerprint;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
+import com.franciscoosorio.workoutmanager.exception.ExerciseNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.WorkoutTemplateNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.WorkoutTypeNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.ExerciseRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutTemplateRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutTypeRepository;
+
+@Service
+public class WorkoutTemplateService {
+
+    @Autowired
+    private WorkoutTemplateRepository workoutTemplateRepository;
+
+    @Autowired
+    private WorkoutTypeRepository workoutTypeRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private UniqueValueFilters uniqueValueFilters;
+
+    @Autowired
+    private ExercisePopularityService exercisePopularityService;
+
+    @Autowired
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
+    @Value("${workoutmanager.templates.max-assigned-users:5000}")
+    private int maxAssignedUsers = 5000;
+
+    public WorkoutTemplate createTemplate(CreateWorkoutTemplateDto createWorkoutTemplateDto) {
+
+        if (createWorkoutTemplateDto.exerciseIds() == null) {
+            throw new IllegalArgumentException("Exercise set cannot be null");
+        }
+
+        if (createWorkoutTemplateDto.workoutTypeId() == null) {
+            throw new IllegalArgumentException("Workout type cannot be null");
+        }
+
+        if (workoutTemplateRepository.existsByName(createWorkoutTemplateDto.name())) {
+            throw new DuplicateValueException("Template name already in use");
+        }
+
+        var workoutType = workoutTypeRepository.findById(createWorkoutTemplateDto.workoutTypeId())
+            .orElseThrow(() -> new WorkoutTypeNotFoundException("WorkoutType not found"));
+
+        Set<Exercise> exercises = exerciseRepository.findAllById(createWorkoutTemplateDto.exerciseIds()).stream().collect(Collectors.toSet());
+
+        if (exercises.size() != createWorkoutTemplateDto.exerciseIds().size()) {
+            throw new ExerciseNotFoundException("One or more exercises were not found");
+        }
+
+        var template = new WorkoutTemplate(createWorkoutTemplateDto.name(), createWorkoutTemplateDto.description(), workoutType, exercises);
+
+        return workoutTemplateRepository.save(template);
+    }
+
+    public WorkoutTemplate getTemplateById(String templateId){
+
+        return workoutTemplateRepository.findWithExercisesById(UUID.fromString(templateId))
+            .orElseThrow(() -> new WorkoutTemplateNotFoundException("Template not found"));
+    }
+
+    public List<WorkoutTemplate> getAllTemplates(){
+
+        return workoutTemplateRepository.findAllByOrderByName();
+    }
+
+    public void deleteTemplateById(String templateId){
+
+        var id = UUID.fromString(templateId);
+
+        if (!workoutTemplateRepository.existsById(id)) {
+            throw new WorkoutTemplateNotFoundException("Template not found");
+        }
+        workoutTemplateRepository.deleteById(id);
+    }
+
+    public TemplateAssignmentDto assignTemplate(String templateId, AssignTemplateDto assignTemplateDto){
+
+        if (assignTemplateDto.userIds() == null || assignTemplateDto.userIds().isEmpty()) {
+            throw new IllegalArgumentException("At least one user is required");
+        }
+
+        var userIds = new LinkedHashSet<>(assignTemplateDto.userIds());
+
+        if (userIds.size() > maxAssignedUsers) {
+            throw new IllegalArgumentException("A template can be assigned to at most " + maxAssignedUsers + " users at once");
+        }
+
+        var template = getTemplateById(templateId);
+        var exerciseIds = template.getExercises().stream().map(Exercise::getId).collect(Collectors.toSet());
+        var fingerprint = WorkoutFingerprint.of(template.getWorkoutType().getId(), exerciseIds);
+
+        var workoutIdByUser = new LinkedHashMap<UUID, UUID>();
+        userIds.forEach(userId -> workoutIdByUser.put(userId, UUID.randomUUID()));
+
+        var assigned = workoutTemplateRepository.assign(template.getId(), fingerprint, workoutIdByUser);
+
+        var skippedUserIds = new LinkedHashSet<>(userIds);
+
+        for (var workout : assigned) {
+            skippedUserIds.remove(workout.userId());
+            uniqueValueFilters.add(UniqueColumn.WORKOUT_NAME, workout.name());
+            workoutSimilarityService.index(workout.workoutId(), workout.userId(), exerciseIds);
+        }
+        exercisePopularityService.recordAdded(exerciseIds, assigned.size());
+
+        if (!assigned.isEmpty()) {
+            domainEventBus.publish(new TemplateAssigned(template.getId(), assigned.stream().map(AssignedWorkoutDto::userId).toList()));
+        }
+
+        return new TemplateAssignmentDto(template.getId(), assigned, new ArrayList<>(skippedUserIds));
+    }
+}
@@ -4,11 +4,22 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.franciscoosorio.workoutmanager.cache.NegativeLookupCache;
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
+import com.franciscoosorio.workoutmanager.domain.batch.BatchResultDto;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutTypeCreated;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutTypeDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutTypeUpdated;
 import com.franciscoosorio.workoutmanager.domain.workouttype.CreateWorkoutTypeDto;
 import com.franciscoosorio.workoutmanager.domain.workouttype.UpdateWorkoutTypeDto;
 import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
+import com.franciscoosorio.workoutmanager.exception.ReferencedEntityException;
 import com.franciscoosorio.workoutmanager.exception.WorkoutTypeNotFoundException;
 import com.franciscoosorio.workoutmanager.repository.WorkoutTypeRepository;
 
@@ -18,38 +29,96 @@ public class WorkoutTypeService {
     @Autowired
     private WorkoutTypeRepository workoutTypeRepository;
 
+    @Autowired
+    private NegativeLookupCache negativeLookupCache;
+
+    @Value("${workoutmanager.batch.max-ids:100}")
+    private int maxBatchIds = 100;
+
+    @Autowired
+    private UniqueValueFilters uniqueValueFilters;
+
+    @Autowired
+    private WorkoutDuplicateService workoutDuplicateService;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
     public WorkoutType createWorkoutType(CreateWorkoutTypeDto requestWorkoutTypeDto) {
         
+        if (!isNameAvailable(requestWorkoutTypeDto.name())) {
+            throw new DuplicateValueException("WorkoutType name already in use");
+        }
+
         var entity = new WorkoutType(requestWorkoutTypeDto.name(),requestWorkoutTypeDto.description());
 
-        return workoutTypeRepository.save(entity);
+        var workoutType = workoutTypeRepository.save(entity);
+
+        negativeLookupCache.invalidate(WorkoutType.class, workoutType.getId());
+        uniqueValueFilters.add(UniqueColumn.WORKOUT_TYPE_NAME, requestWorkoutTypeDto.name());
+        domainEventBus.publish(new WorkoutTypeCreated(workoutType));
+
+        return workoutType;
     }
 
     public WorkoutType getWorkoutTypeById(String id){
-        
-        var workoutType = workoutTypeRepository.findById(UUID.fromString(id));
+
+        var workoutTypeId = UUID.fromString(id);
+
+        if (negativeLookupCache.isKnownMissing(WorkoutType.class, workoutTypeId)) {
+            throw new WorkoutTypeNotFoundException("WorkoutType not found");
+        }
+
+        var workoutType = workoutTypeRepository.findById(workoutTypeId);
 
         if (workoutType.isEmpty()) {
+            negativeLookupCache.recordMissing(WorkoutType.class, workoutTypeId);
             throw new WorkoutTypeNotFoundException("WorkoutType not found");
         }
         return workoutType.get();
     }
 
+    public BatchResultDto<WorkoutType> getWorkoutTypesByIds(List<String> ids){
+
+        return BatchLookup.findAllInOrder(ids, maxBatchIds, WorkoutType.class, negativeLookupCache, workoutTypeRepository::findAllById, WorkoutType::getId);
+    }
+
     public List<WorkoutType> getAllWorkoutsTypes(){
         
         return workoutTypeRepository.findAll();
     }
 
-    public void deleteWorkoutTypeById(String id) {
+    public void deleteWorkoutTypeById(String id, String replaceWith) {
 
         var workoutTypeId = UUID.fromString(id);
+        var replacementId = replaceWith != null ? UUID.fromString(replaceWith) : null;
 
-        var existsEntity = workoutTypeRepository.existsById(workoutTypeId);
+        if (workoutTypeId.equals(replacementId)) {
+            throw new IllegalArgumentException("A workout type cannot replace itself");
+        }
 
-        if (existsEntity) {
-            workoutTypeRepository.deleteById(workoutTypeId);
-        }else{
-            throw new WorkoutTypeNotFoundException("WorkoutType not found");
+        var references = workoutTypeRepository.findReferenceCounts(workoutTypeId)
+            .orElseThrow(() -> new WorkoutTypeNotFoundException("WorkoutType not found"));
+
+        if (replacementId == null && references.total() > 0) {
+            throw new ReferencedEntityException("WorkoutType is used by workouts or templates", references);
+        }
+
+        if (replacementId != null && !workoutTypeRepository.existsById(replacementId)) {
+            throw new WorkoutTypeNotFoundException("Replacement WorkoutType not found");
+        }
+
+        var reassignedWorkouts = workoutTypeRepository.deleteReassigning(workoutTypeId, replacementId);
+
+        negativeLookupCache.recordMissing(WorkoutType.class, workoutTypeId);
+        domainEventBus.publish(new WorkoutTypeDeleted(workoutTypeId, replacementId));
+
+        if (reassignedWorkouts > 0) {
+            workoutDuplicateService.backfill();
+            leaderboardService.rebuild();
         }
     }
 
@@ -64,6 +133,10 @@ public class WorkoutTypeService {
             var entity = workoutTypeEntity.get();
 
             if (updateWorkoutTypeDto.name() != null) {
+
+                if (!updateWorkoutTypeDto.name().equals(entity.getName()) && !isNameAvailable(updateWorkoutTypeDto.name())) {
+                    throw new DuplicateValueException("WorkoutType name already in use");
+                }
                 entity.setName(updateWorkoutTypeDto.name());
             }
 
@@ -71,9 +144,14 @@ public class WorkoutTypeService {
                 entity.setDescription(updateWorkoutTypeDto.description());
             }
             workoutTypeRepository.save(entity);
-            
+            uniqueValueFilters.add(UniqueColumn.WORKOUT_TYPE_NAME, entity.getName());
+            domainEventBus.publish(new WorkoutTypeUpdated(entity));
         }else{
             throw new WorkoutTypeNotFoundException("WorkoutType not found");
         }
     }
+
+    private boolean isNameAvailable(String name){
+        return !uniqueValueFilters.mightExist(UniqueColumn.WORKOUT_TYPE_NAME, name) || !workoutTypeRepository.existsByName(name);
+    }
 }
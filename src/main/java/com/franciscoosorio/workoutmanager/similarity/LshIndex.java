@@ -0,0 +1,172 @@
+package com.franciscoosorio.workoutmanager.similarity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class LshIndex {
+
+    public record Match(UUID key, double similarity) {
+    }
+
+    private static final Comparator<Match> BY_SIMILARITY = Comparator.comparingDouble(Match::similarity).reversed()
+        .thenComparing(Match::key);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final int bands;
+
+    private final int rows;
+
+    private final Map<UUID, int[]> signatures = new HashMap<>();
+
+    private final List<Map<Long, Set<UUID>>> buckets;
+
+    public LshIndex(int bands, int rows) {
+
+        if (bands <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Invalid LSH banding");
+        }
+
+        this.bands = bands;
+        this.rows = rows;
+        this.buckets = new ArrayList<>(bands);
+
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public void put(UUID key, int[] signature) {
+
+        if (signature.length != bands * rows) {
+            throw new IllegalArgumentException("Signature length must be " + bands * rows);
+        }
+
+        lock.writeLock().lock();
+        try {
+            var previous = signatures.put(key, signature);
+
+            if (previous != null) {
+                unbucket(key, previous);
+            }
+
+            for (int band = 0; band < bands; band++) {
+                buckets.get(band).computeIfAbsent(bandKey(signature, band), bucket -> new HashSet<>()).add(key);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID key) {
+
+        lock.writeLock().lock();
+        try {
+            var previous = signatures.remove(key);
+
+            if (previous != null) {
+                unbucket(key, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<int[]> signature(UUID key) {
+
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(signatures.get(key));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Match> similar(UUID key, int limit) {
+
+        lock.readLock().lock();
+        try {
+            var signature = signatures.get(key);
+
+            if (signature == null) {
+                return List.of();
+            }
+
+            var candidates = new HashSet<UUID>();
+
+            for (int band = 0; band < bands; band++) {
+                var bucket = buckets.get(band).get(bandKey(signature, band));
+
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+
+            candidates.remove(key);
+
+            return candidates.stream()
+                .map(candidate -> new Match(candidate, MinHash.similarity(signature, signatures.get(candidate))))
+                .sorted(BY_SIMILARITY)
+                .limit(limit)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+
+        lock.writeLock().lock();
+        try {
+            signatures.clear();
+            buckets.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unbucket(UUID key, int[] signature) {
+
+        for (int band = 0; band < bands; band++) {
+            var bandBuckets = buckets.get(band);
+            var bandKey = bandKey(signature, band);
+            var bucket = bandBuckets.get(bandKey);
+
+            if (bucket != null) {
+                bucket.remove(key);
+                if (bucket.isEmpty()) {
+                    bandBuckets.remove(bandKey);
+                }
+            }
+        }
+    }
+
+    private long bandKey(int[] signature, int band) {
+
+        var hash = 0xcbf29ce484222325L;
+
+        for (int i = band * rows; i < (band + 1) * rows; i++) {
+            hash ^= signature[i];
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,79 @@
+package com.franciscoosorio.workoutmanager.similarity;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+public class MinHash {
+
+    private final long[] seeds;
+
+    public MinHash(int numHashes, long seed) {
+
+        if (numHashes <= 0) {
+            throw new IllegalArgumentException("Invalid number of hash functions");
+        }
+
+        this.seeds = new long[numHashes];
+
+        var state = seed;
+        for (int i = 0; i < numHashes; i++) {
+            state += 0x9e3779b97f4a7c15L;
+            seeds[i] = mix64(state);
+        }
+    }
+
+    public int numHashes() {
+        return seeds.length;
+    }
+
+    public int[] signature(Collection<UUID> elements) {
+
+        var signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        for (var element : elements) {
+            var value = element.getMostSignificantBits() * 31 + element.getLeastSignificantBits();
+
+            for (int i = 0; i < seeds.length; i++) {
+                var hash = (int) (mix64(value ^ seeds[i]) >>> 33);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static int[] union(int[] first, int[] second) {
+
+        var union = new int[first.length];
+
+        for (int i = 0; i < first.length; i++) {
+            union[i] = Math.min(first[i], second[i]);
+        }
+        return union;
+    }
+
+    public static double similarity(int[] first, int[] second) {
+
+        var equal = 0;
+
+        for (int i = 0; i < first.length; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / first.length;
+    }
+
+    private static long mix64(long value) {
+
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
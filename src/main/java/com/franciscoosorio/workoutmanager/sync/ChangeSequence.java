@@ -0,0 +1,70 @@
+package com.franciscoosorio.workoutmanager.sync;
+
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.franciscoosorio.workoutmanager.repository.SyncTombstoneRepository;
+
+import jakarta.annotation.PostConstruct;
+
+@Component
+public class ChangeSequence {
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+
+    private long current;
+
+    @PostConstruct
+    void load() {
+
+        var max = syncTombstoneRepository.findMaxChangeSeq();
+
+        if (syncTombstoneRepository.backfillChangeSeq(max + 1) > 0) {
+            max++;
+        }
+        reset(max);
+    }
+
+    synchronized void reset(long value) {
+        current = value;
+        inFlight.clear();
+    }
+
+    public long next() {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Change sequence values can only be taken inside a transaction");
+        }
+
+        var value = acquire();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                release(value);
+            }
+        });
+        return value;
+    }
+
+    public synchronized long watermark() {
+        return inFlight.isEmpty() ? current : inFlight.first() - 1;
+    }
+
+    synchronized long acquire() {
+        inFlight.add(++current);
+        return current;
+    }
+
+    synchronized void release(long value) {
+        inFlight.remove(value);
+    }
+}
@@ -0,0 +1,78 @@
+package com.franciscoosorio.workoutmanager.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.franciscoosorio.workoutmanager.exception.GlobalExceptionHandler;
+import com.franciscoosorio.workoutmanager.exception.NotFoundException;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NotFoundExceptionBenchmark {
+
+    @Param({"20", "120"})
+    private int stackDepth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Benchmark
+    public ResponseEntity<String> stackTraceNotFound() {
+        try {
+            throwAtDepth(stackDepth, true);
+            return null;
+        } catch (RuntimeException exception) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(exception.getMessage());
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<String> stacklessNotFound() {
+        try {
+            throwAtDepth(stackDepth, false);
+            return null;
+        } catch (NotFoundException exception) {
+            return handler.handleNotFound(exception);
+        }
+    }
+
+    private static void throwAtDepth(int depth, boolean withStackTrace) {
+        if (depth > 0) {
+            throwAtDepth(depth - 1, withStackTrace);
+            return;
+        }
+        if (withStackTrace) {
+            throw new RuntimeException("User not found");
+        }
+        throw new UserNotFoundException("User not found");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        var options = new OptionsBuilder()
+            .include(NotFoundExceptionBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,133 @@
+package com.franciscoosorio.workoutmanager.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workout.CreateWorkoutDto;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadEncodingBenchmark {
+
+    private static final TypeReference<List<CreateWorkoutDto>> CREATE_WORKOUT_LIST = new TypeReference<>() {};
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100"})
+    private int workoutCount;
+
+    private ObjectMapper objectMapper;
+
+    private List<Workout> workouts;
+
+    private byte[] encodedCreateWorkouts;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = objectMapper(format);
+        workouts = workouts(workoutCount);
+        encodedCreateWorkouts = objectMapper.writeValueAsBytes(createWorkouts(workoutCount));
+    }
+
+    @Benchmark
+    public byte[] encodeWorkouts() throws IOException {
+        return objectMapper.writeValueAsBytes(workouts);
+    }
+
+    @Benchmark
+    public List<CreateWorkoutDto> decodeCreateWorkouts() throws IOException {
+        return objectMapper.readValue(encodedCreateWorkouts, CREATE_WORKOUT_LIST);
+    }
+
+    static ObjectMapper objectMapper(String format) {
+
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+
+        return new Jackson2ObjectMapperBuilder().factory(factory).build();
+    }
+
+    static List<Workout> workouts(int count) {
+
+        var user = new User(UUID.randomUUID(), "username", "email@email.com", "password", null, null);
+        var workoutType = new WorkoutType(UUID.randomUUID(), "Strength", "Heavy compound lifts with long rests");
+
+        var exercises = new ArrayList<Exercise>();
+        for (int i = 0; i < 8; i++) {
+            exercises.add(new Exercise(UUID.randomUUID(), "Exercise " + i, "Description for exercise " + i + " with cues and setup notes"));
+        }
+
+        var workouts = new ArrayList<Workout>(count);
+        for (int i = 0; i < count; i++) {
+            workouts.add(new Workout(UUID.randomUUID(), "Workout " + i, "Description for workout " + i, workoutType, new HashSet<>(exercises), user));
+        }
+        return workouts;
+    }
+
+    static List<CreateWorkoutDto> createWorkouts(int count) {
+
+        var exerciseIds = new HashSet<UUID>();
+        for (int i = 0; i < 8; i++) {
+            exerciseIds.add(UUID.randomUUID());
+        }
+
+        var createWorkouts = new ArrayList<CreateWorkoutDto>(count);
+        for (int i = 0; i < count; i++) {
+            createWorkouts.add(new CreateWorkoutDto("Workout " + i, "Description for workout " + i, UUID.randomUUID(), exerciseIds));
+        }
+        return createWorkouts;
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+
+        var workouts = workouts(100);
+        for (var format : List.of("json", "cbor", "smile")) {
+            System.out.printf("%-6s payload for 100 workouts: %d bytes%n", format, objectMapper(format).writeValueAsBytes(workouts).length);
+        }
+
+        var options = new OptionsBuilder()
+            .include(PayloadEncodingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,103 @@
+package com.franciscoosorio.workoutmanager.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+    @Param({"reflection", "blackbird"})
+    private String accessors;
+
+    @Param({"none", "gzip"})
+    private String compression;
+
+    @Param({"100"})
+    private int workoutCount;
+
+    private ObjectMapper objectMapper;
+
+    private List<Workout> workouts;
+
+    private ByteArrayOutputStream buffer;
+
+    @Setup
+    public void setUp() {
+        objectMapper = objectMapper(accessors);
+        workouts = PayloadEncodingBenchmark.workouts(workoutCount);
+        buffer = new ByteArrayOutputStream(256 * 1024);
+    }
+
+    @Benchmark
+    public int writeWorkouts() throws IOException {
+        buffer.reset();
+        write(objectMapper, compression, workouts, buffer);
+        return buffer.size();
+    }
+
+    static ObjectMapper objectMapper(String accessors) {
+
+        var builder = new Jackson2ObjectMapperBuilder();
+        if (accessors.equals("blackbird")) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+
+    static void write(ObjectMapper objectMapper, String compression, Object value, ByteArrayOutputStream buffer) throws IOException {
+
+        if (compression.equals("gzip")) {
+            try (var gzip = new GZIPOutputStream(buffer)) {
+                objectMapper.writeValue(gzip, value);
+            }
+            return;
+        }
+        objectMapper.writeValue(buffer, value);
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+
+        var workouts = PayloadEncodingBenchmark.workouts(100);
+        for (var compression : List.of("none", "gzip")) {
+            var buffer = new ByteArrayOutputStream();
+            write(objectMapper("reflection"), compression, workouts, buffer);
+            System.out.printf("%-5s bytes out for 100 workouts: %d%n", compression, buffer.size());
+        }
+
+        var options = new OptionsBuilder()
+            .include(ResponseSerializationBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,64 @@
+package com.franciscoosorio.workoutmanager.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an added value as absent")
+    void shouldNeverReportAddedValueAsAbsent(){
+
+        var filter = new BloomFilter(1_000, 0.01);
+
+        for (int i = 0; i < 1_000; i++) {
+            filter.put("user" + i + "@email.com");
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.mightContain("user" + i + "@email.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate close to the configured probability")
+    void shouldKeepFalsePositiveRateCloseToConfiguredProbability(){
+
+        var filter = new BloomFilter(10_000, 0.01);
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("username" + i);
+        }
+
+        var falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 300);
+    }
+
+    @Test
+    @DisplayName("Should treat null as absent")
+    void shouldTreatNullAsAbsent(){
+
+        var filter = new BloomFilter(10, 0.01);
+        filter.put(null);
+
+        assertFalse(filter.mightContain(null));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing")
+    void shouldRejectInvalidSizing(){
+
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(10, 1));
+    }
+}
@@ -0,0 +1,98 @@
+package com.franciscoosorio.workoutmanager.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+
+public class NegativeLookupCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    @DisplayName("Should answer known missing ids until the ttl expires")
+    void shouldAnswerKnownMissingIdsUntilTtlExpires(){
+
+        var cache = new NegativeLookupCache(clock, Duration.ofSeconds(30), 10);
+        var id = UUID.randomUUID();
+
+        cache.recordMissing(User.class, id);
+
+        assertTrue(cache.isKnownMissing(User.class, id));
+        assertFalse(cache.isKnownMissing(Exercise.class, id));
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertFalse(cache.isKnownMissing(User.class, id));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should forget a missing id when it is invalidated")
+    void shouldForgetMissingIdWhenInvalidated(){
+
+        var cache = new NegativeLookupCache(clock, Duration.ofSeconds(30), 10);
+        var id = UUID.randomUUID();
+
+        cache.recordMissing(User.class, id);
+        cache.invalidate(User.class, id);
+
+        assertFalse(cache.isKnownMissing(User.class, id));
+    }
+
+    @Test
+    @DisplayName("Should not grow beyond the maximum number of entries")
+    void shouldNotGrowBeyondMaxEntries(){
+
+        var cache = new NegativeLookupCache(clock, Duration.ofSeconds(30), 2);
+
+        cache.recordMissing(User.class, UUID.randomUUID());
+        cache.recordMissing(User.class, UUID.randomUUID());
+        cache.recordMissing(User.class, UUID.randomUUID());
+
+        assertEquals(2, cache.size());
+
+        clock.advance(Duration.ofSeconds(31));
+        var id = UUID.randomUUID();
+        cache.recordMissing(User.class, id);
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.isKnownMissing(User.class, id));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.franciscoosorio.workoutmanager.changelog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.franciscoosorio.workoutmanager.domain.outbox.ChangeRecordDto;
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxEntityType;
+import com.franciscoosorio.workoutmanager.domain.outbox.OutboxOperation;
+import com.franciscoosorio.workoutmanager.repository.OutboxRepository;
+import com.franciscoosorio.workoutmanager.service.OutboxRelayService;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ChangeLogEndToEndTest {
+
+    private static final String CONSUMER = "analytics";
+
+    @TempDir
+    static Path logDirectory;
+
+    @DynamicPropertySource
+    static void changeLogProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:mem:changelog");
+        registry.add("workoutmanager.outbox.log-dir", () -> logDirectory.toString());
+        registry.add("workoutmanager.outbox.segment-size", () -> "4KB");
+        registry.add("workoutmanager.outbox.relay-interval", () -> "PT1H");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private OutboxRelayService outboxRelayService;
+
+    @Test
+    @DisplayName("Should relay committed writes through the outbox into the change log for a checkpointed consumer")
+    void shouldRelayWritesIntoChangeLog() throws Exception {
+
+        var suffix = UUID.randomUUID().toString();
+
+        var userId = create("/users", """
+            {"username": "user-%1$s", "email": "%1$s@email.com", "password": "Password1@"}
+            """.formatted(suffix), "$.userId");
+        var exerciseId = create("/exercises", """
+            {"name": "exercise-%s", "description": "description"}
+            """.formatted(suffix), "$.id");
+        var workoutTypeId = create("/workout-type", """
+            {"name": "type-%s", "description": "description"}
+            """.formatted(suffix), "$.id");
+        var workoutId = create("/users/" + userId + "/workouts", """
+            {"name": "workout-%s", "description": "description", "workoutTypeId": "%s", "exerciseIds": ["%s"]}
+            """.formatted(suffix, workoutTypeId, exerciseId), "$.id");
+
+        mockMvc.perform(put("/users/{userId}/workouts/{workoutId}", userId, workoutId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"changed\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/users/{userId}/workouts/{workoutId}", userId, workoutId))
+            .andExpect(status().isOk());
+
+        assertEquals(6, outboxRepository.count());
+        assertEquals(6, outboxRelayService.relay());
+        assertEquals(0, outboxRepository.count());
+
+        var reader = new ChangeLogReader(logDirectory);
+        var records = readFromCheckpoint(reader);
+
+        assertEquals(List.of(
+            new Change(OutboxEntityType.USER, userId, userId, OutboxOperation.CREATED),
+            new Change(OutboxEntityType.EXERCISE, exerciseId, null, OutboxOperation.CREATED),
+            new Change(OutboxEntityType.WORKOUT_TYPE, workoutTypeId, null, OutboxOperation.CREATED),
+            new Change(OutboxEntityType.WORKOUT, workoutId, userId, OutboxOperation.CREATED),
+            new Change(OutboxEntityType.WORKOUT, workoutId, userId, OutboxOperation.UPDATED),
+            new Change(OutboxEntityType.WORKOUT, workoutId, userId, OutboxOperation.DELETED)),
+            records.stream().map(record -> new Change(record.entityType(), record.entityId(), record.userId(), record.operation())).toList());
+
+        assertTrue(readFromCheckpoint(new ChangeLogReader(logDirectory)).isEmpty());
+
+        mockMvc.perform(put("/exercises/{id}", exerciseId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"changed\"}"))
+            .andExpect(status().isNoContent());
+
+        outboxRelayService.relay();
+
+        var resumed = readFromCheckpoint(new ChangeLogReader(logDirectory));
+
+        assertEquals(1, resumed.size());
+        assertEquals(OutboxOperation.UPDATED, resumed.get(0).operation());
+        assertEquals(exerciseId, resumed.get(0).entityId());
+    }
+
+    private UUID create(String path, String body, String idPath) throws Exception {
+
+        var response = mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return UUID.fromString(JsonPath.read(response, idPath));
+    }
+
+    private List<ChangeRecordDto> readFromCheckpoint(ChangeLogReader reader) throws IOException {
+
+        var records = new ArrayList<ChangeRecordDto>();
+        var offset = reader.checkpoint(CONSUMER);
+
+        List<ChangeLogEntry> entries;
+        while (!(entries = reader.read(offset, 2)).isEmpty()) {
+            for (var entry : entries) {
+                records.add(objectMapper.readValue(entry.payload(), ChangeRecordDto.class));
+                offset = entry.offset() + 1;
+            }
+        }
+
+        reader.commit(CONSUMER, offset);
+        return records;
+    }
+
+    private record Change(OutboxEntityType entityType, UUID entityId, UUID userId, OutboxOperation operation) {
+
+    }
+}
@@ -0,0 +1,114 @@
+package com.franciscoosorio.workoutmanager.changelog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ChangeLogTest {
+
+    private static final int SEGMENT_SIZE = 128;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should roll into new segments and read every record back in offset order")
+    void shouldRollSegmentsAndReadInOrder() throws IOException {
+
+        try (var changeLog = ChangeLog.open(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 10; i++) {
+                assertEquals(i, changeLog.append(payload("record-" + i)));
+            }
+        }
+
+        assertTrue(ChangeLog.segmentBaseOffsets(directory).size() > 1);
+        assertEquals(List.of("record-0", "record-1", "record-2", "record-3", "record-4",
+            "record-5", "record-6", "record-7", "record-8", "record-9"), texts(new ChangeLogReader(directory).read(0, 100)));
+        assertEquals(List.of("record-7", "record-8"), texts(new ChangeLogReader(directory).read(7, 2)));
+    }
+
+    @Test
+    @DisplayName("Should let a reader tail records appended after its last read")
+    void shouldTailNewRecords() throws IOException {
+
+        try (var changeLog = ChangeLog.open(directory, SEGMENT_SIZE)) {
+            var reader = new ChangeLogReader(directory);
+
+            changeLog.append(payload("first"));
+            assertEquals(List.of("first"), texts(reader.read(0, 10)));
+            assertTrue(reader.read(1, 10).isEmpty());
+
+            for (int i = 0; i < 5; i++) {
+                changeLog.append(payload("next-" + i));
+            }
+            assertEquals(List.of("next-0", "next-1", "next-2", "next-3", "next-4"), texts(reader.read(1, 10)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop a torn record at the tail and continue its offsets after reopening")
+    void shouldRecoverFromTornTail() throws IOException {
+
+        try (var changeLog = ChangeLog.open(directory, SEGMENT_SIZE)) {
+            changeLog.append(payload("kept"));
+            changeLog.append(payload("torn"));
+        }
+
+        var tornPayloadPosition = ChangeLog.HEADER_SIZE + "kept".length() + ChangeLog.HEADER_SIZE;
+        try (var channel = FileChannel.open(ChangeLog.segmentPath(directory, 0), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), tornPayloadPosition);
+        }
+
+        try (var changeLog = ChangeLog.open(directory, SEGMENT_SIZE)) {
+            assertEquals(1, changeLog.nextOffset());
+            assertEquals(1, changeLog.append(payload("after")));
+        }
+
+        assertEquals(List.of("kept", "after"), texts(new ChangeLogReader(directory).read(0, 10)));
+    }
+
+    @Test
+    @DisplayName("Should allow a single writer per directory")
+    void shouldAllowSingleWriter() throws IOException {
+
+        try (var changeLog = ChangeLog.open(directory, SEGMENT_SIZE)) {
+            assertThrows(IllegalStateException.class, () -> ChangeLog.open(directory, SEGMENT_SIZE));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep a checkpoint per consumer")
+    void shouldKeepCheckpointPerConsumer() throws IOException {
+
+        var reader = new ChangeLogReader(directory);
+
+        assertEquals(0, reader.checkpoint("analytics"));
+
+        reader.commit("analytics", 42);
+        reader.commit("search", 7);
+
+        assertEquals(42, new ChangeLogReader(directory).checkpoint("analytics"));
+        assertEquals(7, new ChangeLogReader(directory).checkpoint("search"));
+        assertThrows(IllegalArgumentException.class, () -> reader.commit("../analytics", 1));
+    }
+
+    private static byte[] payload(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> texts(List<ChangeLogEntry> entries) {
+        return entries.stream().map(entry -> new String(entry.payload(), StandardCharsets.UTF_8)).toList();
+    }
+}
@@ -0,0 +1,217 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class ExerciseControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Nested
+    class CreateExercise{
+
+        @Test
+        @DisplayName("Should create an exercise with a fixed number of statements")
+        void shouldCreateExerciseWithFixedStatements() throws Exception {
+
+            var body = """
+                {"name": "exercise-%s", "description": "description"}
+                """.formatted(UUID.randomUUID());
+
+            statementCounter.reset();
+            mockMvc.perform(post("/exercises").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetExerciseById{
+
+        @Test
+        @DisplayName("Should get an exercise with a fixed number of statements")
+        void shouldGetExerciseWithFixedStatements() throws Exception {
+
+            var exercise = testFixtures.saveExercise();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/exercises/{id}", exercise.getId()))
+                .andExpect(status().isOk());
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should answer a repeated lookup of a missing exercise without statements")
+        void shouldAnswerRepeatedMissingLookupWithoutStatements() throws Exception {
+
+            var id = UUID.randomUUID();
+            mockMvc.perform(get("/exercises/{id}", id))
+                .andExpect(status().isNotFound());
+
+            statementCounter.reset();
+            mockMvc.perform(get("/exercises/{id}", id))
+                .andExpect(status().isNotFound());
+
+            assertEquals(0, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetExercisesByIds{
+
+        @Test
+        @DisplayName("Should get several exercises with a single statement")
+        void shouldGetExercisesWithSingleStatement() throws Exception {
+
+            var first = testFixtures.saveExercise();
+            var second = testFixtures.saveExercise();
+            var third = testFixtures.saveExercise();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/exercises").param("ids", first.getId().toString(), second.getId().toString(), third.getId().toString()))
+                .andExpect(status().isOk());
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class ListAllExercises{
+
+        @Test
+        @DisplayName("Should list exercises with a single statement")
+        void shouldListExercisesWithSingleStatement() throws Exception {
+
+            testFixtures.saveExercise();
+            testFixtures.saveExercise();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/exercises"))
+                .andExpect(status().isOk());
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class UpdateExerciseById{
+
+        @Test
+        @DisplayName("Should update an exercise with a fixed number of statements")
+        void shouldUpdateExerciseWithFixedStatements() throws Exception {
+
+            var exercise = testFixtures.saveExercise();
+            var body = """
+                {"name": "exercise-%s", "description": "new description"}
+                """.formatted(UUID.randomUUID());
+
+            statementCounter.reset();
+            mockMvc.perform(put("/exercises/{id}", exercise.getId()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isNoContent());
+
+            assertEquals(3, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class DeleteExerciseById{
+
+        @Test
+        @DisplayName("Should delete an exercise with a fixed number of statements")
+        void shouldDeleteExerciseWithFixedStatements() throws Exception {
+
+            var exercise = testFixtures.saveExercise();
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/exercises/{id}", exercise.getId()))
+                .andExpect(status().isNoContent());
+
+            assertEquals(5, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should answer a referenced exercise with a 409 and its reference counts in one statement")
+        void shouldAnswerReferencedExerciseWithConflict() throws Exception {
+
+            var exercise = testFixtures.saveExercise();
+            var workoutType = testFixtures.saveWorkoutType();
+            testFixtures.saveTemplate(workoutType, exercise);
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/exercises/{id}", exercise.getId()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.references.workouts").value(0))
+                .andExpect(jsonPath("$.references.templates").value(1))
+                .andExpect(jsonPath("$.references.sets").value(0));
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should reassign the references to the replacement before deleting the exercise")
+        void shouldReassignReferencesToReplacement() throws Exception {
+
+            var exercise = testFixtures.saveExercise();
+            var replacement = testFixtures.saveExercise();
+            var workoutType = testFixtures.saveWorkoutType();
+            var template = testFixtures.saveTemplate(workoutType, exercise);
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/exercises/{id}", exercise.getId()).param("replaceWith", replacement.getId().toString()))
+                .andExpect(status().isNoContent());
+
+            assertEquals(9, statementCounter.count(), statementCounter.statements()::toString);
+
+            mockMvc.perform(get("/templates/{templateId}", template.getId()))
+                .andExpect(jsonPath("$.exercises[0].id").value(replacement.getId().toString()));
+        }
+    }
+
+    @Nested
+    class GetPopularExercises{
+
+        @Test
+        @DisplayName("Should rank popular exercises without statements")
+        void shouldRankPopularExercisesWithoutStatements() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/exercises/popular").param("limit", "5"))
+                .andExpect(status().isOk());
+
+            assertEquals(0, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+}
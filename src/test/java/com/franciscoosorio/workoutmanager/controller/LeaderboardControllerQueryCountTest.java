@@ -0,0 +1,113 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class LeaderboardControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    private User user;
+
+    private WorkoutType workoutType;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        user = testFixtures.saveUser();
+        var exercise = testFixtures.saveExercise();
+        workoutType = testFixtures.saveWorkoutType();
+        var workout = testFixtures.saveWorkout(user, workoutType, exercise);
+
+        var session = mockMvc.perform(post("/users/{userId}/sessions", user.getUserId()).contentType(MediaType.APPLICATION_JSON).content("""
+            {"workoutId": "%s"}
+            """.formatted(workout.getId())))
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), JsonPath.read(session, "$.id")).contentType(MediaType.APPLICATION_JSON).content("""
+            [{"exerciseId": "%1$s", "reps": 5, "weight": 100}, {"exerciseId": "%1$s", "reps": 3, "weight": 110}]
+            """.formatted(exercise.getId())));
+    }
+
+    @Nested
+    class GetVolumeLeaderboard{
+
+        @Test
+        @DisplayName("Should serve the volume leaderboard of a workout type from memory")
+        void shouldServeVolumeLeaderboardFromMemory() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/leaderboards/volume/{workoutTypeId}", workoutType.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.participants").value(1))
+                .andExpect(jsonPath("$.entries[0].userId").value(user.getUserId().toString()))
+                .andExpect(jsonPath("$.entries[0].score").value(830));
+
+            mockMvc.perform(get("/leaderboards/volume/{workoutTypeId}/users/{userId}", workoutType.getId(), user.getUserId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rank").value(1));
+
+            assertEquals(0, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetSessionsLeaderboard{
+
+        @Test
+        @DisplayName("Should serve the sessions leaderboard and user standing from memory")
+        void shouldServeSessionsLeaderboardFromMemory() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/leaderboards/sessions").param("limit", "100"))
+                .andExpect(status().isOk());
+
+            mockMvc.perform(get("/leaderboards/sessions/users/{userId}", user.getUserId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.score").value(1));
+
+            assertEquals(0, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should answer 404 for a user that is not on the board")
+        void shouldAnswerNotFoundForUserNotOnBoard() throws Exception {
+
+            mockMvc.perform(get("/leaderboards/sessions/users/{userId}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class PersonalRecordControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    private User user;
+
+    private Exercise exercise;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        user = testFixtures.saveUser();
+        exercise = testFixtures.saveExercise();
+        var workoutType = testFixtures.saveWorkoutType();
+        var workout = testFixtures.saveWorkout(user, workoutType, exercise);
+        var session = testFixtures.saveSession(user, workout, Instant.now());
+
+        mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()).contentType(MediaType.APPLICATION_JSON).content("""
+            [{"exerciseId": "%1$s", "reps": 10, "weight": 100}, {"exerciseId": "%1$s", "reps": 1, "weight": 120}]
+            """.formatted(exercise.getId())));
+        mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()).contentType(MediaType.APPLICATION_JSON).content("""
+            [{"exerciseId": "%s", "reps": 3, "weight": 120}]
+            """.formatted(exercise.getId())));
+    }
+
+    @Nested
+    class GetRecords{
+
+        @Test
+        @DisplayName("Should read the personal records without aggregating the set history")
+        void shouldReadRecordsWithFixedStatements() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/records", user.getUserId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].maxWeight").value(120))
+                .andExpect(jsonPath("$[0].maxWeightReps").value(3))
+                .andExpect(jsonPath("$[0].estimatedOneRepMax").value(133.33));
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should read the personal record of an exercise with a single statement")
+        void shouldReadRecordOfExerciseWithSingleStatement() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/records/{exerciseId}", user.getUserId(), exercise.getId()))
+                .andExpect(status().isOk());
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should read the rep records of an exercise per weight with a single statement")
+        void shouldReadRepRecordsPerWeightWithSingleStatement() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/records/{exerciseId}/reps", user.getUserId(), exercise.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].weight").value(100))
+                .andExpect(jsonPath("$[0].reps").value(10))
+                .andExpect(jsonPath("$[1].weight").value(120))
+                .andExpect(jsonPath("$[1].reps").value(3));
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class Rebuild{
+
+        @Test
+        @DisplayName("Should rebuild the personal records with a streaming read and a batched merge")
+        void shouldRebuildWithStreamingReadAndBatchedMerge() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(post("/users/{userId}/records/rebuild", user.getUserId()))
+                .andExpect(status().isNoContent());
+
+            assertEquals(7, statementCounter.count(), statementCounter.statements()::toString);
+
+            mockMvc.perform(get("/users/{userId}/records/{exerciseId}", user.getUserId(), exercise.getId()))
+                .andExpect(jsonPath("$.maxWeightReps").value(3))
+                .andExpect(jsonPath("$.estimatedOneRepMax").value(133.33));
+            mockMvc.perform(get("/users/{userId}/records/{exerciseId}/reps", user.getUserId(), exercise.getId()))
+                .andExpect(jsonPath("$[1].reps").value(3));
+        }
+    }
+}
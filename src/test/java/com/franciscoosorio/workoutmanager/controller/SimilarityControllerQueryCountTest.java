@@ -0,0 +1,91 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class SimilarityControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    private User user;
+
+    private User otherUser;
+
+    private String workoutId;
+
+    private String similarWorkoutId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        user = testFixtures.saveUser();
+        otherUser = testFixtures.saveUser();
+        var workoutType = testFixtures.saveWorkoutType();
+        var squat = testFixtures.saveExercise();
+        var lunge = testFixtures.saveExercise();
+
+        workoutId = testFixtures.createWorkout(user, workoutType, squat, lunge);
+        similarWorkoutId = testFixtures.createWorkout(otherUser, workoutType, squat, lunge);
+    }
+
+    @Nested
+    class GetSimilarWorkouts{
+
+        @Test
+        @DisplayName("Should find similar workouts without statements")
+        void shouldFindSimilarWorkoutsWithoutStatements() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/workouts/{workoutId}/similar", user.getUserId(), workoutId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].workoutId").value(similarWorkoutId))
+                .andExpect(jsonPath("$[0].similarity").value(1.0));
+
+            assertEquals(0, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetSimilarUsers{
+
+        @Test
+        @DisplayName("Should find users with similar routines without statements")
+        void shouldFindSimilarUsersWithoutStatements() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/similar", user.getUserId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].userId").value(otherUser.getUserId().toString()));
+
+            assertEquals(0, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+}
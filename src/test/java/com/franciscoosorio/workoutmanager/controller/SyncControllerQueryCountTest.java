@@ -0,0 +1,163 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+import com.franciscoosorio.workoutmanager.sync.ChangeSequence;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class SyncControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Autowired
+    private ChangeSequence changeSequence;
+
+    private User user;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+
+        user = testFixtures.saveUser();
+        token = String.valueOf(changeSequence.watermark());
+    }
+
+    @Nested
+    class Sync{
+
+        @Test
+        @DisplayName("Should return only the changes since the token with a fixed number of statements")
+        void shouldReturnChangesSinceTokenWithFixedStatements() throws Exception {
+
+            var workout = testFixtures.saveWorkout(user);
+            testFixtures.saveWorkout(testFixtures.saveUser());
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/sync", user.getUserId()).param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workouts.length()").value(1))
+                .andExpect(jsonPath("$.workouts[0].id").value(workout.getId().toString()))
+                .andExpect(jsonPath("$.workouts[0].exercises.length()").value(1))
+                .andExpect(jsonPath("$.exercises.length()").value(2))
+                .andExpect(jsonPath("$.workoutTypes.length()").value(2))
+                .andExpect(jsonPath("$.deleted.length()").value(0))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+            assertEquals(5, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should return a workout again after its exercises change")
+        void shouldReturnWorkoutAfterExercisesChange() throws Exception {
+
+            var workout = testFixtures.saveWorkout(user);
+            var exercise = testFixtures.saveExercise();
+
+            var synced = mockMvc.perform(get("/users/{userId}/sync", user.getUserId()).param("since", token))
+                .andReturn().getResponse().getContentAsString();
+
+            var body = """
+                {"exerciseIds": ["%s"]}
+                """.formatted(exercise.getId());
+
+            mockMvc.perform(put("/users/{userId}/workouts/{workoutId}", user.getUserId(), workout.getId()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+
+            mockMvc.perform(get("/users/{userId}/sync", user.getUserId()).param("since", (String) JsonPath.read(synced, "$.nextToken")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workouts.length()").value(1))
+                .andExpect(jsonPath("$.workouts[0].exercises[0].id").value(exercise.getId().toString()))
+                .andExpect(jsonPath("$.exercises.length()").value(0));
+        }
+
+        @Test
+        @DisplayName("Should return tombstones for deleted workouts and exercises")
+        void shouldReturnTombstonesForDeletes() throws Exception {
+
+            var workout = testFixtures.saveWorkout(user);
+            var exercise = testFixtures.saveExercise();
+
+            var synced = mockMvc.perform(get("/users/{userId}/sync", user.getUserId()).param("since", token))
+                .andReturn().getResponse().getContentAsString();
+
+            mockMvc.perform(delete("/users/{userId}/workouts/{workoutId}", user.getUserId(), workout.getId()))
+                .andExpect(status().isOk());
+            mockMvc.perform(delete("/exercises/{exerciseId}", exercise.getId()))
+                .andExpect(status().isNoContent());
+
+            mockMvc.perform(get("/users/{userId}/sync", user.getUserId()).param("since", (String) JsonPath.read(synced, "$.nextToken")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.workouts.length()").value(0))
+                .andExpect(jsonPath("$.deleted.length()").value(2))
+                .andExpect(jsonPath("$.deleted[0].type").value("WORKOUT"))
+                .andExpect(jsonPath("$.deleted[0].id").value(workout.getId().toString()))
+                .andExpect(jsonPath("$.deleted[1].type").value("EXERCISE"))
+                .andExpect(jsonPath("$.deleted[1].id").value(exercise.getId().toString()));
+        }
+
+        @Test
+        @DisplayName("Should page through the changes with the next token")
+        void shouldPageThroughChanges() throws Exception {
+
+            for (int i = 0; i < 3; i++) {
+                testFixtures.saveExercise();
+            }
+
+            var firstPage = mockMvc.perform(get("/users/{userId}/sync", user.getUserId()).param("since", token).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exercises.length()").value(2))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+            var secondPage = mockMvc.perform(get("/users/{userId}/sync", user.getUserId()).param("since", (String) JsonPath.read(firstPage, "$.nextToken")).param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exercises.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn().getResponse().getContentAsString();
+
+            mockMvc.perform(get("/users/{userId}/sync", user.getUserId()).param("since", (String) JsonPath.read(secondPage, "$.nextToken")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.exercises.length()").value(0))
+                .andExpect(jsonPath("$.nextToken").value((String) JsonPath.read(secondPage, "$.nextToken")));
+        }
+
+        @Test
+        @DisplayName("Should answer an invalid token with a 400")
+        void shouldAnswerInvalidTokenWithBadRequest() throws Exception {
+
+            mockMvc.perform(get("/users/{userId}/sync", user.getUserId()).param("since", "not-a-token"))
+                .andExpect(status().isBadRequest());
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class UserControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    private User saveUserWithWorkout() {
+
+        var user = testFixtures.saveUser();
+        testFixtures.saveWorkout(user);
+        return user;
+    }
+
+    @Nested
+    class CreateUser{
+
+        @Test
+        @DisplayName("Should create a user with a fixed number of statements")
+        void shouldCreateUserWithFixedStatements() throws Exception {
+
+            var suffix = UUID.randomUUID().toString();
+            var body = """
+                {"username": "user-%s", "email": "%s@email.com", "password": "password"}
+                """.formatted(suffix, suffix);
+
+            statementCounter.reset();
+            mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetUserById{
+
+        @Test
+        @DisplayName("Should get a user with a fixed number of statements")
+        void shouldGetUserWithFixedStatements() throws Exception {
+
+            var user = testFixtures.saveUser();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}", user.getUserId()))
+                .andExpect(status().isOk());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetUsersByIds{
+
+        @Test
+        @DisplayName("Should get several users without a statement per user")
+        void shouldGetUsersWithoutStatementPerUser() throws Exception {
+
+            var first = testFixtures.saveUser();
+            var second = testFixtures.saveUser();
+            var third = testFixtures.saveUser();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users").param("ids", first.getUserId().toString(), second.getUserId().toString(), third.getUserId().toString()))
+                .andExpect(status().isOk());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class ListUsers{
+
+        @Test
+        @DisplayName("Should list users and their workouts without a statement per user or workout")
+        void shouldListUsersWithoutStatementPerUser() throws Exception {
+
+            saveUserWithWorkout();
+            saveUserWithWorkout();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users"))
+                .andExpect(status().isOk());
+
+            assertEquals(3, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should list selected user fields with a single statement")
+        void shouldListUserFieldsWithSingleStatement() throws Exception {
+
+            testFixtures.saveUser();
+            testFixtures.saveUser();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users").param("fields", "username,email"))
+                .andExpect(status().isOk());
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class CheckAvailability{
+
+        @Test
+        @DisplayName("Should check availability of new values without statements")
+        void shouldCheckAvailabilityOfNewValuesWithoutStatements() throws Exception {
+
+            var suffix = UUID.randomUUID().toString();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/availability").param("username", "user-" + suffix).param("email", suffix + "@email.com"))
+                .andExpect(status().isOk());
+
+            assertEquals(0, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should check availability of taken values with a statement per value")
+        void shouldCheckAvailabilityOfTakenValuesWithStatementPerValue() throws Exception {
+
+            var user = testFixtures.saveUser();
+            mockMvc.perform(post("/users").contentType(MediaType.APPLICATION_JSON).content("""
+                {"username": "%s", "email": "%s", "password": "password"}
+                """.formatted("other-" + user.getUsername(), "other-" + user.getEmail())));
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/availability").param("username", "other-" + user.getUsername()).param("email", "other-" + user.getEmail()))
+                .andExpect(status().isOk());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class UpdateUserById{
+
+        @Test
+        @DisplayName("Should update a user with a fixed number of statements")
+        void shouldUpdateUserWithFixedStatements() throws Exception {
+
+            var user = testFixtures.saveUser();
+            var body = """
+                {"username": "user-%s"}
+                """.formatted(UUID.randomUUID());
+
+            statementCounter.reset();
+            mockMvc.perform(put("/users/{userId}", user.getUserId()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isNoContent());
+
+            assertEquals(3, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class DeleteById{
+
+        @Test
+        @DisplayName("Should accept the deletion and remove the user and workouts with set-based statements")
+        void shouldDeleteUserWithSetBasedStatements() throws Exception {
+
+            var user = saveUserWithWorkout();
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/users/{userId}", user.getUserId()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.userId").value(user.getUserId().toString()));
+
+            awaitDeletion(user);
+
+            mockMvc.perform(get("/users/{userId}/deletion", user.getUserId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.workoutsDeleted").value(1));
+
+            assertEquals(14, statementCounter.count(), statementCounter.statements()::toString);
+            assertFalse(userRepository.existsById(user.getUserId()));
+        }
+
+        private void awaitDeletion(User user) throws Exception {
+
+            for (int attempt = 0; attempt < 100; attempt++) {
+                var deletion = mockMvc.perform(get("/users/{userId}/deletion", user.getUserId()))
+                    .andReturn().getResponse().getContentAsString();
+
+                if (!"RUNNING".equals(JsonPath.read(deletion, "$.status"))) {
+                    return;
+                }
+                Thread.sleep(50);
+            }
+        }
+    }
+}
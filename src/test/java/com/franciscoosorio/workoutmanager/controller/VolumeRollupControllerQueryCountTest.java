@@ -0,0 +1,95 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class VolumeRollupControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        user = testFixtures.saveUser();
+        var exercise = testFixtures.saveExercise();
+        var workoutType = testFixtures.saveWorkoutType();
+        var workout = testFixtures.saveWorkout(user, workoutType, exercise);
+        var session = testFixtures.saveSession(user, workout, Instant.now());
+
+        for (var day : new String[] {"2024-05-06", "2024-05-07", "2024-05-14", "2024-05-21"}) {
+            mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()).contentType(MediaType.APPLICATION_JSON).content("""
+                [{"exerciseId": "%s", "reps": 5, "weight": 100, "performedAt": "%sT10:00:00Z"}]
+                """.formatted(exercise.getId(), day)));
+        }
+    }
+
+    @Nested
+    class GetVolume{
+
+        @Test
+        @DisplayName("Should read weekly volume from the rollups with a fixed number of statements")
+        void shouldReadWeeklyVolumeWithFixedStatements() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/volume", user.getUserId()).param("from", "2024-05-01").param("to", "2024-05-31"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].volume").value(1000))
+                .andExpect(jsonPath("$[0].sets").value(2));
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class Rebuild{
+
+        @Test
+        @DisplayName("Should rebuild the rollups with a streaming read and a batched merge")
+        void shouldRebuildWithStreamingReadAndBatchedMerge() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(post("/users/{userId}/volume/rebuild", user.getUserId()))
+                .andExpect(status().isNoContent());
+
+            assertEquals(4, statementCounter.count(), statementCounter.statements()::toString);
+
+            mockMvc.perform(get("/users/{userId}/volume", user.getUserId()).param("granularity", "DAY").param("from", "2024-05-01").param("to", "2024-05-31"))
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].volume").value(500));
+        }
+    }
+}
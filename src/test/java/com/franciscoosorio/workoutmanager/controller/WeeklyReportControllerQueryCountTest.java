@@ -0,0 +1,113 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.service.WeeklyReportService;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class WeeklyReportControllerQueryCountTest {
+
+    private static final LocalDate WEEK = LocalDate.parse("2024-05-06");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Autowired
+    private WeeklyReportService weeklyReportService;
+
+    private User user;
+
+    private WorkoutType workoutType;
+
+    @BeforeEach
+    void setUp() throws Exception {
+
+        user = testFixtures.saveUser();
+        var exercise = testFixtures.saveExercise();
+        workoutType = testFixtures.saveWorkoutType();
+        var workout = testFixtures.saveWorkout(user, workoutType, exercise);
+        var session = testFixtures.saveSession(user, workout, Instant.parse("2024-05-07T09:00:00Z"));
+        testFixtures.saveSession(user, workout, Instant.parse("2024-05-14T09:00:00Z"));
+
+        mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()).contentType(MediaType.APPLICATION_JSON).content("""
+            [{"exerciseId": "%1$s", "reps": 5, "weight": 100, "performedAt": "2024-05-07T09:10:00Z"},
+             {"exerciseId": "%1$s", "reps": 3, "weight": 110, "performedAt": "2024-05-07T09:15:00Z"},
+             {"exerciseId": "%1$s", "reps": 5, "weight": 120, "performedAt": "2024-05-14T09:10:00Z"}]
+            """.formatted(exercise.getId())));
+
+        weeklyReportService.start(WEEK, true).join();
+    }
+
+    @Nested
+    class GetReport{
+
+        @Test
+        @DisplayName("Should read a generated weekly report with a fixed number of statements")
+        void shouldReadWeeklyReportWithFixedStatements() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(get("/reports/weekly/{weekStart}/users/{userId}", WEEK, user.getUserId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sessions").value(1))
+                .andExpect(jsonPath("$.sets").value(2))
+                .andExpect(jsonPath("$.volume").value(830))
+                .andExpect(jsonPath("$.newRecords").value(0))
+                .andExpect(jsonPath("$.volumeByWorkoutType[0].workoutTypeId").value(workoutType.getId().toString()));
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should answer 404 for a week that was not generated")
+        void shouldAnswerNotFoundForWeekNotGenerated() throws Exception {
+
+            mockMvc.perform(get("/reports/weekly/{weekStart}/users/{userId}", "2020-01-06", user.getUserId()))
+                .andExpect(status().isNotFound());
+        }
+    }
+
+    @Nested
+    class GetRun{
+
+        @Test
+        @DisplayName("Should report every partition of a finished run as completed")
+        void shouldReportFinishedRunAsCompleted() throws Exception {
+
+            mockMvc.perform(get("/reports/weekly/{weekStart}", WEEK))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completedPartitions").value(64))
+                .andExpect(jsonPath("$.running").value(false));
+        }
+    }
+}
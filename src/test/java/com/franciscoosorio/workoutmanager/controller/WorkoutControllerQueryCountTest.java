@@ -0,0 +1,214 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class WorkoutControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    private User user;
+
+    private WorkoutType workoutType;
+
+    private Exercise firstExercise;
+
+    private Exercise secondExercise;
+
+    @BeforeEach
+    void setUp() {
+
+        user = testFixtures.saveUser();
+        workoutType = testFixtures.saveWorkoutType();
+        firstExercise = testFixtures.saveExercise();
+        secondExercise = testFixtures.saveExercise();
+    }
+
+    private Workout saveWorkout() {
+        return testFixtures.saveWorkout(user, workoutType, firstExercise, secondExercise);
+    }
+
+    @Nested
+    class CreateWorkout{
+
+        @Test
+        @DisplayName("Should create a workout with a fixed number of statements")
+        void shouldCreateWorkoutWithFixedStatements() throws Exception {
+
+            var body = """
+                {"name": "workout-%s", "description": "description", "workoutTypeId": "%s", "exerciseIds": ["%s", "%s"]}
+                """.formatted(UUID.randomUUID(), workoutType.getId(), firstExercise.getId(), secondExercise.getId());
+
+            statementCounter.reset();
+            mockMvc.perform(post("/users/{userId}/workouts", user.getUserId()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+
+            assertEquals(7, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should point to the existing workout when an equivalent one is created")
+        void shouldPointToExistingWorkoutWhenEquivalentIsCreated() throws Exception {
+
+            var body = """
+                {"name": "workout-%s", "description": "description", "workoutTypeId": "%s", "exerciseIds": ["%s", "%s"]}
+                """;
+
+            var created = mockMvc.perform(post("/users/{userId}/workouts", user.getUserId()).contentType(MediaType.APPLICATION_JSON)
+                    .content(body.formatted(UUID.randomUUID(), workoutType.getId(), firstExercise.getId(), secondExercise.getId())))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+            mockMvc.perform(post("/users/{userId}/workouts", user.getUserId()).contentType(MediaType.APPLICATION_JSON)
+                    .content(body.formatted(UUID.randomUUID(), workoutType.getId(), secondExercise.getId(), firstExercise.getId())))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.existingWorkoutId").value((String) JsonPath.read(created, "$.id")));
+
+            mockMvc.perform(post("/users/{userId}/workouts", user.getUserId()).param("allowDuplicate", "true").contentType(MediaType.APPLICATION_JSON)
+                    .content(body.formatted(UUID.randomUUID(), workoutType.getId(), secondExercise.getId(), firstExercise.getId())))
+                .andExpect(status().isCreated());
+        }
+    }
+
+    @Nested
+    class GetWorkoutById{
+
+        @Test
+        @DisplayName("Should get a workout with a fixed number of statements")
+        void shouldGetWorkoutWithFixedStatements() throws Exception {
+
+            var workout = saveWorkout();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/workouts/{workoutId}", user.getUserId(), workout.getId()))
+                .andExpect(status().isOk());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetAllWorkouts{
+
+        @Test
+        @DisplayName("Should list workouts without a statement per workout")
+        void shouldListWorkoutsWithoutStatementPerWorkout() throws Exception {
+
+            saveWorkout();
+            saveWorkout();
+            saveWorkout();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/workouts", user.getUserId()))
+                .andExpect(status().isOk());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should list selected workout fields with one statement per requested association")
+        void shouldListWorkoutFieldsWithStatementPerAssociation() throws Exception {
+
+            saveWorkout();
+            saveWorkout();
+            saveWorkout();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/workouts", user.getUserId()).param("fields", "name,workoutType.name,exercises.name"))
+                .andExpect(status().isOk());
+
+            assertEquals(3, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class UpdateWorkout{
+
+        @Test
+        @DisplayName("Should update a workout with a fixed number of statements")
+        void shouldUpdateWorkoutWithFixedStatements() throws Exception {
+
+            var workout = saveWorkout();
+            var body = """
+                {"name": "workout-%s", "description": "new description"}
+                """.formatted(UUID.randomUUID());
+
+            statementCounter.reset();
+            mockMvc.perform(put("/users/{userId}/workouts/{workoutId}", user.getUserId(), workout.getId()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+
+            assertEquals(3, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class DeleteWorkout{
+
+        @Test
+        @DisplayName("Should delete a workout with a fixed number of statements")
+        void shouldDeleteWorkoutWithFixedStatements() throws Exception {
+
+            var workout = saveWorkout();
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/users/{userId}/workouts/{workoutId}", user.getUserId(), workout.getId()))
+                .andExpect(status().isOk());
+
+            assertEquals(6, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should refuse to delete a workout with logged sessions in one statement")
+        void shouldRefuseToDeleteWorkoutWithSessionsInOneStatement() throws Exception {
+
+            var workout = saveWorkout();
+            testFixtures.saveSession(user, workout, Instant.now());
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/users/{userId}/workouts/{workoutId}", user.getUserId(), workout.getId()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.references.sessions").value(1))
+                .andExpect(jsonPath("$.references.sets").value(0));
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.service.WorkoutEventService;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class WorkoutEventControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Autowired
+    private WorkoutEventService workoutEventService;
+
+    private User user;
+
+    private WorkoutType workoutType;
+
+    private Exercise exercise;
+
+    @BeforeEach
+    void setUp() {
+
+        user = testFixtures.saveUser();
+        workoutType = testFixtures.saveWorkoutType();
+        exercise = testFixtures.saveExercise();
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+
+        for (int attempt = 0; attempt < 100 && !response.getContentAsString().contains(expected); attempt++) {
+            Thread.sleep(20);
+        }
+        return response.getContentAsString();
+    }
+
+    @Nested
+    class Subscribe{
+
+        @Test
+        @DisplayName("Should subscribe with a single statement and push the user's workout changes")
+        void shouldSubscribeWithSingleStatementAndPushChanges() throws Exception {
+
+            statementCounter.reset();
+            var stream = mockMvc.perform(get("/users/{userId}/workouts/events", user.getUserId()).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+            assertEquals(1, workoutEventService.subscriberCount(user.getUserId()));
+
+            var body = """
+                {"name": "workout-%s", "description": "description", "workoutTypeId": "%s", "exerciseIds": ["%s"]}
+                """.formatted(UUID.randomUUID(), workoutType.getId(), exercise.getId());
+
+            var created = mockMvc.perform(post("/users/{userId}/workouts", user.getUserId()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+            String workoutId = JsonPath.read(created, "$.id");
+
+            mockMvc.perform(delete("/users/{userId}/workouts/{workoutId}", user.getUserId(), workoutId))
+                .andExpect(status().isOk());
+
+            var content = awaitContent(stream.getResponse(), "event:deleted");
+
+            assertTrue(content.contains("event:created"), content);
+            assertTrue(content.indexOf("event:created") < content.indexOf("event:deleted"), content);
+            assertTrue(content.contains("\"workoutId\":\"" + workoutId + "\""), content);
+        }
+
+        @Test
+        @DisplayName("Should not push another user's workout changes")
+        void shouldNotPushOtherUsersChanges() throws Exception {
+
+            var other = testFixtures.saveUser();
+
+            var stream = mockMvc.perform(get("/users/{userId}/workouts/events", other.getUserId()).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            var body = """
+                {"name": "workout-%s", "description": "description", "workoutTypeId": "%s", "exerciseIds": ["%s"]}
+                """.formatted(UUID.randomUUID(), workoutType.getId(), exercise.getId());
+
+            mockMvc.perform(post("/users/{userId}/workouts", user.getUserId()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+
+            workoutEventService.heartbeat();
+
+            var content = awaitContent(stream.getResponse(), ":heartbeat");
+
+            assertTrue(content.contains(":heartbeat"), content);
+            assertFalse(content.contains("event:created"), content);
+        }
+
+        @Test
+        @DisplayName("Should ask the subscriber to resync when a template is assigned to the user")
+        void shouldResyncWhenTemplateIsAssigned() throws Exception {
+
+            var template = testFixtures.saveTemplate(workoutType, exercise);
+
+            var stream = mockMvc.perform(get("/users/{userId}/workouts/events", user.getUserId()).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+            mockMvc.perform(post("/templates/{templateId}/assignments", template.getId()).contentType(MediaType.APPLICATION_JSON).content("""
+                {"userIds": ["%s"]}
+                """.formatted(user.getUserId())))
+                .andExpect(status().isOk());
+
+            var content = awaitContent(stream.getResponse(), "event:resync");
+
+            assertTrue(content.contains("event:resync"), content);
+        }
+
+        @Test
+        @DisplayName("Should answer an unknown user with a 404")
+        void shouldAnswerUnknownUserWithNotFound() throws Exception {
+
+            mockMvc.perform(get("/users/{userId}/workouts/events", UUID.randomUUID()).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.session.WorkoutSession;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class WorkoutSessionControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    private User user;
+
+    private Workout workout;
+
+    private Exercise exercise;
+
+    @BeforeEach
+    void setUp() {
+
+        user = testFixtures.saveUser();
+        exercise = testFixtures.saveExercise();
+        workout = testFixtures.saveWorkout(user, testFixtures.saveWorkoutType(), exercise);
+    }
+
+    private WorkoutSession saveSession() {
+        return testFixtures.saveSession(user, workout, Instant.now());
+    }
+
+    private String sets(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> """
+                {"exerciseId": "%s", "reps": 5, "weight": %d}""".formatted(exercise.getId(), 100 + i))
+            .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    @Nested
+    class StartSession{
+
+        @Test
+        @DisplayName("Should start a session with a fixed number of statements")
+        void shouldStartSessionWithFixedStatements() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(post("/users/{userId}/sessions", user.getUserId()).contentType(MediaType.APPLICATION_JSON).content("""
+                {"workoutId": "%s"}
+                """.formatted(workout.getId())))
+                .andExpect(status().isCreated());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class LogSets{
+
+        @Test
+        @DisplayName("Should log sets with one batched insert and one batched merge per derived table regardless of the number of sets")
+        void shouldLogSetsWithOneBatchedInsert() throws Exception {
+
+            var session = saveSession();
+
+            statementCounter.reset();
+            mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()).contentType(MediaType.APPLICATION_JSON).content(sets(20)))
+                .andExpect(status().isCreated());
+
+            assertEquals(5, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class DeleteSet{
+
+        @Test
+        @DisplayName("Should delete a set that holds only the rep record of its weight with a fixed number of statements")
+        void shouldDeleteSetWithFixedStatements() throws Exception {
+
+            var session = saveSession();
+            var logged = mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()).contentType(MediaType.APPLICATION_JSON).content(sets(5)))
+                .andReturn().getResponse().getContentAsString();
+            var setId = JsonPath.read(logged, "$[0].id");
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/users/{userId}/sets/{setId}", user.getUserId(), setId))
+                .andExpect(status().isNoContent());
+
+            assertEquals(9, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should recompute the personal record when the set holding it is deleted")
+        void shouldRecomputePersonalRecordWhenHolderIsDeleted() throws Exception {
+
+            var session = saveSession();
+            var logged = mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()).contentType(MediaType.APPLICATION_JSON).content(sets(5)))
+                .andReturn().getResponse().getContentAsString();
+            var setId = JsonPath.read(logged, "$[4].id");
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/users/{userId}/sets/{setId}", user.getUserId(), setId))
+                .andExpect(status().isNoContent());
+
+            assertEquals(13, statementCounter.count(), statementCounter.statements()::toString);
+
+            mockMvc.perform(get("/users/{userId}/records/{exerciseId}", user.getUserId(), exercise.getId()))
+                .andExpect(jsonPath("$.maxWeight").value(103));
+        }
+    }
+
+    @Nested
+    class GetSessionSets{
+
+        @Test
+        @DisplayName("Should list the sets of a session without loading entities")
+        void shouldListSessionSetsWithFixedStatements() throws Exception {
+
+            var session = saveSession();
+            mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()).contentType(MediaType.APPLICATION_JSON).content(sets(5)));
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()))
+                .andExpect(status().isOk());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetSets{
+
+        @Test
+        @DisplayName("Should read a page of sets with a fixed number of statements")
+        void shouldReadPageOfSetsWithFixedStatements() throws Exception {
+
+            var session = saveSession();
+            mockMvc.perform(post("/users/{userId}/sessions/{sessionId}/sets", user.getUserId(), session.getId()).contentType(MediaType.APPLICATION_JSON).content(sets(10)));
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/sets", user.getUserId()).param("limit", "4"))
+                .andExpect(status().isOk());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetSessions{
+
+        @Test
+        @DisplayName("Should list sessions in a time range with a fixed number of statements")
+        void shouldListSessionsWithFixedStatements() throws Exception {
+
+            saveSession();
+            saveSession();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/users/{userId}/sessions", user.getUserId()).param("from", "2024-01-01T00:00:00Z"))
+                .andExpect(status().isOk());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+}
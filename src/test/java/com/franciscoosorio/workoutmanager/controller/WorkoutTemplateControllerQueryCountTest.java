@@ -0,0 +1,134 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.template.WorkoutTemplate;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class WorkoutTemplateControllerQueryCountTest {
+
+    private static final int USER_COUNT = 600;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private WorkoutType workoutType;
+
+    private Exercise squat;
+
+    private Exercise lunge;
+
+    private User firstUser;
+
+    private WorkoutTemplate template;
+
+    private String assignment;
+
+    @BeforeEach
+    void setUp(){
+
+        var suffix = UUID.randomUUID().toString();
+
+        workoutType = testFixtures.saveWorkoutType();
+        squat = testFixtures.saveExercise();
+        lunge = testFixtures.saveExercise();
+        template = testFixtures.saveTemplate(workoutType, squat, lunge);
+
+        var users = new ArrayList<User>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(new User("user-" + i + "-" + suffix, i + "-" + suffix + "@email.com", "password", null, null));
+        }
+
+        var saved = userRepository.saveAll(users);
+        firstUser = saved.get(0);
+
+        var userIds = new StringBuilder();
+        for (var user : saved) {
+            userIds.append(userIds.isEmpty() ? "" : ",").append('"').append(user.getUserId()).append('"');
+        }
+        assignment = """
+            {"userIds": [%s]}
+            """.formatted(userIds);
+    }
+
+    @Nested
+    class AssignTemplate{
+
+        @Test
+        @DisplayName("Should clone a template into many users with a few set-based statements")
+        void shouldCloneTemplateWithSetBasedStatements() throws Exception {
+
+            statementCounter.reset();
+            mockMvc.perform(post("/templates/{templateId}/assignments", template.getId()).contentType(MediaType.APPLICATION_JSON).content(assignment))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assigned.length()").value(USER_COUNT))
+                .andExpect(jsonPath("$.skippedUserIds.length()").value(0));
+
+            assertEquals(9, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should skip users that already hold a clone of the template")
+        void shouldSkipUsersAlreadyAssigned() throws Exception {
+
+            mockMvc.perform(post("/templates/{templateId}/assignments", template.getId()).contentType(MediaType.APPLICATION_JSON).content(assignment))
+                .andExpect(status().isOk());
+
+            statementCounter.reset();
+            mockMvc.perform(post("/templates/{templateId}/assignments", template.getId()).contentType(MediaType.APPLICATION_JSON).content(assignment))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assigned.length()").value(0))
+                .andExpect(jsonPath("$.skippedUserIds.length()").value(USER_COUNT));
+
+            assertEquals(3, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should skip users that already hold an equivalent workout")
+        void shouldSkipUsersHoldingEquivalentWorkout() throws Exception {
+
+            testFixtures.createWorkout(firstUser, workoutType, lunge, squat);
+
+            mockMvc.perform(post("/templates/{templateId}/assignments", template.getId()).contentType(MediaType.APPLICATION_JSON).content(assignment))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.assigned.length()").value(USER_COUNT - 1))
+                .andExpect(jsonPath("$.skippedUserIds.length()").value(1))
+                .andExpect(jsonPath("$.skippedUserIds[0]").value(firstUser.getUserId().toString()));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.franciscoosorio.workoutmanager.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.support.StatementCounter;
+import com.franciscoosorio.workoutmanager.support.StatementCountingConfig;
+import com.franciscoosorio.workoutmanager.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import(StatementCountingConfig.class)
+public class WorkoutTypeControllerQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementCounter statementCounter;
+
+    @Autowired
+    private TestFixtures testFixtures;
+
+    @Nested
+    class CreateWorkoutType{
+
+        @Test
+        @DisplayName("Should create a workout type with a fixed number of statements")
+        void shouldCreateWorkoutTypeWithFixedStatements() throws Exception {
+
+            var body = """
+                {"name": "workoutType-%s", "description": "description"}
+                """.formatted(UUID.randomUUID());
+
+            statementCounter.reset();
+            mockMvc.perform(post("/workout-type").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+
+            assertEquals(2, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetWorkoutTypeById{
+
+        @Test
+        @DisplayName("Should get a workout type with a fixed number of statements")
+        void shouldGetWorkoutTypeWithFixedStatements() throws Exception {
+
+            var workoutType = testFixtures.saveWorkoutType();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/workout-type/{id}", workoutType.getId()))
+                .andExpect(status().isOk());
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should answer a repeated lookup of a missing workout type without statements")
+        void shouldAnswerRepeatedMissingLookupWithoutStatements() throws Exception {
+
+            var id = UUID.randomUUID();
+            mockMvc.perform(get("/workout-type/{id}", id))
+                .andExpect(status().isNotFound());
+
+            statementCounter.reset();
+            mockMvc.perform(get("/workout-type/{id}", id))
+                .andExpect(status().isNotFound());
+
+            assertEquals(0, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetWorkoutTypesByIds{
+
+        @Test
+        @DisplayName("Should get several workout types with a single statement")
+        void shouldGetWorkoutTypesWithSingleStatement() throws Exception {
+
+            var first = testFixtures.saveWorkoutType();
+            var second = testFixtures.saveWorkoutType();
+            var third = testFixtures.saveWorkoutType();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/workout-type").param("ids", first.getId().toString(), second.getId().toString(), third.getId().toString()))
+                .andExpect(status().isOk());
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class GetAllWorkoutsTypes{
+
+        @Test
+        @DisplayName("Should list workout types with a single statement")
+        void shouldListWorkoutTypesWithSingleStatement() throws Exception {
+
+            testFixtures.saveWorkoutType();
+            testFixtures.saveWorkoutType();
+
+            statementCounter.reset();
+            mockMvc.perform(get("/workout-type"))
+                .andExpect(status().isOk());
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class UpdateWorkoutTypeById{
+
+        @Test
+        @DisplayName("Should update a workout type with a fixed number of statements")
+        void shouldUpdateWorkoutTypeWithFixedStatements() throws Exception {
+
+            var workoutType = testFixtures.saveWorkoutType();
+            var body = """
+                {"name": "workoutType-%s", "description": "new description"}
+                """.formatted(UUID.randomUUID());
+
+            statementCounter.reset();
+            mockMvc.perform(put("/workout-type/{id}", workoutType.getId()).contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isNoContent());
+
+            assertEquals(3, statementCounter.count(), statementCounter.statements()::toString);
+        }
+    }
+
+    @Nested
+    class DeleteWorkoutTypeById{
+
+        @Test
+        @DisplayName("Should delete a workout type with a fixed number of statements")
+        void shouldDeleteWorkoutTypeWithFixedStatements() throws Exception {
+
+            var workoutType = testFixtures.saveWorkoutType();
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/workout-type/{id}", workoutType.getId()))
+                .andExpect(status().isNoContent());
+
+            assertEquals(4, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should answer a referenced workout type with a 409 and its reference counts in one statement")
+        void shouldAnswerReferencedWorkoutTypeWithConflict() throws Exception {
+
+            var workoutType = testFixtures.saveWorkoutType();
+            testFixtures.saveTemplate(workoutType);
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/workout-type/{id}", workoutType.getId()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.references.workouts").value(0))
+                .andExpect(jsonPath("$.references.templates").value(1));
+
+            assertEquals(1, statementCounter.count(), statementCounter.statements()::toString);
+        }
+
+        @Test
+        @DisplayName("Should reassign the references to the replacement before deleting the workout type")
+        void shouldReassignReferencesToReplacement() throws Exception {
+
+            var workoutType = testFixtures.saveWorkoutType();
+            var replacement = testFixtures.saveWorkoutType();
+            var template = testFixtures.saveTemplate(workoutType);
+
+            statementCounter.reset();
+            mockMvc.perform(delete("/workout-type/{id}", workoutType.getId()).param("replaceWith", replacement.getId().toString()))
+                .andExpect(status().isNoContent());
+
+            assertEquals(7, statementCounter.count(), statementCounter.statements()::toString);
+
+            mockMvc.perform(get("/templates/{templateId}", template.getId()))
+                .andExpect(jsonPath("$.workoutType.id").value(replacement.getId().toString()));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+
+public class PersonalRecordCandidateTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private final UUID exerciseId = UUID.randomUUID();
+
+    private SetEntryDto set(int reps, String weight) {
+        return new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), exerciseId, reps, new BigDecimal(weight), Instant.parse("2024-05-06T10:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should keep the heaviest set and the best estimated one rep max per exercise")
+    void shouldKeepHeaviestAndStrongestSetPerExercise(){
+
+        var single = set(1, "120");
+        var heavyTriple = set(3, "120");
+        var tenReps = set(10, "100");
+
+        var candidates = PersonalRecordCandidate.best(userId, List.of(single, tenReps, heavyTriple));
+
+        assertEquals(1, candidates.size());
+        assertEquals(heavyTriple.id(), candidates.get(0).maxWeightSetId());
+        assertEquals(3, candidates.get(0).maxWeightReps());
+        assertEquals(tenReps.id(), candidates.get(0).oneRepMaxSetId());
+        assertEquals(new BigDecimal("133.33"), candidates.get(0).oneRepMax());
+    }
+
+    @Test
+    @DisplayName("Should estimate the one rep max with the Epley formula")
+    void shouldEstimateOneRepMaxWithEpley(){
+
+        assertEquals(new BigDecimal("120.00"), PersonalRecordCandidate.oneRepMax(1, new BigDecimal("120")));
+        assertEquals(new BigDecimal("116.67"), PersonalRecordCandidate.oneRepMax(5, new BigDecimal("100")));
+    }
+}
@@ -0,0 +1,42 @@
+package com.franciscoosorio.workoutmanager.domain.personalrecord;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+
+public class RepRecordCandidateTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private final UUID exerciseId = UUID.randomUUID();
+
+    private SetEntryDto set(int reps, String weight) {
+        return new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), exerciseId, reps, new BigDecimal(weight), Instant.parse("2024-05-06T10:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should keep the set with the most reps for every weight of an exercise")
+    void shouldKeepMostRepsPerWeight(){
+
+        var fiveAtHundred = set(5, "100");
+        var eightAtHundred = set(8, "100.00");
+        var threeAtHundredTwenty = set(3, "120");
+
+        var candidates = RepRecordCandidate.best(userId, List.of(fiveAtHundred, eightAtHundred, threeAtHundredTwenty));
+
+        assertEquals(2, candidates.size());
+        assertEquals(new BigDecimal("100.00"), candidates.get(0).weight());
+        assertEquals(eightAtHundred.id(), candidates.get(0).setId());
+        assertEquals(8, candidates.get(0).reps());
+        assertEquals(new BigDecimal("120.00"), candidates.get(1).weight());
+        assertEquals(threeAtHundredTwenty.id(), candidates.get(1).setId());
+    }
+}
@@ -0,0 +1,58 @@
+package com.franciscoosorio.workoutmanager.domain.projection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class FieldSelectionTest {
+
+    private static final Set<String> FIELDS = Set.of("id", "name", "description");
+
+    private static final Map<String, List<String>> ASSOCIATIONS = Map.of("exercises", List.of("id", "name", "description"));
+
+    @Test
+    @DisplayName("Should always include the id field")
+    void shouldAlwaysIncludeIdField(){
+
+        var selection = FieldSelection.parse("name", "id", FIELDS, ASSOCIATIONS);
+
+        assertEquals(List.of("id", "name"), List.copyOf(selection.fields()));
+        assertFalse(selection.includes("exercises"));
+    }
+
+    @Test
+    @DisplayName("Should select nested fields of an association")
+    void shouldSelectNestedFieldsOfAssociation(){
+
+        var selection = FieldSelection.parse(" name , exercises.name ", "id", FIELDS, ASSOCIATIONS);
+
+        assertTrue(selection.includes("exercises"));
+        assertEquals(List.of("id", "name"), List.copyOf(selection.fieldsOf("exercises")));
+    }
+
+    @Test
+    @DisplayName("Should select every field of an association named on its own")
+    void shouldSelectEveryFieldOfAssociationNamedOnItsOwn(){
+
+        var selection = FieldSelection.parse("exercises", "id", FIELDS, ASSOCIATIONS);
+
+        assertEquals(List.of("id", "name", "description"), List.copyOf(selection.fieldsOf("exercises")));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields")
+    void shouldRejectUnknownFields(){
+
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.parse("password", "id", FIELDS, ASSOCIATIONS));
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.parse("exercises.password", "id", FIELDS, ASSOCIATIONS));
+        assertThrows(IllegalArgumentException.class, () -> FieldSelection.parse("user.name", "id", FIELDS, ASSOCIATIONS));
+    }
+}
@@ -0,0 +1,41 @@
+package com.franciscoosorio.workoutmanager.domain.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class UserIdRangeTest {
+
+    @Test
+    @DisplayName("Should split the id space into contiguous ranges in unsigned order")
+    void shouldSplitIdSpaceIntoContiguousRanges(){
+
+        var ranges = UserIdRange.split(4);
+
+        assertEquals(4, ranges.size());
+        assertEquals(new UUID(0, 0), ranges.get(0).from());
+        assertEquals(UUID.fromString("40000000-0000-0000-0000-000000000000"), ranges.get(0).to());
+        assertEquals(UUID.fromString("80000000-0000-0000-0000-000000000000"), ranges.get(1).to());
+        assertEquals(UUID.fromString("c0000000-0000-0000-0000-000000000000"), ranges.get(2).to());
+        assertNull(ranges.get(3).to());
+
+        for (int i = 1; i < ranges.size(); i++) {
+            assertEquals(ranges.get(i - 1).to(), ranges.get(i).from());
+        }
+    }
+
+    @Test
+    @DisplayName("Should cover the whole id space with a single partition")
+    void shouldCoverWholeIdSpaceWithSinglePartition(){
+
+        var ranges = UserIdRange.split(1);
+
+        assertEquals(new UserIdRange(new UUID(0, 0), null), ranges.get(0));
+        assertThrows(IllegalArgumentException.class, () -> UserIdRange.split(0));
+    }
+}
@@ -0,0 +1,52 @@
+package com.franciscoosorio.workoutmanager.domain.rollup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+
+public class VolumeRollupDeltaTest {
+
+    private final UUID userId = UUID.randomUUID();
+
+    private final UUID exerciseId = UUID.randomUUID();
+
+    private SetEntryDto set(int reps, String weight, String performedAt) {
+        return new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), exerciseId, reps, new BigDecimal(weight), Instant.parse(performedAt));
+    }
+
+    @Test
+    @DisplayName("Should sum volume and sets and keep the max weight per bucket")
+    void shouldAggregateSetsPerBucket(){
+
+        var deltas = VolumeRollupDelta.aggregate(userId, List.of(
+            set(5, "100", "2024-05-06T10:00:00Z"),
+            set(3, "110", "2024-05-06T10:05:00Z"),
+            set(5, "90", "2024-05-08T10:00:00Z")));
+
+        var mondays = deltas.stream().filter(delta -> delta.granularity() == RollupGranularity.DAY && delta.bucketStart().equals(LocalDate.parse("2024-05-06"))).toList();
+        var weeks = deltas.stream().filter(delta -> delta.granularity() == RollupGranularity.WEEK).toList();
+
+        assertEquals(3, deltas.size());
+        assertEquals(new VolumeRollupDelta(userId, exerciseId, RollupGranularity.DAY, LocalDate.parse("2024-05-06"), new BigDecimal("830"), 2, new BigDecimal("110")), mondays.get(0));
+        assertEquals(new VolumeRollupDelta(userId, exerciseId, RollupGranularity.WEEK, LocalDate.parse("2024-05-06"), new BigDecimal("1280"), 3, new BigDecimal("110")), weeks.get(0));
+    }
+
+    @Test
+    @DisplayName("Should start weekly buckets on monday in UTC")
+    void shouldStartWeeklyBucketsOnMonday(){
+
+        assertEquals(LocalDate.parse("2024-05-06"), RollupGranularity.WEEK.bucketStart(Instant.parse("2024-05-12T23:59:59Z")));
+        assertEquals(LocalDate.parse("2024-05-13"), RollupGranularity.WEEK.bucketStart(Instant.parse("2024-05-13T00:00:00Z")));
+        assertEquals(LocalDate.parse("2024-05-12"), RollupGranularity.DAY.bucketStart(Instant.parse("2024-05-12T23:59:59Z")));
+        assertEquals(2, RollupGranularity.WEEK.bucketsBetween(LocalDate.parse("2024-05-12"), LocalDate.parse("2024-05-13")));
+    }
+}
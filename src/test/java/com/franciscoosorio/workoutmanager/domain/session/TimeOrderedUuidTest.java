@@ -0,0 +1,49 @@
+package com.franciscoosorio.workoutmanager.domain.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TimeOrderedUuidTest {
+
+    @Test
+    @DisplayName("Should generate version 7 ids that keep increasing")
+    void shouldGenerateIncreasingVersion7Ids(){
+
+        var previous = TimeOrderedUuid.next();
+
+        for (int i = 0; i < 10_000; i++) {
+            var next = TimeOrderedUuid.next();
+
+            assertEquals(7, next.version());
+            assertEquals(2, next.variant());
+            assertTrue(compareUnsigned(previous, next) < 0);
+
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should embed the creation time in milliseconds")
+    void shouldEmbedCreationTime(){
+
+        var before = System.currentTimeMillis();
+        var id = TimeOrderedUuid.next();
+        var after = System.currentTimeMillis();
+
+        var millis = id.getMostSignificantBits() >>> 16;
+
+        assertTrue(millis >= before);
+        assertTrue(millis <= after + 1);
+    }
+
+    private static int compareUnsigned(UUID first, UUID second) {
+
+        var mostSignificant = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return mostSignificant != 0 ? mostSignificant : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,40 @@
+package com.franciscoosorio.workoutmanager.domain.workout;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class WorkoutFingerprintTest {
+
+    private final UUID workoutType = UUID.randomUUID();
+
+    private final UUID squat = UUID.randomUUID();
+
+    private final UUID lunge = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should not depend on the order or repetition of exercises")
+    void shouldNotDependOnExerciseOrder(){
+
+        var fingerprint = WorkoutFingerprint.of(workoutType, List.of(squat, lunge));
+
+        assertEquals(fingerprint, WorkoutFingerprint.of(workoutType, List.of(lunge, squat, lunge)));
+        assertEquals(64, fingerprint.length());
+    }
+
+    @Test
+    @DisplayName("Should differ when the workout type or the exercises differ")
+    void shouldDifferWhenTypeOrExercisesDiffer(){
+
+        var fingerprint = WorkoutFingerprint.of(workoutType, List.of(squat, lunge));
+
+        assertNotEquals(fingerprint, WorkoutFingerprint.of(UUID.randomUUID(), List.of(squat, lunge)));
+        assertNotEquals(fingerprint, WorkoutFingerprint.of(workoutType, List.of(squat)));
+        assertNotEquals(WorkoutFingerprint.of(workoutType, List.of()), WorkoutFingerprint.of(UUID.randomUUID(), List.of()));
+    }
+}
@@ -0,0 +1,86 @@
+package com.franciscoosorio.workoutmanager.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class EventBufferTest {
+
+    private static class RecordingSink implements EventSink<String> {
+
+        private final List<String> received = new ArrayList<>();
+
+        @Override
+        public void send(String event) {
+            received.add(event);
+        }
+
+        @Override
+        public void resync() {
+            received.add("resync");
+        }
+    }
+
+    @Test
+    @DisplayName("Should ask for a single drain until the buffer has been drained")
+    void shouldAskForSingleDrainUntilDrained() throws IOException {
+
+        var buffer = new EventBuffer<String>(4);
+        var sink = new RecordingSink();
+
+        assertTrue(buffer.offer("first"));
+        assertFalse(buffer.offer("second"));
+        assertFalse(buffer.isIdle());
+
+        buffer.drainTo(sink);
+
+        assertEquals(List.of("first", "second"), sink.received);
+        assertTrue(buffer.isIdle());
+        assertTrue(buffer.offer("third"));
+    }
+
+    @Test
+    @DisplayName("Should drop the buffered events and ask for a resync when the buffer overflows")
+    void shouldDropEventsAndResyncOnOverflow() throws IOException {
+
+        var buffer = new EventBuffer<String>(2);
+        var sink = new RecordingSink();
+
+        buffer.offer("first");
+        buffer.offer("second");
+        buffer.offer("third");
+        buffer.offer("fourth");
+
+        buffer.drainTo(sink);
+
+        assertEquals(List.of("resync", "fourth"), sink.received);
+    }
+
+    @Test
+    @DisplayName("Should stop draining when the sink fails")
+    void shouldStopDrainingWhenSinkFails() {
+
+        var buffer = new EventBuffer<String>(2);
+        buffer.offer("first");
+
+        assertThrows(IOException.class, () -> buffer.drainTo(new EventSink<>() {
+            @Override
+            public void send(String event) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void resync() {
+            }
+        }));
+        assertFalse(buffer.offer("second"));
+    }
+}
@@ -0,0 +1,118 @@
+package com.franciscoosorio.workoutmanager.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class RingBufferTest {
+
+    @Test
+    @DisplayName("Should hand events to a consumer in publish order and in bounded batches")
+    void shouldReadInOrderAndInBatches(){
+
+        var ringBuffer = new RingBuffer<String>(8, 1);
+        ringBuffer.tryPublish("first");
+        ringBuffer.tryPublish("second");
+        ringBuffer.tryPublish("third");
+
+        var batch = new ArrayList<String>();
+
+        assertEquals(2, ringBuffer.read(0, batch, 2));
+        assertEquals(List.of("first", "second"), batch);
+
+        ringBuffer.release(0, 2);
+        batch.clear();
+
+        assertEquals(1, ringBuffer.read(0, batch, 2));
+        assertEquals(List.of("third"), batch);
+    }
+
+    @Test
+    @DisplayName("Should refuse to publish until the slowest consumer frees a slot")
+    void shouldRefusePublishWhenSlowestConsumerIsFull(){
+
+        var ringBuffer = new RingBuffer<Integer>(4, 2);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(ringBuffer.tryPublish(i));
+        }
+
+        ringBuffer.read(0, new ArrayList<>(), 4);
+        ringBuffer.release(0, 4);
+
+        assertFalse(ringBuffer.tryPublish(4));
+        assertEquals(0, ringBuffer.lag(0));
+        assertEquals(4, ringBuffer.lag(1));
+
+        ringBuffer.read(1, new ArrayList<>(), 1);
+        ringBuffer.release(1, 1);
+
+        assertTrue(ringBuffer.tryPublish(4));
+        assertEquals(1, ringBuffer.lag(0));
+        assertEquals(4, ringBuffer.lag(1));
+    }
+
+    @Test
+    @DisplayName("Should deliver every event exactly once when several producers publish at the same time")
+    void shouldDeliverEveryEventOnceWithConcurrentProducers() throws InterruptedException {
+
+        var producers = 4;
+        var eventsPerProducer = 10_000;
+        var ringBuffer = new RingBuffer<Integer>(1024, 1);
+        var executor = Executors.newFixedThreadPool(producers);
+        var start = new CountDownLatch(1);
+
+        for (int p = 0; p < producers; p++) {
+            var offset = p * eventsPerProducer;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < eventsPerProducer; i++) {
+                    while (!ringBuffer.tryPublish(offset + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+        }
+
+        start.countDown();
+
+        var received = new HashSet<Integer>();
+        var batch = new ArrayList<Integer>();
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        while (received.size() < producers * eventsPerProducer && System.nanoTime() < deadline) {
+            var count = ringBuffer.read(0, batch, 256);
+            received.addAll(batch);
+            batch.clear();
+            ringBuffer.release(0, count);
+        }
+
+        executor.shutdown();
+
+        assertEquals(producers * eventsPerProducer, received.size());
+        assertEquals(0, ringBuffer.lag(0));
+    }
+
+    @Test
+    @DisplayName("Should reject a capacity that is not a power of two")
+    void shouldRejectCapacityThatIsNotPowerOfTwo(){
+
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<String>(100, 1));
+    }
+}
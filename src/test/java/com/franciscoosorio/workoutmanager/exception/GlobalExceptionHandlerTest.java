@@ -0,0 +1,35 @@
+package com.franciscoosorio.workoutmanager.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+public class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("Should answer not found exceptions with a reused 404 response")
+    void shouldAnswerNotFoundWithReusedResponse(){
+
+        var first = globalExceptionHandler.handleNotFound(new UserNotFoundException("User not found"));
+        var second = globalExceptionHandler.handleNotFound(new UserNotFoundException("User not found"));
+
+        assertEquals(HttpStatus.NOT_FOUND, first.getStatusCode());
+        assertEquals("User not found", first.getBody());
+        assertSame(first, second);
+    }
+
+    @Test
+    @DisplayName("Should not capture a stack trace for not found exceptions")
+    void shouldNotCaptureStackTraceForNotFoundExceptions(){
+
+        assertEquals(0, new WorkoutNotFoundException("Workout not found").getStackTrace().length);
+        assertEquals(0, new ExerciseNotFoundException("Exercise not found").getStackTrace().length);
+        assertEquals(0, new WorkoutTypeNotFoundException("WorkoutType not found").getStackTrace().length);
+        assertEquals(0, new UserNotFoundException("User not found").getStackTrace().length);
+    }
+}
@@ -0,0 +1,144 @@
+package com.franciscoosorio.workoutmanager.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LeaderboardTest {
+
+    @Test
+    @DisplayName("Should rank users by score and share the rank on ties")
+    void shouldRankUsersByScoreWithSharedTies(){
+
+        var leaderboard = new Leaderboard();
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        var third = UUID.randomUUID();
+
+        leaderboard.add(first, 5);
+        leaderboard.add(second, 3);
+        leaderboard.add(third, 3);
+
+        var top = leaderboard.top(3);
+
+        assertEquals(new Leaderboard.Standing(1, first, 5), top.get(0));
+        assertEquals(2, top.get(1).rank());
+        assertEquals(2, top.get(2).rank());
+        assertEquals(2, leaderboard.standing(third).orElseThrow().rank());
+    }
+
+    @Test
+    @DisplayName("Should move a user when its score changes and drop it when the score reaches zero")
+    void shouldMoveUserWhenScoreChanges(){
+
+        var leaderboard = new Leaderboard();
+        var leader = UUID.randomUUID();
+        var challenger = UUID.randomUUID();
+
+        leaderboard.add(leader, 10);
+        leaderboard.add(challenger, 4);
+        leaderboard.add(challenger, 7);
+
+        assertEquals(new Leaderboard.Standing(1, challenger, 11), leaderboard.standing(challenger).orElseThrow());
+        assertEquals(2, leaderboard.standing(leader).orElseThrow().rank());
+
+        leaderboard.add(challenger, -11);
+
+        assertTrue(leaderboard.standing(challenger).isEmpty());
+        assertEquals(1, leaderboard.size());
+        assertEquals(1, leaderboard.standing(leader).orElseThrow().rank());
+    }
+
+    @Test
+    @DisplayName("Should drop a removed user and move the users below it up")
+    void shouldDropRemovedUser(){
+
+        var leaderboard = new Leaderboard();
+        var leader = UUID.randomUUID();
+        var runnerUp = UUID.randomUUID();
+
+        leaderboard.add(leader, 10);
+        leaderboard.add(runnerUp, 4);
+        leaderboard.remove(leader);
+        leaderboard.remove(UUID.randomUUID());
+
+        assertTrue(leaderboard.standing(leader).isEmpty());
+        assertEquals(List.of(new Leaderboard.Standing(1, runnerUp, 4)), leaderboard.top(10));
+    }
+
+    @Test
+    @DisplayName("Should agree with a full sort after many random updates")
+    void shouldAgreeWithFullSortAfterRandomUpdates(){
+
+        var leaderboard = new Leaderboard();
+        var scores = new HashMap<UUID, Long>();
+        var users = new ArrayList<UUID>();
+        var random = new Random(42);
+
+        for (int i = 0; i < 500; i++) {
+            users.add(UUID.randomUUID());
+        }
+
+        for (int i = 0; i < 20_000; i++) {
+            var user = users.get(random.nextInt(users.size()));
+            var delta = (long) random.nextInt(20) - 5;
+            var score = scores.getOrDefault(user, 0L) + delta;
+
+            if (score <= 0) {
+                delta = -scores.getOrDefault(user, 0L);
+                scores.remove(user);
+            } else {
+                scores.put(user, score);
+            }
+            leaderboard.add(user, delta);
+        }
+
+        var sorted = scores.entrySet().stream()
+            .sorted(Comparator.comparing((Map.Entry<UUID, Long> entry) -> -entry.getValue()).thenComparing(Map.Entry::getKey))
+            .toList();
+
+        assertEquals(sorted.size(), leaderboard.size());
+
+        var top = leaderboard.top(sorted.size());
+        for (int i = 0; i < sorted.size(); i++) {
+            var expectedScore = sorted.get(i).getValue();
+            var expectedRank = (int) scores.values().stream().filter(score -> score > expectedScore).count() + 1;
+
+            assertEquals(sorted.get(i).getKey(), top.get(i).userId());
+            assertEquals(expectedRank, top.get(i).rank());
+            assertEquals(expectedRank, leaderboard.standing(sorted.get(i).getKey()).orElseThrow().rank());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not lose updates applied from several threads")
+    void shouldNotLoseConcurrentUpdates(){
+
+        var leaderboard = new Leaderboard();
+        var users = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        var writers = new ArrayList<CompletableFuture<Void>>();
+        for (int thread = 0; thread < 4; thread++) {
+            writers.add(CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    leaderboard.add(users.get(i % users.size()), 1);
+                }
+            }));
+        }
+        writers.forEach(CompletableFuture::join);
+
+        assertEquals(4 * 334, leaderboard.standing(users.get(0)).orElseThrow().score());
+        assertEquals(4 * 333, leaderboard.standing(users.get(2)).orElseThrow().score());
+    }
+}
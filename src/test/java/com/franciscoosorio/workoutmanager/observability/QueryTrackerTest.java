@@ -0,0 +1,43 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class QueryTrackerTest {
+
+    private final QueryTracker queryTracker = new QueryTracker();
+
+    @Test
+    @DisplayName("Should attribute statements to the innermost repository invocation and its callers")
+    void shouldAttributeStatementsToInvocations(){
+
+        var outer = queryTracker.beginInvocation();
+        queryTracker.track("select 1");
+
+        var inner = queryTracker.beginInvocation();
+        queryTracker.track("select 2");
+        var innerStatements = queryTracker.endInvocation(inner);
+
+        var outerStatements = queryTracker.endInvocation(outer);
+
+        assertEquals(List.of("select 2"), innerStatements);
+        assertEquals(List.of("select 1", "select 2"), outerStatements);
+    }
+
+    @Test
+    @DisplayName("Should count statements issued by decorated tasks on other threads")
+    void shouldCountStatementsFromDecoratedTasks(){
+
+        queryTracker.resetStatementCount();
+        queryTracker.track("select 1");
+
+        CompletableFuture.runAsync(queryTracker.decorate(() -> queryTracker.track("select 2"))).join();
+
+        assertEquals(2, queryTracker.statementCount());
+    }
+}
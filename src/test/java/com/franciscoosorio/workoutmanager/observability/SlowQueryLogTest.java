@@ -0,0 +1,57 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class SlowQueryLogTest {
+
+    @Test
+    @DisplayName("Should keep only the slowest repository calls, slowest first")
+    void shouldKeepOnlySlowestCalls(){
+
+        var slowQueryLog = new SlowQueryLog(Duration.ofSeconds(1), 0.0, 2);
+
+        slowQueryLog.record("UserRepository.findById", 3_000_000, List.of("select 1"));
+        slowQueryLog.record("UserRepository.findAll", 9_000_000, List.of("select 2"));
+        slowQueryLog.record("ExerciseRepository.findAll", 1_000_000, List.of("select 3"));
+        slowQueryLog.record("WorkoutRepository.findAll", 5_000_000, List.of("select 4"));
+
+        var slowest = slowQueryLog.slowest();
+
+        assertEquals(2, slowest.size());
+        assertEquals("UserRepository.findAll", slowest.get(0).origin());
+        assertEquals(9.0, slowest.get(0).durationMillis());
+        assertEquals(List.of("select 2"), slowest.get(0).statements());
+        assertEquals("WorkoutRepository.findAll", slowest.get(1).origin());
+    }
+
+    @Test
+    @DisplayName("Should ignore repository calls that issued no statements")
+    void shouldIgnoreCallsWithoutStatements(){
+
+        var slowQueryLog = new SlowQueryLog(Duration.ofSeconds(1), 0.0, 2);
+
+        slowQueryLog.record("UserRepository.save", 3_000_000, List.of());
+
+        assertTrue(slowQueryLog.slowest().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should forget tracked calls when cleared")
+    void shouldForgetTrackedCallsWhenCleared(){
+
+        var slowQueryLog = new SlowQueryLog(Duration.ofSeconds(1), 0.0, 1);
+
+        slowQueryLog.record("UserRepository.findAll", 9_000_000, List.of("select 1"));
+        slowQueryLog.clear();
+        slowQueryLog.record("UserRepository.findById", 1_000_000, List.of("select 2"));
+
+        assertEquals("UserRepository.findById", slowQueryLog.slowest().get(0).origin());
+    }
+}
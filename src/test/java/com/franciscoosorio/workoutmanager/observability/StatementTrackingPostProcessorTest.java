@@ -0,0 +1,45 @@
+package com.franciscoosorio.workoutmanager.observability;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class StatementTrackingPostProcessorTest {
+
+    private final QueryTracker queryTracker = new QueryTracker();
+
+    @Test
+    @DisplayName("Should track statements issued through JdbcTemplate on the wrapped data source")
+    void shouldTrackJdbcTemplateStatements(){
+
+        var h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:statement-tracking;DB_CLOSE_DELAY=-1");
+
+        @SuppressWarnings("unchecked")
+        ObjectProvider<QueryTracker> provider = mock(ObjectProvider.class);
+        doReturn(queryTracker).when(provider).getObject();
+
+        var postProcessor = new StatementTrackingPostProcessor(provider);
+        var jdbcTemplate = new JdbcTemplate((DataSource) postProcessor.postProcessAfterInitialization(h2, "dataSource"));
+
+        var invocation = queryTracker.beginInvocation();
+        jdbcTemplate.execute("create table if not exists tracked (id int)");
+        jdbcTemplate.update("insert into tracked (id) values (?)", 1);
+        jdbcTemplate.queryForObject("select count(*) from tracked where id = ?", Long.class, 1);
+        var statements = queryTracker.endInvocation(invocation);
+
+        assertEquals(List.of("create table if not exists tracked (id int)",
+            "insert into tracked (id) values (?)",
+            "select count(*) from tracked where id = ?"), statements);
+    }
+}
@@ -0,0 +1,109 @@
+package com.franciscoosorio.workoutmanager.popularity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularityDto;
+
+public class PopularityCountersTest {
+
+    @Test
+    @DisplayName("Should rank exercises by added and performed counts")
+    void shouldRankExercisesByCounts(){
+
+        var counters = new PopularityCounters();
+        var squat = UUID.randomUUID();
+        var bench = UUID.randomUUID();
+        var row = UUID.randomUUID();
+
+        counters.added(squat, 1);
+        counters.performed(squat, 5);
+        counters.added(bench, 2);
+        counters.added(row, 1);
+
+        assertEquals(List.of(new ExercisePopularityDto(squat, 1, 5), new ExercisePopularityDto(bench, 2, 0)), counters.top(2));
+        assertEquals(3, counters.top(10).size());
+    }
+
+    @Test
+    @DisplayName("Should drain only the increments that were not flushed yet")
+    void shouldDrainOnlyPendingIncrements(){
+
+        var counters = new PopularityCounters();
+        var exerciseId = UUID.randomUUID();
+
+        counters.load(exerciseId, 10, 20);
+        counters.added(exerciseId, 1);
+        counters.performed(exerciseId, 3);
+
+        assertEquals(List.of(new ExercisePopularityDto(exerciseId, 1, 3)), counters.drain());
+        assertTrue(counters.drain().isEmpty());
+        assertEquals(List.of(new ExercisePopularityDto(exerciseId, 11, 23)), counters.top(1));
+    }
+
+    @Test
+    @DisplayName("Should drain restored increments again on the next flush")
+    void shouldDrainRestoredIncrementsAgain(){
+
+        var counters = new PopularityCounters();
+        var exerciseId = UUID.randomUUID();
+
+        counters.added(exerciseId, 2);
+        var deltas = counters.drain();
+        counters.performed(exerciseId, 1);
+        counters.restore(deltas);
+
+        assertEquals(List.of(new ExercisePopularityDto(exerciseId, 2, 1)), counters.drain());
+        assertEquals(List.of(new ExercisePopularityDto(exerciseId, 2, 1)), counters.top(1));
+    }
+
+    @Test
+    @DisplayName("Should forget a removed exercise")
+    void shouldForgetRemovedExercise(){
+
+        var counters = new PopularityCounters();
+        var exerciseId = UUID.randomUUID();
+
+        counters.added(exerciseId, 1);
+        counters.remove(exerciseId);
+
+        assertTrue(counters.top(10).isEmpty());
+        assertTrue(counters.drain().isEmpty());
+        assertEquals(0, counters.size());
+    }
+
+    @Test
+    @DisplayName("Should not lose increments made while draining concurrently")
+    void shouldNotLoseIncrementsWhileDraining(){
+
+        var counters = new PopularityCounters();
+        var exerciseId = UUID.randomUUID();
+        var threads = 8;
+        var increments = 20_000;
+
+        var writers = new CompletableFuture<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            writers[t] = CompletableFuture.runAsync(() -> {
+                for (int i = 0; i < increments; i++) {
+                    counters.added(exerciseId, 1);
+                }
+            });
+        }
+
+        long drained = 0;
+        while (!CompletableFuture.allOf(writers).isDone()) {
+            drained += counters.drain().stream().mapToLong(ExercisePopularityDto::addedCount).sum();
+        }
+        drained += counters.drain().stream().mapToLong(ExercisePopularityDto::addedCount).sum();
+
+        assertEquals((long) threads * increments, drained);
+        assertEquals((long) threads * increments, counters.top(1).get(0).addedCount());
+    }
+}
@@ -0,0 +1,165 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.ExercisePopularityDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.repository.ExercisePopularityRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class ExercisePopularityServiceTest {
+
+    @Mock
+    private ExercisePopularityRepository exercisePopularityRepository;
+
+    @InjectMocks
+    private ExercisePopularityService exercisePopularityService;
+
+    @Captor
+    private ArgumentCaptor<List<ExercisePopularityDto>> deltasArgumentCaptor;
+
+    private SetEntryDto set(UUID exerciseId) {
+        return new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), exerciseId, 5, new BigDecimal("100.00"), Instant.now());
+    }
+
+    @Nested
+    class Load{
+
+        @Test
+        @DisplayName("Should recover the persisted counts on startup")
+        void shouldRecoverPersistedCounts(){
+
+            var exerciseId = UUID.randomUUID();
+
+            doReturn(List.of(new ExercisePopularityDto(exerciseId, 4, 12))).when(exercisePopularityRepository).findAllCounts();
+
+            exercisePopularityService.load();
+            exercisePopularityService.recordAdded(Set.of(exerciseId));
+
+            assertEquals(List.of(new ExercisePopularityDto(exerciseId, 5, 12)), exercisePopularityService.getPopular(10));
+        }
+    }
+
+    @Nested
+    class Flush{
+
+        @Test
+        @DisplayName("Should flush the pending increments in one batch")
+        void shouldFlushPendingIncrementsInOneBatch(){
+
+            var squat = UUID.randomUUID();
+            var bench = UUID.randomUUID();
+
+            exercisePopularityService.recordAdded(Set.of(squat, bench));
+            exercisePopularityService.recordPerformed(List.of(set(squat), set(squat), set(bench)));
+
+            exercisePopularityService.flush();
+            exercisePopularityService.flush();
+
+            verify(exercisePopularityRepository, times(1)).applyDeltas(deltasArgumentCaptor.capture());
+
+            var deltas = deltasArgumentCaptor.getValue();
+            assertEquals(2, deltas.size());
+            assertTrue(deltas.contains(new ExercisePopularityDto(squat, 1, 2)));
+            assertTrue(deltas.contains(new ExercisePopularityDto(bench, 1, 1)));
+        }
+
+        @Test
+        @DisplayName("Should retry the increments of a failed flush on the next one")
+        void shouldRetryIncrementsOfFailedFlush(){
+
+            var exerciseId = UUID.randomUUID();
+
+            exercisePopularityService.recordAdded(Set.of(exerciseId));
+            doThrow(new DataAccessResourceFailureException("down")).when(exercisePopularityRepository).applyDeltas(any());
+
+            exercisePopularityService.flush();
+            exercisePopularityService.recordAdded(Set.of(exerciseId));
+            exercisePopularityService.flush();
+
+            verify(exercisePopularityRepository, times(2)).applyDeltas(deltasArgumentCaptor.capture());
+            assertEquals(List.of(new ExercisePopularityDto(exerciseId, 2, 0)), deltasArgumentCaptor.getAllValues().get(1));
+        }
+
+        @Test
+        @DisplayName("Should not touch the database when nothing changed")
+        void shouldNotTouchDatabaseWhenNothingChanged(){
+
+            exercisePopularityService.flush();
+
+            verifyNoInteractions(exercisePopularityRepository);
+        }
+    }
+
+    @Nested
+    class GetPopular{
+
+        @Test
+        @DisplayName("Should rank exercises from memory")
+        void shouldRankExercisesFromMemory(){
+
+            var squat = UUID.randomUUID();
+            var bench = UUID.randomUUID();
+
+            exercisePopularityService.recordAdded(Set.of(squat, bench));
+            exercisePopularityService.recordPerformed(List.of(set(bench)));
+
+            var popular = exercisePopularityService.getPopular(null);
+
+            assertEquals(List.of(new ExercisePopularityDto(bench, 1, 1), new ExercisePopularityDto(squat, 1, 0)), popular);
+            verifyNoInteractions(exercisePopularityRepository);
+        }
+
+        @Test
+        @DisplayName("Should reject a limit out of range")
+        void shouldRejectLimitOutOfRange(){
+
+            assertThrows(IllegalArgumentException.class, () -> exercisePopularityService.getPopular(0));
+            assertThrows(IllegalArgumentException.class, () -> exercisePopularityService.getPopular(101));
+        }
+    }
+
+    @Nested
+    class Remove{
+
+        @Test
+        @DisplayName("Should forget the counts of a deleted exercise")
+        void shouldForgetCountsOfDeletedExercise(){
+
+            var exerciseId = UUID.randomUUID();
+
+            exercisePopularityService.recordAdded(Set.of(exerciseId));
+            exercisePopularityService.remove(exerciseId);
+            exercisePopularityService.flush();
+
+            assertTrue(exercisePopularityService.getPopular(10).isEmpty());
+            verify(exercisePopularityRepository, times(1)).deleteById(exerciseId);
+            verify(exercisePopularityRepository, times(0)).applyDeltas(any());
+        }
+    }
+}
@@ -3,16 +3,19 @@ package com.franciscoosorio.workoutmanager.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -25,10 +28,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import com.franciscoosorio.workoutmanager.cache.NegativeLookupCache;
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
+import com.franciscoosorio.workoutmanager.domain.event.ExerciseCreated;
 import com.franciscoosorio.workoutmanager.domain.exercise.CreateExerciseDto;
 import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
 import com.franciscoosorio.workoutmanager.domain.exercise.UpdateExerciseDto;
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
 import com.franciscoosorio.workoutmanager.exception.ExerciseNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.ReferencedEntityException;
 import com.franciscoosorio.workoutmanager.repository.ExerciseRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,6 +48,24 @@ public class ExerciseServiceTest {
     @Mock
     private ExerciseRepository exerciseRepository;
 
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private UniqueValueFilters uniqueValueFilters;
+
+    @Mock
+    private ExercisePopularityService exercisePopularityService;
+
+    @Mock
+    private WorkoutDuplicateService workoutDuplicateService;
+
+    @Mock
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
     @InjectMocks
     private ExerciseService exerciseService;
 
@@ -67,6 +96,7 @@ public class ExerciseServiceTest {
             assertEquals(output, exercise);
             assertEquals(input.name(), exerciseCaptured.getName());
             assertEquals(input.description(), exerciseCaptured.getDescription());
+            verify(domainEventBus, times(1)).publish(new ExerciseCreated(exercise));
         }
 
         @Test
@@ -111,6 +141,19 @@ public class ExerciseServiceTest {
 
             assertThrows(DataIntegrityViolationException.class, () -> exerciseService.createExercise(input));
         }
+
+        @Test
+        @DisplayName("Should reject a exercise name that is already taken before saving")
+        void shouldRejectExerciseNameAlreadyTakenBeforeSaving(){
+
+            doReturn(true).when(uniqueValueFilters).mightExist(UniqueColumn.EXERCISE_NAME, "existing");
+            doReturn(true).when(exerciseRepository).existsByName("existing");
+
+            var input = new CreateExerciseDto("existing", "Description");
+
+            assertThrows(DuplicateValueException.class, () -> exerciseService.createExercise(input));
+            verify(exerciseRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -140,6 +183,74 @@ public class ExerciseServiceTest {
             assertThrows(ExerciseNotFoundException.class, () -> exerciseService.getExerciseById(exerciseId.toString()));
             assertEquals(exerciseId, uuidArgumentCaptor.getValue());
         }
+
+        @Test
+        @DisplayName("Should remember a exercise that was not found")
+        void shouldRecordMissingExerciseWhenNotFound(){
+
+            var exerciseId = UUID.randomUUID();
+            doReturn(Optional.empty()).when(exerciseRepository).findById(exerciseId);
+
+            assertThrows(ExerciseNotFoundException.class, () -> exerciseService.getExerciseById(exerciseId.toString()));
+            verify(negativeLookupCache, times(1)).recordMissing(Exercise.class, exerciseId);
+        }
+
+        @Test
+        @DisplayName("Should not query the database when exercise is known to be missing")
+        void shouldNotQueryDatabaseWhenExerciseIsKnownMissing(){
+
+            var exerciseId = UUID.randomUUID();
+            doReturn(true).when(negativeLookupCache).isKnownMissing(Exercise.class, exerciseId);
+
+            assertThrows(ExerciseNotFoundException.class, () -> exerciseService.getExerciseById(exerciseId.toString()));
+            verify(exerciseRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    class GetExercisesByIds{
+
+        @Test
+        @DisplayName("Should return exercises in request order and report missing ids")
+        void shouldReturnExercisesInRequestOrderAndReportMissingIds(){
+
+            var exercise1 = new Exercise(UUID.randomUUID(),"Exercise 1","Description for exercise 1");
+            var exercise2 = new Exercise(UUID.randomUUID(),"Exercise 2","Description for exercise 2");
+            var missingId = UUID.randomUUID();
+
+            doReturn(List.of(exercise1, exercise2)).when(exerciseRepository).findAllById(any());
+
+            var output = exerciseService.getExercisesByIds(List.of(exercise2.getId().toString(), missingId.toString(), exercise1.getId().toString()));
+
+            assertEquals(List.of(exercise2, exercise1), output.items());
+            assertEquals(List.of(missingId), output.missingIds());
+            verify(negativeLookupCache, times(1)).recordMissing(Exercise.class, missingId);
+        }
+
+        @Test
+        @DisplayName("Should not load ids that are known to be missing")
+        void shouldNotLoadIdsKnownToBeMissing(){
+
+            var missingId = UUID.randomUUID();
+
+            doReturn(true).when(negativeLookupCache).isKnownMissing(Exercise.class, missingId);
+
+            var output = exerciseService.getExercisesByIds(List.of(missingId.toString()));
+
+            assertTrue(output.items().isEmpty());
+            assertEquals(List.of(missingId), output.missingIds());
+            verify(exerciseRepository, never()).findAllById(any());
+        }
+
+        @Test
+        @DisplayName("Should reject requests with too many ids")
+        void shouldRejectRequestsWithTooManyIds(){
+
+            var ids = Stream.generate(() -> UUID.randomUUID().toString()).limit(101).toList();
+
+            assertThrows(IllegalArgumentException.class, () -> exerciseService.getExercisesByIds(ids));
+            verify(exerciseRepository, never()).findAllById(any());
+        }
     }
 
     @Nested
@@ -280,39 +391,95 @@ public class ExerciseServiceTest {
     class DeleteExerciseById{
 
         @Test
-        @DisplayName("Should delete exercise by id with sucess when exercise exists")
-        void shouldDeleteExerciseByIdWithSuccessWhenExerciseExists(){
-
-            doReturn(true).when(exerciseRepository).existsById(uuidArgumentCaptor.capture());
-            doNothing().when(exerciseRepository).deleteById(uuidArgumentCaptor.capture());
+        @DisplayName("Should delete exercise by id with sucess when exercise is not referenced")
+        void shouldDeleteExerciseByIdWithSuccessWhenExerciseIsNotReferenced(){
 
             var exerciseId = UUID.randomUUID();
 
-            exerciseService.deleteExerciseById(exerciseId.toString());
-
-            var ids = uuidArgumentCaptor.getAllValues();
+            doReturn(Optional.of(new ReferenceCountDto(0, 0, 0, 0))).when(exerciseRepository).findReferenceCounts(exerciseId);
+            doReturn(List.of()).when(exerciseRepository).deleteReassigning(exerciseId, null);
 
-            assertEquals(ids.get(0), exerciseId);
-            assertEquals(ids.get(1), exerciseId);
+            exerciseService.deleteExerciseById(exerciseId.toString(), null);
 
-            verify(exerciseRepository,times(1)).existsById(ids.get(0));
-            verify(exerciseRepository,times(1)).deleteById(ids.get(1));
+            verify(exerciseRepository,times(1)).deleteReassigning(exerciseId, null);
+            verify(exercisePopularityService,times(1)).remove(exerciseId);
+            verify(negativeLookupCache,times(1)).recordMissing(Exercise.class, exerciseId);
+            verifyNoInteractions(workoutDuplicateService, workoutSimilarityService);
         }
 
         @Test
         @DisplayName("Should not delete exercise by id with success when exercise not exists")
         void shouldNotDeleteExerciseByIdWithSuccessWhenExerciseNotExists(){
 
-            doReturn(false).when(exerciseRepository).existsById(uuidArgumentCaptor.capture());
+            doReturn(Optional.empty()).when(exerciseRepository).findReferenceCounts(uuidArgumentCaptor.capture());
 
             var exerciseId = UUID.randomUUID();
 
-            assertThrows(ExerciseNotFoundException.class, () -> exerciseService.deleteExerciseById(exerciseId.toString()));
+            assertThrows(ExerciseNotFoundException.class, () -> exerciseService.deleteExerciseById(exerciseId.toString(), null));
 
             assertEquals(exerciseId, uuidArgumentCaptor.getValue());
 
-            verify(exerciseRepository,times(1)).existsById(uuidArgumentCaptor.getValue());
-            verify(exerciseRepository,times(0)).deleteById(any());
+            verify(exerciseRepository,times(0)).deleteReassigning(any(), any());
+            verify(exercisePopularityService,times(0)).remove(any());
+        }
+
+        @Test
+        @DisplayName("Should answer with the reference counts when exercise is used by workouts")
+        void shouldThrowReferencedEntityExceptionWhenExerciseIsUsed(){
+
+            var exerciseId = UUID.randomUUID();
+            var references = new ReferenceCountDto(3, 1, 0, 0);
+
+            doReturn(Optional.of(references)).when(exerciseRepository).findReferenceCounts(exerciseId);
+
+            var exception = assertThrows(ReferencedEntityException.class, () -> exerciseService.deleteExerciseById(exerciseId.toString(), null));
+
+            assertEquals(references, exception.getReferences());
+            verify(exerciseRepository,times(0)).deleteReassigning(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should not replace an exercise that has logged sets")
+        void shouldNotReplaceExerciseWithLoggedSets(){
+
+            var exerciseId = UUID.randomUUID();
+
+            doReturn(Optional.of(new ReferenceCountDto(3, 0, 0, 12))).when(exerciseRepository).findReferenceCounts(exerciseId);
+
+            assertThrows(ReferencedEntityException.class,
+                () -> exerciseService.deleteExerciseById(exerciseId.toString(), UUID.randomUUID().toString()));
+
+            verify(exerciseRepository,times(0)).deleteReassigning(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reassign workouts to the replacement and refresh their fingerprints and similarity")
+        void shouldReassignWorkoutsToReplacement(){
+
+            var exerciseId = UUID.randomUUID();
+            var replacementId = UUID.randomUUID();
+            var workoutIds = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+            doReturn(Optional.of(new ReferenceCountDto(2, 1, 0, 0))).when(exerciseRepository).findReferenceCounts(exerciseId);
+            doReturn(true).when(exerciseRepository).existsById(replacementId);
+            doReturn(workoutIds).when(exerciseRepository).deleteReassigning(exerciseId, replacementId);
+
+            exerciseService.deleteExerciseById(exerciseId.toString(), replacementId.toString());
+
+            verify(exercisePopularityService,times(1)).remove(exerciseId);
+            verify(workoutDuplicateService,times(1)).backfill();
+            verify(workoutSimilarityService,times(1)).reindex(workoutIds);
+        }
+
+        @Test
+        @DisplayName("Should reject an exercise replacing itself")
+        void shouldRejectExerciseReplacingItself(){
+
+            var exerciseId = UUID.randomUUID().toString();
+
+            assertThrows(IllegalArgumentException.class, () -> exerciseService.deleteExerciseById(exerciseId, exerciseId));
+
+            verifyNoInteractions(exerciseRepository);
         }
     }
 }
@@ -0,0 +1,143 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.franciscoosorio.workoutmanager.domain.leaderboard.LeaderboardEntryDto;
+import com.franciscoosorio.workoutmanager.domain.leaderboard.LeaderboardMetric;
+import com.franciscoosorio.workoutmanager.domain.leaderboard.SessionCountDto;
+import com.franciscoosorio.workoutmanager.domain.leaderboard.WorkoutTypeVolumeTotalDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.exception.LeaderboardEntryNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.SetEntryRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutSessionRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class LeaderboardServiceTest {
+
+    @Mock
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Mock
+    private SetEntryRepository setEntryRepository;
+
+    @InjectMocks
+    private LeaderboardService leaderboardService;
+
+    private final Instant now = Instant.now();
+
+    private final Instant lastMonth = YearMonth.now(ZoneOffset.UTC).atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant().minusSeconds(1);
+
+    private SetEntryDto set(UUID sessionId, int reps, String weight, Instant performedAt) {
+        return new SetEntryDto(UUID.randomUUID(), sessionId, UUID.randomUUID(), reps, new BigDecimal(weight), performedAt);
+    }
+
+    @Nested
+    class Rebuild{
+
+        @Test
+        @DisplayName("Should rebuild the boards of the current month from the database")
+        void shouldRebuildBoardsOfCurrentMonth(){
+
+            var first = UUID.randomUUID();
+            var second = UUID.randomUUID();
+            var workoutTypeId = UUID.randomUUID();
+
+            doReturn(List.of(new SessionCountDto(first, 3), new SessionCountDto(second, 5))).when(workoutSessionRepository).countPerUser(any(), any());
+            doReturn(List.of(new WorkoutTypeVolumeTotalDto(first, workoutTypeId, new BigDecimal("1250.50")))).when(setEntryRepository).sumVolumePerUserAndWorkoutType(any(), any());
+
+            leaderboardService.rebuild();
+
+            var sessions = leaderboardService.getLeaderboard(LeaderboardMetric.SESSIONS, null, 10);
+            var volume = leaderboardService.getLeaderboard(LeaderboardMetric.VOLUME, workoutTypeId.toString(), 10);
+
+            assertEquals(List.of(new LeaderboardEntryDto(1, second, new BigDecimal("5")), new LeaderboardEntryDto(2, first, new BigDecimal("3"))), sessions.entries());
+            assertEquals(YearMonth.now(ZoneOffset.UTC), sessions.month());
+            assertEquals(new LeaderboardEntryDto(1, first, new BigDecimal("1250.50")), volume.entries().get(0));
+        }
+    }
+
+    @Nested
+    class Record{
+
+        @Test
+        @DisplayName("Should count sessions of the current month and ignore older ones")
+        void shouldCountSessionsOfCurrentMonth(){
+
+            var userId = UUID.randomUUID();
+
+            leaderboardService.recordSession(userId, now);
+            leaderboardService.recordSession(userId, now);
+            leaderboardService.recordSession(userId, lastMonth);
+
+            assertEquals(new LeaderboardEntryDto(1, userId, new BigDecimal("2")), leaderboardService.getStanding(LeaderboardMetric.SESSIONS, null, userId.toString()));
+        }
+
+        @Test
+        @DisplayName("Should add and remove set volume on the board of the workout type")
+        void shouldAddAndRemoveSetVolume(){
+
+            var userId = UUID.randomUUID();
+            var sessionId = UUID.randomUUID();
+            var workoutTypeId = UUID.randomUUID();
+            var removed = set(sessionId, 3, "110.5", now);
+
+            leaderboardService.recordSets(userId, workoutTypeId, List.of(set(sessionId, 5, "100", now), removed, set(sessionId, 5, "200", lastMonth)));
+
+            assertEquals(new BigDecimal("831.50"), leaderboardService.getStanding(LeaderboardMetric.VOLUME, workoutTypeId.toString(), userId.toString()).score());
+
+            doReturn(Optional.of(workoutTypeId)).when(workoutSessionRepository).findWorkoutTypeId(sessionId, userId);
+
+            leaderboardService.removeSet(userId, removed);
+
+            assertEquals(new BigDecimal("500.00"), leaderboardService.getStanding(LeaderboardMetric.VOLUME, workoutTypeId.toString(), userId.toString()).score());
+        }
+
+        @Test
+        @DisplayName("Should not look up the workout type when the removed set is from an older month")
+        void shouldIgnoreRemovedSetFromOlderMonth(){
+
+            leaderboardService.removeSet(UUID.randomUUID(), set(UUID.randomUUID(), 5, "100", lastMonth));
+
+            verifyNoInteractions(workoutSessionRepository);
+        }
+    }
+
+    @Nested
+    class GetLeaderboard{
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the limit is out of range")
+        void shouldThrowIllegalArgumentWhenLimitIsOutOfRange(){
+
+            assertThrows(IllegalArgumentException.class, () -> leaderboardService.getLeaderboard(LeaderboardMetric.SESSIONS, null, 0));
+            assertThrows(IllegalArgumentException.class, () -> leaderboardService.getLeaderboard(LeaderboardMetric.SESSIONS, null, 101));
+        }
+
+        @Test
+        @DisplayName("Should throw LeaderboardEntryNotFoundException when the user is not on the board")
+        void shouldThrowLeaderboardEntryNotFoundWhenUserIsNotOnBoard(){
+
+            assertThrows(LeaderboardEntryNotFoundException.class, () -> leaderboardService.getStanding(LeaderboardMetric.SESSIONS, null, UUID.randomUUID().toString()));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecord;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordCandidate;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.PersonalRecordId;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecord;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordCandidate;
+import com.franciscoosorio.workoutmanager.domain.personalrecord.RepRecordId;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.exception.PersonalRecordNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.PersonalRecordRepository;
+import com.franciscoosorio.workoutmanager.repository.RepRecordRepository;
+import com.franciscoosorio.workoutmanager.repository.SetEntryRepository;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class PersonalRecordServiceTest {
+
+    @Mock
+    private PersonalRecordRepository personalRecordRepository;
+
+    @Mock
+    private RepRecordRepository repRecordRepository;
+
+    @Mock
+    private SetEntryRepository setEntryRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private PersonalRecordService personalRecordService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    private final UUID exerciseId = UUID.randomUUID();
+
+    private SetEntryDto set(int reps, String weight) {
+        return new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), exerciseId, reps, new BigDecimal(weight), Instant.parse("2024-05-06T10:00:00Z"));
+    }
+
+    @Nested
+    class Record{
+
+        @Test
+        @DisplayName("Should apply the best candidate of the logged sets")
+        void shouldApplyBestCandidate(){
+
+            var sets = List.of(set(5, "100"), set(1, "120"));
+
+            personalRecordService.record(userId, sets);
+
+            verify(personalRecordRepository).applyCandidates(PersonalRecordCandidate.best(userId, sets));
+            verify(repRecordRepository).applyCandidates(RepRecordCandidate.best(userId, sets));
+        }
+    }
+
+    @Nested
+    class Remove{
+
+        @Test
+        @DisplayName("Should leave the record untouched when the deleted set does not hold it")
+        void shouldLeaveRecordWhenSetDoesNotHoldIt(){
+
+            var holder = set(1, "120");
+            var deleted = set(5, "100");
+            doReturn(Optional.of(recordHeldBy(holder))).when(personalRecordRepository).findById(new PersonalRecordId(userId, exerciseId));
+            doReturn(Optional.of(repRecordHeldBy(set(8, "100")))).when(repRecordRepository).findById(new RepRecordId(userId, exerciseId, new BigDecimal("100.00")));
+
+            personalRecordService.remove(userId, deleted);
+
+            verify(personalRecordRepository, never()).deleteRecord(any(), any());
+            verify(repRecordRepository, never()).deleteRecord(any(), any(), any());
+            verifyNoInteractions(setEntryRepository);
+        }
+
+        @Test
+        @DisplayName("Should recompute the record from the remaining best sets when the deleted set holds it")
+        void shouldRecomputeRecordWhenSetHoldsIt(){
+
+            var deleted = set(1, "120");
+            var heaviest = set(3, "110");
+            var strongest = set(10, "100");
+
+            doReturn(Optional.of(recordHeldBy(deleted))).when(personalRecordRepository).findById(new PersonalRecordId(userId, exerciseId));
+            doReturn(List.of(heaviest)).when(setEntryRepository).findHeaviest(userId, exerciseId, Limit.of(1));
+            doReturn(List.of(strongest)).when(setEntryRepository).findStrongest(userId, exerciseId, Limit.of(1));
+
+            personalRecordService.remove(userId, deleted);
+
+            var order = inOrder(personalRecordRepository);
+            order.verify(personalRecordRepository).deleteRecord(userId, exerciseId);
+            order.verify(personalRecordRepository).applyCandidates(PersonalRecordCandidate.best(userId, List.of(heaviest, strongest)));
+        }
+
+        @Test
+        @DisplayName("Should recompute the rep record of the weight when the deleted set holds it")
+        void shouldRecomputeRepRecordWhenSetHoldsIt(){
+
+            var deleted = set(8, "100");
+            var remaining = set(6, "100");
+            var weight = new BigDecimal("100.00");
+
+            doReturn(Optional.of(repRecordHeldBy(deleted))).when(repRecordRepository).findById(new RepRecordId(userId, exerciseId, weight));
+            doReturn(List.of(remaining)).when(setEntryRepository).findMostReps(userId, exerciseId, weight, Limit.of(1));
+
+            personalRecordService.remove(userId, deleted);
+
+            var order = inOrder(repRecordRepository);
+            order.verify(repRecordRepository).deleteRecord(userId, exerciseId, weight);
+            order.verify(repRecordRepository).applyCandidates(RepRecordCandidate.best(userId, List.of(remaining)));
+        }
+
+        private PersonalRecord recordHeldBy(SetEntryDto set) {
+
+            return new PersonalRecord(PersonalRecordCandidate.best(userId, List.of(set)).get(0));
+        }
+
+        private RepRecord repRecordHeldBy(SetEntryDto set) {
+
+            return new RepRecord(RepRecordCandidate.best(userId, List.of(set)).get(0));
+        }
+    }
+
+    @Nested
+    class GetRecords{
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException when the user does not exist")
+        void shouldThrowUserNotFoundWhenUserDoesNotExist(){
+
+            doReturn(false).when(userRepository).existsById(userId);
+
+            assertThrows(UserNotFoundException.class, () -> personalRecordService.getRecords(userId.toString()));
+
+            verifyNoInteractions(personalRecordRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw PersonalRecordNotFoundException when the exercise has no record")
+        void shouldThrowPersonalRecordNotFoundWhenExerciseHasNoRecord(){
+
+            doReturn(Optional.empty()).when(personalRecordRepository).findRecord(userId, exerciseId);
+
+            var exception = assertThrows(PersonalRecordNotFoundException.class, () -> personalRecordService.getRecord(userId.toString(), exerciseId.toString()));
+
+            assertEquals("PersonalRecord not found", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("Should throw PersonalRecordNotFoundException when the exercise has no rep records")
+        void shouldThrowPersonalRecordNotFoundWhenExerciseHasNoRepRecords(){
+
+            doReturn(List.of()).when(repRecordRepository).findRecords(userId, exerciseId);
+
+            assertThrows(PersonalRecordNotFoundException.class, () -> personalRecordService.getRepRecords(userId.toString(), exerciseId.toString()));
+        }
+    }
+}
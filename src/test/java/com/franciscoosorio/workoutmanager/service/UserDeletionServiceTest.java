@@ -0,0 +1,139 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.franciscoosorio.workoutmanager.cache.NegativeLookupCache;
+import com.franciscoosorio.workoutmanager.domain.event.UserDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutDeleted;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.user.UserDeletionStatus;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.UserDeletionNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class UserDeletionServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private TaskExecutor userDeletionExecutor = new SyncTaskExecutor();
+
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @InjectMocks
+    private UserDeletionService userDeletionService;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @Nested
+    class DeleteUser{
+
+        @Test
+        @DisplayName("Should delete the account chunk by chunk until every chunk comes back short")
+        void shouldDeleteAccountInChunks(){
+
+            var firstWorkout = UUID.randomUUID();
+            var secondWorkout = UUID.randomUUID();
+            var workoutChunk = new ArrayList<UUID>();
+            for (int i = 0; i < 1000; i++) {
+                workoutChunk.add(i == 0 ? firstWorkout : UUID.randomUUID());
+            }
+
+            doReturn(true).when(userRepository).existsById(userId);
+            doReturn(1000, 1000, 10).when(userRepository).deleteSetEntriesChunk(userId, 1000);
+            doReturn(3).when(userRepository).deleteSessionsChunk(userId, 1000);
+            doReturn(workoutChunk, List.of(secondWorkout)).when(userRepository).deleteWorkoutsChunk(userId, 1000);
+            doReturn(true).when(userRepository).deleteAccount(userId);
+
+            userDeletionService.deleteUser(userId.toString());
+
+            var deletion = userDeletionService.getDeletion(userId.toString());
+
+            assertEquals(UserDeletionStatus.COMPLETED, deletion.status());
+            assertEquals(2010, deletion.setsDeleted());
+            assertEquals(3, deletion.sessionsDeleted());
+            assertEquals(1001, deletion.workoutsDeleted());
+
+            verify(userRepository, times(3)).deleteSetEntriesChunk(userId, 1000);
+            verify(userRepository, times(2)).deleteWorkoutsChunk(userId, 1000);
+            verify(workoutSimilarityService).remove(firstWorkout);
+            verify(workoutSimilarityService).remove(secondWorkout);
+            verify(domainEventBus).publish(new WorkoutDeleted(firstWorkout, userId));
+            verify(domainEventBus).publish(new WorkoutDeleted(secondWorkout, userId));
+            verify(leaderboardService).removeUser(userId);
+            verify(domainEventBus).publish(new UserDeleted(userId));
+            verify(negativeLookupCache).recordMissing(User.class, userId);
+        }
+
+        @Test
+        @DisplayName("Should mark the deletion as failed and keep the user when a chunk fails")
+        void shouldMarkDeletionAsFailed(){
+
+            doReturn(true).when(userRepository).existsById(userId);
+            doThrow(DataIntegrityViolationException.class).when(userRepository).deleteSetEntriesChunk(userId, 1000);
+
+            userDeletionService.deleteUser(userId.toString());
+
+            assertEquals(UserDeletionStatus.FAILED, userDeletionService.getDeletion(userId.toString()).status());
+            verify(userRepository, never()).deleteAccount(any());
+            verify(leaderboardService, never()).removeUser(any());
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException when the user does not exist")
+        void shouldThrowWhenUserNotFound(){
+
+            doReturn(false).when(userRepository).existsById(userId);
+
+            assertThrows(UserNotFoundException.class, () -> userDeletionService.deleteUser(userId.toString()));
+            verify(userDeletionExecutor, never()).execute(any());
+        }
+    }
+
+    @Nested
+    class GetDeletion{
+
+        @Test
+        @DisplayName("Should throw UserDeletionNotFoundException when no deletion was requested")
+        void shouldThrowWhenNoDeletionRequested(){
+
+            assertThrows(UserDeletionNotFoundException.class, () -> userDeletionService.getDeletion(userId.toString()));
+        }
+    }
+}
@@ -1,17 +1,21 @@
 package com.franciscoosorio.workoutmanager.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -27,9 +31,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.franciscoosorio.workoutmanager.cache.NegativeLookupCache;
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
 import com.franciscoosorio.workoutmanager.domain.user.CreateUserDto;
 import com.franciscoosorio.workoutmanager.domain.user.UpdateUserDto;
 import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
 import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
 import com.franciscoosorio.workoutmanager.repository.UserRepository;
 
@@ -42,6 +51,15 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private UniqueValueFilters uniqueValueFilters;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
     @InjectMocks
     private UserService userService;
 
@@ -148,6 +166,39 @@ public class UserServiceTest {
 
             assertThrows(DataIntegrityViolationException.class, () -> userService.createUser(input));
         }
+
+        @Test
+        @DisplayName("Should not create user when username is already taken")
+        void shouldNotCreateUserWhenUsernameIsAlreadyTaken(){
+
+            doReturn(true).when(uniqueValueFilters).mightExist(UniqueColumn.USERNAME, "existingUsername");
+            doReturn(true).when(userRepository).existsByUsername("existingUsername");
+
+            var input = new CreateUserDto("existingUsername", "email@email.com", "Password1");
+
+            assertThrows(DuplicateValueException.class, () -> userService.createUser(input));
+
+            verify(passwordEncoder, never()).encode(any());
+            verify(userRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should create user when the username filter reports a false positive")
+        void shouldCreateUserWhenUsernameFilterReportsFalsePositive(){
+
+            var user = new User(UUID.randomUUID(), "username", "email@email.com", "encryptedPassword1", Instant.now(), null);
+
+            doReturn(true).when(uniqueValueFilters).mightExist(UniqueColumn.USERNAME, "username");
+            doReturn(false).when(userRepository).existsByUsername("username");
+            doReturn("encryptedPassword1").when(passwordEncoder).encode(any());
+            doReturn(user).when(userRepository).save(any());
+
+            var output = userService.createUser(new CreateUserDto("username", "email@email.com", "Password1"));
+
+            assertEquals(user, output);
+            verify(uniqueValueFilters, times(1)).add(UniqueColumn.USERNAME, "username");
+            verify(uniqueValueFilters, times(1)).add(UniqueColumn.EMAIL, "email@email.com");
+        }
     }
 
     @Nested
@@ -177,6 +228,48 @@ public class UserServiceTest {
             assertThrows(UserNotFoundException.class, () -> userService.getUserById(userId.toString()));
             assertEquals(userId, uuidArgumentCaptor.getValue());
         }
+
+        @Test
+        @DisplayName("Should remember a user that was not found")
+        void shouldRecordMissingUserWhenNotFound(){
+
+            var userId = UUID.randomUUID();
+            doReturn(Optional.empty()).when(userRepository).findById(userId);
+
+            assertThrows(UserNotFoundException.class, () -> userService.getUserById(userId.toString()));
+            verify(negativeLookupCache, times(1)).recordMissing(User.class, userId);
+        }
+
+        @Test
+        @DisplayName("Should not query the database when user is known to be missing")
+        void shouldNotQueryDatabaseWhenUserIsKnownMissing(){
+
+            var userId = UUID.randomUUID();
+            doReturn(true).when(negativeLookupCache).isKnownMissing(User.class, userId);
+
+            assertThrows(UserNotFoundException.class, () -> userService.getUserById(userId.toString()));
+            verify(userRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    class GetUsersByIds{
+
+        @Test
+        @DisplayName("Should return users in request order and report missing ids")
+        void shouldReturnUsersInRequestOrderAndReportMissingIds(){
+
+            var user1 = new User(UUID.randomUUID(), "username1", "email1@email.com", "encryptedPassword1", Instant.now(), null);
+            var user2 = new User(UUID.randomUUID(), "username2", "email2@email.com", "encryptedPassword1", Instant.now(), null);
+            var missingId = UUID.randomUUID();
+
+            doReturn(List.of(user1, user2)).when(userRepository).findAllById(any());
+
+            var output = userService.getUsersByIds(List.of(user2.getUserId().toString(), missingId.toString(), user1.getUserId().toString()));
+
+            assertEquals(List.of(user2, user1), output.items());
+            assertEquals(List.of(missingId), output.missingIds());
+        }
     }
 
     @Nested
@@ -197,6 +290,27 @@ public class UserServiceTest {
             assertEquals(result, userList);
             assertEquals(result.size(), userList.size());
         }
+
+        @Test
+        @DisplayName("Should list only the requested user fields")
+        void shouldListOnlyRequestedUserFields(){
+
+            var projection = List.<Map<String, Object>>of(Map.of("userId", UUID.randomUUID(), "username", "username"));
+
+            doReturn(projection).when(userRepository).findAllFields(any());
+
+            var output = userService.listUserFields("username");
+
+            assertEquals(projection, output);
+        }
+
+        @Test
+        @DisplayName("Should not allow selecting the password field")
+        void shouldNotAllowSelectingPasswordField(){
+
+            assertThrows(IllegalArgumentException.class, () -> userService.listUserFields("username,password"));
+            verify(userRepository, never()).findAllFields(any());
+        }
     }
 
     @Nested
@@ -369,44 +483,31 @@ public class UserServiceTest {
     }
 
     @Nested
-    class DeleteById{
+    class CheckAvailability{
 
         @Test
-        @DisplayName("Should delete user by id with success when user exists")
-        void shouldDeleteUserByIdWithSuccessWhenUserExists(){
-            
-            doReturn(true).when(userRepository).existsById(uuidArgumentCaptor.capture());
-            doNothing().when(userRepository).deleteById(uuidArgumentCaptor.capture());
+        @DisplayName("Should answer availability from memory when the filters have no match")
+        void shouldAnswerAvailabilityFromMemoryWhenFiltersHaveNoMatch(){
 
-            var userId = UUID.randomUUID();
-
-            userService.deleteById(userId.toString());
-
-            var ids = uuidArgumentCaptor.getAllValues();
-
-            assertEquals(userId, ids.get(0));
-            assertEquals(userId, ids.get(1));
+            var output = userService.checkAvailability("username", "email@email.com");
 
-            verify(userRepository,times(1)).existsById(ids.get(0));
-            verify(userRepository,times(1)).deleteById(ids.get(1));
+            assertTrue(output.usernameAvailable());
+            assertTrue(output.emailAvailable());
+            verify(userRepository, never()).existsByUsername(any());
+            verify(userRepository, never()).existsByEmail(any());
         }
 
         @Test
-        @DisplayName("Should not delete user by id with success when user not exists")
-        void shouldNotDeleteUserByIdWithSuccessWhenUserNotExists(){
-            
-            doReturn(false).when(userRepository).existsById(uuidArgumentCaptor.capture());
-
-            var userId = UUID.randomUUID();
-
-            assertThrows(UserNotFoundException.class, () -> userService.deleteById(userId.toString()));
+        @DisplayName("Should confirm with the database when the filters have a match")
+        void shouldConfirmWithDatabaseWhenFiltersHaveMatch(){
 
-            var id = uuidArgumentCaptor.getValue();
+            doReturn(true).when(uniqueValueFilters).mightExist(UniqueColumn.EMAIL, "email@email.com");
+            doReturn(true).when(userRepository).existsByEmail("email@email.com");
 
-            assertEquals(userId, id);
+            var output = userService.checkAvailability(null, "email@email.com");
 
-            verify(userRepository,times(1)).existsById(uuidArgumentCaptor.getValue());
-            verify(userRepository,times(0)).deleteById(any());
+            assertNull(output.usernameAvailable());
+            assertFalse(output.emailAvailable());
         }
     }
 }
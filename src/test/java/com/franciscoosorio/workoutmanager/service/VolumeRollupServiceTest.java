@@ -0,0 +1,148 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.franciscoosorio.workoutmanager.domain.rollup.RollupGranularity;
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupDelta;
+import com.franciscoosorio.workoutmanager.domain.rollup.VolumeRollupDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.SetEntryRepository;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.repository.VolumeRollupRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class VolumeRollupServiceTest {
+
+    @Mock
+    private VolumeRollupRepository volumeRollupRepository;
+
+    @Mock
+    private SetEntryRepository setEntryRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private VolumeRollupService volumeRollupService;
+
+    @Captor
+    private ArgumentCaptor<List<VolumeRollupDelta>> deltasArgumentCaptor;
+
+    @Nested
+    class GetVolume{
+
+        @Test
+        @DisplayName("Should read the buckets of the requested range")
+        void shouldReadBucketsOfRequestedRange(){
+
+            var userId = UUID.randomUUID();
+            var rollup = new VolumeRollupDto(UUID.randomUUID(), RollupGranularity.WEEK, LocalDate.parse("2024-05-06"), BigDecimal.TEN, 1, BigDecimal.TEN);
+
+            doReturn(true).when(userRepository).existsById(userId);
+            doReturn(List.of(rollup)).when(volumeRollupRepository).findBuckets(userId, RollupGranularity.WEEK, LocalDate.parse("2024-05-06"), LocalDate.parse("2024-05-31"));
+
+            var output = volumeRollupService.getVolume(userId.toString(), RollupGranularity.WEEK, LocalDate.parse("2024-05-08"), LocalDate.parse("2024-05-31"));
+
+            assertEquals(List.of(rollup), output);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the range has too many buckets")
+        void shouldThrowIllegalArgumentWhenRangeHasTooManyBuckets(){
+
+            assertThrows(IllegalArgumentException.class, () -> volumeRollupService.getVolume(UUID.randomUUID().toString(), RollupGranularity.DAY, LocalDate.parse("2020-01-01"), LocalDate.parse("2024-01-01")));
+            assertThrows(IllegalArgumentException.class, () -> volumeRollupService.getVolume(UUID.randomUUID().toString(), RollupGranularity.DAY, LocalDate.parse("2024-01-02"), LocalDate.parse("2024-01-01")));
+
+            verifyNoInteractions(volumeRollupRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException when the user does not exist")
+        void shouldThrowUserNotFoundWhenUserDoesNotExist(){
+
+            var userId = UUID.randomUUID();
+
+            doReturn(false).when(userRepository).existsById(userId);
+
+            assertThrows(UserNotFoundException.class, () -> volumeRollupService.getVolume(userId.toString(), null, null, null));
+
+            verifyNoInteractions(volumeRollupRepository);
+        }
+    }
+
+    @Nested
+    class Rebuild{
+
+        @Test
+        @DisplayName("Should replace the user rollups with the aggregate of the whole history")
+        void shouldReplaceRollupsWithAggregateOfHistory(){
+
+            var userId = UUID.randomUUID();
+            var exerciseId = UUID.randomUUID();
+            var set = new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), exerciseId, 5, new BigDecimal("100"), Instant.parse("2024-05-06T10:00:00Z"));
+
+            doReturn(true).when(userRepository).existsById(userId);
+            doReturn(Stream.of(set)).when(setEntryRepository).streamByUserId(userId);
+
+            volumeRollupService.rebuild(userId.toString());
+
+            var order = inOrder(volumeRollupRepository);
+            order.verify(volumeRollupRepository).deleteByUserId(userId);
+            order.verify(volumeRollupRepository).applyDeltas(deltasArgumentCaptor.capture());
+
+            assertEquals(VolumeRollupDelta.aggregate(userId, List.of(set)), deltasArgumentCaptor.getValue());
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException when the user does not exist")
+        void shouldThrowUserNotFoundWhenUserDoesNotExist(){
+
+            var userId = UUID.randomUUID();
+
+            doReturn(false).when(userRepository).existsById(userId);
+
+            assertThrows(UserNotFoundException.class, () -> volumeRollupService.rebuild(userId.toString()));
+
+            verifyNoInteractions(volumeRollupRepository, setEntryRepository);
+        }
+    }
+
+    @Nested
+    class Record{
+
+        @Test
+        @DisplayName("Should apply the aggregated deltas of the logged sets")
+        void shouldApplyAggregatedDeltas(){
+
+            var userId = UUID.randomUUID();
+            var set = new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 5, new BigDecimal("100"), Instant.parse("2024-05-06T10:00:00Z"));
+
+            volumeRollupService.record(userId, List.of(set));
+
+            verify(volumeRollupRepository).applyDeltas(VolumeRollupDelta.aggregate(userId, List.of(set)));
+        }
+    }
+}
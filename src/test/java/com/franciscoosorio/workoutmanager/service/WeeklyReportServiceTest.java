@@ -0,0 +1,184 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.franciscoosorio.workoutmanager.domain.report.ReportCheckpoint;
+import com.franciscoosorio.workoutmanager.domain.report.ReportCheckpointId;
+import com.franciscoosorio.workoutmanager.domain.report.UserIdRange;
+import com.franciscoosorio.workoutmanager.domain.report.WeeklyReportId;
+import com.franciscoosorio.workoutmanager.exception.ReportInProgressException;
+import com.franciscoosorio.workoutmanager.exception.WeeklyReportNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.ReportCheckpointRepository;
+import com.franciscoosorio.workoutmanager.repository.WeeklyReportRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class WeeklyReportServiceTest {
+
+    private static final LocalDate WEEK = LocalDate.parse("2024-05-06");
+
+    @Mock
+    private WeeklyReportRepository weeklyReportRepository;
+
+    @Mock
+    private ReportCheckpointRepository reportCheckpointRepository;
+
+    @Spy
+    private TaskExecutor weeklyReportExecutor = new SyncTaskExecutor();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private WeeklyReportService weeklyReportService;
+
+    @Captor
+    private ArgumentCaptor<ReportCheckpoint> checkpointArgumentCaptor;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(weeklyReportService, "partitions", 2);
+        ReflectionTestUtils.setField(weeklyReportService, "chunkSize", 3);
+    }
+
+    private static List<UUID> userIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID()).toList();
+    }
+
+    @Nested
+    class Start{
+
+        @Test
+        @DisplayName("Should process every partition in chunks and checkpoint after each chunk")
+        void shouldProcessPartitionsInChunksWithCheckpoints(){
+
+            var ranges = UserIdRange.split(2);
+            var firstChunk = userIds(3);
+            var secondChunk = userIds(1);
+
+            doReturn(List.of()).when(reportCheckpointRepository).findByWeekStart(WEEK);
+            doReturn(firstChunk).when(weeklyReportRepository).findUserIds(ranges.get(0), null, 3);
+            doReturn(secondChunk).when(weeklyReportRepository).findUserIds(ranges.get(0), firstChunk.get(2), 3);
+            doReturn(List.of()).when(weeklyReportRepository).findUserIds(ranges.get(1), null, 3);
+
+            weeklyReportService.start(LocalDate.parse("2024-05-09"), false).join();
+
+            verify(weeklyReportRepository, times(3)).writeChunk(eq(WEEK), any(), checkpointArgumentCaptor.capture());
+
+            var checkpoints = checkpointArgumentCaptor.getAllValues();
+
+            assertEquals(new ReportCheckpointId(WEEK, 0), checkpoints.get(0).getId());
+            assertEquals(firstChunk.get(2), checkpoints.get(0).getLastUserId());
+            assertFalse(checkpoints.get(0).isCompleted());
+            assertEquals(secondChunk.get(0), checkpoints.get(1).getLastUserId());
+            assertEquals(4, checkpoints.get(1).getUsers());
+            assertTrue(checkpoints.get(1).isCompleted());
+            assertEquals(new ReportCheckpointId(WEEK, 1), checkpoints.get(2).getId());
+            assertEquals(4.0, meterRegistry.counter("workoutmanager.reports.weekly.users").count());
+        }
+
+        @Test
+        @DisplayName("Should skip completed partitions and resume the others after their last checkpoint")
+        void shouldResumeFromCheckpoints(){
+
+            var ranges = UserIdRange.split(2);
+            var lastUserId = UUID.randomUUID();
+            var resumed = userIds(2);
+
+            doReturn(List.of(
+                new ReportCheckpoint(new ReportCheckpointId(WEEK, 0), 2, UUID.randomUUID(), 10, true),
+                new ReportCheckpoint(new ReportCheckpointId(WEEK, 1), 2, lastUserId, 6, false)))
+                .when(reportCheckpointRepository).findByWeekStart(WEEK);
+            doReturn(resumed).when(weeklyReportRepository).findUserIds(ranges.get(1), lastUserId, 3);
+
+            weeklyReportService.start(WEEK, false).join();
+
+            verify(weeklyReportRepository, never()).findUserIds(eq(ranges.get(0)), any(), anyInt());
+            verify(weeklyReportRepository).writeChunk(eq(WEEK), eq(resumed), checkpointArgumentCaptor.capture());
+
+            assertEquals(8, checkpointArgumentCaptor.getValue().getUsers());
+            assertTrue(checkpointArgumentCaptor.getValue().isCompleted());
+        }
+
+        @Test
+        @DisplayName("Should throw ReportInProgressException when a run is already in progress")
+        void shouldThrowReportInProgressWhenRunIsInProgress(){
+
+            var blocked = new CompletableFuture<Void>();
+
+            doReturn(List.of()).when(reportCheckpointRepository).findByWeekStart(WEEK);
+            ReflectionTestUtils.setField(weeklyReportService, "weeklyReportExecutor", (TaskExecutor) task -> blocked.thenRun(task));
+
+            weeklyReportService.start(WEEK, false);
+
+            assertThrows(ReportInProgressException.class, () -> weeklyReportService.start(WEEK, false));
+
+            doReturn(List.of()).when(weeklyReportRepository).findUserIds(any(), any(), anyInt());
+            blocked.complete(null);
+
+            assertFalse(weeklyReportService.getRun(WEEK).running());
+        }
+
+        @Test
+        @DisplayName("Should delete the checkpoints of the week when restarted")
+        void shouldDeleteCheckpointsWhenRestarted(){
+
+            doReturn(List.of()).when(reportCheckpointRepository).findByWeekStart(WEEK);
+            doReturn(List.of()).when(weeklyReportRepository).findUserIds(any(), any(), anyInt());
+
+            weeklyReportService.start(WEEK, true).join();
+
+            verify(reportCheckpointRepository).deleteByWeekStart(WEEK);
+            verify(weeklyReportRepository, times(2)).writeChunk(eq(WEEK), eq(List.of()), any());
+        }
+    }
+
+    @Nested
+    class GetReport{
+
+        @Test
+        @DisplayName("Should throw WeeklyReportNotFoundException when the report was not generated")
+        void shouldThrowWeeklyReportNotFoundWhenReportWasNotGenerated(){
+
+            var userId = UUID.randomUUID();
+
+            doReturn(Optional.empty()).when(weeklyReportRepository).findById(new WeeklyReportId(userId, WEEK));
+
+            assertThrows(WeeklyReportNotFoundException.class, () -> weeklyReportService.getReport(userId.toString(), WEEK));
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutDeleted;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateSurvivorRule;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateWorkoutGroupDto;
+import com.franciscoosorio.workoutmanager.domain.workout.DuplicateWorkoutRowDto;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutFingerprint;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutFingerprintSourceDto;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.repository.WorkoutRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkoutDuplicateServiceTest {
+
+    @Mock
+    private WorkoutRepository workoutRepository;
+
+    @Mock
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @InjectMocks
+    private WorkoutDuplicateService workoutDuplicateService;
+
+    @Captor
+    private ArgumentCaptor<Map<UUID, String>> fingerprintsArgumentCaptor;
+
+    private final UUID userId = UUID.randomUUID();
+
+    private final UUID kept = UUID.randomUUID();
+
+    private final UUID firstDuplicate = UUID.randomUUID();
+
+    private final UUID secondDuplicate = UUID.randomUUID();
+
+    private List<DuplicateWorkoutRowDto> duplicateRows(long keptSessions) {
+        return List.of(
+            new DuplicateWorkoutRowDto(userId, "a", kept, keptSessions),
+            new DuplicateWorkoutRowDto(userId, "a", firstDuplicate, 0),
+            new DuplicateWorkoutRowDto(userId, "a", secondDuplicate, 0));
+    }
+
+    @Nested
+    class Backfill{
+
+        @Test
+        @DisplayName("Should fingerprint the workouts stored without one")
+        void shouldFingerprintWorkoutsStoredWithoutOne(){
+
+            var workoutId = UUID.randomUUID();
+            var emptyWorkoutId = UUID.randomUUID();
+            var workoutTypeId = UUID.randomUUID();
+            var squat = UUID.randomUUID();
+            var lunge = UUID.randomUUID();
+
+            doReturn(List.of(
+                new WorkoutFingerprintSourceDto(workoutId, workoutTypeId, squat),
+                new WorkoutFingerprintSourceDto(workoutId, workoutTypeId, lunge),
+                new WorkoutFingerprintSourceDto(emptyWorkoutId, workoutTypeId, null))).when(workoutRepository).findFingerprintSources();
+
+            assertEquals(2, workoutDuplicateService.backfill());
+
+            verify(workoutRepository).updateFingerprints(fingerprintsArgumentCaptor.capture());
+            assertEquals(Map.of(
+                workoutId, WorkoutFingerprint.of(workoutTypeId, List.of(lunge, squat)),
+                emptyWorkoutId, WorkoutFingerprint.of(workoutTypeId, List.of())), fingerprintsArgumentCaptor.getValue());
+        }
+    }
+
+    @Nested
+    class Cleanup{
+
+        @Test
+        @DisplayName("Should only report duplicates on a dry run")
+        void shouldOnlyReportDuplicatesOnDryRun(){
+
+            doReturn(duplicateRows(2)).when(workoutRepository).findDuplicates();
+
+            var result = workoutDuplicateService.cleanup(true);
+
+            assertEquals(List.of(new DuplicateWorkoutGroupDto(userId, kept, DuplicateSurvivorRule.MOST_SESSIONS, List.of(firstDuplicate, secondDuplicate))), result.groups());
+            assertEquals(0, result.removedWorkouts());
+            verify(workoutRepository, never()).mergeDuplicates(any());
+            verifyNoInteractions(workoutSimilarityService, domainEventBus);
+        }
+
+        @Test
+        @DisplayName("Should merge duplicates into the workout kept for each group")
+        void shouldMergeDuplicatesIntoKeptWorkout(){
+
+            doReturn(duplicateRows(0)).when(workoutRepository).findDuplicates();
+
+            var result = workoutDuplicateService.cleanup(false);
+
+            assertEquals(2, result.removedWorkouts());
+            assertEquals(DuplicateSurvivorRule.EARLIEST_CHANGE, result.groups().get(0).keptBy());
+            verify(workoutRepository).mergeDuplicates(Map.of(firstDuplicate, kept, secondDuplicate, kept));
+            verify(workoutSimilarityService).remove(firstDuplicate);
+            verify(workoutSimilarityService).remove(secondDuplicate);
+            verify(domainEventBus).publish(new WorkoutDeleted(firstDuplicate, userId));
+            verify(domainEventBus).publish(new WorkoutDeleted(secondDuplicate, userId));
+        }
+    }
+}
@@ -1,18 +1,23 @@
 package com.franciscoosorio.workoutmanager.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -25,16 +30,32 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutCreated;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutDeleted;
+import com.franciscoosorio.workoutmanager.domain.event.WorkoutUpdated;
+import com.franciscoosorio.workoutmanager.domain.projection.FieldSelection;
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
 import com.franciscoosorio.workoutmanager.domain.user.User;
 import com.franciscoosorio.workoutmanager.domain.workout.CreateWorkoutDto;
 import com.franciscoosorio.workoutmanager.domain.workout.UpdateWorkoutDto;
 import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutFingerprint;
 import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
+import com.franciscoosorio.workoutmanager.exception.DuplicateWorkoutException;
 import com.franciscoosorio.workoutmanager.exception.ExerciseNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.ReferencedEntityException;
 import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
 import com.franciscoosorio.workoutmanager.exception.WorkoutNotFoundException;
 import com.franciscoosorio.workoutmanager.exception.WorkoutTypeNotFoundException;
@@ -58,6 +79,21 @@ public class WorkoutServiceTest {
     @Mock
     private ExerciseRepository exerciseRepository;
 
+    @Spy
+    private TaskExecutor workoutLookupExecutor = new SyncTaskExecutor();
+
+    @Mock
+    private UniqueValueFilters uniqueValueFilters;
+
+    @Mock
+    private ExercisePopularityService exercisePopularityService;
+
+    @Mock
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
     @InjectMocks
     private WorkoutService workoutService;
 
@@ -117,6 +153,9 @@ public class WorkoutServiceTest {
             assertEquals(workout.getUser(), capturedWorkout.getUser());
 
             verify(workoutRepository, times(1)).save(capturedWorkout);
+            verify(exercisePopularityService, times(1)).recordAdded(createWorkoutDto.exerciseIds());
+            verify(workoutSimilarityService, times(1)).index(workout.getId(), user.getUserId(), createWorkoutDto.exerciseIds());
+            verify(domainEventBus, times(1)).publish(new WorkoutCreated(workout));
         }
 
         @Test
@@ -298,12 +337,111 @@ public class WorkoutServiceTest {
 
             var createWorkoutDto = new CreateWorkoutDto("Workout 1",null, workoutType.getId(), null);
 
-            doReturn(Optional.of(workoutType)).when(workoutTypeRepository).findById(uuidArgumentCaptor.capture());
             assertThrows(IllegalArgumentException.class, () -> workoutService.createWorkout(user.getUserId().toString(), createWorkoutDto));
 
-            assertEquals(workoutType.getId(), uuidArgumentCaptor.getValue());
+            verifyNoInteractions(workoutTypeRepository, exerciseRepository, userRepository, workoutRepository);
+        }
+
+        @Test
+        @DisplayName("Should run the workout type, exercises, user and duplicate lookups on the lookup executor")
+        void shouldRunLookupsOnLookupExecutor(){
+
+            var workoutType = new WorkoutType(UUID.randomUUID(), "Workout type 1", "Description for workout type 1");
+
+            var exercise1 = new Exercise(UUID.randomUUID(),"Exercise 1", "Description for exercise 1");
+
+            var user = new User(UUID.randomUUID(), "username", "email@example.com", "password", Instant.now(), null);
+
+            var createWorkoutDto = new CreateWorkoutDto("Workout 1","Description for workout 1", workoutType.getId(), Set.of(exercise1.getId()));
+
+            var workout = new Workout(UUID.randomUUID(),"Workout 1","Description for workout 1",workoutType,Set.of(exercise1), user);
+
+            doReturn(Optional.of(workoutType)).when(workoutTypeRepository).findById(workoutType.getId());
+            doReturn(List.of(exercise1)).when(exerciseRepository).findAllById(any());
+            doReturn(Optional.of(user)).when(userRepository).findById(user.getUserId());
+            doReturn(workout).when(workoutRepository).save(any());
+
+            var result = workoutService.createWorkout(user.getUserId().toString(), createWorkoutDto);
+
+            assertEquals(workout, result);
+            verify(workoutLookupExecutor, times(4)).execute(any());
+        }
+
+        @Test
+        @DisplayName("Should not create workout when an equivalent workout already exists")
+        void shouldNotCreateWorkoutWhenEquivalentWorkoutExists(){
+
+            var workoutType = new WorkoutType(UUID.randomUUID(), "Workout type 1", "Description for workout type 1");
+            var exercise1 = new Exercise(UUID.randomUUID(),"Exercise 1", "Description for exercise 1");
+            var user = new User(UUID.randomUUID(), "username", "email@example.com", "password", Instant.now(), null);
+            var existingWorkoutId = UUID.randomUUID();
+
+            var createWorkoutDto = new CreateWorkoutDto("Workout 1","Description for workout 1", workoutType.getId(), Set.of(exercise1.getId()));
+
+            doReturn(Optional.of(workoutType)).when(workoutTypeRepository).findById(workoutType.getId());
+            doReturn(List.of(exercise1)).when(exerciseRepository).findAllById(any());
+            doReturn(Optional.of(user)).when(userRepository).findById(user.getUserId());
+            doReturn(List.of(existingWorkoutId)).when(workoutRepository)
+                .findIdsByFingerprint(user.getUserId(), WorkoutFingerprint.of(workoutType.getId(), Set.of(exercise1.getId())), Limit.of(1));
+
+            var exception = assertThrows(DuplicateWorkoutException.class, () -> workoutService.createWorkout(user.getUserId().toString(), createWorkoutDto));
+
+            assertEquals(existingWorkoutId, exception.getExistingWorkoutId());
+            verify(workoutRepository, never()).save(any());
+            verifyNoInteractions(exercisePopularityService, workoutSimilarityService);
+        }
+
+        @Test
+        @DisplayName("Should create an equivalent workout with its fingerprint when duplicates are allowed")
+        void shouldCreateEquivalentWorkoutWhenDuplicatesAreAllowed(){
+
+            var workoutType = new WorkoutType(UUID.randomUUID(), "Workout type 1", "Description for workout type 1");
+            var exercise1 = new Exercise(UUID.randomUUID(),"Exercise 1", "Description for exercise 1");
+            var user = new User(UUID.randomUUID(), "username", "email@example.com", "password", Instant.now(), null);
+
+            var createWorkoutDto = new CreateWorkoutDto("Workout 1","Description for workout 1", workoutType.getId(), Set.of(exercise1.getId()));
+            var workout = new Workout(UUID.randomUUID(),"Workout 1","Description for workout 1",workoutType,Set.of(exercise1), user);
+
+            doReturn(Optional.of(workoutType)).when(workoutTypeRepository).findById(workoutType.getId());
+            doReturn(List.of(exercise1)).when(exerciseRepository).findAllById(any());
+            doReturn(Optional.of(user)).when(userRepository).findById(user.getUserId());
+            doReturn(workout).when(workoutRepository).save(workoutArgumentCaptor.capture());
+
+            workoutService.createWorkout(user.getUserId().toString(), createWorkoutDto, true);
+
+            assertEquals(WorkoutFingerprint.of(workoutType.getId(), Set.of(exercise1.getId())), workoutArgumentCaptor.getValue().getFingerprint());
+            verify(workoutRepository, never()).findIdsByFingerprint(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Should fail with the first not found error when several lookups miss")
+        void shouldFailWithFirstNotFoundWhenSeveralLookupsMiss(){
+
+            var createWorkoutDto = new CreateWorkoutDto("Workout 1","Description for workout 1", UUID.randomUUID(), Set.of(UUID.randomUUID()));
+
+            doReturn(Optional.empty()).when(workoutTypeRepository).findById(any());
+            doReturn(List.of()).when(exerciseRepository).findAllById(any());
+            doReturn(Optional.empty()).when(userRepository).findById(any());
+
+            assertThrows(WorkoutTypeNotFoundException.class, () -> workoutService.createWorkout(UUID.randomUUID().toString(), createWorkoutDto));
+
             verify(workoutRepository, times(0)).save(any());
         }
+
+        @Test
+        @DisplayName("Should not create workout when name is already taken")
+        void shouldNotCreateWorkoutWhenNameIsAlreadyTaken(){
+
+            var createWorkoutDto = new CreateWorkoutDto("Workout 1","Description for workout 1", UUID.randomUUID(), Set.of(UUID.randomUUID()));
+
+            doReturn(true).when(uniqueValueFilters).mightExist(UniqueColumn.WORKOUT_NAME, "Workout 1");
+            doReturn(true).when(workoutRepository).existsByName("Workout 1");
+
+            assertThrows(DuplicateValueException.class, () -> workoutService.createWorkout(UUID.randomUUID().toString(), createWorkoutDto));
+
+            verifyNoInteractions(workoutTypeRepository, exerciseRepository, userRepository);
+            verify(workoutRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -429,6 +567,54 @@ public class WorkoutServiceTest {
         }
     }
 
+    @Nested
+    class GetWorkoutFieldsByUserId{
+
+        @Captor
+        private ArgumentCaptor<FieldSelection> fieldSelectionArgumentCaptor;
+
+        @Test
+        @DisplayName("Should project only the requested workout fields")
+        void shouldProjectOnlyRequestedWorkoutFields(){
+
+            var userId = UUID.randomUUID();
+            var projection = List.<Map<String, Object>>of(Map.of("id", UUID.randomUUID(), "name", "Workout 1"));
+
+            doReturn(true).when(userRepository).existsById(userId);
+            doReturn(projection).when(workoutRepository).findFieldsByUserId(eq(userId), fieldSelectionArgumentCaptor.capture());
+
+            var output = workoutService.getWorkoutFieldsByUserId(userId.toString(), "name,exercises.name");
+
+            assertEquals(projection, output);
+
+            var selection = fieldSelectionArgumentCaptor.getValue();
+            assertEquals(Set.of("id", "name"), selection.fields());
+            assertEquals(Set.of("id", "name"), selection.fieldsOf("exercises"));
+            assertFalse(selection.includes("workoutType"));
+        }
+
+        @Test
+        @DisplayName("Should reject unknown fields before querying the database")
+        void shouldRejectUnknownFieldsBeforeQueryingDatabase(){
+
+            assertThrows(IllegalArgumentException.class, () -> workoutService.getWorkoutFieldsByUserId(UUID.randomUUID().toString(), "name,user.password"));
+
+            verifyNoInteractions(userRepository, workoutRepository);
+        }
+
+        @Test
+        @DisplayName("Should not project workout fields when user not exists")
+        void shouldNotProjectWorkoutFieldsWhenUserNotExists(){
+
+            var userId = UUID.randomUUID();
+
+            doReturn(false).when(userRepository).existsById(userId);
+
+            assertThrows(UserNotFoundException.class, () -> workoutService.getWorkoutFieldsByUserId(userId.toString(), "name"));
+            verify(workoutRepository, never()).findFieldsByUserId(any(), any());
+        }
+    }
+
     @Nested
     class UpdateWorkout{
         
@@ -474,11 +660,15 @@ public class WorkoutServiceTest {
             assertEquals(updateWorkoutDto.description(), capturedWorkout.getDescription());
             assertEquals(newWorkoutType, capturedWorkout.getWorkoutType());
             assertEquals(Set.of(exercise2), capturedWorkout.getExercises());
+            assertEquals(WorkoutFingerprint.of(newWorkoutType.getId(), Set.of(exercise2.getId())), capturedWorkout.getFingerprint());
 
             verify(workoutRepository, times(1)).findByIdAndUser_UserId(workout.getId(),user.getUserId());
             verify(workoutTypeRepository, times(1)).findById(newWorkoutType.getId());
             verify(exerciseRepository, times(1)).findAllById(updateWorkoutDto.exerciseIds());
             verify(workoutRepository, times(1)).save(workout);
+            verify(exercisePopularityService, times(1)).recordAdded(Set.of(exercise2.getId()));
+            verify(workoutSimilarityService, times(1)).index(workout.getId(), user.getUserId(), updateWorkoutDto.exerciseIds());
+            verify(domainEventBus, times(1)).publish(new WorkoutUpdated(workout));
         }
 
         @Test
@@ -789,7 +979,7 @@ public class WorkoutServiceTest {
             var workoutId = UUID.randomUUID();
             var userId = UUID.randomUUID();
 
-            doReturn(true).when(workoutRepository).existsByIdAndUser_UserId(uuidArgumentCaptor.capture(),uuidArgumentCaptor.capture());
+            doReturn(Optional.of(new ReferenceCountDto(0, 0, 0, 0))).when(workoutRepository).findReferenceCounts(uuidArgumentCaptor.capture(),uuidArgumentCaptor.capture());
             doNothing().when(workoutRepository).deleteById(workoutId);
 
             workoutService.deleteWorkoutById(workoutId.toString(), userId.toString());
@@ -799,8 +989,10 @@ public class WorkoutServiceTest {
             assertEquals(ids.get(0), workoutId);
             assertEquals(ids.get(1), userId);
             
-            verify(workoutRepository,times(1)).existsByIdAndUser_UserId(ids.get(0),ids.get(1));
+            verify(workoutRepository,times(1)).findReferenceCounts(ids.get(0),ids.get(1));
             verify(workoutRepository,times(1)).deleteById(ids.get(0));
+            verify(workoutSimilarityService,times(1)).remove(workoutId);
+            verify(domainEventBus,times(1)).publish(new WorkoutDeleted(workoutId, userId));
         }
 
         @Test
@@ -810,7 +1002,7 @@ public class WorkoutServiceTest {
             var workoutId = UUID.randomUUID();
             var userId = UUID.randomUUID();
 
-            doReturn(false).when(workoutRepository).existsByIdAndUser_UserId(uuidArgumentCaptor.capture(),uuidArgumentCaptor.capture());
+            doReturn(Optional.empty()).when(workoutRepository).findReferenceCounts(uuidArgumentCaptor.capture(),uuidArgumentCaptor.capture());
 
             assertThrows(WorkoutNotFoundException.class, () -> workoutService.deleteWorkoutById(workoutId.toString(), userId.toString()));
 
@@ -819,8 +1011,26 @@ public class WorkoutServiceTest {
             assertEquals(ids.get(0), workoutId);
             assertEquals(ids.get(1), userId);
 
-            verify(workoutRepository,times(1)).existsByIdAndUser_UserId(workoutId,userId);
+            verify(workoutRepository,times(1)).findReferenceCounts(workoutId,userId);
+            verify(workoutRepository,times(0)).deleteById(any());
+        }
+
+        @Test
+        @DisplayName("Should refuse to delete a workout with logged sessions")
+        void shouldRefuseToDeleteWorkoutWithLoggedSessions(){
+
+            var workoutId = UUID.randomUUID();
+            var userId = UUID.randomUUID();
+            var references = new ReferenceCountDto(0, 0, 2, 9);
+
+            doReturn(Optional.of(references)).when(workoutRepository).findReferenceCounts(workoutId, userId);
+
+            var exception = assertThrows(ReferencedEntityException.class, () -> workoutService.deleteWorkoutById(workoutId.toString(), userId.toString()));
+
+            assertEquals(references, exception.getReferences());
             verify(workoutRepository,times(0)).deleteById(any());
+            verify(workoutSimilarityService,times(0)).remove(any());
+            verify(domainEventBus,times(0)).publish(any());
         }
     }
 }
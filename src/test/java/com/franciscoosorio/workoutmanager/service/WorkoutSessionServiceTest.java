@@ -0,0 +1,303 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.session.CreateSetEntryDto;
+import com.franciscoosorio.workoutmanager.domain.session.CreateWorkoutSessionDto;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntry;
+import com.franciscoosorio.workoutmanager.domain.session.SetEntryDto;
+import com.franciscoosorio.workoutmanager.domain.session.WorkoutSession;
+import com.franciscoosorio.workoutmanager.domain.session.WorkoutSessionDto;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.exception.SetEntryNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.WorkoutNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.WorkoutSessionNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.ExerciseRepository;
+import com.franciscoosorio.workoutmanager.repository.SetEntryRepository;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutSessionRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkoutSessionServiceTest {
+
+    @Mock
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Mock
+    private SetEntryRepository setEntryRepository;
+
+    @Mock
+    private WorkoutRepository workoutRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @Mock
+    private VolumeRollupService volumeRollupService;
+
+    @Mock
+    private PersonalRecordService personalRecordService;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private ExercisePopularityService exercisePopularityService;
+
+    @InjectMocks
+    private WorkoutSessionService workoutSessionService;
+
+    @Captor
+    private ArgumentCaptor<WorkoutSession> workoutSessionArgumentCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<SetEntry>> setEntriesArgumentCaptor;
+
+    @Nested
+    class StartSession{
+
+        @Test
+        @DisplayName("Should start a session for a workout of the user")
+        void shouldStartSessionForWorkoutOfUser(){
+
+            var user = new User(UUID.randomUUID(), "username", "email@example.com", "password", Instant.now(), null);
+            var workout = new Workout(UUID.randomUUID(), "Workout 1", "Description for workout 1", null, null, user);
+            var startedAt = Instant.parse("2024-05-01T10:00:00Z");
+
+            doReturn(true).when(workoutRepository).existsByIdAndUser_UserId(workout.getId(), user.getUserId());
+            doReturn(user).when(userRepository).getReferenceById(user.getUserId());
+            doReturn(workout).when(workoutRepository).getReferenceById(workout.getId());
+            doAnswer(invocation -> invocation.getArgument(0)).when(workoutSessionRepository).save(workoutSessionArgumentCaptor.capture());
+
+            var output = workoutSessionService.startSession(user.getUserId().toString(), new CreateWorkoutSessionDto(workout.getId(), startedAt));
+
+            var session = workoutSessionArgumentCaptor.getValue();
+
+            assertEquals(new WorkoutSessionDto(session.getId(), workout.getId(), startedAt), output);
+
+            assertEquals(7, session.getId().version());
+            assertEquals(user, session.getUser());
+            assertEquals(workout, session.getWorkout());
+            assertEquals(startedAt, session.getStartedAt());
+
+            verify(leaderboardService).recordSession(user.getUserId(), startedAt);
+        }
+
+        @Test
+        @DisplayName("Should throw WorkoutNotFoundException when the workout does not belong to the user")
+        void shouldThrowWorkoutNotFoundWhenWorkoutDoesNotBelongToUser(){
+
+            var userId = UUID.randomUUID();
+            var workoutId = UUID.randomUUID();
+
+            doReturn(false).when(workoutRepository).existsByIdAndUser_UserId(workoutId, userId);
+
+            assertThrows(WorkoutNotFoundException.class, () -> workoutSessionService.startSession(userId.toString(), new CreateWorkoutSessionDto(workoutId, null)));
+
+            verifyNoInteractions(workoutSessionRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the workout id is missing")
+        void shouldThrowIllegalArgumentWhenWorkoutIdIsMissing(){
+
+            assertThrows(IllegalArgumentException.class, () -> workoutSessionService.startSession(UUID.randomUUID().toString(), new CreateWorkoutSessionDto(null, null)));
+
+            verifyNoInteractions(workoutRepository, workoutSessionRepository);
+        }
+    }
+
+    @Nested
+    class LogSets{
+
+        @Test
+        @DisplayName("Should save all sets of the request in one call")
+        void shouldSaveAllSetsInOneCall(){
+
+            var userId = UUID.randomUUID();
+            var sessionId = UUID.randomUUID();
+            var workoutTypeId = UUID.randomUUID();
+            var exercise = new Exercise(UUID.randomUUID(), "Exercise 1", "Description for exercise 1");
+            var performedAt = Instant.parse("2024-05-01T10:00:00Z");
+
+            doReturn(Optional.of(workoutTypeId)).when(workoutSessionRepository).findWorkoutTypeId(sessionId, userId);
+            doReturn(exercise).when(exerciseRepository).getReferenceById(exercise.getId());
+
+            var output = workoutSessionService.logSets(userId.toString(), sessionId.toString(), List.of(
+                new CreateSetEntryDto(exercise.getId(), 5, new BigDecimal("100"), performedAt),
+                new CreateSetEntryDto(exercise.getId(), 3, new BigDecimal("105"), performedAt.plusSeconds(120))));
+
+            verify(setEntryRepository).saveAll(setEntriesArgumentCaptor.capture());
+
+            var entries = setEntriesArgumentCaptor.getValue();
+
+            assertEquals(2, entries.size());
+            assertEquals(5, entries.get(0).getReps());
+            assertEquals(new BigDecimal("105"), entries.get(1).getWeight());
+            assertEquals(2, output.size());
+            assertEquals(new SetEntryDto(entries.get(0).getId(), sessionId, exercise.getId(), 5, new BigDecimal("100"), performedAt), output.get(0));
+
+            verify(volumeRollupService).record(userId, output);
+            verify(personalRecordService).record(userId, output);
+            verify(leaderboardService).recordSets(userId, workoutTypeId, output);
+            verify(exercisePopularityService).recordPerformed(output);
+        }
+
+        @Test
+        @DisplayName("Should throw WorkoutSessionNotFoundException when the session does not belong to the user")
+        void shouldThrowWorkoutSessionNotFoundWhenSessionDoesNotBelongToUser(){
+
+            var userId = UUID.randomUUID();
+            var sessionId = UUID.randomUUID();
+
+            doReturn(Optional.empty()).when(workoutSessionRepository).findWorkoutTypeId(sessionId, userId);
+
+            assertThrows(WorkoutSessionNotFoundException.class, () -> workoutSessionService.logSets(userId.toString(), sessionId.toString(), List.of(
+                new CreateSetEntryDto(UUID.randomUUID(), 5, BigDecimal.TEN, null))));
+
+            verifyNoInteractions(setEntryRepository, volumeRollupService, personalRecordService, leaderboardService, exercisePopularityService);
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when a set is invalid")
+        void shouldThrowIllegalArgumentWhenSetIsInvalid(){
+
+            assertThrows(IllegalArgumentException.class, () -> workoutSessionService.logSets(UUID.randomUUID().toString(), UUID.randomUUID().toString(), List.of(
+                new CreateSetEntryDto(UUID.randomUUID(), 0, BigDecimal.TEN, null))));
+
+            assertThrows(IllegalArgumentException.class, () -> workoutSessionService.logSets(UUID.randomUUID().toString(), UUID.randomUUID().toString(), List.of()));
+
+            verifyNoInteractions(workoutSessionRepository, setEntryRepository);
+        }
+    }
+
+    @Nested
+    class DeleteSet{
+
+        @Test
+        @DisplayName("Should delete the set and correct the rollups and personal records")
+        void shouldDeleteSetAndCorrectDerivedData(){
+
+            var userId = UUID.randomUUID();
+            var set = new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 5, new BigDecimal("100"), Instant.parse("2024-05-01T10:00:00Z"));
+
+            doReturn(Optional.of(set)).when(setEntryRepository).findEntry(set.id(), userId);
+
+            workoutSessionService.deleteSet(userId.toString(), set.id().toString());
+
+            var order = inOrder(setEntryRepository, volumeRollupService, personalRecordService, leaderboardService);
+            order.verify(setEntryRepository).deleteEntry(set.id());
+            order.verify(volumeRollupService).remove(userId, set);
+            order.verify(personalRecordService).remove(userId, set);
+            order.verify(leaderboardService).removeSet(userId, set);
+        }
+
+        @Test
+        @DisplayName("Should throw SetEntryNotFoundException when the set does not belong to the user")
+        void shouldThrowSetEntryNotFoundWhenSetDoesNotBelongToUser(){
+
+            var userId = UUID.randomUUID();
+            var setId = UUID.randomUUID();
+
+            doReturn(Optional.empty()).when(setEntryRepository).findEntry(setId, userId);
+
+            assertThrows(SetEntryNotFoundException.class, () -> workoutSessionService.deleteSet(userId.toString(), setId.toString()));
+
+            verifyNoInteractions(volumeRollupService, personalRecordService, leaderboardService);
+        }
+    }
+
+    @Nested
+    class GetSets{
+
+        @Test
+        @DisplayName("Should return a cursor when more sets are available")
+        void shouldReturnCursorWhenMoreSetsAreAvailable(){
+
+            var userId = UUID.randomUUID();
+            var first = new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 5, BigDecimal.TEN, Instant.parse("2024-05-01T10:00:00Z"));
+            var second = new SetEntryDto(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), 5, BigDecimal.TEN, Instant.parse("2024-05-01T10:01:00Z"));
+
+            doReturn(true).when(userRepository).existsById(userId);
+            doReturn(List.of(first, second)).when(setEntryRepository).findRangeAfter(eq(userId), any(), eq(Instant.EPOCH), eq(new UUID(0, 0)), eq(Limit.of(2)));
+
+            var output = workoutSessionService.getSets(userId.toString(), null, null, null, 1);
+
+            assertEquals(List.of(first), output.items());
+            assertEquals("2024-05-01T10:00:00Z_" + first.id(), output.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should continue after the cursor position")
+        void shouldContinueAfterCursorPosition(){
+
+            var userId = UUID.randomUUID();
+            var lastId = UUID.randomUUID();
+            var lastTime = Instant.parse("2024-05-01T10:00:00Z");
+
+            doReturn(true).when(userRepository).existsById(userId);
+            doReturn(List.of()).when(setEntryRepository).findRangeAfter(eq(userId), any(), eq(lastTime), eq(lastId), eq(Limit.of(101)));
+
+            var output = workoutSessionService.getSets(userId.toString(), null, null, lastTime + "_" + lastId, null);
+
+            assertEquals(List.of(), output.items());
+            assertNull(output.nextCursor());
+        }
+
+        @Test
+        @DisplayName("Should throw IllegalArgumentException when the cursor is invalid")
+        void shouldThrowIllegalArgumentWhenCursorIsInvalid(){
+
+            assertThrows(IllegalArgumentException.class, () -> workoutSessionService.getSets(UUID.randomUUID().toString(), null, null, "not-a-cursor", null));
+            assertThrows(IllegalArgumentException.class, () -> workoutSessionService.getSets(UUID.randomUUID().toString(), null, null, null, 0));
+
+            verifyNoInteractions(setEntryRepository);
+        }
+
+        @Test
+        @DisplayName("Should throw UserNotFoundException when the user does not exist")
+        void shouldThrowUserNotFoundWhenUserDoesNotExist(){
+
+            var userId = UUID.randomUUID();
+
+            doReturn(false).when(userRepository).existsById(userId);
+
+            assertThrows(UserNotFoundException.class, () -> workoutSessionService.getSets(userId.toString(), null, null, null, null));
+
+            verifyNoInteractions(setEntryRepository);
+        }
+    }
+}
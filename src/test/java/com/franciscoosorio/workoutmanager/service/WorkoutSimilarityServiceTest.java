@@ -0,0 +1,219 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.franciscoosorio.workoutmanager.domain.similarity.WorkoutExerciseDto;
+import com.franciscoosorio.workoutmanager.exception.UserNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.WorkoutNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkoutSimilarityServiceTest {
+
+    @Mock
+    private WorkoutRepository workoutRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    private final List<UUID> exercises = ids(10);
+
+    @BeforeEach
+    void setUp() {
+        workoutSimilarityService.init();
+    }
+
+    private static List<UUID> ids(int count) {
+
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+
+    private List<UUID> variation() {
+
+        var variation = new ArrayList<>(exercises.subList(0, 9));
+        variation.add(UUID.randomUUID());
+        return variation;
+    }
+
+    @Nested
+    class Rebuild{
+
+        @Test
+        @DisplayName("Should index the workouts stored in the database")
+        void shouldIndexStoredWorkouts(){
+
+            var user = UUID.randomUUID();
+            var otherUser = UUID.randomUUID();
+            var workout = UUID.randomUUID();
+            var similar = UUID.randomUUID();
+            var empty = UUID.randomUUID();
+
+            var rows = new ArrayList<WorkoutExerciseDto>();
+            exercises.forEach(exerciseId -> rows.add(new WorkoutExerciseDto(workout, user, exerciseId)));
+            variation().forEach(exerciseId -> rows.add(new WorkoutExerciseDto(similar, otherUser, exerciseId)));
+            rows.add(new WorkoutExerciseDto(empty, user, null));
+
+            doReturn(rows).when(workoutRepository).findAllWorkoutExercises();
+
+            workoutSimilarityService.rebuild();
+
+            assertEquals(similar, workoutSimilarityService.getSimilarWorkouts(user.toString(), workout.toString(), null).get(0).workoutId());
+            assertEquals(otherUser, workoutSimilarityService.getSimilarUsers(user.toString(), null).get(0).userId());
+            assertTrue(workoutSimilarityService.getSimilarWorkouts(user.toString(), empty.toString(), null).isEmpty());
+        }
+    }
+
+    @Nested
+    class GetSimilarWorkouts{
+
+        @Test
+        @DisplayName("Should rank workouts sharing most exercises first")
+        void shouldRankWorkoutsSharingMostExercisesFirst(){
+
+            var user = UUID.randomUUID();
+            var workout = UUID.randomUUID();
+            var close = UUID.randomUUID();
+            var unrelated = UUID.randomUUID();
+
+            workoutSimilarityService.index(workout, user, exercises);
+            workoutSimilarityService.index(close, UUID.randomUUID(), variation());
+            workoutSimilarityService.index(unrelated, UUID.randomUUID(), ids(10));
+
+            var similar = workoutSimilarityService.getSimilarWorkouts(user.toString(), workout.toString(), 5);
+
+            assertEquals(1, similar.size());
+            assertEquals(close, similar.get(0).workoutId());
+            verifyNoInteractions(workoutRepository, userRepository);
+        }
+
+        @Test
+        @DisplayName("Should reflect workout updates and deletions")
+        void shouldReflectWorkoutUpdatesAndDeletions(){
+
+            var user = UUID.randomUUID();
+            var workout = UUID.randomUUID();
+            var other = UUID.randomUUID();
+
+            workoutSimilarityService.index(workout, user, exercises);
+            workoutSimilarityService.index(other, UUID.randomUUID(), ids(10));
+
+            assertTrue(workoutSimilarityService.getSimilarWorkouts(user.toString(), workout.toString(), 5).isEmpty());
+
+            workoutSimilarityService.index(other, UUID.randomUUID(), exercises);
+
+            assertEquals(1.0, workoutSimilarityService.getSimilarWorkouts(user.toString(), workout.toString(), 5).get(0).similarity());
+
+            workoutSimilarityService.remove(other);
+
+            assertTrue(workoutSimilarityService.getSimilarWorkouts(user.toString(), workout.toString(), 5).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should not answer for a workout of another user")
+        void shouldNotAnswerForWorkoutOfAnotherUser(){
+
+            var workout = UUID.randomUUID();
+
+            workoutSimilarityService.index(workout, UUID.randomUUID(), exercises);
+
+            assertThrows(WorkoutNotFoundException.class, () -> workoutSimilarityService.getSimilarWorkouts(UUID.randomUUID().toString(), workout.toString(), 5));
+        }
+
+        @Test
+        @DisplayName("Should reject a limit out of range")
+        void shouldRejectLimitOutOfRange(){
+
+            assertThrows(IllegalArgumentException.class, () -> workoutSimilarityService.getSimilarWorkouts(UUID.randomUUID().toString(), UUID.randomUUID().toString(), 51));
+        }
+    }
+
+    @Nested
+    class GetSimilarUsers{
+
+        @Test
+        @DisplayName("Should compare users by the union of their workouts")
+        void shouldCompareUsersByUnionOfWorkouts(){
+
+            var user = UUID.randomUUID();
+            var splitRoutine = UUID.randomUUID();
+
+            workoutSimilarityService.index(UUID.randomUUID(), user, exercises);
+            workoutSimilarityService.index(UUID.randomUUID(), splitRoutine, exercises.subList(0, 5));
+            workoutSimilarityService.index(UUID.randomUUID(), splitRoutine, exercises.subList(5, 10));
+            workoutSimilarityService.index(UUID.randomUUID(), UUID.randomUUID(), ids(10));
+
+            var similar = workoutSimilarityService.getSimilarUsers(user.toString(), 5);
+
+            assertEquals(1, similar.size());
+            assertEquals(splitRoutine, similar.get(0).userId());
+            assertEquals(1.0, similar.get(0).similarity());
+        }
+
+        @Test
+        @DisplayName("Should answer an empty list for an existing user without workouts")
+        void shouldAnswerEmptyListForUserWithoutWorkouts(){
+
+            var user = UUID.randomUUID();
+
+            doReturn(true).when(userRepository).existsById(user);
+
+            assertTrue(workoutSimilarityService.getSimilarUsers(user.toString(), 5).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should not answer for a missing user")
+        void shouldNotAnswerForMissingUser(){
+
+            var user = UUID.randomUUID();
+
+            doReturn(false).when(userRepository).existsById(user);
+
+            assertThrows(UserNotFoundException.class, () -> workoutSimilarityService.getSimilarUsers(user.toString(), 5));
+        }
+    }
+
+    @Nested
+    class Remove{
+
+        @Test
+        @DisplayName("Should drop a user from the index when its last workout is removed")
+        void shouldDropUserWhenLastWorkoutIsRemoved(){
+
+            var user = UUID.randomUUID();
+            var other = UUID.randomUUID();
+            var workout = UUID.randomUUID();
+
+            workoutSimilarityService.index(workout, user, exercises);
+            workoutSimilarityService.index(UUID.randomUUID(), other, Set.copyOf(exercises));
+            workoutSimilarityService.remove(workout);
+
+            assertTrue(workoutSimilarityService.getSimilarUsers(other.toString(), 5).isEmpty());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.franciscoosorio.workoutmanager.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
+import com.franciscoosorio.workoutmanager.domain.event.TemplateAssigned;
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.template.AssignTemplateDto;
+import com.franciscoosorio.workoutmanager.domain.template.AssignedWorkoutDto;
+import com.franciscoosorio.workoutmanager.domain.template.CreateWorkoutTemplateDto;
+import com.franciscoosorio.workoutmanager.domain.template.WorkoutTemplate;
+import com.franciscoosorio.workoutmanager.domain.workout.WorkoutFingerprint;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
+import com.franciscoosorio.workoutmanager.exception.ExerciseNotFoundException;
+import com.franciscoosorio.workoutmanager.exception.WorkoutTemplateNotFoundException;
+import com.franciscoosorio.workoutmanager.repository.ExerciseRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutTemplateRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutTypeRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkoutTemplateServiceTest {
+
+    @Mock
+    private WorkoutTemplateRepository workoutTemplateRepository;
+
+    @Mock
+    private WorkoutTypeRepository workoutTypeRepository;
+
+    @Mock
+    private ExerciseRepository exerciseRepository;
+
+    @Mock
+    private UniqueValueFilters uniqueValueFilters;
+
+    @Mock
+    private ExercisePopularityService exercisePopularityService;
+
+    @Mock
+    private WorkoutSimilarityService workoutSimilarityService;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
+    @InjectMocks
+    private WorkoutTemplateService workoutTemplateService;
+
+    @Captor
+    private ArgumentCaptor<Map<UUID, UUID>> workoutIdByUserArgumentCaptor;
+
+    private final WorkoutType workoutType = new WorkoutType(UUID.randomUUID(), "Legs", "description");
+
+    private final Exercise squat = new Exercise(UUID.randomUUID(), "Squat", "description");
+
+    private WorkoutTemplate template() {
+        var template = new WorkoutTemplate("Leg day", "description", workoutType, Set.of(squat));
+        template.setId(UUID.randomUUID());
+        return template;
+    }
+
+    @Nested
+    class CreateTemplate{
+
+        @Test
+        @DisplayName("Should create a template with its type and exercises")
+        void shouldCreateTemplate(){
+
+            var input = new CreateWorkoutTemplateDto("Leg day", "description", workoutType.getId(), Set.of(squat.getId()));
+            doReturn(false).when(workoutTemplateRepository).existsByName("Leg day");
+            doReturn(Optional.of(workoutType)).when(workoutTypeRepository).findById(workoutType.getId());
+            doReturn(List.of(squat)).when(exerciseRepository).findAllById(input.exerciseIds());
+            doReturn(template()).when(workoutTemplateRepository).save(any());
+
+            var output = workoutTemplateService.createTemplate(input);
+
+            assertEquals("Leg day", output.getName());
+        }
+
+        @Test
+        @DisplayName("Should reject a template name already in use")
+        void shouldRejectDuplicateName(){
+
+            var input = new CreateWorkoutTemplateDto("Leg day", "description", workoutType.getId(), Set.of(squat.getId()));
+            doReturn(true).when(workoutTemplateRepository).existsByName("Leg day");
+
+            assertThrows(DuplicateValueException.class, () -> workoutTemplateService.createTemplate(input));
+            verify(workoutTemplateRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should reject a template referencing unknown exercises")
+        void shouldRejectUnknownExercises(){
+
+            var input = new CreateWorkoutTemplateDto("Leg day", "description", workoutType.getId(), Set.of(squat.getId(), UUID.randomUUID()));
+            doReturn(false).when(workoutTemplateRepository).existsByName("Leg day");
+            doReturn(Optional.of(workoutType)).when(workoutTypeRepository).findById(workoutType.getId());
+            doReturn(List.of(squat)).when(exerciseRepository).findAllById(input.exerciseIds());
+
+            assertThrows(ExerciseNotFoundException.class, () -> workoutTemplateService.createTemplate(input));
+        }
+    }
+
+    @Nested
+    class AssignTemplate{
+
+        @Test
+        @DisplayName("Should clone the template once per distinct user and report the skipped users")
+        void shouldCloneTemplatePerDistinctUser(){
+
+            var template = template();
+            var first = UUID.randomUUID();
+            var second = UUID.randomUUID();
+            var assignedWorkout = new AssignedWorkoutDto(first, UUID.randomUUID(), "Leg day - first");
+            var fingerprint = WorkoutFingerprint.of(workoutType.getId(), Set.of(squat.getId()));
+
+            doReturn(Optional.of(template)).when(workoutTemplateRepository).findWithExercisesById(template.getId());
+            doReturn(List.of(assignedWorkout)).when(workoutTemplateRepository).assign(eq(template.getId()), eq(fingerprint), any());
+
+            var output = workoutTemplateService.assignTemplate(template.getId().toString(), new AssignTemplateDto(List.of(first, second, first)));
+
+            verify(workoutTemplateRepository).assign(eq(template.getId()), eq(fingerprint), workoutIdByUserArgumentCaptor.capture());
+            assertEquals(List.of(first, second), List.copyOf(workoutIdByUserArgumentCaptor.getValue().keySet()));
+            assertEquals(List.of(assignedWorkout), output.assigned());
+            assertEquals(List.of(second), output.skippedUserIds());
+            verify(uniqueValueFilters).add(UniqueColumn.WORKOUT_NAME, "Leg day - first");
+            verify(workoutSimilarityService).index(assignedWorkout.workoutId(), first, Set.of(squat.getId()));
+            verify(exercisePopularityService).recordAdded(Set.of(squat.getId()), 1);
+            verify(domainEventBus).publish(new TemplateAssigned(template.getId(), List.of(first)));
+        }
+
+        @Test
+        @DisplayName("Should throw WorkoutTemplateNotFoundException when the template does not exist")
+        void shouldThrowWhenTemplateNotFound(){
+
+            var templateId = UUID.randomUUID();
+            doReturn(Optional.empty()).when(workoutTemplateRepository).findWithExercisesById(templateId);
+
+            assertThrows(WorkoutTemplateNotFoundException.class,
+                () -> workoutTemplateService.assignTemplate(templateId.toString(), new AssignTemplateDto(List.of(UUID.randomUUID()))));
+            verify(exercisePopularityService, never()).recordAdded(any(), anyLong());
+        }
+
+        @Test
+        @DisplayName("Should reject an assignment without users")
+        void shouldRejectAssignmentWithoutUsers(){
+
+            assertThrows(IllegalArgumentException.class,
+                () -> workoutTemplateService.assignTemplate(UUID.randomUUID().toString(), new AssignTemplateDto(List.of())));
+            verifyNoInteractions(workoutTemplateRepository);
+        }
+    }
+}
@@ -4,11 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,9 +26,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import com.franciscoosorio.workoutmanager.cache.NegativeLookupCache;
+import com.franciscoosorio.workoutmanager.cache.UniqueColumn;
+import com.franciscoosorio.workoutmanager.cache.UniqueValueFilters;
+import com.franciscoosorio.workoutmanager.domain.reference.ReferenceCountDto;
 import com.franciscoosorio.workoutmanager.domain.workouttype.CreateWorkoutTypeDto;
 import com.franciscoosorio.workoutmanager.domain.workouttype.UpdateWorkoutTypeDto;
 import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.events.DomainEventBus;
+import com.franciscoosorio.workoutmanager.exception.DuplicateValueException;
+import com.franciscoosorio.workoutmanager.exception.ReferencedEntityException;
 import com.franciscoosorio.workoutmanager.exception.WorkoutTypeNotFoundException;
 import com.franciscoosorio.workoutmanager.repository.WorkoutTypeRepository;
 
@@ -37,6 +45,21 @@ public class WorkoutTypeServiceTest {
     @Mock
     private WorkoutTypeRepository workoutTypeRepository;
 
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+
+    @Mock
+    private UniqueValueFilters uniqueValueFilters;
+
+    @Mock
+    private WorkoutDuplicateService workoutDuplicateService;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private DomainEventBus domainEventBus;
+
     @InjectMocks
     private WorkoutTypeService workoutTypeService;
 
@@ -113,6 +136,19 @@ public class WorkoutTypeServiceTest {
 
             assertThrows(DataIntegrityViolationException.class, () -> workoutTypeService.createWorkoutType(input));
         }
+
+        @Test
+        @DisplayName("Should reject a workout type name that is already taken before saving")
+        void shouldRejectWorkoutTypeNameAlreadyTakenBeforeSaving(){
+
+            doReturn(true).when(uniqueValueFilters).mightExist(UniqueColumn.WORKOUT_TYPE_NAME, "existing");
+            doReturn(true).when(workoutTypeRepository).existsByName("existing");
+
+            var input = new CreateWorkoutTypeDto("existing", "Description");
+
+            assertThrows(DuplicateValueException.class, () -> workoutTypeService.createWorkoutType(input));
+            verify(workoutTypeRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -143,6 +179,48 @@ public class WorkoutTypeServiceTest {
             assertEquals(workoutType.getId(), uuidArgumentCaptor.getValue());
             assertEquals(workoutType, output);
         }
+
+        @Test
+        @DisplayName("Should remember a workout type that was not found")
+        void shouldRecordMissingWorkoutTypeWhenNotFound(){
+
+            var workoutTypeId = UUID.randomUUID();
+            doReturn(Optional.empty()).when(workoutTypeRepository).findById(workoutTypeId);
+
+            assertThrows(WorkoutTypeNotFoundException.class, () -> workoutTypeService.getWorkoutTypeById(workoutTypeId.toString()));
+            verify(negativeLookupCache, times(1)).recordMissing(WorkoutType.class, workoutTypeId);
+        }
+
+        @Test
+        @DisplayName("Should not query the database when workout type is known to be missing")
+        void shouldNotQueryDatabaseWhenWorkoutTypeIsKnownMissing(){
+
+            var workoutTypeId = UUID.randomUUID();
+            doReturn(true).when(negativeLookupCache).isKnownMissing(WorkoutType.class, workoutTypeId);
+
+            assertThrows(WorkoutTypeNotFoundException.class, () -> workoutTypeService.getWorkoutTypeById(workoutTypeId.toString()));
+            verify(workoutTypeRepository, never()).findById(any());
+        }
+    }
+
+    @Nested
+    class GetWorkoutTypesByIds{
+
+        @Test
+        @DisplayName("Should return workouttypes in request order and report missing ids")
+        void shouldReturnWorkoutTypesInRequestOrderAndReportMissingIds(){
+
+            var workoutType1 = new WorkoutType(UUID.randomUUID(), "Workout type 1", "Description for workout type 1");
+            var workoutType2 = new WorkoutType(UUID.randomUUID(), "Workout type 2", "Description for workout type 2");
+            var missingId = UUID.randomUUID();
+
+            doReturn(List.of(workoutType1, workoutType2)).when(workoutTypeRepository).findAllById(any());
+
+            var output = workoutTypeService.getWorkoutTypesByIds(List.of(workoutType2.getId().toString(), missingId.toString(), workoutType1.getId().toString()));
+
+            assertEquals(List.of(workoutType2, workoutType1), output.items());
+            assertEquals(List.of(missingId), output.missingIds());
+        }
     }
 
     @Nested
@@ -280,39 +358,82 @@ public class WorkoutTypeServiceTest {
     class DeleteWorkoutTypeById{
 
         @Test
-        @DisplayName("Should delete workout type by id with success when workout type exists")
-        void shouldDeleteWorkoutTypeByIdWithSuccessWhenWorkoutTypeExists(){
-            
-            doReturn(true).when(workoutTypeRepository).existsById(uuidArgumentCaptor.capture());
-            doNothing().when(workoutTypeRepository).deleteById(uuidArgumentCaptor.capture());
+        @DisplayName("Should delete workout type by id with success when workout type is not referenced")
+        void shouldDeleteWorkoutTypeByIdWithSuccessWhenWorkoutTypeIsNotReferenced(){
 
             var workoutTypeId = UUID.randomUUID();
 
-            workoutTypeService.deleteWorkoutTypeById(workoutTypeId.toString());
-
-            var ids = uuidArgumentCaptor.getAllValues();
+            doReturn(Optional.of(new ReferenceCountDto(0, 0, 0, 0))).when(workoutTypeRepository).findReferenceCounts(workoutTypeId);
+            doReturn(0).when(workoutTypeRepository).deleteReassigning(workoutTypeId, null);
 
-            assertEquals(ids.get(0), workoutTypeId);
-            assertEquals(ids.get(1), workoutTypeId);
+            workoutTypeService.deleteWorkoutTypeById(workoutTypeId.toString(), null);
 
-            verify(workoutTypeRepository,times(1)).existsById(ids.get(0));
-            verify(workoutTypeRepository,times(1)).deleteById(ids.get(1));
+            verify(workoutTypeRepository,times(1)).deleteReassigning(workoutTypeId, null);
+            verify(negativeLookupCache,times(1)).recordMissing(WorkoutType.class, workoutTypeId);
+            verifyNoInteractions(workoutDuplicateService, leaderboardService);
         }
 
         @Test
         @DisplayName("Should not delete workout type by id with success when workout type not exists")
         void shouldNotDeleteWorkoutTypeByIdWithSuccessWhenWorkoutTypeNotExists(){
-            
-            doReturn(false).when(workoutTypeRepository).existsById(uuidArgumentCaptor.capture());
+
+            doReturn(Optional.empty()).when(workoutTypeRepository).findReferenceCounts(uuidArgumentCaptor.capture());
 
             var workoutTypeId = UUID.randomUUID();
 
-            assertThrows(WorkoutTypeNotFoundException.class, () -> workoutTypeService.deleteWorkoutTypeById(workoutTypeId.toString()));
+            assertThrows(WorkoutTypeNotFoundException.class, () -> workoutTypeService.deleteWorkoutTypeById(workoutTypeId.toString(), null));
 
             assertEquals(workoutTypeId,uuidArgumentCaptor.getValue());
 
-            verify(workoutTypeRepository,times(1)).existsById(uuidArgumentCaptor.getValue());
-            verify(workoutTypeRepository,times(0)).deleteById(any());
+            verify(workoutTypeRepository,times(0)).deleteReassigning(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should answer with the reference counts when workout type is used by workouts")
+        void shouldThrowReferencedEntityExceptionWhenWorkoutTypeIsUsed(){
+
+            var workoutTypeId = UUID.randomUUID();
+            var references = new ReferenceCountDto(5, 0, 0, 0);
+
+            doReturn(Optional.of(references)).when(workoutTypeRepository).findReferenceCounts(workoutTypeId);
+
+            var exception = assertThrows(ReferencedEntityException.class, () -> workoutTypeService.deleteWorkoutTypeById(workoutTypeId.toString(), null));
+
+            assertEquals(references, exception.getReferences());
+            verify(workoutTypeRepository,times(0)).deleteReassigning(any(), any());
+        }
+
+        @Test
+        @DisplayName("Should reassign workouts to the replacement and refresh fingerprints and leaderboards")
+        void shouldReassignWorkoutsToReplacement(){
+
+            var workoutTypeId = UUID.randomUUID();
+            var replacementId = UUID.randomUUID();
+
+            doReturn(Optional.of(new ReferenceCountDto(5, 1, 0, 0))).when(workoutTypeRepository).findReferenceCounts(workoutTypeId);
+            doReturn(true).when(workoutTypeRepository).existsById(replacementId);
+            doReturn(5).when(workoutTypeRepository).deleteReassigning(workoutTypeId, replacementId);
+
+            workoutTypeService.deleteWorkoutTypeById(workoutTypeId.toString(), replacementId.toString());
+
+            verify(workoutDuplicateService,times(1)).backfill();
+            verify(leaderboardService,times(1)).rebuild();
+        }
+
+        @Test
+        @DisplayName("Should not reassign workouts to a replacement that does not exist")
+        void shouldNotReassignToMissingReplacement(){
+
+            var workoutTypeId = UUID.randomUUID();
+            var replacementId = UUID.randomUUID();
+
+            doReturn(Optional.of(new ReferenceCountDto(5, 0, 0, 0))).when(workoutTypeRepository).findReferenceCounts(workoutTypeId);
+            doReturn(false).when(workoutTypeRepository).existsById(replacementId);
+
+            assertThrows(WorkoutTypeNotFoundException.class,
+                () -> workoutTypeService.deleteWorkoutTypeById(workoutTypeId.toString(), replacementId.toString()));
+
+            verify(workoutTypeRepository,times(0)).deleteReassigning(any(), any());
         }
     }
 }
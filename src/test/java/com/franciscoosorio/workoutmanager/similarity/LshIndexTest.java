@@ -0,0 +1,118 @@
+package com.franciscoosorio.workoutmanager.similarity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class LshIndexTest {
+
+    private final MinHash minHash = new MinHash(128, 42);
+
+    private static List<UUID> ids(int count) {
+
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Should find a near duplicate and ignore an unrelated set")
+    void shouldFindNearDuplicateAndIgnoreUnrelatedSet(){
+
+        var index = new LshIndex(32, 4);
+        var source = UUID.randomUUID();
+        var nearDuplicate = UUID.randomUUID();
+        var unrelated = UUID.randomUUID();
+
+        var exercises = ids(10);
+        var variation = new ArrayList<>(exercises.subList(0, 9));
+        variation.add(UUID.randomUUID());
+
+        index.put(source, minHash.signature(exercises));
+        index.put(nearDuplicate, minHash.signature(variation));
+        index.put(unrelated, minHash.signature(ids(10)));
+
+        var similar = index.similar(source, 10);
+
+        assertEquals(1, similar.size());
+        assertEquals(nearDuplicate, similar.get(0).key());
+        assertTrue(similar.get(0).similarity() > 0.5);
+    }
+
+    @Test
+    @DisplayName("Should move a key to its new buckets when its signature changes")
+    void shouldMoveKeyWhenSignatureChanges(){
+
+        var index = new LshIndex(32, 4);
+        var first = UUID.randomUUID();
+        var second = UUID.randomUUID();
+        var exercises = ids(8);
+
+        index.put(first, minHash.signature(exercises));
+        index.put(second, minHash.signature(exercises));
+        index.put(second, minHash.signature(ids(8)));
+
+        assertTrue(index.similar(first, 10).isEmpty());
+
+        index.remove(second);
+
+        assertEquals(1, index.size());
+        assertTrue(index.similar(second, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find every highly similar set a brute force scan finds")
+    void shouldMatchBruteForceForHighlySimilarSets(){
+
+        var random = new Random(7);
+        var index = new LshIndex(32, 4);
+        var catalog = ids(200);
+        var signatures = new HashMap<UUID, int[]>();
+
+        for (int i = 0; i < 300; i++) {
+            var exercises = new ArrayList<UUID>();
+            for (int j = 0; j < 8; j++) {
+                exercises.add(catalog.get(random.nextInt(catalog.size())));
+            }
+            var key = UUID.randomUUID();
+            signatures.put(key, minHash.signature(exercises));
+            index.put(key, signatures.get(key));
+
+            var copy = UUID.randomUUID();
+            exercises.set(0, catalog.get(random.nextInt(catalog.size())));
+            signatures.put(copy, minHash.signature(exercises));
+            index.put(copy, signatures.get(copy));
+        }
+
+        for (Map.Entry<UUID, int[]> source : signatures.entrySet()) {
+            var found = index.similar(source.getKey(), signatures.size()).stream().map(LshIndex.Match::key).toList();
+
+            signatures.forEach((key, signature) -> {
+                if (!key.equals(source.getKey()) && MinHash.similarity(source.getValue(), signature) >= 0.8) {
+                    assertTrue(found.contains(key));
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a signature that does not match the banding")
+    void shouldRejectSignatureOfWrongLength(){
+
+        var index = new LshIndex(16, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> index.put(UUID.randomUUID(), minHash.signature(ids(3))));
+    }
+}
@@ -0,0 +1,74 @@
+package com.franciscoosorio.workoutmanager.similarity;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class MinHashTest {
+
+    private final MinHash minHash = new MinHash(128, 42);
+
+    private static List<UUID> ids(int count) {
+
+        var ids = new ArrayList<UUID>();
+        for (int i = 0; i < count; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Should give identical sets the same signature regardless of order")
+    void shouldGiveIdenticalSetsSameSignature(){
+
+        var ids = ids(10);
+        var reversed = new ArrayList<>(ids);
+        Collections.reverse(reversed);
+
+        assertArrayEquals(minHash.signature(ids), minHash.signature(reversed));
+        assertEquals(1.0, MinHash.similarity(minHash.signature(ids), minHash.signature(new HashSet<>(ids))));
+    }
+
+    @Test
+    @DisplayName("Should estimate the jaccard similarity of two sets")
+    void shouldEstimateJaccardSimilarity(){
+
+        var shared = ids(30);
+        var first = new ArrayList<>(shared);
+        var second = new ArrayList<>(shared);
+        first.addAll(ids(10));
+        second.addAll(ids(20));
+
+        var estimate = MinHash.similarity(minHash.signature(first), minHash.signature(second));
+
+        assertEquals(30.0 / 60.0, estimate, 0.15);
+    }
+
+    @Test
+    @DisplayName("Should combine signatures into the signature of the union")
+    void shouldCombineSignaturesIntoUnion(){
+
+        var first = ids(5);
+        var second = ids(7);
+        var union = new ArrayList<>(first);
+        union.addAll(second);
+
+        assertArrayEquals(minHash.signature(union), MinHash.union(minHash.signature(first), minHash.signature(second)));
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid number of hash functions")
+    void shouldRejectInvalidNumberOfHashFunctions(){
+
+        assertThrows(IllegalArgumentException.class, () -> new MinHash(0, 42));
+    }
+}
@@ -0,0 +1,100 @@
+package com.franciscoosorio.workoutmanager.support;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class StatementCounter implements BeanPostProcessor {
+
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+
+    private static final Set<String> EXECUTIONS = Set.of("execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private static final String SCHEDULER_THREAD_PREFIX = "scheduling-";
+
+    private final Queue<String> executed = new ConcurrentLinkedQueue<>();
+
+    public void reset() {
+        executed.clear();
+    }
+
+    public int count() {
+        return executed.size();
+    }
+
+    public List<String> statements() {
+        return List.copyOf(executed);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+    }
+
+    private DataSource wrap(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return countingConnection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return countingConnection(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+
+            var result = invoke(connection, method, args);
+
+            if (STATEMENT_FACTORIES.contains(method.getName())) {
+                var sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return countingStatement((Statement) result, method.getName(), sql);
+            }
+            return result;
+        });
+    }
+
+    private Statement countingStatement(Statement statement, String factory, String preparedSql) {
+
+        var type = switch (factory) {
+            case "prepareCall" -> CallableStatement.class;
+            case "prepareStatement" -> PreparedStatement.class;
+            default -> Statement.class;
+        };
+
+        return (Statement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+
+            if (EXECUTIONS.contains(method.getName()) && !Thread.currentThread().getName().startsWith(SCHEDULER_THREAD_PREFIX)) {
+                executed.add(args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql);
+            }
+            return invoke(statement, method, args);
+        });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException exception) {
+            throw exception.getCause();
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.franciscoosorio.workoutmanager.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+@TestConfiguration
+public class StatementCountingConfig {
+
+    @Bean
+    public static StatementCounter statementCounter() {
+        return new StatementCounter();
+    }
+
+    @Bean
+    public TestFixtures testFixtures() {
+        return new TestFixtures();
+    }
+}
@@ -0,0 +1,96 @@
+package com.franciscoosorio.workoutmanager.support;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.franciscoosorio.workoutmanager.domain.exercise.Exercise;
+import com.franciscoosorio.workoutmanager.domain.session.WorkoutSession;
+import com.franciscoosorio.workoutmanager.domain.template.WorkoutTemplate;
+import com.franciscoosorio.workoutmanager.domain.user.User;
+import com.franciscoosorio.workoutmanager.domain.workout.Workout;
+import com.franciscoosorio.workoutmanager.domain.workouttype.WorkoutType;
+import com.franciscoosorio.workoutmanager.repository.ExerciseRepository;
+import com.franciscoosorio.workoutmanager.repository.UserRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutSessionRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutTemplateRepository;
+import com.franciscoosorio.workoutmanager.repository.WorkoutTypeRepository;
+import com.jayway.jsonpath.JsonPath;
+
+public class TestFixtures {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkoutTypeRepository workoutTypeRepository;
+
+    @Autowired
+    private ExerciseRepository exerciseRepository;
+
+    @Autowired
+    private WorkoutRepository workoutRepository;
+
+    @Autowired
+    private WorkoutSessionRepository workoutSessionRepository;
+
+    @Autowired
+    private WorkoutTemplateRepository workoutTemplateRepository;
+
+    public User saveUser() {
+        var suffix = UUID.randomUUID().toString();
+        return userRepository.save(new User("user-" + suffix, suffix + "@email.com", "password", null, null));
+    }
+
+    public WorkoutType saveWorkoutType() {
+        return workoutTypeRepository.save(new WorkoutType("workoutType-" + UUID.randomUUID(), "description"));
+    }
+
+    public Exercise saveExercise() {
+        return exerciseRepository.save(new Exercise("exercise-" + UUID.randomUUID(), "description"));
+    }
+
+    public Workout saveWorkout(User owner, WorkoutType workoutType, Exercise... exercises) {
+        return workoutRepository.save(new Workout(null, "workout-" + UUID.randomUUID(), "description", workoutType, Set.of(exercises), owner));
+    }
+
+    public Workout saveWorkout(User owner) {
+        return saveWorkout(owner, saveWorkoutType(), saveExercise());
+    }
+
+    public WorkoutSession saveSession(User owner, Workout workout, Instant startedAt) {
+        return workoutSessionRepository.save(new WorkoutSession(owner, workout, startedAt));
+    }
+
+    public WorkoutTemplate saveTemplate(WorkoutType workoutType, Exercise... exercises) {
+        return workoutTemplateRepository.save(new WorkoutTemplate("template-" + UUID.randomUUID(), "description", workoutType, Set.of(exercises)));
+    }
+
+    public String createWorkout(User owner, WorkoutType workoutType, Exercise... exercises) throws Exception {
+
+        var exerciseIds = Arrays.stream(exercises)
+            .map(exercise -> "\"" + exercise.getId() + "\"")
+            .collect(Collectors.joining(","));
+
+        var workout = mockMvc.perform(post("/users/{userId}/workouts", owner.getUserId()).contentType(MediaType.APPLICATION_JSON).content("""
+            {"name": "workout-%s", "description": "description", "workoutTypeId": "%s", "exerciseIds": [%s]}
+            """.formatted(UUID.randomUUID(), workoutType.getId(), exerciseIds)))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+
+        return JsonPath.read(workout, "$.id");
+    }
+}
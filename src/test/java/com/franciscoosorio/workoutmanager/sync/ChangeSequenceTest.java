@@ -0,0 +1,64 @@
+package com.franciscoosorio.workoutmanager.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ChangeSequenceTest {
+
+    private final ChangeSequence changeSequence = new ChangeSequence();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should hold the watermark below the oldest value still in flight")
+    void shouldHoldWatermarkBelowOldestInFlightValue(){
+
+        changeSequence.reset(10);
+
+        var first = changeSequence.acquire();
+        var second = changeSequence.acquire();
+
+        assertEquals(10, changeSequence.watermark());
+
+        changeSequence.release(second);
+
+        assertEquals(10, changeSequence.watermark());
+
+        changeSequence.release(first);
+
+        assertEquals(12, changeSequence.watermark());
+    }
+
+    @Test
+    @DisplayName("Should release the value when the transaction completes")
+    void shouldReleaseValueWhenTransactionCompletes(){
+
+        changeSequence.reset(5);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertEquals(6, changeSequence.next());
+        assertEquals(5, changeSequence.watermark());
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(6, changeSequence.watermark());
+    }
+
+    @Test
+    @DisplayName("Should refuse to hand out values outside a transaction")
+    void shouldRefuseValuesOutsideTransaction(){
+        assertThrows(IllegalStateException.class, changeSequence::next);
+    }
+}